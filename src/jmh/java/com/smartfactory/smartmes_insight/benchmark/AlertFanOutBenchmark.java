@@ -0,0 +1,105 @@
+package com.smartfactory.smartmes_insight.benchmark;
+
+import com.smartfactory.smartmes_insight.dto.AlertResponse;
+import com.smartfactory.smartmes_insight.event.AlertCreatedEvent;
+import com.smartfactory.smartmes_insight.event.AlertEventHandler;
+import com.smartfactory.smartmes_insight.event.AlertEventListener;
+import com.smartfactory.smartmes_insight.event.AlertEventMetrics;
+import com.smartfactory.smartmes_insight.service.NotificationService;
+import com.smartfactory.smartmes_insight.service.UserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 알림 생성 이벤트 팬아웃 (이벤트 생성 + 리스너 두 개를 호출 스레드에서 직접 실행)
+ *
+ * @Async 스레드 전환 비용은 제외하고, 채널별 전송/수신자 목록 순회에 드는 비용만 측정한다.
+ * 수신자 목록은 DB 대신 고정 목록을 돌려주는 UserService로 대체한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AlertFanOutBenchmark {
+
+    // MEDIUM / HIGH (관리자 개별 알림, 이메일, SMS까지 전송)
+    @Param({"85.0", "140.0"})
+    private double value;
+
+    @Param({"10"})
+    private int recipients;
+
+    private AlertResponse alert;
+    private AlertEventListener listener;
+    private AlertEventHandler handler;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures.silenceLogging();
+        alert = AlertResponse.from(BenchmarkFixtures.alert(value));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AlertEventMetrics alertEventMetrics = new AlertEventMetrics(meterRegistry);
+        NotificationService notificationService = new NotificationService(meterRegistry);
+        listener = new AlertEventListener(notificationService, new FixedRecipients(recipients), alertEventMetrics);
+        handler = new AlertEventHandler(alertEventMetrics);
+    }
+
+    @Benchmark
+    public AlertCreatedEvent publish() {
+        AlertCreatedEvent event = AlertCreatedEvent.from(alert);
+        listener.handleAlertCreated(event);
+        listener.updateNotificationStats(event);
+        handler.handleAlertCreated(event);
+        return event;
+    }
+
+    private static final class FixedRecipients extends UserService {
+
+        private final List<String> ids;
+        private final List<String> emails;
+        private final List<String> phones;
+
+        FixedRecipients(int count) {
+            super(null, null);
+            ids = IntStream.rangeClosed(1, count).mapToObj(String::valueOf).toList();
+            emails = IntStream.rangeClosed(1, count).mapToObj(i -> "user" + i + "@smartmes.local").toList();
+            phones = IntStream.rangeClosed(1, count).mapToObj(i -> String.format("010-0000-%04d", i)).toList();
+        }
+
+        @Override
+        public List<String> getManagerUserIds() {
+            return ids;
+        }
+
+        @Override
+        public List<String> getOperatorUserIds() {
+            return ids;
+        }
+
+        @Override
+        public List<String> getManagerEmails() {
+            return emails;
+        }
+
+        @Override
+        public List<String> getEmergencyPhoneNumbers() {
+            return phones;
+        }
+    }
+}
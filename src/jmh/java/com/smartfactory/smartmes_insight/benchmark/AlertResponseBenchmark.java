@@ -0,0 +1,52 @@
+package com.smartfactory.smartmes_insight.benchmark;
+
+import com.smartfactory.smartmes_insight.domain.alert.Alert;
+import com.smartfactory.smartmes_insight.dto.AlertResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 목록 응답 변환 (엔티티 -> DTO)과 심각도 계산
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AlertResponseBenchmark {
+
+    // 정상 / MEDIUM / HIGH
+    @Param({"50.0", "85.0", "140.0"})
+    private double value;
+
+    private Alert alert;
+    private AlertResponse response;
+
+    @Setup
+    public void setUp() {
+        alert = BenchmarkFixtures.alert(value);
+        response = AlertResponse.from(alert);
+    }
+
+    @Benchmark
+    public AlertResponse from() {
+        return AlertResponse.from(alert);
+    }
+
+    @Benchmark
+    public String severity() {
+        return response.getSeverity();
+    }
+}
@@ -0,0 +1,61 @@
+package com.smartfactory.smartmes_insight.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.smartfactory.smartmes_insight.domain.alert.Alert;
+import com.smartfactory.smartmes_insight.domain.facility.Facility;
+import com.smartfactory.smartmes_insight.domain.sensor.Sensor;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+
+/**
+ * 벤치마크 공용 픽스처 (DB/스프링 컨텍스트 없이 메모리에서 생성)
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    static Facility facility() {
+        return Facility.builder()
+                .id(1L)
+                .name("CNC-01")
+                .type("CNC")
+                .location("A동 1라인")
+                .status("가동중")
+                .build();
+    }
+
+    /**
+     * 임계값 20.0 ~ 80.0인 온도 센서
+     */
+    static Sensor sensor() {
+        return Sensor.builder()
+                .id(1L)
+                .facility(facility())
+                .name("주축 온도")
+                .type("TEMPERATURE")
+                .thresholdMin(20.0)
+                .thresholdMax(80.0)
+                .unit("°C")
+                .build();
+    }
+
+    static Alert alert(double value) {
+        return Alert.builder()
+                .id(1L)
+                .sensor(sensor())
+                .value(value)
+                .message("임계값 초과")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 콘솔 출력 비용은 측정에서 제외 (로그 인자 계산은 그대로 측정됨)
+     */
+    static void silenceLogging() {
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.OFF);
+    }
+}
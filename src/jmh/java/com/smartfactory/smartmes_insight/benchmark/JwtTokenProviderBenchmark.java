@@ -0,0 +1,68 @@
+package com.smartfactory.smartmes_insight.benchmark;
+
+import com.smartfactory.smartmes_insight.security.jwt.JwtTokenProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 JwtAuthenticationFilter가 수행하는 토큰 검증과 Authentication 생성
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JwtTokenProviderBenchmark {
+
+    // application.yml과 같은 길이의 테스트용 키
+    private static final String SECRET = "YmVuY2htYXJrLXNlY3JldC1iZW5jaG1hcmstc2VjcmV0LWtleQ==";
+
+    private JwtTokenProvider provider;
+    private String token;
+    private String tamperedToken;
+
+    @Setup
+    public void setUp() {
+        provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "secretKey", SECRET);
+        ReflectionTestUtils.setField(provider, "tokenValidityInMillis", TimeUnit.HOURS.toMillis(1));
+        ReflectionTestUtils.invokeMethod(provider, "init");
+
+        token = provider.createToken("operator01", "OPERATOR");
+        tamperedToken = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return provider.validateToken(token);
+    }
+
+    @Benchmark
+    public boolean validateTamperedToken() {
+        return provider.validateToken(tamperedToken);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return provider.getAuthentication(token);
+    }
+
+    // 필터가 실제로 수행하는 순서 (검증 후 Authentication 생성)
+    @Benchmark
+    public Authentication validateAndAuthenticate() {
+        return provider.validateToken(token) ? provider.getAuthentication(token) : null;
+    }
+}
@@ -0,0 +1,76 @@
+package com.smartfactory.smartmes_insight.benchmark;
+
+import com.smartfactory.smartmes_insight.ingest.SensorReadingBatch;
+import com.smartfactory.smartmes_insight.ingest.SensorThresholds;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 수집 주기 한 번의 측정값 적재 + 임계값 판정 (DB 제외)
+ *
+ * 측정값당 할당이 없어야 하므로 -prof gc로 gc.alloc.rate.norm을 함께 확인한다.
+ * <pre>
+ *   ./mvnw -Pbenchmark verify -Djmh.args="-prof gc SensorIngestTick"
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SensorIngestTickBenchmark {
+
+    @Param({"100", "10000"})
+    private int sensors;
+
+    private SensorThresholds thresholds;
+    private SensorReadingBatch batch;
+    private double[] readings;
+    private long collectedAt;
+
+    @Setup
+    public void setUp() {
+        List<Object[]> rows = new ArrayList<>(sensors);
+        for (int i = 0; i < sensors; i++) {
+            rows.add(new Object[]{(long) i + 1, 20.0, 80.0});
+        }
+        thresholds = SensorThresholds.fromRows(rows);
+        batch = new SensorReadingBatch(sensors);
+
+        readings = new double[sensors];
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < sensors; i++) {
+            readings[i] = random.nextInt(100) == 0 ? 95.0 : random.nextDouble(20.0, 80.0);
+        }
+        collectedAt = System.currentTimeMillis();
+    }
+
+    @Benchmark
+    public int tick() {
+        batch.clear();
+        collectedAt += 10_000;
+        for (int i = 0; i < thresholds.size(); i++) {
+            batch.add(thresholds.sensorId(i), collectedAt, readings[i]);
+        }
+        int violations = 0;
+        for (int i = thresholds.nextViolation(batch, 0); i >= 0; i = thresholds.nextViolation(batch, i + 1)) {
+            violations++;
+        }
+        return violations;
+    }
+}
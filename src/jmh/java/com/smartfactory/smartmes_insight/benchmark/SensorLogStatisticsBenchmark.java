@@ -0,0 +1,92 @@
+package com.smartfactory.smartmes_insight.benchmark;
+
+import com.smartfactory.smartmes_insight.ingest.SensorReadingBatch;
+import com.smartfactory.smartmes_insight.series.SegmentSensorLogStore;
+import com.smartfactory.smartmes_insight.service.SensorLogService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 센서 통계 조회 (SensorLogService.getStatistics)
+ *
+ * 임시 디렉터리의 세그먼트 저장소에 하루치(1초 간격) 측정값을 채워 두고 조회한다.
+ * 구간 양 끝은 블록 경계와 어긋나게 잡아 부분 블록 복원과 블록 요약값 사용이 함께 측정되도록 한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SensorLogStatisticsBenchmark {
+
+    private static final long SENSOR_ID = 1L;
+    private static final int POINTS = 86_400;
+
+    // 조회 구간 (분)
+    @Param({"60", "1440"})
+    private int windowMinutes;
+
+    private Path directory;
+    private SegmentSensorLogStore store;
+    private SensorLogService service;
+    private LocalDateTime start;
+    private LocalDateTime end;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        BenchmarkFixtures.silenceLogging();
+        directory = Files.createTempDirectory("segment-benchmark");
+        store = new SegmentSensorLogStore(null, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(store, "directory", directory.toString());
+        ReflectionTestUtils.setField(store, "blockPoints", 1024);
+        ReflectionTestUtils.setField(store, "sealIntervalMillis", TimeUnit.MINUTES.toMillis(1));
+        ReflectionTestUtils.setField(store, "segmentBytes", 64L * 1024 * 1024);
+        ReflectionTestUtils.setField(store, "fsync", false);
+        store.open();
+
+        LocalDateTime origin = LocalDateTime.now().withNano(0).minusDays(1);
+        long originMillis = origin.atZone(java.time.ZoneId.systemDefault()).toInstant().toEpochMilli();
+        SensorReadingBatch batch = new SensorReadingBatch(POINTS);
+        for (int i = 0; i < POINTS; i++) {
+            batch.add(SENSOR_ID, originMillis + i * 1000L, 50.0 + 20.0 * Math.sin(i / 600.0));
+        }
+        store.saveBatch(batch);
+
+        service = new SensorLogService(store, null, null, null, null);
+        start = origin.plusSeconds(333);
+        end = start.plusMinutes(windowMinutes).minusSeconds(666);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        store.close();
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public Map<String, Object> getStatistics() {
+        return service.getStatistics(SENSOR_ID, start, end);
+    }
+}
@@ -0,0 +1,56 @@
+package com.smartfactory.smartmes_insight.benchmark;
+
+import com.smartfactory.smartmes_insight.domain.sensor.Sensor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 센서 엔티티 임계값 판정 (REST 검증 경로, 값 10%가 이상값)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SensorThresholdBenchmark {
+
+    private static final int VALUES = 1024;
+
+    private Sensor sensor;
+    private double[] values;
+
+    @Setup
+    public void setUp() {
+        sensor = BenchmarkFixtures.sensor();
+        values = new double[VALUES];
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < VALUES; i++) {
+            values[i] = random.nextInt(10) == 0 ? 95.0 : random.nextDouble(20.0, 80.0);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public int isValueWithinThreshold() {
+        int within = 0;
+        for (double value : values) {
+            if (sensor.isValueWithinThreshold(value)) {
+                within++;
+            }
+        }
+        return within;
+    }
+}
@@ -0,0 +1,66 @@
+package com.smartfactory.smartmes_insight.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 응답 시간 표본 (nanos, 작업 스레드마다 하나씩 쓰고 끝난 뒤 합침)
+ */
+final class LatencySamples {
+
+    private long[] nanos = new long[1024];
+    private int size;
+    private long errors;
+
+    void record(long elapsedNanos, boolean error) {
+        if (size == nanos.length) {
+            nanos = Arrays.copyOf(nanos, size * 2);
+        }
+        nanos[size++] = elapsedNanos;
+        if (error) {
+            errors++;
+        }
+    }
+
+    void addAll(LatencySamples other) {
+        if (size + other.size > nanos.length) {
+            nanos = Arrays.copyOf(nanos, Math.max(nanos.length * 2, size + other.size));
+        }
+        System.arraycopy(other.nanos, 0, nanos, size, other.size);
+        size += other.size;
+        errors += other.errors;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long errors() {
+        return errors;
+    }
+
+    /**
+     * 표본을 정렬해 백분위 응답 시간(ms) 계산 (nearest-rank)
+     */
+    LoadTestReport.EndpointResult summarize(String endpoint, double seconds) {
+        long[] sorted = Arrays.copyOf(nanos, size);
+        Arrays.sort(sorted);
+        return new LoadTestReport.EndpointResult(
+                endpoint,
+                size,
+                errors,
+                size / seconds,
+                millis(sorted, 0.50),
+                millis(sorted, 0.90),
+                millis(sorted, 0.95),
+                millis(sorted, 0.99),
+                size > 0 ? sorted[size - 1] / 1_000_000.0 : 0);
+    }
+
+    private static double millis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile * sorted.length);
+        return sorted[Math.max(0, rank - 1)] / 1_000_000.0;
+    }
+}
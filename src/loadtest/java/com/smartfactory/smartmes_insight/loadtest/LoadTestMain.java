@@ -0,0 +1,237 @@
+package com.smartfactory.smartmes_insight.loadtest;
+
+import com.smartfactory.smartmes_insight.SmartMesInsightApplication;
+import com.smartfactory.smartmes_insight.security.jwt.JwtTokenProvider;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 🏭 종단 간 부하 시험 (시뮬레이션 공장 + 조회 API 부하)
+ *
+ * 내장 H2로 애플리케이션을 띄우고 설비 N개 x 센서 M개를 만든 뒤,
+ * SensorMonitoringScheduler를 tick-ms 주기로 돌리면서 clients개 스레드가 읽기 비율(mix)에 따라 조회 API를 호출한다.
+ * 처리량과 백분위 응답 시간을 report-dir에 JSON으로 남기고, 직전 결과(또는 baseline)와 비교해 출력한다.
+ * <pre>
+ *   ./mvnw -Ploadtest verify -Dloadtest.args="--facilities=50 --sensors-per-facility=40 --tick-ms=500 --clients=32"
+ * </pre>
+ * --spring.datasource.url 등 그 밖의 인자는 애플리케이션 설정으로 전달된다 (실제 MySQL 대상 측정 등).
+ */
+public class LoadTestMain {
+
+    private final LoadTestOptions options;
+    private final ConfigurableApplicationContext context;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final String baseUrl;
+    private final String authorization;
+
+    private LoadTestMain(LoadTestOptions options, ConfigurableApplicationContext context) {
+        this.options = options;
+        this.context = context;
+        this.baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        this.authorization = "Bearer " + context.getBean(JwtTokenProvider.class).createToken("loadtest", "ADMIN");
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        Path workDirectory = Files.createTempDirectory("smartmes-loadtest");
+        ConfigurableApplicationContext context = SpringApplication.run(SmartMesInsightApplication.class,
+                applicationArgs(options, workDirectory));
+        try {
+            LoadTestReport report = new LoadTestMain(options, context).run();
+            System.out.print(report.format());
+
+            Path baseline = options.baseline() != null
+                    ? options.baseline()
+                    : LoadTestReport.latestIn(options.reportDirectory()).orElse(null);
+            if (baseline != null) {
+                System.out.print(report.compareTo(LoadTestReport.read(baseline)));
+            }
+            System.out.printf("%n결과 저장: %s%n", report.write(options.reportDirectory()).toAbsolutePath().normalize());
+        } finally {
+            context.close();
+            FileSystemUtils.deleteRecursively(workDirectory);
+        }
+    }
+
+    // 내장 DB/임시 디렉터리 기본값 위에 사용자가 넘긴 설정을 덮어씀 (같은 키가 두 번 넘어가지 않도록 합침)
+    private static String[] applicationArgs(LoadTestOptions options, Path workDirectory) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.main.banner-mode", "off");
+        properties.put("logging.level.root", "WARN");
+        properties.put("spring.datasource.url", "jdbc:h2:mem:loadtest;MODE=MySQL;NON_KEYWORDS=VALUE,TIMESTAMP,USER;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.jpa.database-platform", "org.hibernate.dialect.H2Dialect");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create");
+        properties.put("sensor.monitoring.interval-ms", String.valueOf(options.tickMillis()));
+        properties.put("sensor.wal.directory", workDirectory.resolve("wal").toString());
+        properties.put("sensor.storage.segment.directory", workDirectory.resolve("segments").toString());
+        properties.put("sensor.export.directory", workDirectory.resolve("export").toString());
+        properties.put("audit.writer.spill-file", workDirectory.resolve("audit-spill.jsonl").toString());
+        for (String arg : options.applicationArgs()) {
+            properties.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        return properties.entrySet().stream()
+                .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new);
+    }
+
+    private LoadTestReport run() throws Exception {
+        String startedAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).toString();
+        System.out.printf("🏭 시뮬레이션 공장 생성: 설비 %d개 x 센서 %d개, 과거 측정값 %d분%n",
+                options.facilities(), options.sensorsPerFacility(), options.historyMinutes());
+        SimulatedPlant plant = SimulatedPlant.build(context, options);
+        ReadMix mix = new ReadMix(plant, options.mix());
+
+        if (options.warmupSeconds() > 0) {
+            System.out.printf("🔥 워밍업 %d초%n", options.warmupSeconds());
+            drive(mix, options.warmupSeconds());
+        }
+
+        System.out.printf("🚀 측정 %d초 (clients=%d, tick-ms=%d)%n",
+                options.durationSeconds(), options.clients(), options.tickMillis());
+        long storedBefore = storedReadings();
+        long start = System.nanoTime();
+        Map<String, LatencySamples> samples = drive(mix, options.durationSeconds());
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long stored = storedReadings() - storedBefore;
+
+        List<LoadTestReport.EndpointResult> endpoints = new ArrayList<>();
+        LatencySamples all = new LatencySamples();
+        for (Map.Entry<String, LatencySamples> entry : samples.entrySet()) {
+            endpoints.add(entry.getValue().summarize(entry.getKey(), seconds));
+            all.addAll(entry.getValue());
+        }
+
+        long expected = (long) (options.sensors() * (seconds * 1000 / options.tickMillis()));
+        LoadTestReport.IngestResult ingest = new LoadTestReport.IngestResult(
+                expected, stored, stored / seconds, expected > 0 ? (double) stored / expected : 0,
+                (long) gauge("sensor.wal.lag.records"), gauge("sensor.wal.lag.seconds"));
+        return new LoadTestReport(options.label(), startedAt, settings(), seconds, ingest,
+                all.summarize("TOTAL", seconds), endpoints);
+    }
+
+    /**
+     * clients개 스레드가 seconds초 동안 쉬지 않고 요청 (closed loop)
+     */
+    private Map<String, LatencySamples> drive(ReadMix mix, int seconds) throws Exception {
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        ExecutorService executor = Executors.newFixedThreadPool(options.clients());
+        try {
+            List<Future<Map<String, LatencySamples>>> futures = new ArrayList<>();
+            for (int i = 0; i < options.clients(); i++) {
+                SplittableRandom random = new SplittableRandom(1000L + i);
+                futures.add(executor.submit(() -> client(mix, random, deadline)));
+            }
+            Map<String, LatencySamples> merged = new TreeMap<>();
+            for (Future<Map<String, LatencySamples>> future : futures) {
+                future.get().forEach((endpoint, samples) ->
+                        merged.computeIfAbsent(endpoint, key -> new LatencySamples()).addAll(samples));
+            }
+            return merged;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Map<String, LatencySamples> client(ReadMix mix, SplittableRandom random, long deadline) {
+        Map<String, LatencySamples> samples = new HashMap<>();
+        while (System.nanoTime() < deadline) {
+            ReadMix.Request request = mix.next(random);
+            HttpRequest httpRequest = HttpRequest.newBuilder(URI.create(baseUrl + request.path()))
+                    .header("Authorization", authorization)
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+            long start = System.nanoTime();
+            boolean error;
+            try {
+                HttpResponse<Void> response = httpClient.send(httpRequest, HttpResponse.BodyHandlers.discarding());
+                error = response.statusCode() >= 400;
+            } catch (IOException e) {
+                error = true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            samples.computeIfAbsent(request.endpoint(), key -> new LatencySamples())
+                    .record(System.nanoTime() - start, error);
+        }
+        return samples;
+    }
+
+    /**
+     * 지금까지 저장한 측정값 수 (WAL 사용 시 WAL 기록 수, 세그먼트 저장소면 추가 수, 그 외 sensor_logs 행 수)
+     */
+    private long storedReadings() {
+        Environment environment = context.getEnvironment();
+        MeterRegistry registry = context.getBean(MeterRegistry.class);
+        if (environment.getProperty("sensor.wal.enabled", Boolean.class, false)) {
+            Counter appended = registry.find("sensor.wal.appended").counter();
+            return appended != null ? (long) appended.count() : 0;
+        }
+        if ("segment".equals(environment.getProperty("sensor.storage.mode"))) {
+            FunctionCounter appends = registry.find("sensor.segment.appends").functionCounter();
+            return appends != null ? (long) appends.count() : 0;
+        }
+        Long rows = context.getBean(JdbcTemplate.class).queryForObject("SELECT COUNT(*) FROM sensor_logs", Long.class);
+        return rows != null ? rows : 0;
+    }
+
+    private double gauge(String name) {
+        Gauge gauge = context.getBean(MeterRegistry.class).find(name).gauge();
+        return gauge != null ? gauge.value() : 0;
+    }
+
+    private Map<String, Object> settings() {
+        Environment environment = context.getEnvironment();
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("facilities", options.facilities());
+        settings.put("sensorsPerFacility", options.sensorsPerFacility());
+        settings.put("tickMs", options.tickMillis());
+        settings.put("clients", options.clients());
+        settings.put("mix", new TreeMap<>(options.mix()));
+        settings.put("datasource", environment.getProperty("spring.datasource.url"));
+        settings.put("storageMode", environment.getProperty("sensor.storage.mode"));
+        settings.put("walEnabled", environment.getProperty("sensor.wal.enabled"));
+        settings.put("samplingEnabled", environment.getProperty("sensor.sampling.enabled"));
+        settings.put("java", Runtime.version().feature());
+        settings.put("threads", Threading.VIRTUAL.isActive(environment) ? "virtual" : "platform");
+        settings.put("dbPoolSize", environment.getProperty("spring.datasource.hikari.maximum-pool-size"));
+        return settings;
+    }
+}
@@ -0,0 +1,106 @@
+package com.smartfactory.smartmes_insight.loadtest;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 시험 실행 옵션 (--key=value)
+ *
+ * 아래 이외의 인자(--spring.datasource.url=... 등)는 그대로 애플리케이션 설정으로 넘긴다.
+ */
+record LoadTestOptions(
+        String label,
+        int facilities,
+        int sensorsPerFacility,
+        long tickMillis,
+        int historyMinutes,
+        int clients,
+        int warmupSeconds,
+        int durationSeconds,
+        Map<String, Integer> mix,
+        Path reportDirectory,
+        Path baseline,
+        List<String> applicationArgs) {
+
+    static final Map<String, Integer> DEFAULT_MIX = defaultMix();
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new LinkedHashMap<>();
+        List<String> applicationArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("인자는 --key=value 형식이어야 합니다: " + arg);
+            }
+            String key = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (KEYS.contains(key)) {
+                values.put(key, value);
+            } else {
+                applicationArgs.add(arg);
+            }
+        }
+
+        String baseline = values.get("baseline");
+        return new LoadTestOptions(
+                values.getOrDefault("label", "run"),
+                positive(values, "facilities", 10),
+                positive(values, "sensors-per-facility", 20),
+                positive(values, "tick-ms", 1000),
+                Integer.parseInt(values.getOrDefault("history-minutes", "60")),
+                positive(values, "clients", 16),
+                Integer.parseInt(values.getOrDefault("warmup-s", "10")),
+                positive(values, "duration-s", 60),
+                values.containsKey("mix") ? parseMix(values.get("mix")) : DEFAULT_MIX,
+                Paths.get(values.getOrDefault("report-dir", "./data/loadtest")),
+                baseline != null ? Paths.get(baseline) : null,
+                List.copyOf(applicationArgs));
+    }
+
+    int sensors() {
+        return facilities * sensorsPerFacility;
+    }
+
+    private static final List<String> KEYS = List.of("label", "facilities", "sensors-per-facility", "tick-ms",
+            "history-minutes", "clients", "warmup-s", "duration-s", "mix", "report-dir", "baseline");
+
+    // 대시보드 화면 비중을 따른 기본 조회 비율
+    private static Map<String, Integer> defaultMix() {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        mix.put("facilities", 5);
+        mix.put("facility", 10);
+        mix.put("sensors", 15);
+        mix.put("recent", 25);
+        mix.put("statistics", 10);
+        mix.put("downsampled", 10);
+        mix.put("latest", 5);
+        mix.put("alerts", 10);
+        mix.put("alert-summary", 5);
+        mix.put("oee", 5);
+        return Map.copyOf(mix);
+    }
+
+    // recent:30,statistics:10,...
+    private static Map<String, Integer> parseMix(String value) {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        for (String entry : value.split(",")) {
+            String[] pair = entry.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("mix는 이름:비중 목록이어야 합니다: " + value);
+            }
+            mix.put(pair[0], Integer.parseInt(pair[1]));
+        }
+        return mix;
+    }
+
+    private static int positive(Map<String, String> values, String key, int defaultValue) {
+        int value = Integer.parseInt(values.getOrDefault(key, String.valueOf(defaultValue)));
+        if (value <= 0) {
+            throw new IllegalArgumentException(key + "는 0보다 커야 합니다: " + value);
+        }
+        return value;
+    }
+}
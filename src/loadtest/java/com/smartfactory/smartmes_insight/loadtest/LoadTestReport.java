@@ -0,0 +1,132 @@
+package com.smartfactory.smartmes_insight.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Stream;
+
+/**
+ * 부하 시험 결과 (JSON으로 저장해 이전 실행과 비교)
+ */
+record LoadTestReport(
+        String label,
+        String startedAt,
+        Map<String, Object> settings,
+        double durationSeconds,
+        IngestResult ingest,
+        EndpointResult total,
+        List<EndpointResult> endpoints) {
+
+    /**
+     * @param expectedReadings 센서 수 x (측정 시간 / 수집 주기)
+     * @param storedReadings   측정 시간 동안 저장소(WAL 사용 시 WAL)에 기록된 측정값 수
+     * @param walLagRecords    측정 종료 시점에 DB로 아직 적재되지 않은 측정값 수 (WAL 미사용 시 0)
+     */
+    record IngestResult(long expectedReadings, long storedReadings, double readingsPerSecond,
+                        double completion, long walLagRecords, double walLagSeconds) {
+    }
+
+    record EndpointResult(String endpoint, long requests, long errors, double throughput,
+                          double p50Ms, double p90Ms, double p95Ms, double p99Ms, double maxMs) {
+    }
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final String PREFIX = "loadtest-";
+
+    Path write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        String time = LocalDateTime.parse(startedAt).format(FILE_TIME);
+        Path path = directory.resolve(PREFIX + time + "-" + label.replaceAll("[^A-Za-z0-9_.-]", "_") + ".json");
+        MAPPER.writeValue(path.toFile(), this);
+        return path;
+    }
+
+    static LoadTestReport read(Path path) throws IOException {
+        return MAPPER.readValue(path.toFile(), LoadTestReport.class);
+    }
+
+    /**
+     * 디렉터리에서 가장 최근 결과 (파일 이름이 시작 시각 순)
+     */
+    static Optional<Path> latestIn(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return Optional.empty();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().startsWith(PREFIX))
+                    .max(Comparator.comparing(path -> path.getFileName().toString()));
+        }
+    }
+
+    String format() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%n=== 부하 시험 결과: %s (%s, %.0f초) ===%n", label, startedAt, durationSeconds));
+        out.append(String.format("설정: %s%n", settings));
+        out.append(String.format("수집: %,d / %,d건 (%.1f%%), %.1f건/s, WAL 미적재 %,d건 (%.1fs)%n",
+                ingest.storedReadings(), ingest.expectedReadings(), ingest.completion() * 100,
+                ingest.readingsPerSecond(), ingest.walLagRecords(), ingest.walLagSeconds()));
+        out.append(String.format("%-14s %9s %7s %9s %8s %8s %8s %8s %8s%n",
+                "endpoint", "requests", "errors", "req/s", "p50ms", "p90ms", "p95ms", "p99ms", "maxms"));
+        for (EndpointResult result : endpoints) {
+            out.append(row(result));
+        }
+        out.append(row(total));
+        return out.toString();
+    }
+
+    /**
+     * 기준 결과 대비 변화율 (처리량은 높을수록, 응답 시간은 낮을수록 좋음)
+     */
+    String compareTo(LoadTestReport baseline) {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%n=== 비교: %s (%s) -> %s (%s) ===%n",
+                baseline.label, baseline.startedAt, label, startedAt));
+        out.append(String.format("수집 처리량: %.1f -> %.1f건/s %s%n",
+                baseline.ingest.readingsPerSecond(), ingest.readingsPerSecond(),
+                delta(baseline.ingest.readingsPerSecond(), ingest.readingsPerSecond())));
+        out.append(String.format("%-14s %22s %22s %22s %22s%n", "endpoint", "req/s", "p50ms", "p95ms", "p99ms"));
+        for (EndpointResult result : endpoints) {
+            baseline.endpoints.stream()
+                    .filter(before -> before.endpoint().equals(result.endpoint()))
+                    .findFirst()
+                    .ifPresent(before -> out.append(compareRow(before, result)));
+        }
+        out.append(compareRow(baseline.total, total));
+        return out.toString();
+    }
+
+    private static String row(EndpointResult result) {
+        return String.format("%-14s %,9d %,7d %9.1f %8.2f %8.2f %8.2f %8.2f %8.2f%n",
+                result.endpoint(), result.requests(), result.errors(), result.throughput(),
+                result.p50Ms(), result.p90Ms(), result.p95Ms(), result.p99Ms(), result.maxMs());
+    }
+
+    private static String compareRow(EndpointResult before, EndpointResult after) {
+        return String.format("%-14s %22s %22s %22s %22s%n", after.endpoint(),
+                change(before, after, EndpointResult::throughput),
+                change(before, after, EndpointResult::p50Ms),
+                change(before, after, EndpointResult::p95Ms),
+                change(before, after, EndpointResult::p99Ms));
+    }
+
+    private static String change(EndpointResult before, EndpointResult after, ToDoubleFunction<EndpointResult> metric) {
+        double from = metric.applyAsDouble(before);
+        double to = metric.applyAsDouble(after);
+        return String.format("%.1f->%.1f %s", from, to, delta(from, to));
+    }
+
+    private static String delta(double from, double to) {
+        return from == 0 ? "(n/a)" : String.format("(%+.1f%%)", (to - from) / from * 100);
+    }
+}
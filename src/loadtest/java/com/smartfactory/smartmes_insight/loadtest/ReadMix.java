@@ -0,0 +1,83 @@
+package com.smartfactory.smartmes_insight.loadtest;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.BiFunction;
+
+/**
+ * 가중치에 따라 조회 API 요청을 고르는 읽기 비율
+ */
+final class ReadMix {
+
+    record Request(String endpoint, String path) {
+    }
+
+    private record Endpoint(String name, BiFunction<SimulatedPlant, SplittableRandom, String> path) {
+    }
+
+    private static final List<Endpoint> ENDPOINTS = List.of(
+            new Endpoint("facilities", (plant, random) -> "/api/facilities"),
+            new Endpoint("facility", (plant, random) -> "/api/facilities/" + plant.facilityId(random)),
+            new Endpoint("sensors", (plant, random) -> "/api/sensors/facility/" + plant.facilityId(random)),
+            new Endpoint("recent", (plant, random) -> "/api/sensor-logs/sensor/" + plant.sensorId(random) + "/recent?limit=20"),
+            new Endpoint("statistics", (plant, random) -> "/api/sensor-logs/sensor/" + plant.sensorId(random)
+                    + "/statistics" + lastMinutes(60)),
+            new Endpoint("downsampled", (plant, random) -> "/api/sensor-logs/sensor/" + plant.sensorId(random)
+                    + "/downsampled" + lastMinutes(24 * 60) + "&points=500"),
+            new Endpoint("latest", (plant, random) -> "/api/sensor-logs/latest"),
+            new Endpoint("alerts", (plant, random) -> "/api/alerts/recent?limit=20"),
+            new Endpoint("alert-summary", (plant, random) -> "/api/alerts/summary"),
+            new Endpoint("oee", (plant, random) -> "/api/oee/facilities/" + plant.facilityId(random)));
+
+    private final SimulatedPlant plant;
+    private final List<Endpoint> endpoints = new ArrayList<>();
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+
+    ReadMix(SimulatedPlant plant, Map<String, Integer> weights) {
+        this.plant = plant;
+        List<Integer> cumulative = new ArrayList<>();
+        int total = 0;
+        for (String name : weights.keySet()) {
+            if (ENDPOINTS.stream().noneMatch(endpoint -> endpoint.name().equals(name))) {
+                throw new IllegalArgumentException("알 수 없는 조회 API: " + name + " (사용 가능: " + names() + ")");
+            }
+        }
+        for (Endpoint endpoint : ENDPOINTS) {
+            int weight = weights.getOrDefault(endpoint.name(), 0);
+            if (weight > 0) {
+                total += weight;
+                endpoints.add(endpoint);
+                cumulative.add(total);
+            }
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("mix에 비중이 0보다 큰 조회 API가 없습니다.");
+        }
+        this.cumulativeWeights = cumulative.stream().mapToInt(Integer::intValue).toArray();
+        this.totalWeight = total;
+    }
+
+    Request next(SplittableRandom random) {
+        int pick = random.nextInt(totalWeight);
+        int index = 0;
+        while (cumulativeWeights[index] <= pick) {
+            index++;
+        }
+        Endpoint endpoint = endpoints.get(index);
+        return new Request(endpoint.name(), endpoint.path().apply(plant, random));
+    }
+
+    private static String lastMinutes(int minutes) {
+        LocalDateTime end = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        return "?startDate=" + end.minusMinutes(minutes) + "&endDate=" + end;
+    }
+
+    private static List<String> names() {
+        return ENDPOINTS.stream().map(Endpoint::name).toList();
+    }
+}
@@ -0,0 +1,92 @@
+package com.smartfactory.smartmes_insight.loadtest;
+
+import com.smartfactory.smartmes_insight.domain.facility.Facility;
+import com.smartfactory.smartmes_insight.domain.facility.FacilityRepository;
+import com.smartfactory.smartmes_insight.domain.sensor.Sensor;
+import com.smartfactory.smartmes_insight.domain.sensor.SensorLogStore;
+import com.smartfactory.smartmes_insight.domain.sensor.SensorRepository;
+import com.smartfactory.smartmes_insight.ingest.ActiveSensorRegistry;
+import com.smartfactory.smartmes_insight.ingest.SensorReadingBatch;
+import com.smartfactory.smartmes_insight.kpi.OeeEngine;
+import org.springframework.context.ApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 시뮬레이션 공장 (설비 N개 x 센서 M개)
+ *
+ * 모든 설비를 가동중으로 만들어 SensorMonitoringScheduler의 수집 대상이 되게 하고,
+ * 조회 API가 빈 결과만 돌려주지 않도록 history-minutes만큼 10초 간격 과거 측정값을 채운다.
+ * 리포지토리로 직접 저장하므로 OEE 엔진과 활성 센서 레지스트리는 저장 후 다시 읽어 새 설비/센서를 추적하게 한다.
+ */
+record SimulatedPlant(long[] facilityIds, long[] sensorIds) {
+
+    private static final String[] TYPES = {"TEMPERATURE", "PRESSURE", "VIBRATION", "HUMIDITY"};
+    private static final long HISTORY_STEP_MILLIS = 10_000;
+
+    static SimulatedPlant build(ApplicationContext context, LoadTestOptions options) {
+        FacilityRepository facilityRepository = context.getBean(FacilityRepository.class);
+        SensorRepository sensorRepository = context.getBean(SensorRepository.class);
+        SensorLogStore sensorLogStore = context.getBean(SensorLogStore.class);
+
+        List<Facility> facilities = new ArrayList<>();
+        for (int f = 1; f <= options.facilities(); f++) {
+            facilities.add(Facility.builder()
+                    .name(String.format("LOAD-%03d", f))
+                    .type(f % 2 == 0 ? "CNC" : "PRESS")
+                    .location("부하시험 " + ((f - 1) / 10 + 1) + "라인")
+                    .status(Facility.STATUS_RUNNING)
+                    .build());
+        }
+        facilities = facilityRepository.saveAll(facilities);
+
+        List<Sensor> sensors = new ArrayList<>();
+        for (Facility facility : facilities) {
+            for (int s = 0; s < options.sensorsPerFacility(); s++) {
+                sensors.add(Sensor.builder()
+                        .facility(facility)
+                        .name(facility.getName() + "-S" + s)
+                        .type(TYPES[s % TYPES.length])
+                        .thresholdMin(0.0)
+                        .thresholdMax(100.0)
+                        .unit("-")
+                        .build());
+            }
+        }
+        sensors = sensorRepository.saveAll(sensors);
+
+        long[] facilityIds = facilities.stream().mapToLong(Facility::getId).toArray();
+        long[] sensorIds = sensors.stream().mapToLong(Sensor::getId).toArray();
+        fillHistory(sensorLogStore, sensorIds, options.historyMinutes());
+        context.getBean(OeeEngine.class).initialize();
+        context.getBean(ActiveSensorRegistry.class).reload();
+        return new SimulatedPlant(facilityIds, sensorIds);
+    }
+
+    private static void fillHistory(SensorLogStore sensorLogStore, long[] sensorIds, int historyMinutes) {
+        int steps = (int) (historyMinutes * 60_000L / HISTORY_STEP_MILLIS);
+        if (steps == 0) {
+            return;
+        }
+        SplittableRandom random = new SplittableRandom(42);
+        long start = System.currentTimeMillis() - steps * HISTORY_STEP_MILLIS;
+        SensorReadingBatch batch = new SensorReadingBatch(steps);
+        for (long sensorId : sensorIds) {
+            batch.clear();
+            for (int i = 0; i < steps; i++) {
+                batch.add(sensorId, start + i * HISTORY_STEP_MILLIS, 50.0 + 20.0 * Math.sin(i / 30.0) + random.nextDouble(-2, 2));
+            }
+            sensorLogStore.saveBatch(batch);
+        }
+    }
+
+    long facilityId(SplittableRandom random) {
+        return facilityIds[random.nextInt(facilityIds.length)];
+    }
+
+    long sensorId(SplittableRandom random) {
+        return sensorIds[random.nextInt(sensorIds.length)];
+    }
+}
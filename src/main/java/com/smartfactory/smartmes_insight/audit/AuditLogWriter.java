@@ -0,0 +1,454 @@
+package com.smartfactory.smartmes_insight.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartfactory.smartmes_insight.jdbc.ConnectionAdmission;
+import com.smartfactory.smartmes_insight.jdbc.DbWorkload;
+import com.smartfactory.smartmes_insight.jdbc.JdbcMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 📋 비동기 배치 감사 로그 기록기
+ *
+ * 인증 요청 스레드는 {@link #write(AuditRecord)}로 큐에 넣기만 하고 바로 반환한다.
+ * 전용 스레드가 큐를 비우면서 batch-size 건이 모이거나 flush-interval이 지나면
+ * log_entries에 JDBC 배치 INSERT를 수행한다.
+ *
+ * - 큐가 가득 찼거나(DB 지연) INSERT가 일시적으로 실패하면 로컬 spill 파일(JSON Lines)에 기록
+ * - 다음 정상 flush 이후 spill 파일을 다시 DB로 재적재 (배치 단위로 진행 위치를 남겨 이미 적재한 행은 다시 넣지 않음)
+ * - User 엔티티를 조회하지 않고 user_id 값만 그대로 적재
+ * - 배치는 한 트랜잭션으로 INSERT하고, 제약 조건 위반(DataIntegrityViolationException)이면 한 건씩 다시 넣는다
+ *   → 없는 사용자 ID는 user_id 없이 기록(detached), 그래도 위반이면 폐기(dropped)
+ *   → 재시도해도 성공할 수 없는 행이 spill 파일에 남아 재적재를 계속 막지 않도록
+ */
+@Slf4j
+@Component
+public class AuditLogWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO log_entries (user_id, action, target_table, target_id, message, timestamp) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    // log_entries 컬럼 길이 (LogEntry 엔티티와 동일하게 유지)
+    private static final int ACTION_MAX_LENGTH = 50;
+    private static final int TARGET_TABLE_MAX_LENGTH = 50;
+    private static final int MESSAGE_MAX_LENGTH = 255;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final JdbcMetrics jdbcMetrics;
+    private final ConnectionAdmission connectionAdmission;
+    private final TransactionTemplate batchTransaction;
+
+    @Value("${audit.writer.capacity:10000}")
+    private int capacity;
+
+    @Value("${audit.writer.batch-size:200}")
+    private int batchSize;
+
+    @Value("${audit.writer.flush-interval-ms:1000}")
+    private long flushIntervalMillis;
+
+    @Value("${audit.writer.slow-flush-ms:2000}")
+    private long slowFlushMillis;
+
+    @Value("${audit.writer.spill-file:./data/audit-spill.jsonl}")
+    private String spillFile;
+
+    private BlockingQueue<AuditRecord> queue;
+    private Thread flusher;
+    private volatile boolean running;
+    private final Object spillLock = new Object();
+
+    // 📊 처리 현황
+    private final LongAdder enqueuedCount = new LongAdder();
+    private final LongAdder writtenCount = new LongAdder();
+    private final LongAdder spilledCount = new LongAdder();
+    private final LongAdder replayedCount = new LongAdder();
+    private final LongAdder failedFlushCount = new LongAdder();
+    private final LongAdder detachedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+
+    public AuditLogWriter(JdbcTemplate jdbcTemplate,
+                          ObjectMapper objectMapper,
+                          JdbcMetrics jdbcMetrics,
+                          ConnectionAdmission connectionAdmission,
+                          PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.jdbcMetrics = jdbcMetrics;
+        this.connectionAdmission = connectionAdmission;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    void start() {
+        queue = new ArrayBlockingQueue<>(capacity);
+        running = true;
+        flusher = new Thread(this::runFlushLoop, "AuditWriter");
+        flusher.setDaemon(true);
+        flusher.start();
+
+        log.info("📋 Audit writer initialized: capacity={}, batchSize={}, flushInterval={}ms, spill={}",
+                capacity, batchSize, flushIntervalMillis, spillFile);
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        try {
+            flusher.join(flushIntervalMillis + TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 종료 시점까지 남은 로그는 유실되지 않도록 spill 파일로 보존
+        List<AuditRecord> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            spill(remaining);
+        }
+    }
+
+    /**
+     * 감사 로그 적재 요청 (호출 스레드는 블로킹되지 않음)
+     */
+    public void write(AuditRecord record) {
+        enqueuedCount.increment();
+        if (!queue.offer(record)) {
+            // 큐 포화 = DB가 처리량을 따라오지 못함 → 로컬 파일로 우회
+            spill(List.of(record));
+        }
+    }
+
+    /**
+     * 감사 로그 적재 요청 (편의 메서드)
+     */
+    public void write(Long userId, String action, String targetTable, Long targetId, String message) {
+        write(new AuditRecord(userId, action, targetTable, targetId, message, LocalDateTime.now()));
+    }
+
+    /**
+     * 📊 기록기 처리 현황
+     */
+    public Map<String, Object> getStatistics() {
+        return Map.of(
+                "queued", queue.size(),
+                "capacity", capacity,
+                "enqueued", enqueuedCount.sum(),
+                "written", writtenCount.sum(),
+                "spilled", spilledCount.sum(),
+                "replayed", replayedCount.sum(),
+                "failedFlushes", failedFlushCount.sum(),
+                "detached", detachedCount.sum(),
+                "dropped", droppedCount.sum()
+        );
+    }
+
+    // ========================= 내부 처리 =========================
+
+    private void runFlushLoop() {
+        List<AuditRecord> batch = new ArrayList<>(batchSize);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                long waitNanos = deadline - System.nanoTime();
+                AuditRecord record = waitNanos > 0 ? queue.poll(waitNanos, TimeUnit.NANOSECONDS) : queue.poll();
+                if (record != null) {
+                    batch.add(record);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+
+                // 크기 또는 시간 조건 충족 시 flush
+                if (batch.size() >= batchSize || System.nanoTime() >= deadline) {
+                    flush(batch);
+                    batch.clear();
+                    deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("❌ 감사 로그 기록 루프 오류: {}", e.getMessage(), e);
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            flush(batch);
+        }
+    }
+
+    // 테스트에서 직접 호출하도록 package-private
+    void flush(List<AuditRecord> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        try (JdbcMetrics.Scope ignored = jdbcMetrics.open("job:AuditLogWriter.flush");
+             ConnectionAdmission.Binding binding = connectionAdmission.bind(DbWorkload.BATCH)) {
+            insertRecords(batch, writtenCount);
+
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            if (elapsedMillis > slowFlushMillis) {
+                log.warn("🐢 감사 로그 flush 지연: {}건, {}ms", batch.size(), elapsedMillis);
+            }
+
+            // DB가 정상이므로 이전에 밀린 spill 로그 재적재
+            replaySpill();
+
+        } catch (PartialInsertException e) {
+            failedFlushCount.increment();
+            List<AuditRecord> remaining = batch.subList(e.completed, batch.size());
+            log.warn("⚠️ 감사 로그 DB 기록 실패 - spill 파일로 보존: {}건, error={}",
+                    remaining.size(), e.getCause().getMessage());
+            spill(remaining);
+        }
+    }
+
+    /**
+     * 레코드 적재 (배치 단위 트랜잭션)
+     * 일시적 오류면 처리를 끝낸(적재 또는 폐기) 건수를 담은 {@link PartialInsertException}을 던진다.
+     */
+    private void insertRecords(List<AuditRecord> records, LongAdder inserted) {
+        int completed = 0;
+        while (completed < records.size()) {
+            List<AuditRecord> batch = records.subList(completed, Math.min(records.size(), completed + batchSize));
+            try {
+                batchTransaction.executeWithoutResult(status ->
+                        jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(),
+                                (ps, record) -> bind(ps, record, record.userId())));
+                inserted.add(batch.size());
+            } catch (DataIntegrityViolationException e) {
+                // 배치는 롤백됨 - 위반 행만 골라내도록 한 건씩 다시 적재
+                insertOneByOne(batch, completed, inserted);
+            } catch (DataAccessException | TransactionException e) {
+                throw new PartialInsertException(completed, e);
+            }
+            completed += batch.size();
+        }
+    }
+
+    private void insertOneByOne(List<AuditRecord> batch, int offset, LongAdder inserted) {
+        for (int i = 0; i < batch.size(); i++) {
+            AuditRecord record = batch.get(i);
+            try {
+                try {
+                    jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, record, record.userId()));
+                } catch (DataIntegrityViolationException e) {
+                    if (record.userId() == null) {
+                        throw e;
+                    }
+                    // 없는 사용자 ID (user_id 외래키) → 사용자 없이 기록
+                    jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, record, null));
+                    detachedCount.increment();
+                    log.warn("⚠️ 감사 로그 사용자 참조 실패 - user_id 없이 기록: userId={}, action={}",
+                            record.userId(), record.action());
+                }
+                inserted.increment();
+            } catch (DataIntegrityViolationException e) {
+                droppedCount.increment();
+                log.error("❌ 감사 로그 제약 조건 위반 - 폐기: action={}, message={}, error={}",
+                        record.action(), record.message(), e.getMessage());
+            } catch (DataAccessException e) {
+                throw new PartialInsertException(offset + i, e);
+            }
+        }
+    }
+
+    private static void bind(PreparedStatement ps, AuditRecord record, Long userId) throws SQLException {
+        if (userId != null) {
+            ps.setLong(1, userId);
+        } else {
+            ps.setNull(1, Types.BIGINT);
+        }
+        ps.setString(2, truncate(record.action(), ACTION_MAX_LENGTH));
+        ps.setString(3, truncate(record.targetTable(), TARGET_TABLE_MAX_LENGTH));
+        ps.setLong(4, record.targetId() != null ? record.targetId() : 0L);
+        ps.setString(5, truncate(record.message(), MESSAGE_MAX_LENGTH));
+        ps.setTimestamp(6, record.timestamp() != null ? Timestamp.valueOf(record.timestamp()) : null);
+    }
+
+    private void spill(List<AuditRecord> records) {
+        synchronized (spillLock) {
+            Path path = Paths.get(spillFile);
+            try {
+                if (path.getParent() != null) {
+                    Files.createDirectories(path.getParent());
+                }
+                try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                    for (AuditRecord record : records) {
+                        writer.write(objectMapper.writeValueAsString(record));
+                        writer.newLine();
+                    }
+                }
+                spilledCount.add(records.size());
+            } catch (IOException e) {
+                log.error("❌ 감사 로그 spill 실패 (유실): {}건, error={}", records.size(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * spill 파일 재적재
+     * spill 파일을 .replay로 옮겨 배치 단위로 적재하고, 중간에 실패하면 아직 적재하지 않은 줄만 .replay에 남긴다.
+     * 남은 .replay 파일이 있으면(이전 재적재 중단) 그것부터 이어서 적재한다.
+     *
+     * spillLock은 spill 파일을 .replay로 옮기는 순간에만 잡는다. DB 적재는 잠금 밖에서 하므로
+     * 재적재 중에 큐가 넘친 요청 스레드도 새 spill 파일에 바로 쓰고 반환한다 (.replay는 기록 스레드만 다룬다).
+     */
+    private void replaySpill() {
+        Path path = Paths.get(spillFile);
+        Path replaying = path.resolveSibling(path.getFileName() + ".replay");
+        if (!Files.exists(replaying)) {
+            synchronized (spillLock) {
+                if (!Files.exists(path)) {
+                    return;
+                }
+                try {
+                    Files.move(path, replaying);
+                } catch (IOException e) {
+                    log.warn("⚠️ spill 감사 로그 재적재 준비 실패: {}", e.getMessage());
+                    return;
+                }
+            }
+        }
+
+        long committedLines = 0; // .replay 파일에서 처리를 끝낸(적재 또는 폐기) 줄 수
+        List<AuditRecord> pending = new ArrayList<>(batchSize);
+        List<Long> pendingLines = new ArrayList<>(batchSize);
+        try {
+            try (BufferedReader reader = Files.newBufferedReader(replaying, StandardCharsets.UTF_8)) {
+                long lineNumber = 0;
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    lineNumber++;
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    AuditRecord record = parse(line);
+                    if (record == null) {
+                        continue;
+                    }
+                    pending.add(record);
+                    pendingLines.add(lineNumber);
+                    if (pending.size() >= batchSize) {
+                        insertRecords(pending, replayedCount);
+                        committedLines = lineNumber;
+                        pending.clear();
+                        pendingLines.clear();
+                    }
+                }
+                // 남은 레코드는 리더를 닫기 전에 적재
+                if (!pending.isEmpty()) {
+                    insertRecords(pending, replayedCount);
+                    pending.clear();
+                }
+            }
+            Files.deleteIfExists(replaying);
+            log.info("♻️ spill 감사 로그 재적재 완료: 누적 {}건", replayedCount.sum());
+
+        } catch (PartialInsertException e) {
+            if (e.completed > 0) {
+                committedLines = pendingLines.get(e.completed - 1);
+            }
+            log.warn("⚠️ spill 감사 로그 재적재 중단 ({}번째 줄까지 적재): {}", committedLines, e.getCause().getMessage());
+            keepUnreplayed(replaying, committedLines);
+        } catch (IOException e) {
+            log.warn("⚠️ spill 감사 로그 재적재 중단 ({}번째 줄까지 적재): {}", committedLines, e.getMessage());
+            keepUnreplayed(replaying, committedLines);
+        }
+    }
+
+    private AuditRecord parse(String line) {
+        try {
+            return objectMapper.readValue(line, AuditRecord.class);
+        } catch (IOException e) {
+            droppedCount.increment();
+            log.error("❌ 읽을 수 없는 spill 감사 로그 - 폐기: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 재적재가 중간에 실패한 경우 .replay 파일에 아직 적재하지 않은 줄만 남긴다. (다음 재적재가 이어서 처리)
+     * 임시 파일에 쓴 뒤 교체하므로 도중에 종료되어도 이미 적재한 줄이 다시 들어가지 않는다.
+     */
+    private void keepUnreplayed(Path replaying, long committedLines) {
+        if (committedLines == 0) {
+            return;
+        }
+        Path remaining = replaying.resolveSibling(replaying.getFileName() + ".tmp");
+        try (BufferedReader reader = Files.newBufferedReader(replaying, StandardCharsets.UTF_8);
+             BufferedWriter writer = Files.newBufferedWriter(remaining, StandardCharsets.UTF_8)) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                if (++lineNumber > committedLines) {
+                    writer.write(line);
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            log.error("❌ spill 재적재 위치 기록 실패 (다음 재적재 시 중복 가능): {}", e.getMessage());
+            return;
+        }
+        try {
+            Files.move(remaining, replaying, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.error("❌ spill 재적재 위치 기록 실패 (다음 재적재 시 중복 가능): {}", e.getMessage());
+        }
+    }
+
+    private static String truncate(String value, int maxLength) {
+        if (value == null || value.length() <= maxLength) {
+            return value;
+        }
+        return value.substring(0, maxLength);
+    }
+
+    /**
+     * 일시적 오류로 적재 중단 (completed: 처리를 끝낸 앞쪽 레코드 수 - 적재 또는 폐기)
+     */
+    private static final class PartialInsertException extends RuntimeException {
+
+        private final int completed;
+
+        private PartialInsertException(int completed, RuntimeException cause) {
+            super(cause);
+            this.completed = completed;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.smartfactory.smartmes_insight.audit;
+
+import java.time.LocalDateTime;
+
+/**
+ * 감사 로그 한 건 (log_entries 한 행에 대응)
+ * User 엔티티 대신 사용자 ID만 보관하여 조회 없이 바로 적재한다.
+ *
+ * @param userId      사용자 ID (null 가능 - 시스템 로그의 경우)
+ * @param action      액션 코드
+ * @param targetTable 대상 테이블명
+ * @param targetId    대상 ID
+ * @param message     상세 메시지
+ * @param timestamp   발생 시각
+ */
+public record AuditRecord(
+        Long userId,
+        String action,
+        String targetTable,
+        Long targetId,
+        String message,
+        LocalDateTime timestamp
+) {
+}
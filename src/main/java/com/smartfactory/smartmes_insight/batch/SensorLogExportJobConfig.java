@@ -0,0 +1,78 @@
+package com.smartfactory.smartmes_insight.batch;
+
+import com.smartfactory.smartmes_insight.series.SensorSeriesExporter;
+import com.smartfactory.smartmes_insight.series.SeriesExportFormat;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+
+/**
+ * 📦 센서 로그 일자별 압축 내보내기 배치 작업
+ *
+ * 작업 파라미터 date(yyyy-MM-dd) 하루치 전체 센서 로그를
+ * {sensor.export.directory}/sensor-logs-{date}.smts 파일로 기록한다.
+ * 임시 파일에 쓴 뒤 이름을 바꾸므로 실패해도 불완전한 파일이 남지 않는다.
+ */
+@Slf4j
+@Configuration
+public class SensorLogExportJobConfig {
+
+    public static final String JOB_NAME = "sensorLogExportJob";
+    public static final String DATE_PARAMETER = "date";
+
+    @Bean
+    public Job sensorLogExportJob(JobRepository jobRepository, Step sensorLogExportStep) {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .start(sensorLogExportStep)
+                .build();
+    }
+
+    @Bean
+    public Step sensorLogExportStep(JobRepository jobRepository, Tasklet sensorLogExportTasklet) {
+        // 조회는 내보내기가 읽기 전용 트랜잭션으로 따로 처리하므로 스텝 트랜잭션은 자원 없이 둔다
+        return new StepBuilder("sensorLogExportStep", jobRepository)
+                .tasklet(sensorLogExportTasklet, new ResourcelessTransactionManager())
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public Tasklet sensorLogExportTasklet(SensorSeriesExporter sensorSeriesExporter,
+                                          @Value("#{jobParameters['" + DATE_PARAMETER + "']}") String date,
+                                          @Value("${sensor.export.directory:./data/export}") String directory) {
+        return (contribution, chunkContext) -> {
+            LocalDate day = LocalDate.parse(date);
+            Path dir = Paths.get(directory);
+            Files.createDirectories(dir);
+            Path target = dir.resolve("sensor-logs-" + day + SeriesExportFormat.FILE_EXTENSION);
+            Path temp = dir.resolve(target.getFileName() + ".tmp");
+
+            SensorSeriesExporter.Summary summary;
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                summary = sensorSeriesExporter.export(null, day.atStartOfDay(), day.plusDays(1).atStartOfDay(), out);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            contribution.incrementWriteCount(summary.points());
+            log.info("📦 센서 로그 일자별 내보내기 파일 생성: {} ({}바이트)", target, summary.bytes());
+            return RepeatStatus.FINISHED;
+        };
+    }
+}
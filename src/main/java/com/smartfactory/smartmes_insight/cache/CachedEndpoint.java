@@ -0,0 +1,37 @@
+package com.smartfactory.smartmes_insight.cache;
+
+/**
+ * 응답을 캐시하는 조회 API (대시보드가 반복 호출하는 목록/통계)
+ *
+ * TTL은 response-cache.ttl-ms.{tagValue}로 바꿀 수 있다. 쓰기 서비스가 커밋 이후 region 단위로 무효화하므로
+ * TTL은 서비스를 거치지 않은 변경(다른 인스턴스, DB 직접 수정)이 화면에 반영되기까지의 최대 지연이다.
+ */
+public enum CachedEndpoint {
+    FACILITIES(ResponseCacheRegion.FACILITY, 30_000),            // GET /api/facilities
+    FACILITIES_ACTIVE(ResponseCacheRegion.FACILITY, 30_000),     // GET /api/facilities/active
+    SENSORS(ResponseCacheRegion.SENSOR, 30_000),                 // GET /api/sensors
+    ALERTS_RECENT(ResponseCacheRegion.ALERT, 5_000),             // GET /api/alerts/recent
+    ALERTS_RECENT_ACTIVE(ResponseCacheRegion.ALERT, 5_000),      // GET /api/alerts/recent/active
+    ALERTS_SUMMARY(ResponseCacheRegion.ALERT, 5_000),            // GET /api/alerts/summary
+    PRODUCTION_STATISTICS(ResponseCacheRegion.PRODUCTION, 60_000); // GET /api/production-results/statistics/**
+
+    private final ResponseCacheRegion region;
+    private final long defaultTtlMillis;
+
+    CachedEndpoint(ResponseCacheRegion region, long defaultTtlMillis) {
+        this.region = region;
+        this.defaultTtlMillis = defaultTtlMillis;
+    }
+
+    public ResponseCacheRegion region() {
+        return region;
+    }
+
+    long defaultTtlMillis() {
+        return defaultTtlMillis;
+    }
+
+    String tagValue() {
+        return name().toLowerCase().replace('_', '-');
+    }
+}
@@ -0,0 +1,326 @@
+package com.smartfactory.smartmes_insight.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartfactory.smartmes_insight.common.ApiResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 🗃️ 조회 API 응답 캐시 (대시보드 목록/통계)
+ *
+ * 1단계 - 서버 메모리: 조회 결과(data)를 요청 URI + 파라미터 단위로 TTL 동안 보관해 DB 조회를 건너뛴다.
+ *   - 전체 크기는 JSON 직렬화 크기 합계로 response-cache.max-bytes 이하로 유지 (넘으면 오래 안 쓴 것부터 제거)
+ *   - 쓰기 서비스가 {@link #invalidate}하면 해당 region 항목을 지우고, 커밋 이후 한 번 더 지운다
+ *     (커밋 전에 시작된 조회가 이전 데이터를 다시 넣는 경우 방지 - 조회 중 무효화된 결과는 저장하지 않음)
+ * 2단계 - 클라이언트: 결과 JSON의 해시를 ETag로 내려주고, If-None-Match가 같으면 본문 없이 304
+ *   - ApiResponse.timestamp는 요청마다 바뀌므로 data만으로 ETag를 만든다 (재조회해도 내용이 같으면 같은 ETag)
+ *   - Cache-Control: no-cache, private → 브라우저는 매번 재검증하고 공유 프록시에는 저장하지 않는다
+ *
+ * 📊 response.cache.requests{endpoint,result=hit|miss}, response.cache.not.modified{endpoint},
+ *    response.cache.hit.ratio, response.cache.entries, response.cache.bytes, response.cache.evictions{cause}
+ */
+@Slf4j
+@Component
+public class ResponseCache {
+
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final long maxBytes;
+    private final long maxEntryBytes;
+    private final Map<CachedEndpoint, Endpoint> endpoints = new EnumMap<>(CachedEndpoint.class);
+
+    // 캐시 항목 (접근 순서 = LRU), region별 무효화 세대, 크기 합계 - lock으로 보호
+    private final Object lock = new Object();
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private final long[] generations = new long[ResponseCacheRegion.values().length];
+    private long bytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final Counter expiredEvictions;
+    private final Counter sizeEvictions;
+    private final Counter invalidatedEvictions;
+
+    public ResponseCache(ObjectMapper objectMapper, Environment environment, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.enabled = environment.getProperty("response-cache.enabled", Boolean.class, true);
+        this.maxBytes = Math.max(1, environment.getProperty("response-cache.max-bytes", Long.class, 16L * 1024 * 1024));
+        this.maxEntryBytes = Math.min(maxBytes,
+                environment.getProperty("response-cache.max-entry-bytes", Long.class, 1024L * 1024));
+
+        for (CachedEndpoint endpoint : CachedEndpoint.values()) {
+            long ttlMillis = environment.getProperty("response-cache.ttl-ms." + endpoint.tagValue(), Long.class,
+                    endpoint.defaultTtlMillis());
+            endpoints.put(endpoint, new Endpoint(endpoint, ttlMillis, meterRegistry));
+        }
+
+        Gauge.builder("response.cache.hit.ratio", this, ResponseCache::hitRatio)
+                .description("응답 캐시 적중률 (서버 메모리 기준, 기동 이후 누적)")
+                .register(meterRegistry);
+        Gauge.builder("response.cache.entries", this, ResponseCache::size)
+                .description("응답 캐시 항목 수")
+                .register(meterRegistry);
+        Gauge.builder("response.cache.bytes", this, ResponseCache::bytes)
+                .description("응답 캐시 크기 (보관 중인 결과의 JSON 직렬화 크기 합계)")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.expiredEvictions = evictionCounter("expired", meterRegistry);
+        this.sizeEvictions = evictionCounter("size", meterRegistry);
+        this.invalidatedEvictions = evictionCounter("invalidated", meterRegistry);
+
+        log.info("🗃️ 응답 캐시 설정: enabled={}, max-bytes={}, max-entry-bytes={}", enabled, maxBytes, maxEntryBytes);
+    }
+
+    private static Counter evictionCounter(String cause, MeterRegistry meterRegistry) {
+        return Counter.builder("response.cache.evictions")
+                .description("응답 캐시에서 제거된 항목 수")
+                .tag("cause", cause)
+                .register(meterRegistry);
+    }
+
+    // ========================= 조회 =========================
+
+    /**
+     * 캐시된 결과로 응답 (없거나 만료되면 loader로 조회해 저장)
+     * If-None-Match가 결과의 ETag와 같으면 본문 없이 304를 반환한다.
+     */
+    public <T> ResponseEntity<ApiResponse<T>> respond(HttpServletRequest request, CachedEndpoint endpoint,
+                                                      Supplier<T> loader, String message) {
+        if (!enabled) {
+            return ResponseEntity.ok(ApiResponse.success(loader.get(), message));
+        }
+        Endpoint stats = endpoints.get(endpoint);
+        String key = key(endpoint, request);
+
+        Entry entry;
+        long generation;
+        synchronized (lock) {
+            entry = entries.get(key);
+            if (entry != null && entry.expiresAt() <= System.currentTimeMillis()) {
+                remove(key);
+                expiredEvictions.increment();
+                entry = null;
+            }
+            generation = generations[endpoint.region().ordinal()];
+        }
+
+        if (entry != null) {
+            stats.hits.increment();
+            hits.increment();
+        } else {
+            stats.misses.increment();
+            misses.increment();
+            T data = loader.get();
+            byte[] body;
+            try {
+                body = objectMapper.writeValueAsBytes(data);
+            } catch (JsonProcessingException e) {
+                log.warn("⚠️ 응답 캐시 직렬화 실패 - 캐시하지 않고 응답: {} {}", endpoint, e.getMessage());
+                return ResponseEntity.ok(ApiResponse.success(data, message));
+            }
+            entry = new Entry(endpoint.region(), data, etag(body), body.length,
+                    System.currentTimeMillis() + stats.ttlMillis);
+            if (body.length <= maxEntryBytes) {
+                store(key, entry, generation);
+            }
+        }
+
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), entry.etag())) {
+            stats.notModified.increment();
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(entry.etag()).cacheControl(CACHE_CONTROL).build();
+        }
+        @SuppressWarnings("unchecked")
+        T data = (T) entry.data();
+        return ResponseEntity.ok().eTag(entry.etag()).cacheControl(CACHE_CONTROL).body(ApiResponse.success(data, message));
+    }
+
+    // 같은 API라도 경로 변수/쿼리 파라미터가 다르면 다른 항목 (파라미터 순서는 무시)
+    private static String key(CachedEndpoint endpoint, HttpServletRequest request) {
+        StringBuilder key = new StringBuilder(endpoint.name()).append(' ').append(request.getRequestURI());
+        char separator = '?';
+        for (Map.Entry<String, String[]> parameter : new TreeMap<>(request.getParameterMap()).entrySet()) {
+            key.append(separator).append(parameter.getKey()).append('=').append(String.join(",", parameter.getValue()));
+            separator = '&';
+        }
+        return key.toString();
+    }
+
+    private static String etag(byte[] body) {
+        return "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+    }
+
+    // If-None-Match: "a", W/"b", * (약한 비교)
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void store(String key, Entry entry, long generation) {
+        synchronized (lock) {
+            if (generations[entry.region().ordinal()] != generation) {
+                return; // 조회하는 동안 무효화됨 - 이전 데이터일 수 있으므로 저장하지 않음
+            }
+            remove(key);
+            entries.put(key, entry);
+            bytes += entry.bytes();
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (bytes > maxBytes && eldest.hasNext()) {
+                bytes -= eldest.next().bytes();
+                eldest.remove();
+                sizeEvictions.increment();
+            }
+        }
+    }
+
+    // lock을 잡은 상태에서 호출
+    private void remove(String key) {
+        Entry removed = entries.remove(key);
+        if (removed != null) {
+            bytes -= removed.bytes();
+        }
+    }
+
+    // ========================= 무효화 =========================
+
+    /**
+     * region 무효화 (쓰기 서비스에서 호출 - 즉시 + 트랜잭션 안이면 커밋 이후 한 번 더)
+     * 롤백되어도 다음 조회가 다시 읽을 뿐이므로 즉시 무효화는 되돌리지 않는다.
+     */
+    public void invalidate(ResponseCacheRegion... regions) {
+        Set<ResponseCacheRegion> targets = EnumSet.noneOf(ResponseCacheRegion.class);
+        targets.addAll(Arrays.asList(regions));
+        evict(targets);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(targets);
+                }
+            });
+        }
+    }
+
+    private void evict(Set<ResponseCacheRegion> regions) {
+        synchronized (lock) {
+            for (ResponseCacheRegion region : regions) {
+                generations[region.ordinal()]++;
+            }
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                Entry entry = iterator.next();
+                if (regions.contains(entry.region())) {
+                    bytes -= entry.bytes();
+                    iterator.remove();
+                    invalidatedEvictions.increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * 만료 항목 정리 (조회되지 않는 항목이 메모리를 계속 차지하지 않도록)
+     */
+    @Scheduled(fixedDelayString = "${response-cache.purge-interval-ms:60000}",
+            initialDelayString = "${response-cache.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        synchronized (lock) {
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                Entry entry = iterator.next();
+                if (entry.expiresAt() <= now) {
+                    bytes -= entry.bytes();
+                    iterator.remove();
+                    expiredEvictions.increment();
+                }
+            }
+        }
+    }
+
+    // ========================= 상태 =========================
+
+    public int size() {
+        synchronized (lock) {
+            return entries.size();
+        }
+    }
+
+    public long bytes() {
+        synchronized (lock) {
+            return bytes;
+        }
+    }
+
+    public double hitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    private record Entry(ResponseCacheRegion region, Object data, String etag, long bytes, long expiresAt) {
+    }
+
+    private static final class Endpoint {
+
+        private final long ttlMillis;
+        private final Counter hits;
+        private final Counter misses;
+        private final Counter notModified;
+
+        private Endpoint(CachedEndpoint endpoint, long ttlMillis, MeterRegistry meterRegistry) {
+            this.ttlMillis = ttlMillis;
+            this.hits = Counter.builder("response.cache.requests")
+                    .description("응답 캐시 조회 수 (hit: 메모리에서 응답, miss: DB 조회)")
+                    .tag("endpoint", endpoint.tagValue())
+                    .tag("result", "hit")
+                    .register(meterRegistry);
+            this.misses = Counter.builder("response.cache.requests")
+                    .description("응답 캐시 조회 수 (hit: 메모리에서 응답, miss: DB 조회)")
+                    .tag("endpoint", endpoint.tagValue())
+                    .tag("result", "miss")
+                    .register(meterRegistry);
+            this.notModified = Counter.builder("response.cache.not.modified")
+                    .description("If-None-Match가 일치해 본문 없이 304로 응답한 수")
+                    .tag("endpoint", endpoint.tagValue())
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.smartfactory.smartmes_insight.cache;
+
+/**
+ * 응답 캐시 무효화 단위 (쓰기 서비스가 {@link ResponseCache#invalidate}로 지정)
+ *
+ * - FACILITY: 설비 목록 (설비 등록/수정/삭제/상태 변경)
+ * - SENSOR: 센서 목록 (센서 등록/수정/삭제, 설비명 변경/설비 삭제)
+ * - ALERT: 최근 알림/알림 요약 (알림 생성/삭제/정리, 센서/설비 정보 변경 - 응답에 센서명/설비명 포함)
+ * - PRODUCTION: 생산 통계 (실적 등록/수정/삭제/불량 등록, KPI 카운터 재구성)
+ */
+public enum ResponseCacheRegion {
+    FACILITY,
+    SENSOR,
+    ALERT,
+    PRODUCTION
+}
@@ -1,76 +1,178 @@
 package com.smartfactory.smartmes_insight.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
-import java.util.concurrent.Executor;
-
 /**
  * 비동기 처리 설정
  * 알림 이벤트 처리를 위한 별도 스레드 풀 구성
+ * (반환 타입을 TaskExecutor 계열로 선언해야 Actuator가 executor.* 지표로 큐 길이/활성 스레드를 노출한다)
+ *
+ * 🧵 가상 스레드 모드 (spring.threads.virtual.enabled=true, Java 21 이상)
+ * - Spring Boot가 Tomcat 요청 처리와 @Scheduled 실행을 가상 스레드로 전환한다
+ * - 여기 선언한 실행기도 작업마다 가상 스레드를 만드는 SimpleAsyncTaskExecutor로 바뀐다
+ * - 알림/일반 작업은 스레드 수 제한이 없으며 동시 DB 작업은 커넥션 풀과 db.admission 허용 수로만 제한된다
+ * - 센서 스트림 전송은 DB가 아닌 소켓 쓰기이므로 동시 전송 수 제한을 유지하고, 넘치면 거부한다 (다음 틱으로 미룸)
+ * - 가상 스레드 실행기는 큐가 없으므로 executor.* 지표에서 빠진다
  */
 @Configuration
 @EnableAsync
 @Slf4j
 public class AsyncConfig {
-    
+
+    private final boolean virtualThreads;
+
+    public AsyncConfig(Environment environment) {
+        // Boot와 같은 기준 (속성 + Java 21 이상)으로 판단해 Java 17에서는 설정과 무관하게 스레드 풀 사용
+        this.virtualThreads = Threading.VIRTUAL.isActive(environment);
+    }
+
     /**
      * 알림 처리용 스레드 풀
      */
     @Bean(name = "notificationExecutor")
-    public Executor notificationExecutor() {
+    public AsyncTaskExecutor notificationExecutor() {
+        if (virtualThreads) {
+            return virtualThreadExecutor("Notification-", 10, 0);
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        
+
         // 🎯 스레드 풀 설정
         executor.setCorePoolSize(2);           // 기본 스레드 수
         executor.setMaxPoolSize(5);            // 최대 스레드 수
         executor.setQueueCapacity(100);        // 대기 큐 크기
         executor.setThreadNamePrefix("Notification-"); // 스레드 이름 접두사
-        
+
         // 🛡️ 거부 정책 (큐가 가득 찬 경우)
         executor.setRejectedExecutionHandler((runnable, executor1) -> {
             log.warn("🚨 Notification task rejected! Queue is full. Task: {}", runnable.toString());
         });
-        
+
         // 🔄 종료 시 대기 설정
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(10);
-        
+
         executor.initialize();
-        
+
         log.info("🚀 Notification executor initialized: core={}, max={}, queue={}",
                 executor.getCorePoolSize(), executor.getMaxPoolSize(), executor.getQueueCapacity());
-        
+
         return executor;
     }
-    
+
     /**
      * 기본 비동기 처리용 스레드 풀
      */
     @Bean(name = "taskExecutor")
-    public Executor taskExecutor() {
+    public AsyncTaskExecutor taskExecutor() {
+        if (virtualThreads) {
+            return virtualThreadExecutor("Async-", 5, 0);
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        
+
         executor.setCorePoolSize(3);
         executor.setMaxPoolSize(10);
         executor.setQueueCapacity(50);
         executor.setThreadNamePrefix("Async-");
-        
+
         executor.setRejectedExecutionHandler((runnable, executor1) -> {
             log.warn("🚨 Async task rejected! Queue is full. Task: {}", runnable.toString());
         });
-        
+
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(5);
-        
+
         executor.initialize();
-        
+
         log.info("🚀 Task executor initialized: core={}, max={}, queue={}",
                 executor.getCorePoolSize(), executor.getMaxPoolSize(), executor.getQueueCapacity());
-        
+
+        return executor;
+    }
+
+    /**
+     * 센서 실시간 스트림(SSE) 전송용 스레드 풀
+     * 느린 클라이언트의 소켓 쓰기가 수집/요청 스레드를 막지 않도록 분리
+     * (큐가 가득 차면 거부 → SensorStreamHub가 다음 틱으로 미룸)
+     */
+    @Bean(name = "sensorStreamExecutor")
+    public AsyncTaskExecutor sensorStreamExecutor() {
+        if (virtualThreads) {
+            return virtualThreadExecutor("SensorStream-", 0, 8);
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("SensorStream-");
+
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+
+        executor.initialize();
+
+        log.info("🚀 Sensor stream executor initialized: core={}, max={}, queue={}",
+                executor.getCorePoolSize(), executor.getMaxPoolSize(), executor.getQueueCapacity());
+
+        return executor;
+    }
+
+    /**
+     * 센서 수집 주기 실행용 스레드 풀 (SensorMonitoringScheduler)
+     * 샤드마다 실행 중인 주기는 최대 하나이므로 샤드 수만큼의 스레드로 충분하다
+     * (직전 주기를 마친 스레드가 풀로 돌아가기 전에 다음 주기가 올 수 있어 큐도 샤드 수만큼 둔다)
+     */
+    @Bean(name = "sensorTickExecutor")
+    public AsyncTaskExecutor sensorTickExecutor(@Value("${sensor.monitoring.shards:1}") int shards) {
+        if (virtualThreads) {
+            return virtualThreadExecutor("SensorTick-", 0, 0);
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(shards);
+        executor.setMaxPoolSize(shards);
+        executor.setQueueCapacity(shards);
+        executor.setThreadNamePrefix("SensorTick-");
+
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+
+        executor.initialize();
+
+        log.info("🚀 Sensor tick executor initialized: core={}, max={}, queue={}",
+                executor.getCorePoolSize(), executor.getMaxPoolSize(), executor.getQueueCapacity());
+
+        return executor;
+    }
+
+    /**
+     * 작업마다 가상 스레드를 만드는 실행기
+     *
+     * @param terminationSeconds 종료 시 실행 중인 작업을 기다리는 시간 (0이면 기다리지 않음)
+     * @param concurrencyLimit   동시 실행 수 상한 (0이면 제한 없음, 초과 시 TaskRejectedException)
+     */
+    private static SimpleAsyncTaskExecutor virtualThreadExecutor(String threadNamePrefix,
+                                                                 int terminationSeconds,
+                                                                 int concurrencyLimit) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setTaskTerminationTimeout(terminationSeconds * 1000L);
+        if (concurrencyLimit > 0) {
+            executor.setConcurrencyLimit(concurrencyLimit);
+            executor.setRejectTasksWhenLimitReached(true);
+        }
+
+        log.info("🧵 {} executor initialized on virtual threads: limit={}",
+                threadNamePrefix.substring(0, threadNamePrefix.length() - 1),
+                concurrencyLimit > 0 ? concurrencyLimit : "unbounded");
+
         return executor;
     }
 }
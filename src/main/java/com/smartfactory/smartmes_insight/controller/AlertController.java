@@ -1,11 +1,14 @@
 package com.smartfactory.smartmes_insight.controller;
 
+import com.smartfactory.smartmes_insight.cache.CachedEndpoint;
+import com.smartfactory.smartmes_insight.cache.ResponseCache;
 import com.smartfactory.smartmes_insight.common.ApiResponse;
 import com.smartfactory.smartmes_insight.dto.AlertResponse;
 import com.smartfactory.smartmes_insight.service.AlertService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
@@ -24,6 +27,7 @@ import java.util.Optional;
 public class AlertController {
 
     private final AlertService alertService;
+    private final ResponseCache responseCache;
 
     @Operation(summary = "수동 알림 생성", description = "수동으로 알림을 생성합니다. (ADMIN, MANAGER 권한 필요)")
     @PostMapping
@@ -76,9 +80,10 @@ public class AlertController {
     @Operation(summary = "최근 알림 조회", description = "최근 알림을 제한된 개수만큼 조회합니다.")
     @GetMapping("/recent")
     public ResponseEntity<ApiResponse<List<AlertResponse>>> getRecentAlerts(
-            @RequestParam(defaultValue = "10") @Parameter(description = "조회할 개수") int limit) {
-        List<AlertResponse> alerts = alertService.findRecentAlerts(limit);
-        return ResponseEntity.ok(ApiResponse.success(alerts, "최근 알림 조회 성공"));
+            @RequestParam(defaultValue = "10") @Parameter(description = "조회할 개수") int limit,
+            HttpServletRequest httpRequest) {
+        return responseCache.respond(httpRequest, CachedEndpoint.ALERTS_RECENT,
+                () -> alertService.findRecentAlerts(limit), "최근 알림 조회 성공");
     }
 
     @Operation(summary = "심각도별 알림 조회", description = "특정 심각도의 알림 목록을 조회합니다.")
@@ -91,9 +96,9 @@ public class AlertController {
 
     @Operation(summary = "최근 30분 내 알림 조회", description = "최근 30분 이내에 발생한 알림만 조회합니다.")
     @GetMapping("/recent/active")
-    public ResponseEntity<ApiResponse<List<AlertResponse>>> getRecentActiveAlerts() {
-        List<AlertResponse> alerts = alertService.findRecentAlertsOnly();
-        return ResponseEntity.ok(ApiResponse.success(alerts, "최근 활성 알림 조회 성공"));
+    public ResponseEntity<ApiResponse<List<AlertResponse>>> getRecentActiveAlerts(HttpServletRequest httpRequest) {
+        return responseCache.respond(httpRequest, CachedEndpoint.ALERTS_RECENT_ACTIVE,
+                alertService::findRecentAlertsOnly, "최근 활성 알림 조회 성공");
     }
 
     @Operation(summary = "설비별 알림 조회", description = "특정 설비의 알림 목록을 조회합니다.")
@@ -107,9 +112,10 @@ public class AlertController {
     @Operation(summary = "알림 요약 정보 조회", description = "최근 알림들의 요약 정보를 조회합니다.")
     @GetMapping("/summary")
     public ResponseEntity<ApiResponse<List<String>>> getAlertSummaries(
-            @RequestParam(defaultValue = "5") @Parameter(description = "조회할 개수") int limit) {
-        List<String> summaries = alertService.getAlertSummaries(limit);
-        return ResponseEntity.ok(ApiResponse.success(summaries, "알림 요약 정보 조회 성공"));
+            @RequestParam(defaultValue = "5") @Parameter(description = "조회할 개수") int limit,
+            HttpServletRequest httpRequest) {
+        return responseCache.respond(httpRequest, CachedEndpoint.ALERTS_SUMMARY,
+                () -> alertService.getAlertSummaries(limit), "알림 요약 정보 조회 성공");
     }
 
     @Operation(summary = "알림 삭제", description = "특정 알림을 삭제합니다. (ADMIN 권한 필요)")
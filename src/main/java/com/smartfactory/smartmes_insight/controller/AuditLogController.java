@@ -0,0 +1,61 @@
+package com.smartfactory.smartmes_insight.controller;
+
+import com.smartfactory.smartmes_insight.common.ApiResponse;
+import com.smartfactory.smartmes_insight.domain.log.LogEntrySearchCondition;
+import com.smartfactory.smartmes_insight.dto.log.AuditLogPageResponse;
+import com.smartfactory.smartmes_insight.service.AuditLogService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/audit-logs")
+@RequiredArgsConstructor
+@Tag(name = "📋 감사 로그", description = "사용자 활동 감사 로그 검색 API")
+public class AuditLogController {
+
+    private final AuditLogService auditLogService;
+
+    @Operation(summary = "감사 로그 검색",
+            description = "사용자/액션/대상/기간 조건을 조합해 감사 로그를 검색합니다. " +
+                    "다음 페이지는 응답의 nextCursorTimestamp, nextCursorId를 그대로 전달합니다. (ADMIN 권한 필요)")
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<AuditLogPageResponse>> searchAuditLogs(
+            @RequestParam(required = false) @Parameter(description = "사용자 ID") Long userId,
+            @RequestParam(required = false) @Parameter(description = "액션 코드") String action,
+            @RequestParam(required = false) @Parameter(description = "대상 테이블") String targetTable,
+            @RequestParam(required = false) @Parameter(description = "대상 ID") Long targetId,
+            @RequestParam(required = false) @Parameter(description = "시작 일시") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @Parameter(description = "종료 일시") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false) @Parameter(description = "커서 - 이전 페이지 마지막 시각") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorTimestamp,
+            @RequestParam(required = false) @Parameter(description = "커서 - 이전 페이지 마지막 ID") Long cursorId,
+            @RequestParam(defaultValue = "50") @Parameter(description = "페이지 크기 (최대 500)") int size) {
+
+        LogEntrySearchCondition condition = LogEntrySearchCondition.builder()
+                .userId(userId)
+                .action(action)
+                .targetTable(targetTable)
+                .targetId(targetId)
+                .startDate(startDate)
+                .endDate(endDate)
+                .cursorTimestamp(cursorTimestamp)
+                .cursorId(cursorId)
+                .build();
+
+        try {
+            AuditLogPageResponse page = auditLogService.search(condition, size);
+            return ResponseEntity.ok(ApiResponse.success(page, "감사 로그 검색 성공"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(400, e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.smartfactory.smartmes_insight.controller;
+
+import com.smartfactory.smartmes_insight.common.ApiResponse;
+import com.smartfactory.smartmes_insight.event.DomainEventBus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/events")
+@RequiredArgsConstructor
+@Tag(name = "📣 도메인 이벤트", description = "설비/센서/작업 지시 상태 변경 이벤트 다시 읽기 API")
+public class DomainEventController {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private final DomainEventBus domainEventBus;
+
+    @Operation(summary = "상태 변경 이벤트 조회",
+            description = "after 이후 기록된 이벤트를 일련번호 순서대로 조회합니다. "
+                    + "마지막으로 받은 sequence를 after로 넘기면 이어서 받을 수 있고, "
+                    + "truncated가 true면 그 사이 이벤트가 보관 구간에서 빠졌으므로 화면 데이터를 전체 다시 조회해야 합니다.")
+    @GetMapping
+    public ResponseEntity<ApiResponse<DomainEventBus.Replay>> getEvents(
+            @RequestParam(defaultValue = "0") @Parameter(description = "마지막으로 받은 일련번호 (처음이면 0)") long after,
+            @RequestParam(defaultValue = "100") @Parameter(description = "최대 조회 건수 (1~1000)") int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(400, "limit은 1~" + MAX_LIMIT + " 사이여야 합니다: " + limit));
+        }
+        return ResponseEntity.ok(ApiResponse.success(domainEventBus.replay(after, limit), "상태 변경 이벤트 조회 성공"));
+    }
+}
@@ -1,11 +1,14 @@
 package com.smartfactory.smartmes_insight.controller;
 
+import com.smartfactory.smartmes_insight.cache.CachedEndpoint;
+import com.smartfactory.smartmes_insight.cache.ResponseCache;
 import com.smartfactory.smartmes_insight.common.ApiResponse;
 import com.smartfactory.smartmes_insight.dto.facility.*;
 import com.smartfactory.smartmes_insight.service.FacilityService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -22,6 +25,7 @@ import java.util.List;
 public class FacilityController {
 
     private final FacilityService facilityService;
+    private final ResponseCache responseCache;
 
     @Operation(summary = "설비 등록", description = "새로운 생산 설비를 등록합니다. (ADMIN, MANAGER 권한 필요)")
     @PostMapping
@@ -35,9 +39,9 @@ public class FacilityController {
 
     @Operation(summary = "전체 설비 조회", description = "모든 설비 목록을 조회합니다.")
     @GetMapping
-    public ResponseEntity<ApiResponse<List<FacilityResponse>>> getAllFacilities() {
-        List<FacilityResponse> facilities = facilityService.getAllFacilities();
-        return ResponseEntity.ok(ApiResponse.success(facilities, "설비 목록 조회 성공"));
+    public ResponseEntity<ApiResponse<List<FacilityResponse>>> getAllFacilities(HttpServletRequest httpRequest) {
+        return responseCache.respond(httpRequest, CachedEndpoint.FACILITIES,
+                facilityService::getAllFacilities, "설비 목록 조회 성공");
     }
 
     @Operation(summary = "설비 상세 조회", description = "특정 설비의 상세 정보를 조회합니다.")
@@ -86,9 +90,9 @@ public class FacilityController {
 
     @Operation(summary = "가동 중인 설비 조회", description = "현재 가동 중인 설비 목록을 조회합니다.")
     @GetMapping("/active")
-    public ResponseEntity<ApiResponse<List<FacilityResponse>>> getActiveFacilities() {
-        List<FacilityResponse> facilities = facilityService.getActiveFacilities();
-        return ResponseEntity.ok(ApiResponse.success(facilities, "가동 중인 설비 조회 성공"));
+    public ResponseEntity<ApiResponse<List<FacilityResponse>>> getActiveFacilities(HttpServletRequest httpRequest) {
+        return responseCache.respond(httpRequest, CachedEndpoint.FACILITIES_ACTIVE,
+                facilityService::getActiveFacilities, "가동 중인 설비 조회 성공");
     }
 
     @Operation(summary = "설비 상태 변경", description = "설비의 상태를 변경합니다. (ADMIN, MANAGER 권한 필요)")
@@ -0,0 +1,61 @@
+package com.smartfactory.smartmes_insight.controller;
+
+import com.smartfactory.smartmes_insight.common.ApiResponse;
+import com.smartfactory.smartmes_insight.dto.oee.OeeResponse;
+import com.smartfactory.smartmes_insight.kpi.OeeEngine;
+import com.smartfactory.smartmes_insight.kpi.OeeWindow;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/oee")
+@RequiredArgsConstructor
+@Tag(name = "⚙️ OEE", description = "설비 종합 효율(가동률 × 성능 × 품질) 실시간 조회 API")
+public class OeeController {
+
+    private final OeeEngine oeeEngine;
+
+    @Operation(summary = "설비 OEE 조회", description = "특정 설비의 최근 1시간, 현재 근무조, 오늘 OEE를 조회합니다.")
+    @GetMapping("/facilities/{facilityId}")
+    public ResponseEntity<ApiResponse<List<OeeResponse>>> getFacilityOee(
+            @PathVariable @Parameter(description = "설비 ID") Long facilityId) {
+        List<OeeResponse> oee = oeeEngine.getSnapshots(facilityId).stream()
+                .map(OeeResponse::from)
+                .toList();
+        return ResponseEntity.ok(ApiResponse.success(oee, "설비 OEE 조회 성공"));
+    }
+
+    @Operation(summary = "설비 구간별 OEE 조회", description = "특정 설비의 지정 구간(ROLLING_HOUR, SHIFT, DAY) OEE를 조회합니다.")
+    @GetMapping("/facilities/{facilityId}/{window}")
+    public ResponseEntity<ApiResponse<OeeResponse>> getFacilityOeeByWindow(
+            @PathVariable @Parameter(description = "설비 ID") Long facilityId,
+            @PathVariable @Parameter(description = "집계 구간") OeeWindow window) {
+        OeeResponse oee = OeeResponse.from(oeeEngine.getSnapshot(facilityId, window));
+        return ResponseEntity.ok(ApiResponse.success(oee, "설비 OEE 조회 성공"));
+    }
+
+    @Operation(summary = "전체 설비 OEE 조회", description = "모든 설비의 지정 구간 OEE를 조회합니다. (기본: 현재 근무조)")
+    @GetMapping("/facilities")
+    public ResponseEntity<ApiResponse<List<OeeResponse>>> getAllFacilityOee(
+            @RequestParam(defaultValue = "SHIFT") @Parameter(description = "집계 구간") OeeWindow window) {
+        List<OeeResponse> oee = oeeEngine.getAllSnapshots(window).stream()
+                .map(OeeResponse::from)
+                .toList();
+        return ResponseEntity.ok(ApiResponse.success(oee, "전체 설비 OEE 조회 성공"));
+    }
+
+    @Operation(summary = "OEE 엔진 처리 비용", description = "이벤트 반영 및 조회에 걸린 시간 통계를 조회합니다. (ADMIN 권한 필요)")
+    @GetMapping("/statistics")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getEngineStatistics() {
+        return ResponseEntity.ok(ApiResponse.success(oeeEngine.getStatistics(), "OEE 엔진 통계 조회 성공"));
+    }
+}
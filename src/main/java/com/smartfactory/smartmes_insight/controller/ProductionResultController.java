@@ -1,11 +1,15 @@
 package com.smartfactory.smartmes_insight.controller;
 
+import com.smartfactory.smartmes_insight.cache.CachedEndpoint;
+import com.smartfactory.smartmes_insight.cache.ResponseCache;
 import com.smartfactory.smartmes_insight.common.ApiResponse;
 import com.smartfactory.smartmes_insight.domain.production.ProductionResult;
+import com.smartfactory.smartmes_insight.dto.production.ProductionResultPageResponse;
 import com.smartfactory.smartmes_insight.service.ProductionResultService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
@@ -13,6 +17,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
@@ -25,6 +30,7 @@ import java.util.Optional;
 public class ProductionResultController {
 
     private final ProductionResultService productionResultService;
+    private final ResponseCache responseCache;
 
     @Operation(summary = "생산 실적 등록", description = "작업 지시에 대한 생산 실적을 등록합니다. (MANAGER, OPERATOR 권한 필요)")
     @PostMapping
@@ -74,6 +80,25 @@ public class ProductionResultController {
         return ResponseEntity.ok(ApiResponse.success(results, "기간별 생산 실적 조회 성공"));
     }
 
+    @Operation(summary = "불량률 기준 생산 실적 조회",
+            description = "기간 내 불량률(%)이 기준 이상인 생산 실적을 최신순으로 페이지 조회합니다. " +
+                    "기간 미지정 시 최근 7일, 최대 31일까지 조회할 수 있습니다.")
+    @GetMapping("/defective")
+    public ResponseEntity<ApiResponse<ProductionResultPageResponse>> getProductionResultsByDefectiveRate(
+            @RequestParam @Parameter(description = "불량률 기준 (%)") double minRate,
+            @RequestParam(required = false) @Parameter(description = "시작 일시") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @Parameter(description = "종료 일시") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false) @Parameter(description = "페이지 번호 (0부터)") Integer page,
+            @RequestParam(required = false) @Parameter(description = "페이지 크기 (기본 50, 최대 500)") Integer size) {
+        try {
+            ProductionResultPageResponse results = productionResultService.findByDefectiveRate(minRate, startDate, endDate, page, size);
+            return ResponseEntity.ok(ApiResponse.success(results, "불량률 기준 생산 실적 조회 성공"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(400, e.getMessage()));
+        }
+    }
+
     @Operation(summary = "생산 실적 수정", description = "생산 실적 정보를 수정합니다. (ADMIN, MANAGER 권한 필요)")
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
@@ -115,33 +140,64 @@ public class ProductionResultController {
     @GetMapping("/statistics/period")
     public ResponseEntity<ApiResponse<Map<String, Object>>> getProductionStatistics(
             @RequestParam @Parameter(description = "시작 일시") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
-            @RequestParam @Parameter(description = "종료 일시") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate) {
-        Map<String, Object> statistics = productionResultService.getProductionStatistics(startDate, endDate);
-        return ResponseEntity.ok(ApiResponse.success(statistics, "생산 통계 조회 성공"));
+            @RequestParam @Parameter(description = "종료 일시") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            HttpServletRequest httpRequest) {
+        return responseCache.respond(httpRequest, CachedEndpoint.PRODUCTION_STATISTICS,
+                () -> productionResultService.getProductionStatistics(startDate, endDate), "생산 통계 조회 성공");
     }
 
     @Operation(summary = "작업 지시별 통계 조회", description = "특정 작업 지시의 생산 통계를 조회합니다.")
     @GetMapping("/statistics/work-order/{workOrderId}")
     public ResponseEntity<ApiResponse<Map<String, Object>>> getWorkOrderStatistics(
-            @PathVariable @Parameter(description = "작업 지시 ID") Long workOrderId) {
-        Map<String, Object> statistics = productionResultService.getWorkOrderStatistics(workOrderId);
-        return ResponseEntity.ok(ApiResponse.success(statistics, "작업 지시별 통계 조회 성공"));
+            @PathVariable @Parameter(description = "작업 지시 ID") Long workOrderId,
+            HttpServletRequest httpRequest) {
+        return responseCache.respond(httpRequest, CachedEndpoint.PRODUCTION_STATISTICS,
+                () -> productionResultService.getWorkOrderStatistics(workOrderId), "작업 지시별 통계 조회 성공");
+    }
+
+    @Operation(summary = "설비별 누적 통계 조회", description = "특정 설비의 누적 생산 통계를 조회합니다.")
+    @GetMapping("/statistics/facility/{facilityId}")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getFacilityStatistics(
+            @PathVariable @Parameter(description = "설비 ID") Long facilityId,
+            HttpServletRequest httpRequest) {
+        return responseCache.respond(httpRequest, CachedEndpoint.PRODUCTION_STATISTICS,
+                () -> productionResultService.getFacilityStatistics(facilityId), "설비별 통계 조회 성공");
+    }
+
+    @Operation(summary = "설비별 일일 통계 조회", description = "특정 설비의 특정 날짜 생산 통계를 조회합니다.")
+    @GetMapping("/statistics/facility/{facilityId}/daily")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getFacilityDailyStatistics(
+            @PathVariable @Parameter(description = "설비 ID") Long facilityId,
+            @RequestParam @Parameter(description = "조회 날짜") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            HttpServletRequest httpRequest) {
+        return responseCache.respond(httpRequest, CachedEndpoint.PRODUCTION_STATISTICS,
+                () -> productionResultService.getFacilityDailyStatistics(facilityId, date), "설비별 일일 통계 조회 성공");
     }
 
     @Operation(summary = "일일 생산 통계 조회", description = "특정 날짜의 일일 생산 통계를 조회합니다.")
     @GetMapping("/statistics/daily")
     public ResponseEntity<ApiResponse<Map<String, Object>>> getDailyStatistics(
-            @RequestParam @Parameter(description = "조회 날짜") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime date) {
-        Map<String, Object> statistics = productionResultService.getDailyStatistics(date);
-        return ResponseEntity.ok(ApiResponse.success(statistics, "일일 생산 통계 조회 성공"));
+            @RequestParam @Parameter(description = "조회 날짜") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime date,
+            HttpServletRequest httpRequest) {
+        return responseCache.respond(httpRequest, CachedEndpoint.PRODUCTION_STATISTICS,
+                () -> productionResultService.getDailyStatistics(date), "일일 생산 통계 조회 성공");
     }
 
     @Operation(summary = "월별 생산 통계 조회", description = "특정 월의 생산 통계를 조회합니다.")
     @GetMapping("/statistics/monthly")
     public ResponseEntity<ApiResponse<Map<String, Object>>> getMonthlyStatistics(
             @RequestParam @Parameter(description = "연도") int year,
-            @RequestParam @Parameter(description = "월") int month) {
-        Map<String, Object> statistics = productionResultService.getMonthlyStatistics(year, month);
-        return ResponseEntity.ok(ApiResponse.success(statistics, "월별 생산 통계 조회 성공"));
+            @RequestParam @Parameter(description = "월") int month,
+            HttpServletRequest httpRequest) {
+        return responseCache.respond(httpRequest, CachedEndpoint.PRODUCTION_STATISTICS,
+                () -> productionResultService.getMonthlyStatistics(year, month), "월별 생산 통계 조회 성공");
+    }
+
+    @Operation(summary = "KPI 카운터 재구성", description = "생산 실적 테이블 기준으로 KPI 카운터를 다시 계산합니다. (ADMIN 권한 필요)")
+    @PostMapping("/statistics/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Void>> rebuildKpiCounters() {
+        productionResultService.rebuildKpiCounters();
+        return ResponseEntity.ok(ApiResponse.success(null, "KPI 카운터가 재구성되었습니다."));
     }
 }
@@ -1,5 +1,7 @@
 package com.smartfactory.smartmes_insight.controller;
 
+import com.smartfactory.smartmes_insight.cache.CachedEndpoint;
+import com.smartfactory.smartmes_insight.cache.ResponseCache;
 import com.smartfactory.smartmes_insight.common.ApiResponse;
 import com.smartfactory.smartmes_insight.dto.sensor.SensorCreateRequest;
 import com.smartfactory.smartmes_insight.dto.sensor.SensorResponse;
@@ -9,6 +11,7 @@ import com.smartfactory.smartmes_insight.service.SensorService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -25,6 +28,7 @@ import java.util.List;
 public class SensorController {
 
     private final SensorService sensorService;
+    private final ResponseCache responseCache;
 
     @Operation(summary = "센서 등록", description = "새로운 센서를 등록합니다. (ADMIN, MANAGER 권한 필요)")
     @PostMapping
@@ -38,9 +42,9 @@ public class SensorController {
 
     @Operation(summary = "전체 센서 조회", description = "모든 센서 목록을 조회합니다.")
     @GetMapping
-    public ResponseEntity<ApiResponse<List<SensorResponse>>> getAllSensors() {
-        List<SensorResponse> sensors = sensorService.getAllSensors();
-        return ResponseEntity.ok(ApiResponse.success(sensors, "센서 목록 조회 성공"));
+    public ResponseEntity<ApiResponse<List<SensorResponse>>> getAllSensors(HttpServletRequest httpRequest) {
+        return responseCache.respond(httpRequest, CachedEndpoint.SENSORS,
+                sensorService::getAllSensors, "센서 목록 조회 성공");
     }
 
     @Operation(summary = "센서 상세 조회", description = "특정 센서의 상세 정보를 조회합니다.")
@@ -1,22 +1,40 @@
 package com.smartfactory.smartmes_insight.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.smartfactory.smartmes_insight.common.ApiResponse;
 import com.smartfactory.smartmes_insight.domain.sensor.SensorLog;
+import com.smartfactory.smartmes_insight.dto.sensor.SensorInterpolatedResponse;
+import com.smartfactory.smartmes_insight.dto.sensor.SensorSeriesResponse;
+import com.smartfactory.smartmes_insight.jdbc.ConnectionWorkload;
+import com.smartfactory.smartmes_insight.jdbc.DbWorkload;
+import com.smartfactory.smartmes_insight.series.DownsampleMethod;
+import com.smartfactory.smartmes_insight.series.InterpolationMethod;
+import com.smartfactory.smartmes_insight.series.SensorSeriesExporter;
+import com.smartfactory.smartmes_insight.series.SeriesExportFormat;
 import com.smartfactory.smartmes_insight.service.SensorLogService;
+import com.smartfactory.smartmes_insight.stream.SensorStreamHub;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/sensor-logs")
@@ -25,16 +43,25 @@ import java.util.Map;
 public class SensorLogController {
 
     private final SensorLogService sensorLogService;
+    private final SensorStreamHub sensorStreamHub;
+    private final SensorSeriesExporter sensorSeriesExporter;
+    private final ObjectMapper objectMapper;
 
-    @Operation(summary = "센서 데이터 수동 저장", description = "센서 데이터를 수동으로 저장합니다. (ADMIN, MANAGER 권한 필요)")
+    @Operation(summary = "센서 데이터 수동 저장", description = "센서 데이터를 수동으로 저장합니다. (ADMIN, MANAGER 권한 필요) " +
+            "측정값 압축 사용 시 저장을 생략한 값은 201 대신 200과 data=null로 응답합니다.")
     @PostMapping
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @ConnectionWorkload(DbWorkload.INGEST)
     public ResponseEntity<ApiResponse<SensorLog>> saveSensorData(
             @RequestParam @Parameter(description = "센서 ID") Long sensorId,
             @RequestParam @Parameter(description = "센서 값") Double value) {
-        SensorLog sensorLog = sensorLogService.saveSensorData(sensorId, value);
+        Optional<SensorLog> sensorLog = sensorLogService.saveSensorData(sensorId, value);
+        if (sensorLog.isEmpty()) {
+            // 측정값 압축(sensor.compression)으로 저장을 생략한 경우 - 실시간 스트림에는 전송됨
+            return ResponseEntity.ok(ApiResponse.success(null, "측정값 변화가 압축 허용 편차 안에 있어 저장을 생략했습니다."));
+        }
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(ApiResponse.created(sensorLog, "센서 데이터가 성공적으로 저장되었습니다."));
+                .body(ApiResponse.created(sensorLog.get(), "센서 데이터가 성공적으로 저장되었습니다."));
     }
 
     @Operation(summary = "센서별 기간 로그 조회", description = "특정 센서의 특정 기간 로그를 조회합니다.")
@@ -56,6 +83,77 @@ public class SensorLogController {
         return ResponseEntity.ok(ApiResponse.success(logs, "센서 최근 로그 조회 성공"));
     }
 
+    @Operation(summary = "센서 다운샘플링 시계열 조회",
+            description = "장기간 차트용으로 특정 기간 로그를 points개 이하의 점으로 줄여 시각/값 배열로 반환합니다. " +
+                    "method=LTTB(기본, 곡선 모양 보존) 또는 MINMAX(구간별 최소/최대 보존)")
+    @GetMapping("/sensor/{sensorId}/downsampled")
+    @ConnectionWorkload(DbWorkload.BATCH) // 장기간 스캔이 API 커넥션 몫을 오래 잡지 않도록
+    public ResponseEntity<ApiResponse<SensorSeriesResponse>> getDownsampledSensorLogs(
+            @PathVariable @Parameter(description = "센서 ID") Long sensorId,
+            @RequestParam @Parameter(description = "시작 일시") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam @Parameter(description = "종료 일시") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false) @Parameter(description = "최대 점 수 (기본 2000)") Integer points,
+            @RequestParam(defaultValue = "LTTB") @Parameter(description = "다운샘플링 방식") DownsampleMethod method) {
+        try {
+            SensorSeriesResponse series = sensorLogService.findDownsampled(sensorId, startDate, endDate, points, method);
+            return ResponseEntity.ok(ApiResponse.success(series, "센서 다운샘플링 시계열 조회 성공"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(400, e.getMessage()));
+        }
+    }
+
+    @Operation(summary = "센서 보간 시계열 조회",
+            description = "저장점 사이 값을 stepMs 간격으로 복원해 시각/값 배열로 반환합니다. " +
+                    "측정값 압축(sensor.compression) 사용 시 버린 구간을 채우는 용도이며 " +
+                    "method=STEP(직전 저장값 유지) 또는 LINEAR(앞뒤 저장점 직선), 생략하면 압축 방식에 맞춰 고릅니다.")
+    @GetMapping("/sensor/{sensorId}/interpolated")
+    @ConnectionWorkload(DbWorkload.BATCH)
+    public ResponseEntity<ApiResponse<SensorInterpolatedResponse>> getInterpolatedSensorLogs(
+            @PathVariable @Parameter(description = "센서 ID") Long sensorId,
+            @RequestParam @Parameter(description = "시작 일시") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam @Parameter(description = "종료 일시") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(defaultValue = "10000") @Parameter(description = "격자 간격 (ms)") long stepMs,
+            @RequestParam(required = false) @Parameter(description = "보간 방식") InterpolationMethod method) {
+        try {
+            SensorInterpolatedResponse series = sensorLogService.findInterpolated(sensorId, startDate, endDate, stepMs, method);
+            return ResponseEntity.ok(ApiResponse.success(series, "센서 보간 시계열 조회 성공"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(400, e.getMessage()));
+        }
+    }
+
+    @Operation(summary = "센서 로그 압축 내보내기",
+            description = "기간 [startDate, endDate) 센서 로그를 센서별·일자별 열 압축 바이너리(" +
+                    SeriesExportFormat.CONTENT_TYPE + ")로 내려받습니다. SeriesExportReader로 읽을 수 있으며 " +
+                    "sensorId를 생략하면 전체 센서입니다. (ADMIN, MANAGER 권한 필요)")
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @ConnectionWorkload(DbWorkload.BATCH)
+    public void exportSensorLogs(
+            @RequestParam(required = false) @Parameter(description = "센서 ID (생략 시 전체)") Long sensorId,
+            @RequestParam @Parameter(description = "시작 일시 (포함)") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam @Parameter(description = "종료 일시 (제외)") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            HttpServletResponse response) throws IOException {
+        try {
+            sensorSeriesExporter.checkRange(startDate, endDate);
+        } catch (IllegalArgumentException e) {
+            response.setStatus(HttpStatus.BAD_REQUEST.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(400, e.getMessage()));
+            return;
+        }
+
+        String fileName = "sensor-logs-" + (sensorId != null ? sensorId + "-" : "")
+                + startDate.toLocalDate() + SeriesExportFormat.FILE_EXTENSION;
+        response.setContentType(SeriesExportFormat.CONTENT_TYPE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(fileName).build().toString());
+        sensorSeriesExporter.export(sensorId, startDate, endDate, response.getOutputStream());
+    }
+
     @Operation(summary = "센서 이상 패턴 감지", description = "특정 센서의 특정 기간 동안 이상 패턴을 감지합니다.")
     @GetMapping("/sensor/{sensorId}/anomalies")
     public ResponseEntity<ApiResponse<List<SensorLog>>> detectAnomalies(
@@ -81,6 +179,40 @@ public class SensorLogController {
         return ResponseEntity.ok(ApiResponse.success(statistics, "센서 통계 조회 성공"));
     }
 
+    @Operation(summary = "설비 센서 실시간 스트림 (SSE)",
+            description = "설비에 속한 센서 측정값을 Server-Sent Events(readings 이벤트)로 전송합니다. " +
+                    "첫 프레임은 센서별 최신값, 이후에는 intervalMs마다 변화량만 전송하며 " +
+                    "간격 안에 여러 번 수집된 센서는 마지막 값만 보냅니다.")
+    @GetMapping("/stream")
+    public ResponseEntity<SseEmitter> streamSensorData(
+            @RequestParam @Parameter(description = "설비 ID") Long facilityId,
+            @RequestParam(required = false) @Parameter(description = "전송 간격 (ms, 기본 1000, 200~60000)") Long intervalMs) {
+        try {
+            SseEmitter emitter = sensorStreamHub.subscribe(facilityId, intervalMs);
+            return ResponseEntity.ok()
+                    .header("X-Accel-Buffering", "no") // 프록시 버퍼링 비활성화
+                    .body(emitter);
+        } catch (IllegalArgumentException e) {
+            return streamError(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (IllegalStateException e) {
+            return streamError(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+        }
+    }
+
+    // 스트림 응답 타입을 유지한 채 오류 전달 (EventSource는 200이 아니면 재접속하지 않음)
+    private static ResponseEntity<SseEmitter> streamError(HttpStatus status, String message) {
+        SseEmitter emitter = new SseEmitter();
+        try {
+            emitter.send(SseEmitter.event()
+                    .name("error")
+                    .data(ApiResponse.error(status.value(), message), MediaType.APPLICATION_JSON));
+            emitter.complete();
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
+        return ResponseEntity.status(status).body(emitter);
+    }
+
     @Operation(summary = "전체 센서 최신 데이터 조회", description = "모든 센서의 최신 데이터를 조회합니다.")
     @GetMapping("/latest")
     public ResponseEntity<ApiResponse<List<SensorLog>>> getLatestDataForAllSensors() {
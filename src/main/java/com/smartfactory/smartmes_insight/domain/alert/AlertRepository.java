@@ -1,6 +1,7 @@
 package com.smartfactory.smartmes_insight.domain.alert;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -9,20 +10,32 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface AlertRepository extends JpaRepository<Alert, Long> {
-    
+
+    // AlertResponse 변환에 필요한 센서/설비를 함께 조회하는 finder에는 EntityGraph를 지정한다
+
+    // 단건 조회 (센서/설비 포함)
+    @EntityGraph(attributePaths = {"sensor", "sensor.facility"})
+    @Query("SELECT a FROM Alert a WHERE a.id = :id")
+    Optional<Alert> findWithSensorById(@Param("id") Long id);
+
     // 생성일시 내림차순으로 전체 알림 조회
+    @EntityGraph(attributePaths = {"sensor", "sensor.facility"})
     List<Alert> findAllByOrderByCreatedAtDesc();
     
     // 특정 센서의 알림을 생성일시 내림차순으로 조회
+    @EntityGraph(attributePaths = {"sensor", "sensor.facility"})
     List<Alert> findBySensorIdOrderByCreatedAtDesc(Long sensorId);
     
     // 특정 기간의 알림을 생성일시 내림차순으로 조회
+    @EntityGraph(attributePaths = {"sensor", "sensor.facility"})
     List<Alert> findByCreatedAtBetweenOrderByCreatedAtDesc(LocalDateTime startDate, LocalDateTime endDate);
     
     // 최근 알림 n개 조회 (생성일시 내림차순) - Pageable 사용
+    @EntityGraph(attributePaths = {"sensor", "sensor.facility"})
     @Query("SELECT a FROM Alert a ORDER BY a.createdAt DESC")
     List<Alert> findRecentAlerts(Pageable pageable);
     
@@ -41,5 +54,6 @@ public interface AlertRepository extends JpaRepository<Alert, Long> {
     long countByCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate);
     
     // 특정 센서의 최근 알림 조회 (개수 제한)
+    @EntityGraph(attributePaths = {"sensor", "sensor.facility"})
     List<Alert> findTopBySensorIdOrderByCreatedAtDesc(Long sensorId);
 }
@@ -1,11 +1,13 @@
 package com.smartfactory.smartmes_insight.domain.facility;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
 
 @Entity
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"}) // 지연 로딩 프록시 직렬화용
 @Table(name = "facilities")
 @Getter
 @Setter
@@ -13,6 +15,10 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 public class Facility {
+
+    public static final String STATUS_RUNNING = "가동중"; // 센서 수집 대상 / OEE 가동 시간 집계
+    public static final String STATUS_STOPPED = "정지중";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
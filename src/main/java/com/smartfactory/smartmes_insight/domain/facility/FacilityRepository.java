@@ -1,8 +1,20 @@
 package com.smartfactory.smartmes_insight.domain.facility;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface FacilityRepository extends JpaRepository<Facility, Long> {
+
+    // 특정 상태의 설비 조회
+    List<Facility> findByStatus(String status);
+
+    // 설비의 현재 상태 (상태 값만 조회)
+    @Query("SELECT f.status FROM Facility f WHERE f.id = :id")
+    Optional<String> findStatusById(@Param("id") Long id);
 }
\ No newline at end of file
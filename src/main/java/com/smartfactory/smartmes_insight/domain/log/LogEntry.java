@@ -7,7 +7,13 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "log_entries")
+@Table(name = "log_entries", indexes = {
+        // 감사 로그 검색용 복합 인덱스 (필터 컬럼 + keyset 정렬 키)
+        @Index(name = "idx_log_entries_ts_id", columnList = "timestamp, id"),
+        @Index(name = "idx_log_entries_user_ts", columnList = "user_id, timestamp, id"),
+        @Index(name = "idx_log_entries_action_ts", columnList = "action, timestamp, id"),
+        @Index(name = "idx_log_entries_target_ts", columnList = "target_table, target_id, timestamp, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -18,11 +24,12 @@ public class LogEntry {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
-    @JoinColumn(name = "user_id", nullable = false)
+    // 시스템 로그(로그인 실패 등)는 사용자 없이 기록되므로 null 허용
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
     private User user;
 
-    @Column(nullable = false, length = 20)
+    @Column(nullable = false, length = 50)
     private String action;
 
     @Column(name = "target_table", nullable = false, length = 50)
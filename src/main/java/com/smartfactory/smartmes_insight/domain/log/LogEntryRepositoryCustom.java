@@ -0,0 +1,14 @@
+package com.smartfactory.smartmes_insight.domain.log;
+
+import java.util.List;
+
+public interface LogEntryRepositoryCustom {
+
+    /**
+     * 조건 조합 검색 (timestamp, id 내림차순 keyset 페이징)
+     *
+     * @param condition 검색 조건
+     * @param limit     최대 조회 건수
+     */
+    List<LogEntrySummary> search(LogEntrySearchCondition condition, int limit);
+}
@@ -0,0 +1,70 @@
+package com.smartfactory.smartmes_insight.domain.log;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.util.StringUtils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 감사 로그 동적 검색 구현
+ *
+ * 지정된 필터만 WHERE 절에 포함시켜 옵티마이저가 log_entries의 복합 인덱스
+ * (필터 컬럼, timestamp, id)를 그대로 사용하도록 한다.
+ * OFFSET 대신 (timestamp, id) keyset 조건으로 다음 페이지를 읽으므로
+ * 페이지 깊이와 무관하게 일정한 비용으로 조회된다.
+ */
+public class LogEntryRepositoryImpl implements LogEntryRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<LogEntrySummary> search(LogEntrySearchCondition condition, int limit) {
+        StringBuilder jpql = new StringBuilder(
+                "SELECT new com.smartfactory.smartmes_insight.domain.log.LogEntrySummary(" +
+                "l.id, l.user.id, l.action, l.targetTable, l.targetId, l.message, l.timestamp) " +
+                "FROM LogEntry l WHERE 1 = 1");
+        Map<String, Object> params = new HashMap<>();
+
+        if (condition.getUserId() != null) {
+            jpql.append(" AND l.user.id = :userId");
+            params.put("userId", condition.getUserId());
+        }
+        if (StringUtils.hasText(condition.getAction())) {
+            jpql.append(" AND l.action = :action");
+            params.put("action", condition.getAction());
+        }
+        if (StringUtils.hasText(condition.getTargetTable())) {
+            jpql.append(" AND l.targetTable = :targetTable");
+            params.put("targetTable", condition.getTargetTable());
+        }
+        if (condition.getTargetId() != null) {
+            jpql.append(" AND l.targetId = :targetId");
+            params.put("targetId", condition.getTargetId());
+        }
+        if (condition.getStartDate() != null) {
+            jpql.append(" AND l.timestamp >= :startDate");
+            params.put("startDate", condition.getStartDate());
+        }
+        if (condition.getEndDate() != null) {
+            jpql.append(" AND l.timestamp <= :endDate");
+            params.put("endDate", condition.getEndDate());
+        }
+        if (condition.hasCursor()) {
+            jpql.append(" AND (l.timestamp < :cursorTimestamp" +
+                        " OR (l.timestamp = :cursorTimestamp AND l.id < :cursorId))");
+            params.put("cursorTimestamp", condition.getCursorTimestamp());
+            params.put("cursorId", condition.getCursorId());
+        }
+        jpql.append(" ORDER BY l.timestamp DESC, l.id DESC");
+
+        TypedQuery<LogEntrySummary> query = entityManager.createQuery(jpql.toString(), LogEntrySummary.class);
+        params.forEach(query::setParameter);
+        query.setMaxResults(limit);
+        return query.getResultList();
+    }
+}
@@ -0,0 +1,30 @@
+package com.smartfactory.smartmes_insight.domain.log;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 감사 로그 검색 조건
+ * 모든 필터는 선택사항이며 지정된 조건만 AND로 결합된다.
+ * (cursorTimestamp, cursorId)는 이전 페이지 마지막 행의 키 (keyset 페이징)
+ */
+@Getter
+@Builder
+public class LogEntrySearchCondition {
+
+    private final Long userId;
+    private final String action;
+    private final String targetTable;
+    private final Long targetId;
+    private final LocalDateTime startDate;
+    private final LocalDateTime endDate;
+
+    private final LocalDateTime cursorTimestamp;
+    private final Long cursorId;
+
+    public boolean hasCursor() {
+        return cursorTimestamp != null && cursorId != null;
+    }
+}
@@ -0,0 +1,18 @@
+package com.smartfactory.smartmes_insight.domain.log;
+
+import java.time.LocalDateTime;
+
+/**
+ * 감사 로그 경량 projection
+ * User 엔티티를 로딩하지 않고 user_id 외래키 값만 조회한다.
+ */
+public record LogEntrySummary(
+        Long id,
+        Long userId,
+        String action,
+        String targetTable,
+        Long targetId,
+        String message,
+        LocalDateTime timestamp
+) {
+}
@@ -7,7 +7,10 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "production_results")
+@Table(name = "production_results", indexes = {
+        // 기간 조건으로 범위를 좁힌 뒤 인덱스 안에서 불량률을 걸러낸다 (테이블 행 접근은 LIMIT 건수만)
+        @Index(name = "idx_production_results_recorded_rate", columnList = "recorded_at, defective_rate")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -18,7 +21,7 @@ public class ProductionResult {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "work_order_id", nullable = false)
     private WorkOrder workOrder;
 
@@ -33,4 +36,22 @@ public class ProductionResult {
 
     @Column(name = "memo", length = 1000)
     private String memo;
+
+    // 불량률(%) - 수량이 바뀔 때마다 저장해 두어 조회 시 행마다 계산하지 않는다 (생산 수량 0이면 null)
+    @Column(name = "defective_rate")
+    private Double defectiveRate;
+
+    @PrePersist
+    @PreUpdate
+    protected void calculateDefectiveRate() {
+        this.defectiveRate = calculateDefectiveRate(quantityProduced, quantityDefective);
+    }
+
+    public static Double calculateDefectiveRate(Integer quantityProduced, Integer quantityDefective) {
+        if (quantityProduced == null || quantityProduced <= 0) {
+            return null;
+        }
+        int defective = quantityDefective != null ? quantityDefective : 0;
+        return (double) defective / quantityProduced * 100;
+    }
 }
\ No newline at end of file
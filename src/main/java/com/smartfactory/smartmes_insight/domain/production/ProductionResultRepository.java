@@ -1,53 +1,93 @@
 package com.smartfactory.smartmes_insight.domain.production;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ProductionResultRepository extends JpaRepository<ProductionResult, Long> {
 
+    // 실적 엔티티를 반환하는 finder는 작업 지시/설비를 함께 조회한다
+    // (응답 직렬화와 KPI 변화량 전달 모두 작업 지시의 설비 정보를 사용)
+
+    @Override
+    @EntityGraph(attributePaths = {"workOrder", "workOrder.facility"})
+    List<ProductionResult> findAll();
+
+    @Override
+    @EntityGraph(attributePaths = {"workOrder", "workOrder.facility"})
+    Optional<ProductionResult> findById(Long id);
+
     // 특정 작업 지시의 생산 실적 조회
+    @EntityGraph(attributePaths = {"workOrder", "workOrder.facility"})
     List<ProductionResult> findByWorkOrderId(Long workOrderId);
 
     // 특정 기간의 생산 실적 조회
+    @EntityGraph(attributePaths = {"workOrder", "workOrder.facility"})
     List<ProductionResult> findByRecordedAtBetween(LocalDateTime startDate, LocalDateTime endDate);
 
     // 특정 작업 지시와 기간의 생산 실적 조회
+    @EntityGraph(attributePaths = {"workOrder", "workOrder.facility"})
     List<ProductionResult> findByWorkOrderIdAndRecordedAtBetween(Long workOrderId, LocalDateTime startDate, LocalDateTime endDate);
 
     // 전체 생산 실적 조회 (등록일 역순)
+    @EntityGraph(attributePaths = {"workOrder", "workOrder.facility"})
     List<ProductionResult> findAllByOrderByRecordedAtDesc();
 
     // 특정 작업 지시의 생산 실적 조회 (등록일 역순)
+    @EntityGraph(attributePaths = {"workOrder", "workOrder.facility"})
     List<ProductionResult> findByWorkOrderIdOrderByRecordedAtDesc(Long workOrderId);
 
     // 최근 생산 실적 조회 (개수 제한)
+    @EntityGraph(attributePaths = {"workOrder", "workOrder.facility"})
     List<ProductionResult> findTop10ByOrderByRecordedAtDesc();
 
-    // 불량률이 높은 실적 조회 (불량률 기준)
-    @Query("SELECT pr FROM ProductionResult pr WHERE " +
-           "(CAST(pr.quantityDefective AS double) / CAST(pr.quantityProduced AS double) * 100) >= :defectiveRate " +
-           "AND pr.quantityProduced > 0 " +
+    // 불량률이 높은 실적 조회 (저장된 불량률 컬럼 + 기간 조건, 건수 조회 없는 페이지)
+    @Query("SELECT pr FROM ProductionResult pr JOIN FETCH pr.workOrder wo JOIN FETCH wo.facility " +
+           "WHERE pr.recordedAt >= :startDate AND pr.recordedAt < :endDate " +
+           "AND pr.defectiveRate >= :defectiveRate " +
            "ORDER BY pr.recordedAt DESC")
-    List<ProductionResult> findByDefectiveRateGreaterThanEqual(@Param("defectiveRate") double defectiveRate);
+    Slice<ProductionResult> findByDefectiveRateGreaterThanEqual(
+            @Param("defectiveRate") double defectiveRate,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            Pageable pageable);
+
+    // 불량률 컬럼 추가 이전에 저장된 실적 보정
+    @Modifying
+    @Query("UPDATE ProductionResult pr " +
+           "SET pr.defectiveRate = COALESCE(pr.quantityDefective, 0) * 100.0 / pr.quantityProduced " +
+           "WHERE pr.defectiveRate IS NULL AND pr.quantityProduced > 0")
+    int backfillDefectiveRates();
 
     // 특정 설비의 생산 실적 조회
-    @Query("SELECT pr FROM ProductionResult pr JOIN pr.workOrder wo WHERE wo.facility.id = :facilityId")
+    @Query("SELECT pr FROM ProductionResult pr JOIN FETCH pr.workOrder wo JOIN FETCH wo.facility f WHERE f.id = :facilityId")
     List<ProductionResult> findByFacilityId(@Param("facilityId") Long facilityId);
 
     // 특정 설비와 기간의 생산 실적 조회
-    @Query("SELECT pr FROM ProductionResult pr JOIN pr.workOrder wo " +
-           "WHERE wo.facility.id = :facilityId AND pr.recordedAt BETWEEN :startDate AND :endDate")
+    @Query("SELECT pr FROM ProductionResult pr JOIN FETCH pr.workOrder wo JOIN FETCH wo.facility f " +
+           "WHERE f.id = :facilityId AND pr.recordedAt BETWEEN :startDate AND :endDate")
     List<ProductionResult> findByFacilityIdAndRecordedAtBetween(
             @Param("facilityId") Long facilityId,
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate);
 
+    // KPI 카운터 재구성용 - 엔티티 대신 집계에 필요한 값만 조회
+    // [workOrderId, facilityId, recordedAt, quantityProduced, quantityDefective]
+    @Query("SELECT wo.id, wo.facility.id, pr.recordedAt, pr.quantityProduced, pr.quantityDefective " +
+           "FROM ProductionResult pr JOIN pr.workOrder wo")
+    List<Object[]> findAllKpiFigures();
+
     // 생산량 기준 상위 실적 조회
+    @EntityGraph(attributePaths = {"workOrder", "workOrder.facility"})
     List<ProductionResult> findTop10ByOrderByQuantityProducedDesc();
 }
@@ -0,0 +1,101 @@
+package com.smartfactory.smartmes_insight.domain.sensor;
+
+import com.smartfactory.smartmes_insight.ingest.SensorReadingBatch;
+import com.smartfactory.smartmes_insight.series.SensorPointConsumer;
+import com.smartfactory.smartmes_insight.series.SensorSeriesReader;
+import com.smartfactory.smartmes_insight.series.SeriesPointConsumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * sensor_logs 테이블 기반 센서 측정값 저장소 (기본)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "sensor.storage", name = "mode", havingValue = "jdbc", matchIfMissing = true)
+public class JdbcSensorLogStore implements SensorLogStore {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO sensor_logs (sensor_id, value, collected_at) VALUES (?, ?, ?)";
+
+    private final SensorLogRepository sensorLogRepository;
+    private final SensorSeriesReader sensorSeriesReader;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public SensorLog save(SensorLog sensorLog) {
+        return sensorLogRepository.save(sensorLog);
+    }
+
+    @Override
+    @Transactional
+    public void saveBatch(SensorReadingBatch batch) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, batch.sensorId(i));
+                ps.setDouble(2, batch.value(i));
+                ps.setTimestamp(3, Timestamp.from(Instant.ofEpochMilli(batch.timestamp(i))));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return batch.size();
+            }
+        });
+    }
+
+    @Override
+    public List<SensorLog> findByPeriod(Sensor sensor, LocalDateTime start, LocalDateTime end) {
+        return sensorLogRepository.findBySensorIdAndCollectedAtBetween(sensor.getId(), start, end);
+    }
+
+    @Override
+    public List<SensorLog> findRecent(Sensor sensor, int limit) {
+        return sensorLogRepository.findBySensorIdOrderByCollectedAtDesc(sensor.getId(), PageRequest.of(0, limit));
+    }
+
+    @Override
+    public List<SensorLog> findOutsideRange(Sensor sensor, LocalDateTime start, LocalDateTime end, double min, double max) {
+        return sensorLogRepository.findBySensorIdAndCollectedAtBetweenAndValueNotBetween(
+                sensor.getId(), start, end, min, max);
+    }
+
+    @Override
+    public SensorLogStatistics getStatistics(Long sensorId, LocalDateTime start, LocalDateTime end) {
+        SensorLogStatistics statistics = sensorLogRepository.getStatistics(sensorId, start, end);
+        return statistics.count() > 0 ? statistics : SensorLogStatistics.EMPTY;
+    }
+
+    @Override
+    public List<SensorLog> findLatestForAllSensors() {
+        return sensorLogRepository.findLatestDataForAllSensors();
+    }
+
+    @Override
+    public List<SensorLog> findLatestByFacilityId(Long facilityId) {
+        return sensorLogRepository.findLatestByFacilityId(facilityId);
+    }
+
+    @Override
+    public long scan(Long sensorId, LocalDateTime start, LocalDateTime end, SeriesPointConsumer consumer) {
+        return sensorSeriesReader.scan(sensorId, start, end, consumer);
+    }
+
+    @Override
+    public long scanRange(Long sensorId, LocalDateTime start, LocalDateTime end, SensorPointConsumer consumer) {
+        return sensorSeriesReader.scanRange(sensorId, start, end, consumer);
+    }
+}
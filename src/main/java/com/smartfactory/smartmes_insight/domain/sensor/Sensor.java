@@ -1,10 +1,12 @@
 package com.smartfactory.smartmes_insight.domain.sensor;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.smartfactory.smartmes_insight.domain.facility.Facility;
 import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"}) // 지연 로딩 프록시 직렬화용
 @Table(name = "sensors")
 @Getter
 @NoArgsConstructor
@@ -15,7 +17,7 @@ public class Sensor {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "facility_id", nullable = false)
     private Facility facility;
 
@@ -50,8 +52,8 @@ public class Sensor {
     }
     
     //비즈니스 검증 로직
-    public boolean isValueWithinThreshold(Double value) {
-        if (thresholdMin == null || thresholdMax == null || value == null) {
+    public boolean isValueWithinThreshold(double value) {
+        if (thresholdMin == null || thresholdMax == null) {
             return true; // 임계값이 설정되지 않은 경우 정상으로 간주
         }
         return value >= thresholdMin && value <= thresholdMax;
@@ -6,7 +6,8 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "sensor_logs")
+@Table(name = "sensor_logs",
+        indexes = @Index(name = "idx_sensor_logs_sensor_collected", columnList = "sensor_id, collected_at"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -17,7 +18,7 @@ public class SensorLog {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "sensor_id", nullable = false)
     private Sensor sensor;
 
@@ -1,7 +1,10 @@
 package com.smartfactory.smartmes_insight.domain.sensor;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -9,9 +12,11 @@ import java.util.List;
 
 @Repository
 public interface SensorLogRepository extends JpaRepository<SensorLog, Long> {
+
+    // 단일 센서 조회는 모든 행이 같은 센서를 가리키므로 지연 로딩으로 둔다 (행 수와 무관하게 최대 2회 추가 조회)
     List<SensorLog> findBySensorIdAndCollectedAtBetween(Long sensorId, LocalDateTime start, LocalDateTime end);
     
-    List<SensorLog> findTop10BySensorIdOrderByCollectedAtDesc(Long sensorId);
+    List<SensorLog> findBySensorIdOrderByCollectedAtDesc(Long sensorId, Pageable pageable);
     
     @Query("SELECT sl FROM SensorLog sl WHERE sl.sensor.id = :sensorId " +
            "AND sl.collectedAt BETWEEN :startDate AND :endDate " +
@@ -20,7 +25,22 @@ public interface SensorLogRepository extends JpaRepository<SensorLog, Long> {
             Long sensorId, LocalDateTime startDate, LocalDateTime endDate, 
             Double thresholdMin, Double thresholdMax);
     
+    // 구간 통계 (행을 읽어 오지 않고 DB에서 집계)
+    @Query("SELECT new com.smartfactory.smartmes_insight.domain.sensor.SensorLogStatistics(" +
+           "COUNT(sl), AVG(sl.value), MIN(sl.value), MAX(sl.value)) FROM SensorLog sl " +
+           "WHERE sl.sensor.id = :sensorId AND sl.collectedAt BETWEEN :startDate AND :endDate")
+    SensorLogStatistics getStatistics(@Param("sensorId") Long sensorId,
+                                      @Param("startDate") LocalDateTime startDate,
+                                      @Param("endDate") LocalDateTime endDate);
+
+    // 센서별 최신 데이터 - 센서가 모두 다르므로 센서/설비를 함께 조회
+    @EntityGraph(attributePaths = {"sensor", "sensor.facility"})
     @Query("SELECT sl FROM SensorLog sl WHERE sl.id IN " +
            "(SELECT MAX(sl2.id) FROM SensorLog sl2 GROUP BY sl2.sensor.id)")
     List<SensorLog> findLatestDataForAllSensors();
-}
\ No newline at end of file
+
+    // 설비 소속 센서별 최신 데이터 (실시간 스트림 첫 프레임용, 센서 ID만 사용하므로 센서는 조회하지 않음)
+    @Query("SELECT sl FROM SensorLog sl WHERE sl.id IN " +
+           "(SELECT MAX(sl2.id) FROM SensorLog sl2 WHERE sl2.sensor.facility.id = :facilityId GROUP BY sl2.sensor.id)")
+    List<SensorLog> findLatestByFacilityId(@Param("facilityId") Long facilityId);
+}
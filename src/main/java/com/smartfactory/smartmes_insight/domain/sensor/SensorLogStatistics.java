@@ -0,0 +1,9 @@
+package com.smartfactory.smartmes_insight.domain.sensor;
+
+/**
+ * 센서 로그 구간 통계 (로그가 없으면 모두 0)
+ */
+public record SensorLogStatistics(Long count, Double average, Double min, Double max) {
+
+    public static final SensorLogStatistics EMPTY = new SensorLogStatistics(0L, 0.0, 0.0, 0.0);
+}
@@ -0,0 +1,80 @@
+package com.smartfactory.smartmes_insight.domain.sensor;
+
+import com.smartfactory.smartmes_insight.ingest.SensorReadingBatch;
+import com.smartfactory.smartmes_insight.series.SensorPointConsumer;
+import com.smartfactory.smartmes_insight.series.SeriesPointConsumer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 센서 측정값 저장소
+ *
+ * sensor.storage.mode로 구현을 고른다.
+ * - jdbc (기본): sensor_logs 테이블 ({@link JdbcSensorLogStore})
+ * - segment: 센서별 로컬 압축 세그먼트 파일 (SegmentSensorLogStore) - 관계형 DB는 센서/설비 메타데이터와 알림에만 사용
+ *
+ * 조회 결과의 SensorLog는 인자로 받은 센서를 참조한다 (segment 모드에서는 id가 없음).
+ * 구간은 별도 표기가 없으면 시작/종료 모두 포함한다.
+ */
+public interface SensorLogStore {
+
+    SensorLog save(SensorLog sensorLog);
+
+    /**
+     * 측정값 묶음 저장 (엔티티를 만들지 않음, 하나라도 실패하면 묶음 전체가 실패)
+     */
+    void saveBatch(SensorReadingBatch batch);
+
+    /**
+     * save/saveBatch가 반환되면 측정값이 영구 저장됐는지 (jdbc: 커밋 완료)
+     * false면 {@link #flush()}가 끝나야 영구 저장된다 - WAL은 그 전까지 checkpoint하지 않는다
+     */
+    default boolean isDurableOnSave() {
+        return true;
+    }
+
+    /**
+     * 받아 둔 측정값을 모두 영구 저장 (기본: 저장할 때 이미 확정되므로 할 일 없음)
+     */
+    default void flush() {
+    }
+
+    List<SensorLog> findByPeriod(Sensor sensor, LocalDateTime start, LocalDateTime end);
+
+    /**
+     * 최근 로그 (최신순)
+     */
+    List<SensorLog> findRecent(Sensor sensor, int limit);
+
+    /**
+     * 값이 [min, max] 밖인 로그
+     */
+    List<SensorLog> findOutsideRange(Sensor sensor, LocalDateTime start, LocalDateTime end, double min, double max);
+
+    SensorLogStatistics getStatistics(Long sensorId, LocalDateTime start, LocalDateTime end);
+
+    /**
+     * 센서별 최신 로그 (센서/설비 포함)
+     */
+    List<SensorLog> findLatestForAllSensors();
+
+    /**
+     * 설비 소속 센서별 최신 로그 (센서 ID, 값, 시각만 사용)
+     */
+    List<SensorLog> findLatestByFacilityId(Long facilityId);
+
+    /**
+     * 한 센서의 구간 측정값을 시각 오름차순으로 전달
+     *
+     * @return 전달한 점 수
+     */
+    long scan(Long sensorId, LocalDateTime start, LocalDateTime end, SeriesPointConsumer consumer);
+
+    /**
+     * [start, end) 구간 측정값을 (센서, 시각) 순으로 전달 (sensorId가 null이면 전체 센서)
+     *
+     * @return 전달한 점 수
+     */
+    long scanRange(Long sensorId, LocalDateTime start, LocalDateTime end, SensorPointConsumer consumer);
+}
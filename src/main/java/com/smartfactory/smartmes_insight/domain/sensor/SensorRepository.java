@@ -1,20 +1,56 @@
 package com.smartfactory.smartmes_insight.domain.sensor;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface SensorRepository extends JpaRepository<Sensor, Long> {
+
+    // SensorResponse 변환용 - 설비 정보까지 한 번에 조회
+    // (findById는 스케줄러의 임계값 확인 경로에서 쓰이므로 지연 로딩 유지)
+    @Override
+    @EntityGraph(attributePaths = "facility")
+    List<Sensor> findAll();
+
+    @EntityGraph(attributePaths = "facility")
+    @Query("SELECT s FROM Sensor s WHERE s.id = :id")
+    Optional<Sensor> findWithFacilityById(@Param("id") Long id);
+
+    @EntityGraph(attributePaths = "facility")
     List<Sensor> findByFacilityId(Long facilityId);
     
     /**
-     * 활성화된 센서 ID 목록 조회 (스케줄러용)
-     * 임계값이 설정되고 설비가 활성화된 센서만 조회
+     * 활성 센서의 (ID, 최소 임계값, 최대 임계값, 타입, 설비 ID) 목록 (ActiveSensorRegistry 적재용 - 엔티티를 만들지 않음)
+     * 임계값이 설정되고 설비 상태가 status인 센서만 조회
+     */
+    @Query("SELECT s.id, s.thresholdMin, s.thresholdMax, s.type, f.id FROM Sensor s JOIN s.facility f " +
+           "WHERE f.status = :status AND s.thresholdMin IS NOT NULL AND s.thresholdMax IS NOT NULL " +
+           "ORDER BY s.id")
+    List<Object[]> findActiveThresholds(@Param("status") String status);
+
+    /**
+     * 한 설비의 활성 센서 (ID, 최소 임계값, 최대 임계값, 타입, 설비 ID) 목록 (설비 상태 변경 반영용)
+     * 설비 상태가 status가 아니면 빈 목록
      */
-    @Query("SELECT s.id FROM Sensor s JOIN s.facility f " +
-           "WHERE f.status = '가동중' AND s.thresholdMin IS NOT NULL AND s.thresholdMax IS NOT NULL")
-    List<Long> findAllActiveSensorIds();
-}
\ No newline at end of file
+    @Query("SELECT s.id, s.thresholdMin, s.thresholdMax, s.type, f.id FROM Sensor s JOIN s.facility f " +
+           "WHERE f.id = :facilityId AND f.status = :status AND s.thresholdMin IS NOT NULL AND s.thresholdMax IS NOT NULL")
+    List<Object[]> findActiveThresholdsByFacilityId(@Param("facilityId") Long facilityId, @Param("status") String status);
+
+    /**
+     * 센서 하나의 활성 (ID, 최소 임계값, 최대 임계값, 타입, 설비 ID) 행 (센서 변경 반영용)
+     * 삭제됐거나 임계값이 없거나 설비 상태가 status가 아니면 빈 목록
+     */
+    @Query("SELECT s.id, s.thresholdMin, s.thresholdMax, s.type, f.id FROM Sensor s JOIN s.facility f " +
+           "WHERE s.id = :id AND f.status = :status AND s.thresholdMin IS NOT NULL AND s.thresholdMax IS NOT NULL")
+    List<Object[]> findActiveThresholdsById(@Param("id") Long id, @Param("status") String status);
+
+    // 센서 소속 설비 ID (FK 값만 조회)
+    @Query("SELECT s.facility.id FROM Sensor s WHERE s.id = :id")
+    Optional<Long> findFacilityIdById(@Param("id") Long id);
+}
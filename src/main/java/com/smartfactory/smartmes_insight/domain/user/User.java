@@ -1,11 +1,13 @@
 package com.smartfactory.smartmes_insight.domain.user;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
 
 @Entity
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"}) // 지연 로딩 프록시 직렬화용
 @Table(name = "users")
 @Getter
 @NoArgsConstructor
@@ -1,5 +1,6 @@
 package com.smartfactory.smartmes_insight.domain.workorder;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.smartfactory.smartmes_insight.domain.facility.Facility;
 import jakarta.persistence.*;
 import lombok.*;
@@ -7,6 +8,7 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"}) // 지연 로딩 프록시 직렬화용
 @Table(name = "work_orders")
 @Getter
 @Setter
@@ -18,7 +20,7 @@ public class WorkOrder {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "facility_id", nullable = false)
     private Facility facility;
 
@@ -1,5 +1,6 @@
 package com.smartfactory.smartmes_insight.domain.workorder;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -7,33 +8,56 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface WorkOrderRepository extends JpaRepository<WorkOrder, Long> {
 
+    // 작업 지시 응답과 OEE 이벤트 모두 설비 정보를 사용하므로 엔티티 finder는 설비를 함께 조회한다
+
+    @Override
+    @EntityGraph(attributePaths = "facility")
+    List<WorkOrder> findAll();
+
+    @Override
+    @EntityGraph(attributePaths = "facility")
+    Optional<WorkOrder> findById(Long id);
+
     // 특정 상태의 작업 지시 조회
+    @EntityGraph(attributePaths = "facility")
     List<WorkOrder> findByStatus(String status);
 
     // 여러 상태의 작업 지시 조회 (예: 진행중, 대기중)
+    @EntityGraph(attributePaths = "facility")
     List<WorkOrder> findByStatusIn(List<String> statuses);
 
     // 특정 설비의 작업 지시 조회
+    @EntityGraph(attributePaths = "facility")
     List<WorkOrder> findByFacilityId(Long facilityId);
 
     // 특정 기간의 작업 지시 조회
+    @EntityGraph(attributePaths = "facility")
     List<WorkOrder> findByStartTimeBetween(LocalDateTime startDate, LocalDateTime endDate);
 
     // 생성일 기준 특정 기간의 작업 지시 조회
+    @EntityGraph(attributePaths = "facility")
     List<WorkOrder> findByCreatedDateBetween(LocalDateTime startDate, LocalDateTime endDate);
 
     // 설비별 진행 중인 작업 지시 조회
+    @EntityGraph(attributePaths = "facility")
     @Query("SELECT w FROM WorkOrder w WHERE w.facility.id = :facilityId AND w.status IN :statuses")
     List<WorkOrder> findByFacilityIdAndStatusIn(@Param("facilityId") Long facilityId, @Param("statuses") List<String> statuses);
 
     // 최근 생성된 작업 지시 조회 (최신순)
+    @EntityGraph(attributePaths = "facility")
     List<WorkOrder> findAllByOrderByCreatedDateDesc();
 
+    // 작업 지시의 현재 상태 (상태 값만 조회)
+    @Query("SELECT w.status FROM WorkOrder w WHERE w.id = :id")
+    Optional<String> findStatusById(@Param("id") Long id);
+
     // 우선순위별 작업 지시 조회
+    @EntityGraph(attributePaths = "facility")
     @Query("SELECT w FROM WorkOrder w WHERE w.status = :status ORDER BY w.createdDate ASC")
     List<WorkOrder> findByStatusOrderByCreatedDateAsc(@Param("status") String status);
 }
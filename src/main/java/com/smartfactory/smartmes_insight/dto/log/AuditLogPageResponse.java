@@ -0,0 +1,44 @@
+package com.smartfactory.smartmes_insight.dto.log;
+
+import com.smartfactory.smartmes_insight.domain.log.LogEntrySummary;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "감사 로그 검색 결과 (keyset 페이지)")
+public class AuditLogPageResponse {
+
+    @Schema(description = "감사 로그 목록 (시간 역순)")
+    private List<LogEntrySummary> items;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "다음 페이지 요청 시 cursorTimestamp 값", example = "2025-01-20T10:30:00")
+    private LocalDateTime nextCursorTimestamp;
+
+    @Schema(description = "다음 페이지 요청 시 cursorId 값", example = "10234")
+    private Long nextCursorId;
+
+    public static AuditLogPageResponse of(List<LogEntrySummary> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<LogEntrySummary> items = hasNext ? rows.subList(0, size) : rows;
+        LogEntrySummary last = items.isEmpty() ? null : items.get(items.size() - 1);
+
+        return AuditLogPageResponse.builder()
+                .items(items)
+                .hasNext(hasNext)
+                .nextCursorTimestamp(hasNext ? last.timestamp() : null)
+                .nextCursorId(hasNext ? last.id() : null)
+                .build();
+    }
+}
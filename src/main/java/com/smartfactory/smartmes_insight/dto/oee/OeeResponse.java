@@ -0,0 +1,88 @@
+package com.smartfactory.smartmes_insight.dto.oee;
+
+import com.smartfactory.smartmes_insight.kpi.OeeSnapshot;
+import com.smartfactory.smartmes_insight.kpi.OeeWindow;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "설비 OEE 응답 DTO")
+public class OeeResponse {
+
+    @Schema(description = "설비 ID", example = "1")
+    private Long facilityId;
+
+    @Schema(description = "집계 구간", example = "SHIFT")
+    private OeeWindow window;
+
+    @Schema(description = "구간 표시명", example = "주간")
+    private String label;
+
+    @Schema(description = "구간 시작 시각", example = "2025-01-20T06:00:00")
+    private LocalDateTime windowStart;
+
+    @Schema(description = "집계 시각", example = "2025-01-20T10:30:00")
+    private LocalDateTime asOf;
+
+    @Schema(description = "가동률 (%)", example = "87.5")
+    private Double availability;
+
+    @Schema(description = "성능 효율 (%)", example = "92.3")
+    private Double performance;
+
+    @Schema(description = "품질 (%)", example = "98.4")
+    private Double quality;
+
+    @Schema(description = "OEE (%)", example = "79.5")
+    private Double oee;
+
+    @Schema(description = "계획 가동 시간 (분)", example = "270.0")
+    private Double plannedMinutes;
+
+    @Schema(description = "실 가동 시간 (분)", example = "236.3")
+    private Double runMinutes;
+
+    @Schema(description = "생산 수량", example = "218")
+    private Long produced;
+
+    @Schema(description = "불량 수량", example = "3")
+    private Long defective;
+
+    @Schema(description = "시간당 이론 생산량", example = "60.0")
+    private Double idealUnitsPerHour;
+
+    public static OeeResponse from(OeeSnapshot snapshot) {
+        return OeeResponse.builder()
+                .facilityId(snapshot.facilityId())
+                .window(snapshot.window())
+                .label(snapshot.label())
+                .windowStart(snapshot.windowStart())
+                .asOf(snapshot.asOf())
+                .availability(percent(snapshot.availability()))
+                .performance(percent(snapshot.performance()))
+                .quality(percent(snapshot.quality()))
+                .oee(percent(snapshot.oee()))
+                .plannedMinutes(minutes(snapshot.plannedMillis()))
+                .runMinutes(minutes(snapshot.runMillis()))
+                .produced(snapshot.produced())
+                .defective(snapshot.defective())
+                .idealUnitsPerHour(snapshot.idealUnitsPerHour())
+                .build();
+    }
+
+    private static Double percent(double ratio) {
+        return Math.round(ratio * 1000) / 10.0;
+    }
+
+    private static Double minutes(long millis) {
+        return Math.round(millis / 6_000.0) / 10.0;
+    }
+}
@@ -0,0 +1,39 @@
+package com.smartfactory.smartmes_insight.dto.production;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "생산 실적 페이지 (전체 건수 조회 없음)")
+public class ProductionResultPageResponse {
+
+    @Schema(description = "생산 실적 목록 (등록 시간 역순)")
+    private List<ProductionResultResponse> items;
+
+    @Schema(description = "페이지 번호 (0부터)", example = "0")
+    private int page;
+
+    @Schema(description = "페이지 크기", example = "50")
+    private int size;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+
+    public static ProductionResultPageResponse from(Slice<ProductionResultResponse> slice) {
+        return ProductionResultPageResponse.builder()
+                .items(slice.getContent())
+                .page(slice.getNumber())
+                .size(slice.getSize())
+                .hasNext(slice.hasNext())
+                .build();
+    }
+}
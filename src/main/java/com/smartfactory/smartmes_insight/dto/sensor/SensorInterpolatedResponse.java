@@ -0,0 +1,67 @@
+package com.smartfactory.smartmes_insight.dto.sensor;
+
+import com.smartfactory.smartmes_insight.series.DownsampledSeries;
+import com.smartfactory.smartmes_insight.series.InterpolationMethod;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장점 사이 값을 일정 간격으로 복원한 센서 시계열 (열 단위 배열)
+ *
+ * timestamps[i], values[i]가 한 점이다. 결측 구간의 격자 점은 빠진다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "센서 보간 시계열")
+public class SensorInterpolatedResponse {
+
+    @Schema(description = "센서 ID", example = "1")
+    private Long sensorId;
+
+    @Schema(description = "보간 방식", example = "LINEAR")
+    private InterpolationMethod method;
+
+    @Schema(description = "조회 시작 일시")
+    private LocalDateTime startDate;
+
+    @Schema(description = "조회 종료 일시")
+    private LocalDateTime endDate;
+
+    @Schema(description = "격자 간격 (ms)", example = "10000")
+    private long stepMs;
+
+    @Schema(description = "구간 내 저장점 수", example = "120")
+    private long storedCount;
+
+    @Schema(description = "반환 점 수", example = "8640")
+    private int points;
+
+    @Schema(description = "시각 (epoch ms, 오름차순)")
+    private long[] timestamps;
+
+    @Schema(description = "측정값 (timestamps와 같은 인덱스)")
+    private double[] values;
+
+    public static SensorInterpolatedResponse from(Long sensorId, InterpolationMethod method,
+                                                  LocalDateTime startDate, LocalDateTime endDate,
+                                                  long stepMs, DownsampledSeries series) {
+        return SensorInterpolatedResponse.builder()
+                .sensorId(sensorId)
+                .method(method)
+                .startDate(startDate)
+                .endDate(endDate)
+                .stepMs(stepMs)
+                .storedCount(series.rawCount())
+                .points(series.size())
+                .timestamps(series.timestamps())
+                .values(series.values())
+                .build();
+    }
+}
@@ -0,0 +1,63 @@
+package com.smartfactory.smartmes_insight.dto.sensor;
+
+import com.smartfactory.smartmes_insight.series.DownsampleMethod;
+import com.smartfactory.smartmes_insight.series.DownsampledSeries;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 센서 차트용 다운샘플링 시계열 (열 단위 배열)
+ *
+ * timestamps[i], values[i]가 한 점이다. 엔티티 JSON 대신 배열 두 개로 보내 응답 크기를 줄인다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "센서 다운샘플링 시계열")
+public class SensorSeriesResponse {
+
+    @Schema(description = "센서 ID", example = "1")
+    private Long sensorId;
+
+    @Schema(description = "다운샘플링 방식", example = "LTTB")
+    private DownsampleMethod method;
+
+    @Schema(description = "조회 시작 일시")
+    private LocalDateTime startDate;
+
+    @Schema(description = "조회 종료 일시")
+    private LocalDateTime endDate;
+
+    @Schema(description = "구간 내 원본 행 수", example = "604800")
+    private long rawCount;
+
+    @Schema(description = "반환 점 수", example = "2000")
+    private int points;
+
+    @Schema(description = "시각 (epoch ms, 오름차순)")
+    private long[] timestamps;
+
+    @Schema(description = "측정값 (timestamps와 같은 인덱스)")
+    private double[] values;
+
+    public static SensorSeriesResponse from(Long sensorId, DownsampleMethod method,
+                                            LocalDateTime startDate, LocalDateTime endDate,
+                                            DownsampledSeries series) {
+        return SensorSeriesResponse.builder()
+                .sensorId(sensorId)
+                .method(method)
+                .startDate(startDate)
+                .endDate(endDate)
+                .rawCount(series.rawCount())
+                .points(series.size())
+                .timestamps(series.timestamps())
+                .values(series.values())
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package com.smartfactory.smartmes_insight.dto.sensor;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 센서 실시간 스트림 프레임 (SSE "readings" 이벤트 데이터)
+ *
+ * 값과 시각 모두 변화량으로 전송한다.
+ * - 시각: baseTime(epoch ms) + offsetMs
+ * - 값: 클라이언트가 보유한 센서 값(처음 받는 센서는 0)에 delta를 더한 값
+ *       (부동소수점 덧셈으로 원래 값이 정확히 복원되지 않는 경우에만 delta 대신 value로 절대값 전송)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "센서 실시간 스트림 프레임")
+public class SensorStreamFrame {
+
+    @Schema(description = "프레임 순번 (연결마다 1부터)", example = "1")
+    private long seq;
+
+    @Schema(description = "기준 시각 (epoch ms)", example = "1760832000000")
+    private long baseTime;
+
+    @Schema(description = "직전 프레임 이후 전송하지 못하고 건너뛴 측정값 수", example = "0")
+    private long dropped;
+
+    @Schema(description = "센서별 측정값 변화량")
+    private List<Reading> readings;
+
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "센서 측정값 변화량 (delta 또는 value 중 하나)")
+    public static class Reading {
+
+        @Schema(description = "센서 ID", example = "1")
+        private long sensorId;
+
+        @Schema(description = "기준 시각 대비 수집 시각 (ms)", example = "120")
+        private long offsetMs;
+
+        @Schema(description = "직전 전송값 대비 변화량", example = "-0.35")
+        private Double delta;
+
+        @Schema(description = "절대값 (변화량으로 정확히 복원되지 않을 때만)", example = "71.3")
+        private Double value;
+    }
+}
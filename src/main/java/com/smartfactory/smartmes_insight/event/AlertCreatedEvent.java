@@ -16,6 +16,7 @@ public class AlertCreatedEvent {
     private final String severity;
     private final Long facilityId;
     private final Long sensorId;
+    private final long publishedAtNanos; // 발행 시각 (System.nanoTime, 리스너 대기 시간 측정용)
     
     /**
      * 편의 생성자 - AlertResponse에서 필요한 정보 추출
@@ -25,7 +26,8 @@ public class AlertCreatedEvent {
             alert,
             alert.getSeverity(),
             alert.getFacilityId(),
-            alert.getSensorId()
+            alert.getSensorId(),
+            System.nanoTime()
         );
     }
     
@@ -16,6 +16,8 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class AlertEventHandler {
 
+    private final AlertEventMetrics alertEventMetrics;
+
     // TODO: 추후 WebSocket, Email 서비스 주입 예정
     // private final WebSocketService webSocketService;
     // private final EmailService emailService;
@@ -27,6 +29,7 @@ public class AlertEventHandler {
     @Async
     @EventListener
     public void handleAlertCreated(AlertCreatedEvent event) {
+        long startedAt = alertEventMetrics.started(AlertEventMetrics.LOGGING, event);
         try {
             AlertResponse alert = event.getAlert();
             
@@ -48,6 +51,8 @@ public class AlertEventHandler {
             
         } catch (Exception e) {
             log.error("알림 이벤트 처리 중 오류 발생: {}", e.getMessage(), e);
+        } finally {
+            alertEventMetrics.finished(AlertEventMetrics.LOGGING, startedAt);
         }
     }
 
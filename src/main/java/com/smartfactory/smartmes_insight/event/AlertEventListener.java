@@ -22,6 +22,7 @@ public class AlertEventListener {
     
     private final NotificationService notificationService;
     private final UserService userService;
+    private final AlertEventMetrics alertEventMetrics;
     
     /**
      * 알림 생성 이벤트 처리 (메인 핸들러)
@@ -29,6 +30,7 @@ public class AlertEventListener {
     @EventListener
     @Async("notificationExecutor") // 🚀 전용 스레드 풀 사용
     public void handleAlertCreated(AlertCreatedEvent event) {
+        long startedAt = alertEventMetrics.started(AlertEventMetrics.NOTIFICATION, event);
         AlertResponse alert = event.getAlert();
         
         log.info("🎧 Processing alert event: {}", event.getSummary());
@@ -60,6 +62,8 @@ public class AlertEventListener {
             
         } catch (Exception e) {
             log.error("❌ Error processing alert event: {}", event.getSummary(), e);
+        } finally {
+            alertEventMetrics.finished(AlertEventMetrics.NOTIFICATION, startedAt);
         }
     }
     
@@ -201,7 +205,12 @@ public class AlertEventListener {
     @EventListener
     @Async("taskExecutor") // 🚀 일반 작업용 스레드 풀 사용
     public void updateNotificationStats(AlertCreatedEvent event) {
-        // TODO: 알림 통계 업데이트
-        notificationService.logNotificationStats();
+        long startedAt = alertEventMetrics.started(AlertEventMetrics.STATS, event);
+        try {
+            // TODO: 알림 통계 업데이트
+            notificationService.logNotificationStats();
+        } finally {
+            alertEventMetrics.finished(AlertEventMetrics.STATS, startedAt);
+        }
     }
 }
@@ -0,0 +1,54 @@
+package com.smartfactory.smartmes_insight.event;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 📊 알림 이벤트 리스너 지표
+ *
+ * - alert.event.delay{listener}: 발행 ~ 리스너 시작 (비동기 실행기 큐 대기 시간)
+ * - alert.event.handling{listener}: 리스너 처리 시간
+ */
+@Component
+public class AlertEventMetrics {
+
+    public static final String NOTIFICATION = "notification";
+    public static final String STATS = "stats";
+    public static final String LOGGING = "logging";
+
+    private final Map<String, Timer> delayTimers;
+    private final Map<String, Timer> handlingTimers;
+
+    public AlertEventMetrics(MeterRegistry meterRegistry) {
+        List<String> listeners = List.of(NOTIFICATION, STATS, LOGGING);
+        this.delayTimers = listeners.stream().collect(Collectors.toUnmodifiableMap(listener -> listener,
+                listener -> Timer.builder("alert.event.delay")
+                        .description("알림 이벤트 발행부터 리스너 실행 시작까지 걸린 시간")
+                        .tag("listener", listener)
+                        .register(meterRegistry)));
+        this.handlingTimers = listeners.stream().collect(Collectors.toUnmodifiableMap(listener -> listener,
+                listener -> Timer.builder("alert.event.handling")
+                        .description("알림 이벤트 리스너 처리 시간")
+                        .tag("listener", listener)
+                        .register(meterRegistry)));
+    }
+
+    /**
+     * 리스너 시작 시 호출 - 대기 시간을 기록하고 처리 시작 시각(nanos)을 반환
+     */
+    public long started(String listener, AlertCreatedEvent event) {
+        long now = System.nanoTime();
+        delayTimers.get(listener).record(now - event.getPublishedAtNanos(), TimeUnit.NANOSECONDS);
+        return now;
+    }
+
+    public void finished(String listener, long startedAtNanos) {
+        handlingTimers.get(listener).record(System.nanoTime() - startedAtNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,97 @@
+package com.smartfactory.smartmes_insight.event;
+
+/**
+ * 도메인 상태 변경 이벤트 (설비 / 센서 / 작업 지시)
+ *
+ * {@link DomainEventBus}로 발행하며, 커밋 이후 기록된 순서대로 일련번호를 받는다.
+ * 이 순서는 DB 커밋 순서와 다를 수 있다 (같은 집합을 바꾼 두 트랜잭션의 커밋 이후 처리가 뒤바뀌는 경우).
+ * 이벤트 값은 발행한 트랜잭션 안에서 본 값이므로, 상태를 유지하는 구독자는 이벤트를
+ * '이 집합(aggregateType + aggregateId)이 바뀌었다'는 신호로 쓰고 현재 상태를 DB에서 다시 읽어야 한다.
+ */
+public sealed interface DomainEvent {
+
+    String FACILITY = "facility";
+    String SENSOR = "sensor";
+    String WORK_ORDER = "work_order";
+
+    String aggregateType();
+
+    Long aggregateId();
+
+    /**
+     * 설비 등록/상태 변경 (등록이면 previousStatus는 null)
+     */
+    record FacilityStatusChanged(Long facilityId, String facilityType, String previousStatus, String status)
+            implements DomainEvent {
+
+        @Override
+        public String aggregateType() {
+            return FACILITY;
+        }
+
+        @Override
+        public Long aggregateId() {
+            return facilityId;
+        }
+    }
+
+    record FacilityRemoved(Long facilityId) implements DomainEvent {
+
+        @Override
+        public String aggregateType() {
+            return FACILITY;
+        }
+
+        @Override
+        public Long aggregateId() {
+            return facilityId;
+        }
+    }
+
+    /**
+     * 센서 등록/수정 (임계값, 타입, 소속 설비)
+     */
+    record SensorChanged(Long sensorId, Long facilityId, String type,
+                         Double thresholdMin, Double thresholdMax) implements DomainEvent {
+
+        @Override
+        public String aggregateType() {
+            return SENSOR;
+        }
+
+        @Override
+        public Long aggregateId() {
+            return sensorId;
+        }
+    }
+
+    record SensorRemoved(Long sensorId) implements DomainEvent {
+
+        @Override
+        public String aggregateType() {
+            return SENSOR;
+        }
+
+        @Override
+        public Long aggregateId() {
+            return sensorId;
+        }
+    }
+
+    /**
+     * 작업 지시 등록/상태 변경/삭제 (등록이면 previousStatus는 null, 삭제는 status '취소'로 전달)
+     */
+    record WorkOrderStatusChanged(Long workOrderId, Long facilityId, String facilityType,
+                                  String previousStatus, String status) implements DomainEvent {
+
+        @Override
+        public String aggregateType() {
+            return WORK_ORDER;
+        }
+
+        @Override
+        public Long aggregateId() {
+            return workOrderId;
+        }
+    }
+}
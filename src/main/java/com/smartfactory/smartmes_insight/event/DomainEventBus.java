@@ -0,0 +1,256 @@
+package com.smartfactory.smartmes_insight.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 📣 도메인 이벤트 버스 (설비 / 센서 / 작업 지시 상태 변경)
+ *
+ * - 서비스가 {@link #publish}하면 트랜잭션 커밋 이후에 일련번호를 붙여 메모리 tail(고정 크기 원형 버퍼)에 기록한다
+ *   (롤백된 변경은 기록하지 않음)
+ * - 구독자마다 전용 스레드와 읽기 위치(cursor)를 두고 tail을 일련번호 순서대로 전달한다
+ *   → 느린 구독자가 발행자나 다른 구독자를 막지 않는다
+ * - 일련번호는 커밋 이후 처리 순서라 DB 커밋 순서를 보장하지 않는다 (같은 집합의 두 트랜잭션이 뒤바뀔 수 있음).
+ *   상태를 유지하는 구독자는 이벤트를 받으면 해당 집합의 현재 상태를 다시 읽는다 ({@link DomainEvent} 참고)
+ * - 대기열은 tail 하나뿐이라 메모리는 tail-size로 제한된다. tail보다 많이 밀린 구독자는 빠진 만큼 건너뛰고
+ *   {@link DomainEventSubscriber#onMissed}로 알린다 (캐시 구독자는 전체 다시 읽기)
+ * - {@link #replay}로 tail에 남은 이벤트를 다시 읽을 수 있다 (GET /api/events?after=)
+ *
+ * 📊 domain.events.published{type}, domain.events.lag{subscriber}, domain.events.delay{subscriber},
+ *    domain.events.missed{subscriber}, domain.events.failed{subscriber}
+ */
+@Slf4j
+@Component
+public class DomainEventBus {
+
+    private final DomainEventRecord[] tail;
+    private final int batchSize;
+    private final MeterRegistry meterRegistry;
+    private final Map<Class<?>, Counter> publishedCounters;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition appended = lock.newCondition();
+    private volatile long lastSequence; // lock을 잡고 갱신
+
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private volatile boolean running = true;
+
+    public DomainEventBus(@Value("${domain.events.tail-size:4096}") int tailSize,
+                          @Value("${domain.events.batch-size:256}") int batchSize,
+                          MeterRegistry meterRegistry) {
+        this.tail = new DomainEventRecord[Math.max(1, tailSize)];
+        this.batchSize = Math.max(1, batchSize);
+        this.meterRegistry = meterRegistry;
+        this.publishedCounters = Arrays.stream(DomainEvent.class.getPermittedSubclasses())
+                .collect(Collectors.toUnmodifiableMap(Function.identity(),
+                        type -> Counter.builder("domain.events.published")
+                                .description("발행(커밋)된 도메인 이벤트 수")
+                                .tag("type", type.getSimpleName())
+                                .register(meterRegistry)));
+    }
+
+    // ========================= 발행 =========================
+
+    /**
+     * 이벤트 발행 (트랜잭션 안이면 커밋 이후, 밖이면 즉시 기록)
+     */
+    public void publish(DomainEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    append(event);
+                }
+            });
+        } else {
+            append(event);
+        }
+    }
+
+    private void append(DomainEvent event) {
+        lock.lock();
+        try {
+            long sequence = lastSequence + 1;
+            tail[(int) (sequence % tail.length)] = DomainEventRecord.of(sequence, System.currentTimeMillis(), event);
+            lastSequence = sequence;
+            appended.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        publishedCounters.get(event.getClass()).increment();
+    }
+
+    // ========================= 다시 읽기 =========================
+
+    /**
+     * tail에 남은 이벤트 중 afterSequence 이후 것 (최대 limit개, 일련번호 오름차순)
+     */
+    public Replay replay(long afterSequence, int limit) {
+        lock.lock();
+        try {
+            long oldest = oldestSequence();
+            long from = Math.max(afterSequence + 1, oldest);
+            long to = Math.min(lastSequence, from + Math.max(0, limit) - 1);
+            return new Replay(oldest, lastSequence, from > afterSequence + 1, read(from, to));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long lastSequence() {
+        return lastSequence;
+    }
+
+    // lock을 잡은 상태에서 호출
+    private long oldestSequence() {
+        return Math.max(1, lastSequence - tail.length + 1);
+    }
+
+    private List<DomainEventRecord> read(long from, long to) {
+        List<DomainEventRecord> records = new ArrayList<>((int) Math.max(0, to - from + 1));
+        for (long sequence = from; sequence <= to; sequence++) {
+            records.add(tail[(int) (sequence % tail.length)]);
+        }
+        return records;
+    }
+
+    /**
+     * @param oldestSequence tail에 남은 가장 오래된 일련번호
+     * @param latestSequence 마지막 일련번호 (0이면 아직 이벤트 없음)
+     * @param truncated      요청한 위치 다음 이벤트가 이미 tail에서 빠짐 (전체 다시 조회 필요)
+     */
+    public record Replay(long oldestSequence, long latestSequence, boolean truncated, List<DomainEventRecord> events) {
+    }
+
+    // ========================= 구독 =========================
+
+    /**
+     * 구독 등록 (등록 이후 기록되는 이벤트부터 전달)
+     */
+    public void subscribe(String name, DomainEventSubscriber subscriber) {
+        Subscription subscription = new Subscription(name, subscriber);
+        subscriptions.add(subscription);
+        subscription.thread.start();
+        log.info("📣 도메인 이벤트 구독 등록: {} (from #{})", name, subscription.cursor + 1);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        lock.lock();
+        try {
+            appended.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        for (Subscription subscription : subscriptions) {
+            try {
+                subscription.thread.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private final class Subscription implements Runnable {
+
+        private final String name;
+        private final DomainEventSubscriber subscriber;
+        private final Thread thread;
+        private final Timer delayTimer;
+        private final Counter missedCounter;
+        private final Counter failedCounter;
+        private volatile long cursor; // 마지막으로 전달한 일련번호
+
+        private Subscription(String name, DomainEventSubscriber subscriber) {
+            this.name = name;
+            this.subscriber = subscriber;
+            this.cursor = lastSequence;
+            this.thread = new Thread(this, "domain-events-" + name);
+            this.thread.setDaemon(true);
+
+            Gauge.builder("domain.events.lag", this, subscription -> lastSequence - subscription.cursor)
+                    .description("구독자가 아직 받지 않은 이벤트 수")
+                    .tag("subscriber", name)
+                    .register(meterRegistry);
+            this.delayTimer = Timer.builder("domain.events.delay")
+                    .description("이벤트 기록부터 구독자 처리 시작까지 걸린 시간")
+                    .tag("subscriber", name)
+                    .register(meterRegistry);
+            this.missedCounter = Counter.builder("domain.events.missed")
+                    .description("처리가 밀려 tail에서 빠진 뒤라 받지 못한 이벤트 수")
+                    .tag("subscriber", name)
+                    .register(meterRegistry);
+            this.failedCounter = Counter.builder("domain.events.failed")
+                    .description("구독자 처리 중 예외가 난 이벤트 수")
+                    .tag("subscriber", name)
+                    .register(meterRegistry);
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                List<DomainEventRecord> batch;
+                long missed;
+                lock.lock();
+                try {
+                    while (running && lastSequence == cursor) {
+                        appended.await();
+                    }
+                    if (!running) {
+                        return;
+                    }
+                    long from = Math.max(cursor + 1, oldestSequence());
+                    missed = from - (cursor + 1);
+                    batch = read(from, Math.min(lastSequence, from + batchSize - 1));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } finally {
+                    lock.unlock();
+                }
+
+                if (missed > 0) {
+                    missedCounter.increment(missed);
+                    log.warn("⚠️ 도메인 이벤트 구독자 {} 처리 지연으로 {}건 누락 - 전체 다시 읽기 요청", name, missed);
+                    try {
+                        subscriber.onMissed(missed);
+                    } catch (Exception e) {
+                        log.error("❌ 도메인 이벤트 구독자 {} 누락 복구 실패: {}", name, e.getMessage(), e);
+                    }
+                }
+                for (DomainEventRecord record : batch) {
+                    delayTimer.record(Math.max(0, System.currentTimeMillis() - record.occurredAt()), TimeUnit.MILLISECONDS);
+                    try {
+                        subscriber.onEvent(record);
+                    } catch (Exception e) {
+                        failedCounter.increment();
+                        log.error("❌ 도메인 이벤트 처리 실패 - 구독자: {}, #{} {}: {}",
+                                name, record.sequence(), record.type(), e.getMessage(), e);
+                    }
+                    cursor = record.sequence();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.smartfactory.smartmes_insight.event;
+
+/**
+ * 버스에 기록된 도메인 이벤트
+ *
+ * @param sequence   버스 전체 일련번호 (1부터, 커밋된 이벤트만 번호를 받으므로 빈 번호 없음)
+ * @param occurredAt 기록 시각 (epoch ms, 트랜잭션 커밋 직후)
+ * @param type       이벤트 타입 이름 (예: FacilityStatusChanged)
+ * @param event      이벤트 본문
+ */
+public record DomainEventRecord(long sequence, long occurredAt, String type, DomainEvent event) {
+
+    static DomainEventRecord of(long sequence, long occurredAt, DomainEvent event) {
+        return new DomainEventRecord(sequence, occurredAt, event.getClass().getSimpleName(), event);
+    }
+}
@@ -0,0 +1,21 @@
+package com.smartfactory.smartmes_insight.event;
+
+/**
+ * 도메인 이벤트 구독자 ({@link DomainEventBus#subscribe}로 등록)
+ *
+ * 구독자마다 전용 스레드 하나가 순서대로 호출하므로 구현은 스레드 안전하지 않아도 된다 (조회 스레드와의 공유는 별개).
+ */
+@FunctionalInterface
+public interface DomainEventSubscriber {
+
+    void onEvent(DomainEventRecord record);
+
+    /**
+     * 처리가 밀려 보관 구간(tail)에서 빠진 이벤트를 받지 못했을 때 호출 (기본: 무시)
+     * 증분 갱신하는 캐시는 여기서 전체를 다시 읽어 맞춘다.
+     *
+     * @param missed 받지 못한 이벤트 수
+     */
+    default void onMissed(long missed) {
+    }
+}
@@ -0,0 +1,240 @@
+package com.smartfactory.smartmes_insight.ingest;
+
+import com.smartfactory.smartmes_insight.domain.facility.Facility;
+import com.smartfactory.smartmes_insight.domain.sensor.SensorRepository;
+import com.smartfactory.smartmes_insight.event.DomainEvent;
+import com.smartfactory.smartmes_insight.event.DomainEventBus;
+import com.smartfactory.smartmes_insight.event.DomainEventRecord;
+import com.smartfactory.smartmes_insight.event.DomainEventSubscriber;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * 🗂️ 활성 센서 레지스트리 (수집 대상: 설비가 '가동중'이고 임계값이 설정된 센서)
+ *
+ * 수집 주기마다 DB를 조회하지 않도록 활성 센서 임계값을 메모리에 두고, 바뀔 때마다 불변 스냅샷을 새로 만든다.
+ * - 센서 등록/수정/삭제, 설비 상태 변경/삭제를 {@link DomainEventBus}로 받아 반영 (커밋된 변경만 전달됨)
+ *   이벤트는 '이 센서/설비가 바뀌었다'는 신호로만 쓰고 반영할 값은 DB에서 다시 읽는다
+ *   (같은 대상의 이벤트가 커밋 순서와 다르게 전달돼도 마지막 상태로 수렴)
+ * - 스냅샷은 버전 번호와 샤드별(센서 ID % shards) 임계값 배열을 갖고, 수집 주기는 받은 스냅샷을 끝까지 그대로 쓴다
+ * - 서비스를 거치지 않은 변경(다른 인스턴스, DB 직접 수정)은 sensor.registry.refresh-ms마다 전체 다시 읽어 맞춘다
+ * - 첫 스냅샷은 처음 요청될 때 한 번 조회해 만든다
+ */
+@Slf4j
+@Component
+public class ActiveSensorRegistry implements DomainEventSubscriber {
+
+    private static final int FACILITY_COLUMN = 4;
+
+    private final SensorRepository sensorRepository;
+    private final DomainEventBus domainEventBus;
+    private final int shards;
+
+    // 활성 센서 행 (센서 ID → [ID, 최소, 최대, 타입, 설비 ID]), lock으로 보호
+    private final Object lock = new Object();
+    private final TreeMap<Long, Object[]> rows = new TreeMap<>();
+    private long changes;
+    private long version;
+
+    private volatile Snapshot snapshot;
+
+    public ActiveSensorRegistry(SensorRepository sensorRepository,
+                                DomainEventBus domainEventBus,
+                                @Value("${sensor.monitoring.shards:1}") int shards,
+                                MeterRegistry meterRegistry) {
+        this.sensorRepository = sensorRepository;
+        this.domainEventBus = domainEventBus;
+        this.shards = Math.max(1, shards);
+
+        Gauge.builder("sensor.registry.active", this, registry -> registry.snapshot == null ? 0 : registry.snapshot.size())
+                .description("활성 센서 수 (레지스트리 스냅샷 기준)")
+                .register(meterRegistry);
+        Gauge.builder("sensor.registry.version", this, registry -> registry.snapshot == null ? 0 : registry.snapshot.version())
+                .description("활성 센서 스냅샷 버전 (변경 반영마다 증가)")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        domainEventBus.subscribe("active-sensor-registry", this);
+    }
+
+    /**
+     * 현재 스냅샷 (아직 없으면 DB에서 읽어 만든다)
+     */
+    public Snapshot snapshot() {
+        Snapshot current = snapshot;
+        return current != null ? current : reload();
+    }
+
+    /**
+     * 전체 다시 읽기 (서비스를 거치지 않은 변경 보정)
+     * 조회 중에 반영된 변경이 있으면 그 변경이 빠진 결과일 수 있으므로 다시 읽는다.
+     */
+    @Scheduled(fixedDelayString = "${sensor.registry.refresh-ms:300000}",
+            initialDelayString = "${sensor.registry.refresh-ms:300000}")
+    public Snapshot reload() {
+        for (int attempt = 0; ; attempt++) {
+            long before;
+            synchronized (lock) {
+                before = changes;
+            }
+            List<Object[]> loaded = sensorRepository.findActiveThresholds(Facility.STATUS_RUNNING);
+            synchronized (lock) {
+                if (changes != before && attempt < 3) {
+                    continue;
+                }
+                rows.clear();
+                for (Object[] row : loaded) {
+                    rows.put(((Number) row[0]).longValue(), row);
+                }
+                Snapshot rebuilt = rebuild();
+                log.debug("🗂️ 활성 센서 레지스트리 다시 읽기: {}개 (v{})", rebuilt.size(), rebuilt.version());
+                return rebuilt;
+            }
+        }
+    }
+
+    // ========================= 변경 반영 (커밋 이후) =========================
+
+    /**
+     * 센서 등록/수정/삭제, 설비 상태 변경/삭제 ({@link DomainEventBus} 구독 - 커밋된 이벤트가 하나씩 전달됨)
+     * 삭제는 되돌릴 수 없으므로 바로 제외하고, 등록/수정/상태 변경은 현재 값을 다시 읽어 반영한다
+     */
+    @Override
+    public void onEvent(DomainEventRecord record) {
+        if (record.event() instanceof DomainEvent.SensorChanged event) {
+            onSensorChanged(event.sensorId());
+        } else if (record.event() instanceof DomainEvent.SensorRemoved event) {
+            apply(() -> rows.remove(event.sensorId()));
+        } else if (record.event() instanceof DomainEvent.FacilityStatusChanged event) {
+            onFacilityStatus(event.facilityId());
+        } else if (record.event() instanceof DomainEvent.FacilityRemoved event) {
+            apply(() -> removeFacilityRows(event.facilityId()));
+        }
+    }
+
+    /**
+     * 받지 못한 변경이 있으면 전체 다시 읽기
+     */
+    @Override
+    public void onMissed(long missed) {
+        reload();
+    }
+
+    /**
+     * 현재 설비가 '가동중'이고 임계값이 있으면 수집 대상, 아니면 제외
+     */
+    private void onSensorChanged(Long sensorId) {
+        List<Object[]> active = sensorRepository.findActiveThresholdsById(sensorId, Facility.STATUS_RUNNING);
+        apply(() -> {
+            if (active.isEmpty()) {
+                rows.remove(sensorId);
+            } else {
+                rows.put(sensorId, active.get(0));
+            }
+        });
+    }
+
+    /**
+     * 현재 설비가 '가동중'이면 그 설비의 임계값 설정 센서로 교체, 아니면 모두 제외
+     */
+    private void onFacilityStatus(Long facilityId) {
+        List<Object[]> sensors = sensorRepository.findActiveThresholdsByFacilityId(facilityId, Facility.STATUS_RUNNING);
+        apply(() -> {
+            removeFacilityRows(facilityId);
+            for (Object[] row : sensors) {
+                rows.put(((Number) row[0]).longValue(), row);
+            }
+        });
+    }
+
+    private void removeFacilityRows(Long facilityId) {
+        rows.values().removeIf(row -> facilityId.equals(row[FACILITY_COLUMN]));
+    }
+
+    private void apply(Runnable change) {
+        synchronized (lock) {
+            changes++;
+            if (snapshot != null) {
+                change.run();
+                rebuild(); // 아직 스냅샷이 없으면 첫 조회가 변경을 포함해 읽는다
+            }
+        }
+    }
+
+    // lock을 잡은 상태에서 호출
+    private Snapshot rebuild() {
+        SensorThresholds all = SensorThresholds.fromRows(new ArrayList<>(rows.values()));
+        SensorThresholds[] shardThresholds = new SensorThresholds[shards];
+        if (shards == 1) {
+            shardThresholds[0] = all;
+        } else {
+            int[][] indexes = new int[shards][all.size()];
+            int[] counts = new int[shards];
+            for (int i = 0; i < all.size(); i++) {
+                int shard = (int) Math.floorMod(all.sensorId(i), (long) shards);
+                indexes[shard][counts[shard]++] = i;
+            }
+            for (int shard = 0; shard < shards; shard++) {
+                shardThresholds[shard] = all.select(indexes[shard], counts[shard]);
+            }
+        }
+        Snapshot rebuilt = new Snapshot(++version, all, shardThresholds);
+        snapshot = rebuilt;
+        return rebuilt;
+    }
+
+    /**
+     * 활성 센서 불변 스냅샷 (센서 ID 오름차순)
+     */
+    public static final class Snapshot {
+
+        private final long version;
+        private final SensorThresholds thresholds;
+        private final SensorThresholds[] shards;
+
+        private Snapshot(long version, SensorThresholds thresholds, SensorThresholds[] shards) {
+            this.version = version;
+            this.thresholds = thresholds;
+            this.shards = shards;
+        }
+
+        public long version() {
+            return version;
+        }
+
+        public SensorThresholds thresholds() {
+            return thresholds;
+        }
+
+        /**
+         * 한 샤드(센서 ID % sensor.monitoring.shards = shard)의 임계값
+         */
+        public SensorThresholds shard(int shard) {
+            return shards[shard];
+        }
+
+        public int size() {
+            return thresholds.size();
+        }
+
+        public List<Long> sensorIds() {
+            Long[] ids = new Long[thresholds.size()];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = thresholds.sensorId(i);
+            }
+            return Arrays.asList(ids);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.smartfactory.smartmes_insight.ingest;
+
+import com.smartfactory.smartmes_insight.series.InterpolationMethod;
+
+/**
+ * 저장 전 측정값 압축 방식 ({@link SensorLogCompressor})
+ *
+ * - DEADBAND: 마지막 저장값에서 deviation 넘게 벗어난 값만 저장 (저장점 사이는 계단(STEP)으로 복원)
+ * - SWINGING_DOOR: 마지막 저장점에서 그은 직선이 deviation 폭 안에서 이어지는 동안은 저장하지 않고,
+ *                  벗어나는 순간 직전 측정값을 저장 (저장점 사이는 직선(LINEAR)으로 복원)
+ */
+public enum CompressionMode {
+    DEADBAND(InterpolationMethod.STEP),
+    SWINGING_DOOR(InterpolationMethod.LINEAR);
+
+    private final InterpolationMethod interpolation;
+
+    CompressionMode(InterpolationMethod interpolation) {
+        this.interpolation = interpolation;
+    }
+
+    /**
+     * 저장점 사이 값을 복원할 때 맞는 보간 방식
+     */
+    public InterpolationMethod interpolation() {
+        return interpolation;
+    }
+}
@@ -0,0 +1,136 @@
+package com.smartfactory.smartmes_insight.ingest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 📉 센서별 적응형 수집 간격 정책 (sensor.sampling.enabled=true)
+ *
+ * 모든 센서를 매 주기 수집하는 대신 센서마다 다음 수집까지 기다릴 주기 수를 정한다 ({@link SamplingWheel}).
+ * 단위는 수집 주기(sensor.monitoring.interval-ms)이며 타입별 최소/최대 간격 안에서 움직인다.
+ *
+ * - 임계 범위를 벗어났거나(NaN 포함) 경계까지 범위 폭의 near-threshold 비율 안이면 최소 간격
+ * - 그 밖에는 경계까지 남은 거리 / 최근 변화 속도(EWMA)로 경계 도달 예상 주기 수를 구하고 safety-factor로 나눈 만큼 기다린다
+ *   (변화가 크거나 경계에 가까우면 자주, 느리고 멀면 드물게 수집)
+ * - 간격은 한 번에 두 배까지만 늘리고, 줄일 때는 바로 줄인다
+ *
+ * 타입별 간격: sensor.sampling.types.{타입 소문자}.min-interval-ms / max-interval-ms
+ * (지정하지 않으면 sensor.sampling.min-interval-ms / max-interval-ms, 최대 간격은 공통 max-interval-ms를 넘지 못함)
+ */
+@Slf4j
+@Component
+public class SamplingPolicy {
+
+    private static final double MIN_RATE = 1e-9;
+
+    private final Environment environment;
+    private final boolean enabled;
+    private final long baseIntervalMillis;
+    private final int defaultMinTicks;
+    private final int maxTicksCap;
+    private final double safetyFactor;
+    private final double nearThreshold;
+    private final double smoothing;
+    private final Map<String, int[]> typeTicks = new ConcurrentHashMap<>();
+
+    public SamplingPolicy(Environment environment) {
+        this.environment = environment;
+        this.enabled = environment.getProperty("sensor.sampling.enabled", Boolean.class, false);
+        this.baseIntervalMillis = environment.getProperty("sensor.monitoring.interval-ms", Long.class, 10000L);
+        this.defaultMinTicks = toTicks(environment.getProperty("sensor.sampling.min-interval-ms", Long.class, baseIntervalMillis));
+        this.maxTicksCap = Math.max(defaultMinTicks,
+                toTicks(environment.getProperty("sensor.sampling.max-interval-ms", Long.class, 60000L)));
+        this.safetyFactor = environment.getProperty("sensor.sampling.safety-factor", Double.class, 4.0);
+        this.nearThreshold = environment.getProperty("sensor.sampling.near-threshold", Double.class, 0.1);
+        this.smoothing = environment.getProperty("sensor.sampling.smoothing", Double.class, 0.3);
+        if (safetyFactor < 1 || nearThreshold < 0 || smoothing <= 0 || smoothing > 1) {
+            throw new IllegalStateException("sensor.sampling 설정이 올바르지 않습니다 (safety-factor >= 1, 0 < smoothing <= 1).");
+        }
+        if (enabled) {
+            log.info("📉 적응형 수집 간격 사용: 기본 주기 {}ms, 간격 {} ~ {}주기, safety-factor={}, near-threshold={}",
+                    baseIntervalMillis, defaultMinTicks, maxTicksCap, safetyFactor, nearThreshold);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public SamplingWheel newWheel() {
+        return new SamplingWheel(this);
+    }
+
+    /**
+     * 모든 타입 공통 최대 간격 (주기 수)
+     */
+    int maxTicksCap() {
+        return maxTicksCap;
+    }
+
+    int minTicks(String type) {
+        return ticksOf(type)[0];
+    }
+
+    int maxTicks(String type) {
+        return ticksOf(type)[1];
+    }
+
+    /**
+     * 경계 대비 변화 속도 갱신 (범위 폭 대비 주기당 변화량의 지수 이동 평균)
+     *
+     * @param rate  이전 값 (아직 모르면 NaN)
+     * @param ticks 이전 측정 이후 지난 주기 수
+     */
+    double updateRate(double rate, double previousValue, double value, long ticks, double min, double max) {
+        double range = max - min;
+        if (Double.isNaN(previousValue) || Double.isNaN(value) || !(range > 0) || Double.isInfinite(range) || ticks <= 0) {
+            return rate;
+        }
+        double sample = Math.abs(value - previousValue) / range / ticks;
+        return Double.isNaN(rate) ? sample : smoothing * sample + (1 - smoothing) * rate;
+    }
+
+    /**
+     * 다음 수집까지 기다릴 주기 수
+     *
+     * @param rate     {@link #updateRate} 결과 (NaN이면 최소 간격)
+     * @param previous 직전 간격
+     */
+    int nextTicks(double value, double min, double max, double rate, int previous, int minTicks, int maxTicks) {
+        double range = max - min;
+        if (!(value >= min && value <= max) || !(range > 0) || Double.isInfinite(range) || Double.isNaN(rate)) {
+            return minTicks;
+        }
+        double margin = Math.min(value - min, max - value) / range;
+        if (margin < nearThreshold) {
+            return minTicks;
+        }
+        double horizon = margin / Math.max(rate, MIN_RATE) / safetyFactor;
+        double ticks = Math.min(horizon, 2.0 * previous);
+        return (int) Math.max(minTicks, Math.min(maxTicks, ticks));
+    }
+
+    private int[] ticksOf(String type) {
+        String key = type != null ? type.toLowerCase(Locale.ROOT) : "";
+        return typeTicks.computeIfAbsent(key, this::loadTicks);
+    }
+
+    private int[] loadTicks(String type) {
+        String prefix = "sensor.sampling.types." + type;
+        int min = type.isEmpty() ? defaultMinTicks
+                : toTicks(environment.getProperty(prefix + ".min-interval-ms", Long.class, defaultMinTicks * baseIntervalMillis));
+        int max = type.isEmpty() ? maxTicksCap
+                : toTicks(environment.getProperty(prefix + ".max-interval-ms", Long.class, maxTicksCap * baseIntervalMillis));
+        min = Math.min(min, maxTicksCap);
+        return new int[]{min, Math.max(min, Math.min(max, maxTicksCap))};
+    }
+
+    private int toTicks(long millis) {
+        return (int) Math.max(1, millis / baseIntervalMillis);
+    }
+}
@@ -0,0 +1,265 @@
+package com.smartfactory.smartmes_insight.ingest;
+
+import java.util.Arrays;
+
+/**
+ * ⏲️ 샤드 하나의 센서별 다음 수집 시점 (해시 타이밍 휠, {@link SamplingPolicy})
+ *
+ * 슬롯 하나가 수집 주기 번호(tick) 하나에 대응하며, 슬롯 수는 최대 간격보다 큰 2의 거듭제곱이다.
+ * 센서 상태는 상태 번호로 접근하는 열 단위 배열에 두고 슬롯에는 상태 번호만 넣는다.
+ *
+ * - {@link #select}: 이번 주기에 수집할 센서(처음 보는 센서 + 시점이 된 센서)를 임계값 스냅샷에서 골라낸다
+ * - {@link #record}: 수집한 값으로 다음 간격을 정해 해당 슬롯에 넣는다
+ * - 골라낸 센서는 먼저 최소 간격 뒤 슬롯에 넣어 두므로 주기가 중간에 중단돼도 휠에서 빠지지 않는다
+ *   (record가 다른 시점을 정하면 먼저 넣은 항목은 읽을 때 버린다)
+ * - 스냅샷에서 사라진 센서(비활성/삭제)는 시점이 됐을 때 상태를 정리한다
+ *
+ * 한 샤드의 주기는 동시에 하나만 실행되므로 동기화하지 않는다.
+ */
+public final class SamplingWheel {
+
+    private static final long NEVER = Long.MIN_VALUE;
+
+    private final SamplingPolicy policy;
+    private final int mask;
+    private final int[][] slots;
+    private final int[] slotSizes;
+
+    // 센서 상태 (상태 번호 → 값), 정리된 상태는 dueTick = -1
+    private long[] ids = new long[16];
+    private double[] lastValue = new double[16];
+    private long[] lastTick = new long[16];
+    private double[] rate = new double[16];
+    private int[] interval = new int[16];
+    private int[] minTicks = new int[16];
+    private int[] maxTicks = new int[16];
+    private long[] dueTick = new long[16];
+    private int stateCount;
+    private int[] free = new int[16];
+    private int freeCount;
+
+    // 추적 중인 센서 (ID 오름차순, 같은 위치에 상태 번호)
+    private long[] trackedIds = new long[16];
+    private int[] trackedStates = new int[16];
+    private int trackedCount;
+
+    // 이번 주기에 골라낸 센서 (스냅샷 인덱스, 상태 번호)
+    private int[] selectedIndexes = new int[16];
+    private int[] selectedStates = new int[16];
+    private int selectedCount;
+    private long selectedTick;
+    private long lastPolledTick = NEVER;
+
+    SamplingWheel(SamplingPolicy policy) {
+        this.policy = policy;
+        int size = Integer.highestOneBit(policy.maxTicksCap() + 1) << 1;
+        this.mask = size - 1;
+        this.slots = new int[size][];
+        this.slotSizes = new int[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new int[4];
+        }
+    }
+
+    /**
+     * 이번 주기에 수집할 센서만 모은 스냅샷 (순서는 {@link #record}에 넘길 측정값 묶음과 같아야 함)
+     *
+     * @param thresholds 샤드의 활성 센서 전체 (ID 오름차순)
+     * @param tick       주기 번호 (예정 시각 / 수집 주기)
+     */
+    public SensorThresholds select(SensorThresholds thresholds, long tick) {
+        selectedCount = 0;
+        selectedTick = tick;
+        admitNewSensors(thresholds, tick);
+        if (lastPolledTick == NEVER || tick > lastPolledTick) {
+            // 주기를 건너뛰었으면 그 사이 슬롯도 확인 (한 바퀴 이상이면 전체 한 번)
+            long from = lastPolledTick == NEVER ? tick : Math.max(lastPolledTick + 1, tick - mask);
+            for (long t = from; t <= tick; t++) {
+                poll((int) (t & mask), thresholds, tick);
+            }
+            lastPolledTick = tick;
+        }
+        return thresholds.select(selectedIndexes, selectedCount);
+    }
+
+    /**
+     * 수집한 값으로 센서별 다음 수집 시점을 정한다
+     *
+     * @param selected {@link #select} 결과
+     * @param batch    selected와 같은 순서로 채운 측정값
+     */
+    public void record(SensorThresholds selected, SensorReadingBatch batch) {
+        int size = Math.min(selectedCount, batch.size());
+        for (int i = 0; i < size; i++) {
+            int state = selectedStates[i];
+            if (dueTick[state] < 0) {
+                continue;
+            }
+            double value = batch.value(i);
+            double min = selected.min(i);
+            double max = selected.max(i);
+            if (lastTick[state] != NEVER) {
+                rate[state] = policy.updateRate(rate[state], lastValue[state], value,
+                        selectedTick - lastTick[state], min, max);
+            }
+            int next = policy.nextTicks(value, min, max, rate[state], interval[state], minTicks[state], maxTicks[state]);
+            lastValue[state] = value;
+            lastTick[state] = selectedTick;
+            interval[state] = next;
+            if (selectedTick + next != dueTick[state]) {
+                schedule(state, selectedTick + next);
+            }
+        }
+    }
+
+    /**
+     * 추적 중인 센서 수
+     */
+    public int trackedCount() {
+        return trackedCount;
+    }
+
+    /**
+     * 센서의 현재 수집 간격 (주기 수, 추적하지 않으면 0)
+     */
+    public int intervalOf(long sensorId) {
+        int position = Arrays.binarySearch(trackedIds, 0, trackedCount, sensorId);
+        return position >= 0 ? interval[trackedStates[position]] : 0;
+    }
+
+    // 스냅샷과 추적 목록을 함께 훑어 처음 보는 센서를 바로 수집 대상으로
+    private void admitNewSensors(SensorThresholds thresholds, long tick) {
+        long[] addedIds = null;
+        int[] addedStates = null;
+        int added = 0;
+        int position = 0;
+        for (int i = 0; i < thresholds.size(); i++) {
+            long id = thresholds.sensorId(i);
+            while (position < trackedCount && trackedIds[position] < id) {
+                position++;
+            }
+            if (position < trackedCount && trackedIds[position] == id) {
+                continue;
+            }
+            int state = allocate(id, thresholds.type(i));
+            select(i, state, tick);
+            if (addedIds == null) {
+                addedIds = new long[thresholds.size() - i];
+                addedStates = new int[addedIds.length];
+            }
+            addedIds[added] = id;
+            addedStates[added++] = state;
+        }
+        if (added > 0) {
+            mergeTracked(addedIds, addedStates, added);
+        }
+    }
+
+    private void poll(int slot, SensorThresholds thresholds, long tick) {
+        int[] entries = slots[slot];
+        int size = slotSizes[slot];
+        int kept = 0;
+        for (int k = 0; k < size; k++) {
+            int state = entries[k];
+            long due = dueTick[state];
+            if (due < 0 || (due & mask) != slot) {
+                continue; // 다른 시점으로 다시 넣었거나 정리된 항목
+            }
+            if (due > tick) {
+                entries[kept++] = state; // 다음 바퀴
+                continue;
+            }
+            int index = thresholds.indexOf(ids[state]);
+            if (index < 0) {
+                release(state);
+                continue;
+            }
+            select(index, state, tick);
+        }
+        slotSizes[slot] = kept;
+    }
+
+    private void select(int index, int state, long tick) {
+        if (selectedCount == selectedIndexes.length) {
+            selectedIndexes = Arrays.copyOf(selectedIndexes, selectedCount * 2);
+            selectedStates = Arrays.copyOf(selectedStates, selectedCount * 2);
+        }
+        selectedIndexes[selectedCount] = index;
+        selectedStates[selectedCount++] = state;
+        schedule(state, tick + minTicks[state]);
+    }
+
+    private void schedule(int state, long due) {
+        dueTick[state] = due;
+        int slot = (int) (due & mask);
+        if (slotSizes[slot] == slots[slot].length) {
+            slots[slot] = Arrays.copyOf(slots[slot], slotSizes[slot] * 2);
+        }
+        slots[slot][slotSizes[slot]++] = state;
+    }
+
+    private int allocate(long id, String type) {
+        int state;
+        if (freeCount > 0) {
+            state = free[--freeCount];
+        } else {
+            if (stateCount == ids.length) {
+                growStates(stateCount * 2);
+            }
+            state = stateCount++;
+        }
+        ids[state] = id;
+        lastValue[state] = Double.NaN;
+        lastTick[state] = NEVER;
+        rate[state] = Double.NaN;
+        minTicks[state] = policy.minTicks(type);
+        maxTicks[state] = policy.maxTicks(type);
+        interval[state] = minTicks[state];
+        return state;
+    }
+
+    private void release(int state) {
+        dueTick[state] = -1;
+        int position = Arrays.binarySearch(trackedIds, 0, trackedCount, ids[state]);
+        if (position >= 0) {
+            System.arraycopy(trackedIds, position + 1, trackedIds, position, trackedCount - position - 1);
+            System.arraycopy(trackedStates, position + 1, trackedStates, position, trackedCount - position - 1);
+            trackedCount--;
+        }
+        if (freeCount == free.length) {
+            free = Arrays.copyOf(free, freeCount * 2);
+        }
+        free[freeCount++] = state;
+    }
+
+    private void mergeTracked(long[] addedIds, int[] addedStates, int added) {
+        int total = trackedCount + added;
+        long[] mergedIds = new long[Math.max(16, total)];
+        int[] mergedStates = new int[mergedIds.length];
+        int a = 0;
+        int b = 0;
+        for (int i = 0; i < total; i++) {
+            if (b >= added || (a < trackedCount && trackedIds[a] < addedIds[b])) {
+                mergedIds[i] = trackedIds[a];
+                mergedStates[i] = trackedStates[a++];
+            } else {
+                mergedIds[i] = addedIds[b];
+                mergedStates[i] = addedStates[b++];
+            }
+        }
+        trackedIds = mergedIds;
+        trackedStates = mergedStates;
+        trackedCount = total;
+    }
+
+    private void growStates(int capacity) {
+        ids = Arrays.copyOf(ids, capacity);
+        lastValue = Arrays.copyOf(lastValue, capacity);
+        lastTick = Arrays.copyOf(lastTick, capacity);
+        rate = Arrays.copyOf(rate, capacity);
+        interval = Arrays.copyOf(interval, capacity);
+        minTicks = Arrays.copyOf(minTicks, capacity);
+        maxTicks = Arrays.copyOf(maxTicks, capacity);
+        dueTick = Arrays.copyOf(dueTick, capacity);
+    }
+}
@@ -0,0 +1,339 @@
+package com.smartfactory.smartmes_insight.ingest;
+
+import com.smartfactory.smartmes_insight.domain.sensor.SensorLogStore;
+import com.smartfactory.smartmes_insight.jdbc.ConnectionAdmission;
+import com.smartfactory.smartmes_insight.jdbc.DbWorkload;
+import com.smartfactory.smartmes_insight.jdbc.JdbcMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 💾 센서 측정값 write-ahead 버퍼 (sensor.wal.enabled=true)
+ *
+ * 수집 스레드는 측정값을 로컬 WAL({@link SensorWal})에 기록하고 바로 반환한다.
+ * DB 적재는 전용 재적재 스레드가 WAL을 순서대로 읽어 {@link SensorLogStore#saveBatch}로 묶어 수행하므로,
+ * 수집 지연이 DB 커밋 지연과 분리되고 DB 장애 중에도 측정값이 유실되지 않는다.
+ *
+ * - fsync는 fsync-interval-ms마다 묶어서 수행 (프로세스 종료는 유실 없음, OS 장애 시 최대 한 주기 유실)
+ * - 재적재 실패 시 지수 백오프로 재시도하며 DB가 복구되면 밀린 레코드부터 적재
+ * - 적재와 checkpoint 사이에 종료되면 해당 배치가 다시 적재될 수 있다 (at-least-once)
+ * - 저장 즉시 영구 저장되지 않는 저장소(segment)는 commit-interval-ms마다 {@link SensorLogStore#flush}로
+ *   확정한 뒤에만 checkpoint한다 (그 사이 적재분은 WAL에 남아 있다가 재기동 시 다시 적재)
+ * - 디스크 사용량은 max-bytes로 제한하며, 가득 차면 새 측정값은 거부된다 (sensor.wal.rejected)
+ * - 없는 센서 등 제약 조건 위반 레코드는 건별로 다시 시도한 뒤 버린다 (sensor.wal.discarded)
+ */
+@Slf4j
+@Component
+public class SensorIngestWal {
+
+    private final SensorLogStore sensorLogStore;
+    private final ConnectionAdmission connectionAdmission;
+    private final JdbcMetrics jdbcMetrics;
+
+    private final Counter appended;
+    private final Counter rejected;
+    private final Counter replayed;
+    private final Counter discarded;
+    private final Counter replayFailures;
+    private final Timer replayTimer;
+    private final Timer fsyncTimer;
+
+    @Value("${sensor.wal.enabled:false}")
+    private boolean enabled;
+
+    @Value("${sensor.wal.directory:./data/wal}")
+    private String directory;
+
+    @Value("${sensor.wal.segment-bytes:8388608}")
+    private int segmentBytes;
+
+    @Value("${sensor.wal.max-bytes:268435456}")
+    private long maxBytes;
+
+    @Value("${sensor.wal.fsync-interval-ms:50}")
+    private long fsyncIntervalMillis;
+
+    @Value("${sensor.wal.batch-size:500}")
+    private int batchSize;
+
+    @Value("${sensor.wal.idle-wait-ms:200}")
+    private long idleWaitMillis;
+
+    @Value("${sensor.wal.max-backoff-ms:30000}")
+    private long maxBackoffMillis;
+
+    @Value("${sensor.wal.commit-interval-ms:${sensor.storage.segment.seal-interval-ms:60000}}")
+    private long commitIntervalMillis;
+
+    private volatile SensorWal wal;
+    private ScheduledExecutorService fsyncExecutor;
+    private Thread replayer;
+    private volatile boolean running;
+    private long lastCommitNanos; // 재적재 스레드 전용 (종료 시에는 스레드가 끝난 뒤 사용)
+
+    public SensorIngestWal(SensorLogStore sensorLogStore,
+                           ConnectionAdmission connectionAdmission,
+                           JdbcMetrics jdbcMetrics,
+                           MeterRegistry meterRegistry) {
+        this.sensorLogStore = sensorLogStore;
+        this.connectionAdmission = connectionAdmission;
+        this.jdbcMetrics = jdbcMetrics;
+
+        this.appended = Counter.builder("sensor.wal.appended")
+                .description("WAL에 기록한 측정값 수")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("sensor.wal.rejected")
+                .description("WAL 용량 초과로 거부한 측정값 수")
+                .register(meterRegistry);
+        this.replayed = Counter.builder("sensor.wal.replayed")
+                .description("WAL에서 DB로 적재한 측정값 수")
+                .register(meterRegistry);
+        this.discarded = Counter.builder("sensor.wal.discarded")
+                .description("손상되었거나 제약 조건을 위반해 버린 측정값 수")
+                .register(meterRegistry);
+        this.replayFailures = Counter.builder("sensor.wal.replay.failures")
+                .description("DB 적재 실패 횟수")
+                .register(meterRegistry);
+        this.replayTimer = Timer.builder("sensor.wal.replay")
+                .description("배치 하나의 DB 적재 시간")
+                .register(meterRegistry);
+        this.fsyncTimer = Timer.builder("sensor.wal.fsync")
+                .description("묶음 fsync 시간")
+                .register(meterRegistry);
+        Gauge.builder("sensor.wal.lag.records", this, SensorIngestWal::lagRecords)
+                .description("DB에 아직 적재되지 않은 측정값 수")
+                .register(meterRegistry);
+        Gauge.builder("sensor.wal.lag.seconds", this, SensorIngestWal::lagSeconds)
+                .description("적재되지 않은 가장 오래된 측정값의 경과 시간")
+                .register(meterRegistry);
+        Gauge.builder("sensor.wal.disk.bytes", this, SensorIngestWal::diskBytes)
+                .description("WAL 세그먼트 파일 크기 합계")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        int segmentRecords = segmentBytes / WalSegment.RECORD_BYTES;
+        int maxSegments = (int) Math.max(2, maxBytes / ((long) segmentRecords * WalSegment.RECORD_BYTES));
+        wal = SensorWal.open(Paths.get(directory), segmentRecords, maxSegments);
+        running = true;
+
+        fsyncExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sensor-wal-fsync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        fsyncExecutor.scheduleWithFixedDelay(this::fsync, fsyncIntervalMillis, fsyncIntervalMillis, TimeUnit.MILLISECONDS);
+
+        replayer = new Thread(this::runReplayLoop, "sensor-wal-replay");
+        replayer.setDaemon(true);
+        replayer.start();
+
+        log.info("💾 센서 WAL 시작: {}, 세그먼트 {}건 x 최대 {}개, fsync {}ms, 미적재 {}건",
+                Paths.get(directory).toAbsolutePath(), segmentRecords, maxSegments, fsyncIntervalMillis, wal.pending());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (wal == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(replayer);
+        try {
+            replayer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        fsyncExecutor.shutdownNow();
+        // 저장소에 넘긴 레코드는 확정 후 checkpoint, 남은 레코드는 다음 기동 때 재적재
+        try {
+            checkpoint(true);
+        } catch (RuntimeException | IOException e) {
+            log.error("❌ 센서 WAL 종료 checkpoint 실패 - 다음 기동 때 다시 적재: {}", e.getMessage());
+        }
+        try {
+            wal.close();
+        } catch (IOException e) {
+            log.error("❌ 센서 WAL 닫기 실패: {}", e.getMessage());
+        }
+        log.info("💾 센서 WAL 종료: 미적재 {}건", wal.pending());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 측정값 묶음을 WAL에 기록 (DB를 기다리지 않음)
+     *
+     * @return 용량(max-bytes)이 가득 차 기록하지 못한 측정값 수
+     * @throws IllegalStateException WAL이 꺼져 있는 경우
+     */
+    public int append(SensorReadingBatch batch) {
+        if (wal == null) {
+            throw new IllegalStateException("센서 WAL이 비활성화되어 있습니다.");
+        }
+        int accepted = 0;
+        try {
+            for (int i = 0; i < batch.size(); i++) {
+                if (wal.append(batch.sensorId(i), batch.timestamp(i), batch.value(i))) {
+                    accepted++;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("센서 WAL에 기록할 수 없습니다.", e);
+        } finally {
+            appended.increment(accepted);
+            LockSupport.unpark(replayer);
+        }
+        int rejectedCount = batch.size() - accepted;
+        rejected.increment(rejectedCount);
+        return rejectedCount;
+    }
+
+    // ========================= 내부 처리 =========================
+
+    private void fsync() {
+        try {
+            long start = System.nanoTime();
+            if (wal.force() > 0) {
+                fsyncTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        } catch (RuntimeException e) {
+            log.error("❌ 센서 WAL fsync 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private void runReplayLoop() {
+        SensorReadingBatch batch = new SensorReadingBatch(batchSize);
+        long backoffMillis = 0;
+        boolean failing = false;
+        lastCommitNanos = System.nanoTime();
+
+        while (running) {
+            batch.clear();
+            int consumed = wal.read(batch, batchSize);
+            if (consumed == 0) {
+                try {
+                    checkpoint(false);
+                } catch (RuntimeException | IOException e) {
+                    log.warn("⚠️ 센서 WAL checkpoint 실패 - 다음 주기에 재시도: {}", e.getMessage());
+                }
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(idleWaitMillis));
+                continue;
+            }
+            try {
+                int saved = replay(batch);
+                wal.advance(consumed);
+                checkpoint(false);
+                replayed.increment(saved);
+                discarded.increment(consumed - saved);
+                if (failing) {
+                    log.info("✅ 센서 WAL 재적재 재개: 미적재 {}건", wal.pending());
+                    failing = false;
+                }
+                backoffMillis = 0;
+            } catch (RuntimeException | IOException e) {
+                replayFailures.increment();
+                if (!failing) {
+                    log.warn("⚠️ 센서 WAL 재적재 실패 - 재시도 대기: 미적재 {}건, error={}", wal.pending(), e.getMessage());
+                    failing = true;
+                }
+                backoffMillis = Math.min(maxBackoffMillis, Math.max(idleWaitMillis, backoffMillis * 2));
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(backoffMillis));
+            }
+        }
+    }
+
+    /**
+     * 저장소에 넘긴 위치까지 checkpoint (저장 즉시 영구 저장되지 않으면 commit-interval-ms마다 flush 후)
+     */
+    private void checkpoint(boolean force) throws IOException {
+        if (wal.uncommitted() == 0) {
+            return;
+        }
+        if (!sensorLogStore.isDurableOnSave()) {
+            if (!force && System.nanoTime() - lastCommitNanos < TimeUnit.MILLISECONDS.toNanos(commitIntervalMillis)) {
+                return;
+            }
+            sensorLogStore.flush();
+        }
+        wal.commit();
+        lastCommitNanos = System.nanoTime();
+    }
+
+    /**
+     * 배치 적재 (제약 조건 위반이면 건별로 다시 적재하고 실패한 레코드는 버림)
+     *
+     * @return 적재한 레코드 수
+     */
+    private int replay(SensorReadingBatch batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        long start = System.nanoTime();
+        try (JdbcMetrics.Scope ignored = jdbcMetrics.open("job:SensorIngestWal.replay");
+             ConnectionAdmission.Binding binding = connectionAdmission.bind(DbWorkload.INGEST)) {
+            try {
+                sensorLogStore.saveBatch(batch);
+                return batch.size();
+            } catch (DataIntegrityViolationException e) {
+                return replayIndividually(batch);
+            }
+        } finally {
+            replayTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private int replayIndividually(SensorReadingBatch batch) {
+        SensorReadingBatch single = new SensorReadingBatch(1);
+        int saved = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            single.clear();
+            single.add(batch.sensorId(i), batch.timestamp(i), batch.value(i));
+            try {
+                sensorLogStore.saveBatch(single);
+                saved++;
+            } catch (DataIntegrityViolationException e) {
+                log.warn("⚠️ 센서 WAL 레코드 폐기: sensorId={}, error={}", batch.sensorId(i), e.getMessage());
+            }
+        }
+        return saved;
+    }
+
+    private double lagRecords() {
+        SensorWal current = wal;
+        return current != null ? current.pending() : 0;
+    }
+
+    private double lagSeconds() {
+        SensorWal current = wal;
+        long oldest = current != null ? current.oldestPendingTimestamp() : -1;
+        return oldest < 0 ? 0 : Math.max(0, System.currentTimeMillis() - oldest) / 1000.0;
+    }
+
+    private double diskBytes() {
+        SensorWal current = wal;
+        return current != null ? current.diskBytes() : 0;
+    }
+}
@@ -0,0 +1,366 @@
+package com.smartfactory.smartmes_insight.ingest;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 🗜️ 저장 전 측정값 압축 (sensor.compression.enabled=true, 히스토리안 방식)
+ *
+ * 값이 거의 변하지 않는 측정값은 저장하지 않는다 ({@link CompressionMode}).
+ * - deadband: 마지막 저장값에서 deviation 넘게 벗어나면 저장
+ * - swinging-door: 마지막 저장점에서 그은 직선이 deviation 폭을 벗어나는 순간 직전 측정값을 저장
+ *   (저장점을 직선으로 이으면 버린 값이 모두 deviation 안에 든다. 저장이 한 측정값만큼 늦으며, 마지막 측정값은 다음 저장 시점까지 메모리에만 있다)
+ * - 임계 범위를 벗어난 값과 NaN(측정 실패)은 항상 저장 (알림 근거 보존)
+ * - 마지막 저장 후 heartbeat-ms가 지나면 변화가 없어도 저장 (조회 시 복원 구간의 상한)
+ *
+ * deviation: sensor.compression.types.{타입 소문자}.deviation (절대값) 또는 임계 범위 폭 × deviation-ratio
+ * (임계값이 없으면 0 - 같은 값(또는 같은 직선 위의 값)만 버림)
+ *
+ * 센서별 상태는 열 단위 원시 배열에 두고, 센서 ID → 상태 번호는 개방 주소 해시로 찾는다.
+ * 샤드/수동 저장이 동시에 호출할 수 있어 묶음 단위로 동기화한다.
+ *
+ * 상태는 저장에 성공한 뒤에만 넘어간다: {@link #compress}는 바뀐 상태를 {@link Compression}에 담아 돌려주고,
+ * 호출자가 남긴 값을 저장(DB 커밋/WAL 기록)한 뒤 {@link #commit}한다. 저장에 실패하면 커밋하지 않으므로
+ * 다음 묶음은 실제로 저장된 마지막 점을 기준으로 다시 판단한다.
+ */
+@Slf4j
+@Component
+public class SensorLogCompressor {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private final Environment environment;
+    private final boolean enabled;
+    private final CompressionMode mode;
+    private final long heartbeatMillis;
+    private final double deviationRatio;
+    private final Map<String, Double> typeDeviations = new ConcurrentHashMap<>();
+    private final Counter keptReadings;
+    private final Counter droppedReadings;
+
+    // 센서 ID → 상태 번호 (선형 탐사)
+    private long[] keys = new long[64];
+    private int[] slots = new int[64];
+    private int stateCount;
+
+    // 센서별 상태: 커밋 횟수(0이면 아직 저장된 점 없음), 마지막 저장점, 저장하지 않고 들고 있는 직전 측정값, swinging-door 기울기 범위
+    private long[] version = new long[32];
+    private long[] archivedTime = new long[32];
+    private double[] archivedValue = new double[32];
+    private boolean[] held = new boolean[32];
+    private long[] heldTime = new long[32];
+    private double[] heldValue = new double[32];
+    private double[] upperSlope = new double[32];
+    private double[] lowerSlope = new double[32];
+
+    // compress 도중에만 쓰는 상태 번호 → 묶음 안 작업 상태 번호 + 1 (0이면 아직 복사하지 않음)
+    private int[] staging = new int[32];
+
+    public SensorLogCompressor(Environment environment, MeterRegistry meterRegistry) {
+        this.environment = environment;
+        this.enabled = environment.getProperty("sensor.compression.enabled", Boolean.class, false);
+        this.mode = CompressionMode.valueOf(environment.getProperty("sensor.compression.mode", "deadband")
+                .trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        this.heartbeatMillis = environment.getProperty("sensor.compression.heartbeat-ms", Long.class, 600000L);
+        this.deviationRatio = environment.getProperty("sensor.compression.deviation-ratio", Double.class, 0.005);
+        if (heartbeatMillis <= 0 || deviationRatio < 0) {
+            throw new IllegalStateException("sensor.compression 설정이 올바르지 않습니다 (heartbeat-ms > 0, deviation-ratio >= 0).");
+        }
+        Arrays.fill(keys, EMPTY);
+
+        this.keptReadings = Counter.builder("sensor.compression.readings")
+                .description("압축 단계를 거친 측정값 수 (kept: 저장, dropped: 버림)")
+                .tag("result", "kept")
+                .register(meterRegistry);
+        this.droppedReadings = Counter.builder("sensor.compression.readings")
+                .description("압축 단계를 거친 측정값 수 (kept: 저장, dropped: 버림)")
+                .tag("result", "dropped")
+                .register(meterRegistry);
+
+        if (enabled) {
+            log.info("🗜️ 측정값 압축 사용: {}, heartbeat {}ms, deviation-ratio={}", mode, heartbeatMillis, deviationRatio);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public CompressionMode getMode() {
+        return mode;
+    }
+
+    public long getHeartbeatMillis() {
+        return heartbeatMillis;
+    }
+
+    /**
+     * 저장할 측정값만 골라낸다 (이전 묶음에서 들고 있던 측정값이 함께 나올 수 있음, 센서별 시각 오름차순)
+     *
+     * 센서별 상태는 아직 바뀌지 않는다. {@link Compression#kept()}를 저장한 뒤 {@link #commit}해야 반영된다.
+     *
+     * @param thresholds batch와 같은 순서의 임계값 (deviation과 항상 저장할 값 판정에 사용)
+     */
+    public synchronized Compression compress(SensorReadingBatch batch, SensorThresholds thresholds) {
+        Compression compression = new Compression(batch.size());
+        try {
+            for (int i = 0; i < batch.size(); i++) {
+                long sensorId = batch.sensorId(i);
+                long time = batch.timestamp(i);
+                double value = batch.value(i);
+                boolean force = Double.isNaN(value) || !thresholds.isWithin(i, value);
+                compression.dropped += offer(compression, stage(compression, stateOf(sensorId)), sensorId, time, value,
+                        force, deviation(thresholds.type(i), thresholds.min(i), thresholds.max(i)));
+            }
+        } finally {
+            for (int s = 0; s < compression.count; s++) {
+                staging[compression.states[s]] = 0;
+            }
+        }
+        return compression;
+    }
+
+    /**
+     * 저장에 성공한 압축 결과의 센서별 상태를 반영
+     *
+     * 그 사이 같은 센서의 다른 결과가 먼저 커밋되었으면 그 센서는 건너뛴다 (먼저 커밋된 상태를 유지 -
+     * 기준점이 실제 마지막 저장점보다 이를 수 있을 뿐이라 값을 더 남길 수는 있어도 잃지는 않는다).
+     */
+    public synchronized void commit(Compression compression) {
+        for (int s = 0; s < compression.count; s++) {
+            int state = compression.states[s];
+            if (version[state] != compression.versions[s]) {
+                continue;
+            }
+            version[state]++;
+            archivedTime[state] = compression.archivedTime[s];
+            archivedValue[state] = compression.archivedValue[s];
+            held[state] = compression.held[s];
+            heldTime[state] = compression.heldTime[s];
+            heldValue[state] = compression.heldValue[s];
+            upperSlope[state] = compression.upperSlope[s];
+            lowerSlope[state] = compression.lowerSlope[s];
+        }
+        keptReadings.increment(compression.kept.size());
+        droppedReadings.increment(compression.dropped);
+    }
+
+    // 센서 상태를 묶음 작업 상태로 복사 (같은 센서가 묶음에 여러 번 나오면 같은 작업 상태를 이어 쓴다)
+    private int stage(Compression compression, int state) {
+        if (staging[state] != 0) {
+            return staging[state] - 1;
+        }
+        int s = compression.add(state, version[state]);
+        compression.initialized[s] = version[state] > 0;
+        compression.archivedTime[s] = archivedTime[state];
+        compression.archivedValue[s] = archivedValue[state];
+        compression.held[s] = held[state];
+        compression.heldTime[s] = heldTime[state];
+        compression.heldValue[s] = heldValue[state];
+        compression.upperSlope[s] = upperSlope[state];
+        compression.lowerSlope[s] = lowerSlope[state];
+        staging[state] = s + 1;
+        return s;
+    }
+
+    // 버린 측정값 수 (swinging-door에서 들고 있던 값을 새 값으로 바꾸면 그 값을 버린 것)
+    private int offer(Compression c, int s, long sensorId, long time, double value, boolean force, double deviation) {
+        if (!c.initialized[s]) {
+            archive(c, s, sensorId, time, value); // 처음 보는 센서 (또는 아직 저장이 커밋되지 않은 센서)
+            c.initialized[s] = true;
+            return 0;
+        }
+        long lastTime = c.held[s] ? c.heldTime[s] : c.archivedTime[s];
+        if (time <= lastTime) {
+            c.kept.add(sensorId, time, value); // 늦게 도착한 값은 상태를 건드리지 않고 그대로 저장
+            return 0;
+        }
+        if (force || time - c.archivedTime[s] >= heartbeatMillis || Double.isNaN(c.archivedValue[s])) {
+            releaseHeld(c, s, sensorId);
+            archive(c, s, sensorId, time, value);
+            return 0;
+        }
+        if (mode == CompressionMode.DEADBAND) {
+            if (Math.abs(value - c.archivedValue[s]) > deviation) {
+                archive(c, s, sensorId, time, value);
+                return 0;
+            }
+            return 1;
+        }
+
+        // swinging-door: 마지막 저장점에서 deviation 폭으로 연 문이 닫히면 직전 측정값을 저장하고 거기서 다시 연다
+        // 이번 값까지 이은 직선이 문 안에 있어야 이번 값을 다음 저장 후보로 들고 있는다
+        // (그래야 저장점 사이의 버린 값이 모두 직선에서 deviation 안에 든다)
+        double elapsed = time - c.archivedTime[s];
+        double upper = Math.min(c.held[s] ? c.upperSlope[s] : Double.POSITIVE_INFINITY,
+                (value + deviation - c.archivedValue[s]) / elapsed);
+        double lower = Math.max(c.held[s] ? c.lowerSlope[s] : Double.NEGATIVE_INFINITY,
+                (value - deviation - c.archivedValue[s]) / elapsed);
+        int dropped = c.held[s] ? 1 : 0;
+        double slope = (value - c.archivedValue[s]) / elapsed;
+        if (c.held[s] && (lower > upper || slope > upper || slope < lower)) {
+            releaseHeld(c, s, sensorId);
+            dropped = 0;
+            elapsed = time - c.archivedTime[s];
+            upper = (value + deviation - c.archivedValue[s]) / elapsed;
+            lower = (value - deviation - c.archivedValue[s]) / elapsed;
+        }
+        c.held[s] = true;
+        c.heldTime[s] = time;
+        c.heldValue[s] = value;
+        c.upperSlope[s] = upper;
+        c.lowerSlope[s] = lower;
+        return dropped;
+    }
+
+    private void releaseHeld(Compression c, int s, long sensorId) {
+        if (c.held[s]) {
+            c.held[s] = false;
+            c.archivedTime[s] = c.heldTime[s];
+            c.archivedValue[s] = c.heldValue[s];
+            c.kept.add(sensorId, c.heldTime[s], c.heldValue[s]);
+        }
+    }
+
+    private void archive(Compression c, int s, long sensorId, long time, double value) {
+        c.held[s] = false;
+        c.archivedTime[s] = time;
+        c.archivedValue[s] = value;
+        c.kept.add(sensorId, time, value);
+    }
+
+    private double deviation(String type, double min, double max) {
+        if (type != null) {
+            double override = typeDeviations.computeIfAbsent(type, key -> environment.getProperty(
+                    "sensor.compression.types." + key.toLowerCase(Locale.ROOT) + ".deviation", Double.class, Double.NaN));
+            if (!Double.isNaN(override)) {
+                return override;
+            }
+        }
+        double range = max - min;
+        return range > 0 && !Double.isInfinite(range) ? range * deviationRatio : 0;
+    }
+
+    // 센서의 상태 번호 (처음 보는 센서면 저장된 점이 없는 상태(version 0)를 새로 만든다)
+    private int stateOf(long sensorId) {
+        int mask = keys.length - 1;
+        int slot = hash(sensorId) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == sensorId) {
+                return slots[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        int state = stateCount++;
+        if (state == archivedTime.length) {
+            growStates(state * 2);
+        }
+        keys[slot] = sensorId;
+        slots[slot] = state;
+        if (stateCount * 2 > keys.length) {
+            rehash(keys.length * 2);
+        }
+        return state;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldSlots = slots;
+        keys = new long[capacity];
+        slots = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = hash(oldKeys[i]) & mask;
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                slots[slot] = oldSlots[i];
+            }
+        }
+    }
+
+    private void growStates(int capacity) {
+        version = Arrays.copyOf(version, capacity);
+        staging = Arrays.copyOf(staging, capacity);
+        archivedTime = Arrays.copyOf(archivedTime, capacity);
+        archivedValue = Arrays.copyOf(archivedValue, capacity);
+        held = Arrays.copyOf(held, capacity);
+        heldTime = Arrays.copyOf(heldTime, capacity);
+        heldValue = Arrays.copyOf(heldValue, capacity);
+        upperSlope = Arrays.copyOf(upperSlope, capacity);
+        lowerSlope = Arrays.copyOf(lowerSlope, capacity);
+    }
+
+    /**
+     * 압축 결과: 저장할 측정값과 저장 성공 시 반영할 센서별 상태 (묶음에 나온 센서 수만큼)
+     */
+    public static final class Compression {
+
+        private final SensorReadingBatch kept;
+        private int dropped;
+        private int count;
+        private int[] states;
+        private long[] versions;
+        private boolean[] initialized;
+        private long[] archivedTime;
+        private double[] archivedValue;
+        private boolean[] held;
+        private long[] heldTime;
+        private double[] heldValue;
+        private double[] upperSlope;
+        private double[] lowerSlope;
+
+        private Compression(int capacity) {
+            kept = new SensorReadingBatch(capacity);
+            resize(Math.max(capacity, 1));
+        }
+
+        // 저장할 측정값 (실제로 저장한 뒤 commit)
+        public SensorReadingBatch kept() {
+            return kept;
+        }
+
+        // 저장하지 않고 버린 측정값 수
+        public int dropped() {
+            return dropped;
+        }
+
+        private int add(int state, long stateVersion) {
+            if (count == states.length) {
+                resize(count * 2);
+            }
+            states[count] = state;
+            versions[count] = stateVersion;
+            return count++;
+        }
+
+        private void resize(int capacity) {
+            states = states == null ? new int[capacity] : Arrays.copyOf(states, capacity);
+            versions = versions == null ? new long[capacity] : Arrays.copyOf(versions, capacity);
+            initialized = initialized == null ? new boolean[capacity] : Arrays.copyOf(initialized, capacity);
+            archivedTime = archivedTime == null ? new long[capacity] : Arrays.copyOf(archivedTime, capacity);
+            archivedValue = archivedValue == null ? new double[capacity] : Arrays.copyOf(archivedValue, capacity);
+            held = held == null ? new boolean[capacity] : Arrays.copyOf(held, capacity);
+            heldTime = heldTime == null ? new long[capacity] : Arrays.copyOf(heldTime, capacity);
+            heldValue = heldValue == null ? new double[capacity] : Arrays.copyOf(heldValue, capacity);
+            upperSlope = upperSlope == null ? new double[capacity] : Arrays.copyOf(upperSlope, capacity);
+            lowerSlope = lowerSlope == null ? new double[capacity] : Arrays.copyOf(lowerSlope, capacity);
+        }
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,60 @@
+package com.smartfactory.smartmes_insight.ingest;
+
+import java.util.Arrays;
+
+/**
+ * 측정값 묶음 (열 단위 원시 배열)
+ *
+ * 측정값마다 객체를 만들지 않도록 센서 ID / 시각(epoch ms) / 값을 각각의 배열에 담는다.
+ * 인스턴스를 비우고(clear) 다시 쓰는 용도이며 스레드 안전하지 않다.
+ */
+public final class SensorReadingBatch {
+
+    private long[] sensorIds;
+    private long[] timestamps;
+    private double[] values;
+    private int size;
+
+    public SensorReadingBatch(int capacity) {
+        this.sensorIds = new long[capacity];
+        this.timestamps = new long[capacity];
+        this.values = new double[capacity];
+    }
+
+    public void add(long sensorId, long timestampMillis, double value) {
+        if (size == sensorIds.length) {
+            int capacity = Math.max(16, size * 2);
+            sensorIds = Arrays.copyOf(sensorIds, capacity);
+            timestamps = Arrays.copyOf(timestamps, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        sensorIds[size] = sensorId;
+        timestamps[size] = timestampMillis;
+        values[size] = value;
+        size++;
+    }
+
+    public long sensorId(int index) {
+        return sensorIds[index];
+    }
+
+    public long timestamp(int index) {
+        return timestamps[index];
+    }
+
+    public double value(int index) {
+        return values[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+}
@@ -0,0 +1,116 @@
+package com.smartfactory.smartmes_insight.ingest;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 수집 대상 센서의 임계값 스냅샷 (열 단위 원시 배열)
+ *
+ * 수집 주기마다 한 번 조회해 만들고, 같은 순서로 {@link SensorReadingBatch}를 채우면
+ * 인덱스 i의 측정값과 임계값이 서로 대응한다. 판정은 박싱 없이 double 비교로만 한다.
+ * 조회 결과는 센서 ID 오름차순이어야 한다 ({@link #indexOf}가 이진 탐색).
+ */
+public final class SensorThresholds {
+
+    private final long[] sensorIds;
+    private final double[] min;
+    private final double[] max;
+    private final String[] types;
+
+    private SensorThresholds(long[] sensorIds, double[] min, double[] max, String[] types) {
+        this.sensorIds = sensorIds;
+        this.min = min;
+        this.max = max;
+        this.types = types;
+    }
+
+    /**
+     * (센서 ID, 최소 임계값, 최대 임계값[, 센서 타입]) 행 목록으로 생성 (임계값이 없으면 판정하지 않음)
+     */
+    public static SensorThresholds fromRows(List<Object[]> rows) {
+        int size = rows.size();
+        long[] sensorIds = new long[size];
+        double[] min = new double[size];
+        double[] max = new double[size];
+        String[] types = new String[size];
+        for (int i = 0; i < size; i++) {
+            Object[] row = rows.get(i);
+            sensorIds[i] = ((Number) row[0]).longValue();
+            min[i] = row[1] != null ? ((Number) row[1]).doubleValue() : Double.NEGATIVE_INFINITY;
+            max[i] = row[2] != null ? ((Number) row[2]).doubleValue() : Double.POSITIVE_INFINITY;
+            types[i] = row.length > 3 ? (String) row[3] : null;
+        }
+        return new SensorThresholds(sensorIds, min, max, types);
+    }
+
+    /**
+     * 지정한 인덱스의 센서만 모은 스냅샷 (인덱스 순서 유지)
+     */
+    public SensorThresholds select(int[] indexes, int count) {
+        long[] selectedIds = new long[count];
+        double[] selectedMin = new double[count];
+        double[] selectedMax = new double[count];
+        String[] selectedTypes = new String[count];
+        for (int i = 0; i < count; i++) {
+            int index = indexes[i];
+            selectedIds[i] = sensorIds[index];
+            selectedMin[i] = min[index];
+            selectedMax[i] = max[index];
+            selectedTypes[i] = types[index];
+        }
+        return new SensorThresholds(selectedIds, selectedMin, selectedMax, selectedTypes);
+    }
+
+    public long sensorId(int index) {
+        return sensorIds[index];
+    }
+
+    /**
+     * 센서 ID의 인덱스 (없으면 음수)
+     */
+    public int indexOf(long sensorId) {
+        return Arrays.binarySearch(sensorIds, sensorId);
+    }
+
+    public double min(int index) {
+        return min[index];
+    }
+
+    public double max(int index) {
+        return max[index];
+    }
+
+    /**
+     * 센서 타입 (조회 행에 타입이 없었으면 null)
+     */
+    public String type(int index) {
+        return types[index];
+    }
+
+    public int size() {
+        return sensorIds.length;
+    }
+
+    public boolean isEmpty() {
+        return sensorIds.length == 0;
+    }
+
+    public boolean isWithin(int index, double value) {
+        return value >= min[index] && value <= max[index];
+    }
+
+    /**
+     * from 이후 처음으로 임계값을 벗어난 측정값의 인덱스 (없으면 -1)
+     *
+     * @param batch 이 스냅샷과 같은 순서로 채운 측정값
+     */
+    public int nextViolation(SensorReadingBatch batch, int from) {
+        int size = Math.min(batch.size(), sensorIds.length);
+        for (int i = from; i < size; i++) {
+            if (!isWithin(i, batch.value(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
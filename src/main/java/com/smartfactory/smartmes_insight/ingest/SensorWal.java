@@ -0,0 +1,298 @@
+package com.smartfactory.smartmes_insight.ingest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 측정값 write-ahead 로그 (파일 계층)
+ *
+ * 고정 크기 세그먼트({@link WalSegment}) 여러 개에 레코드를 순번 순으로 이어 쓴다.
+ * 재적재가 끝난 위치는 checkpoint 파일에 기록하고, 그 앞의 세그먼트는 지운다.
+ * 재적재 위치(replayed)와 checkpoint는 따로 둔다 - 저장소가 영구 저장을 확정하기 전까지는 checkpoint를 옮기지 않는다.
+ *
+ * - 세그먼트 수는 maxSegments로 제한 (가득 차면 append가 false를 반환 - 디스크 사용량 상한)
+ * - 쓰기는 하나의 잠금으로 직렬화, 읽기/checkpoint 갱신은 재적재 스레드 하나만 수행한다고 가정
+ * - fsync는 {@link #force()}를 호출하는 쪽에서 묶어서 수행
+ */
+@Slf4j
+final class SensorWal implements AutoCloseable {
+
+    private static final String CHECKPOINT_FILE = "checkpoint";
+
+    private final Path directory;
+    private final int segmentRecords;
+    private final int maxSegments;
+
+    private final Object lock = new Object();
+    private final List<WalSegment> segments = new ArrayList<>();
+    private volatile long writeSequence;
+    private volatile long checkpoint;
+    private volatile long replayed; // 저장소에 넘긴 위치 (checkpoint 이상, 재기동하면 checkpoint부터 다시 읽음)
+    private long forcedSequence;
+
+    private SensorWal(Path directory, int segmentRecords, int maxSegments) {
+        this.directory = directory;
+        this.segmentRecords = segmentRecords;
+        this.maxSegments = maxSegments;
+    }
+
+    /**
+     * 디렉터리의 세그먼트와 checkpoint로 기록/재적재 위치 복원
+     */
+    static SensorWal open(Path directory, int segmentRecords, int maxSegments) throws IOException {
+        Files.createDirectories(directory);
+        SensorWal wal = new SensorWal(directory, segmentRecords, maxSegments);
+        List<Path> paths;
+        try (Stream<Path> stream = Files.list(directory)) {
+            paths = stream.filter(path -> path.getFileName().toString().endsWith(WalSegment.SUFFIX))
+                    .sorted(Comparator.comparing(path -> path.getFileName().toString()))
+                    .toList();
+        }
+        for (Path path : paths) {
+            wal.segments.add(WalSegment.open(path));
+        }
+
+        long checkpoint = readCheckpoint(directory);
+        if (wal.segments.isEmpty()) {
+            wal.writeSequence = checkpoint;
+        } else {
+            WalSegment tail = wal.segments.get(wal.segments.size() - 1);
+            wal.writeSequence = Math.max(checkpoint, tail.baseSequence() + tail.recoverCount());
+            checkpoint = Math.max(checkpoint, wal.segments.get(0).baseSequence());
+        }
+        wal.checkpoint = checkpoint;
+        wal.replayed = checkpoint;
+        wal.forcedSequence = wal.writeSequence;
+        wal.deleteConsumedSegments();
+        return wal;
+    }
+
+    // ========================= 쓰기 =========================
+
+    /**
+     * 레코드 추가 (fsync 없이 매핑 버퍼에만 기록)
+     *
+     * @return 세그먼트 수 상한에 도달해 기록하지 못했으면 false
+     */
+    boolean append(long sensorId, long timestampMillis, double value) throws IOException {
+        synchronized (lock) {
+            WalSegment tail = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+            if (tail == null || writeSequence >= tail.endSequence()) {
+                if (segments.size() >= maxSegments) {
+                    return false;
+                }
+                tail = WalSegment.create(directory, writeSequence, segmentRecords);
+                segments.add(tail);
+            }
+            tail.write((int) (writeSequence - tail.baseSequence()), sensorId, timestampMillis, value);
+            writeSequence++;
+            return true;
+        }
+    }
+
+    /**
+     * 마지막 force 이후 기록된 레코드를 디스크에 기록
+     *
+     * @return 이번에 기록한 레코드 수
+     */
+    long force() {
+        long target = writeSequence;
+        long from = forcedSequence;
+        if (target <= from) {
+            return 0;
+        }
+        for (WalSegment segment : snapshot()) {
+            if (segment.endSequence() > from && segment.baseSequence() < target) {
+                segment.force((int) (Math.max(from, segment.baseSequence()) - segment.baseSequence()),
+                        (int) (Math.min(target, segment.endSequence()) - segment.baseSequence()));
+            }
+        }
+        forcedSequence = target;
+        return target - from;
+    }
+
+    // ========================= 재적재 =========================
+
+    /**
+     * 재적재 위치부터 최대 max개 레코드를 batch에 담음 (CRC가 맞지 않는 레코드는 건너뜀)
+     *
+     * @return 읽고 지나간 레코드 수 (건너뛴 레코드 포함, {@link #advance}에 더할 값)
+     */
+    int read(SensorReadingBatch batch, int max) {
+        long from = replayed;
+        long to = Math.min(writeSequence, from + max);
+        List<WalSegment> snapshot = snapshot();
+        int segmentIndex = 0;
+        for (long sequence = from; sequence < to; sequence++) {
+            while (snapshot.get(segmentIndex).endSequence() <= sequence) {
+                segmentIndex++;
+            }
+            WalSegment segment = snapshot.get(segmentIndex);
+            int index = (int) (sequence - segment.baseSequence());
+            if (segment.isValid(index)) {
+                batch.add(segment.sensorId(index), segment.timestamp(index), segment.value(index));
+            }
+        }
+        return (int) (to - from);
+    }
+
+    /**
+     * 저장소에 넘긴 레코드만큼 재적재 위치 이동 (checkpoint는 그대로)
+     */
+    void advance(long count) {
+        replayed += count;
+    }
+
+    /**
+     * 재적재 위치를 checkpoint로 기록 후 모두 소비한 세그먼트 삭제 (저장소가 영구 저장을 확정한 뒤 호출)
+     */
+    void commit() throws IOException {
+        long sequence = replayed;
+        if (sequence == checkpoint) {
+            return;
+        }
+        writeCheckpoint(sequence);
+        checkpoint = sequence;
+        deleteConsumedSegments();
+    }
+
+    /**
+     * 재적재 위치 이동과 checkpoint 기록을 한 번에 (저장하면 바로 영구 저장되는 경우)
+     */
+    void commit(long count) throws IOException {
+        advance(count);
+        commit();
+    }
+
+    private void deleteConsumedSegments() throws IOException {
+        List<WalSegment> consumed = new ArrayList<>();
+        synchronized (lock) {
+            while (!segments.isEmpty() && segments.get(0).endSequence() <= checkpoint) {
+                consumed.add(segments.remove(0));
+            }
+        }
+        for (WalSegment segment : consumed) {
+            segment.close();
+            Files.deleteIfExists(segment.path());
+        }
+    }
+
+    // ========================= 상태 =========================
+
+    long writeSequence() {
+        return writeSequence;
+    }
+
+    long checkpoint() {
+        return checkpoint;
+    }
+
+    long replayed() {
+        return replayed;
+    }
+
+    // 저장소에 아직 넘기지 않은 레코드 수
+    long pending() {
+        return writeSequence - replayed;
+    }
+
+    // 저장소에 넘겼지만 checkpoint하지 않은 레코드 수
+    long uncommitted() {
+        return replayed - checkpoint;
+    }
+
+    /**
+     * 재적재되지 않은 가장 오래된 레코드의 시각 (없으면 -1)
+     */
+    long oldestPendingTimestamp() {
+        long sequence = replayed;
+        if (sequence >= writeSequence) {
+            return -1;
+        }
+        for (WalSegment segment : snapshot()) {
+            if (sequence >= segment.baseSequence() && sequence < segment.endSequence()) {
+                return segment.timestamp((int) (sequence - segment.baseSequence()));
+            }
+        }
+        return -1;
+    }
+
+    long diskBytes() {
+        long bytes = 0;
+        for (WalSegment segment : snapshot()) {
+            bytes += (long) segment.capacity() * WalSegment.RECORD_BYTES;
+        }
+        return bytes;
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        synchronized (lock) {
+            for (WalSegment segment : segments) {
+                segment.close();
+            }
+            segments.clear();
+        }
+    }
+
+    private List<WalSegment> snapshot() {
+        synchronized (lock) {
+            return new ArrayList<>(segments);
+        }
+    }
+
+    // ========================= checkpoint 파일 =========================
+
+    // sequence(8B) | CRC32(4B), 임시 파일에 쓰고 fsync 후 원자적으로 교체
+    private void writeCheckpoint(long sequence) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(12);
+        buffer.putLong(sequence).putInt(checksum(sequence)).flip();
+        Path temp = directory.resolve(CHECKPOINT_FILE + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        Files.move(temp, directory.resolve(CHECKPOINT_FILE),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static long readCheckpoint(Path directory) throws IOException {
+        Path path = directory.resolve(CHECKPOINT_FILE);
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+        if (buffer.remaining() != 12) {
+            log.warn("⚠️ WAL checkpoint 손상 - 처음부터 재적재: {}", path);
+            return 0;
+        }
+        long sequence = buffer.getLong();
+        if (buffer.getInt() != checksum(sequence)) {
+            log.warn("⚠️ WAL checkpoint 손상 - 처음부터 재적재: {}", path);
+            return 0;
+        }
+        return sequence;
+    }
+
+    private static int checksum(long sequence) {
+        CRC32 crc = new CRC32();
+        crc.update(ByteBuffer.allocate(8).putLong(sequence).array());
+        return (int) crc.getValue();
+    }
+}
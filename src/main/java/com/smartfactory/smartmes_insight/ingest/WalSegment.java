@@ -0,0 +1,133 @@
+package com.smartfactory.smartmes_insight.ingest;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * WAL 세그먼트 파일 하나 (고정 크기, 읽기/쓰기 메모리 매핑)
+ *
+ * 레코드는 고정 길이 {@link #RECORD_BYTES}바이트이며 세그먼트 안 위치는 (순번 - baseSequence)로 정해진다.
+ * <pre>
+ *   sensorId(8B) | 시각 epoch ms(8B) | 값(8B) | CRC32(4B)
+ * </pre>
+ * 파일은 만들 때 전체 크기로 매핑되어 0으로 채워지므로, CRC가 맞지 않는 첫 레코드가 기록의 끝이다.
+ */
+final class WalSegment {
+
+    static final int RECORD_BYTES = 28;
+    static final String SUFFIX = ".wal";
+
+    private final Path path;
+    private final long baseSequence;
+    private final int capacity;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+
+    private WalSegment(Path path, long baseSequence, int capacity, FileChannel channel) throws IOException {
+        this.path = path;
+        this.baseSequence = baseSequence;
+        this.capacity = capacity;
+        this.channel = channel;
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) capacity * RECORD_BYTES);
+    }
+
+    static WalSegment create(Path directory, long baseSequence, int capacity) throws IOException {
+        Path path = directory.resolve(fileName(baseSequence));
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new WalSegment(path, baseSequence, capacity, channel);
+    }
+
+    // 크기는 파일에서 읽으므로 segment-bytes 설정이 바뀌어도 기존 세그먼트를 그대로 읽는다
+    static WalSegment open(Path path) throws IOException {
+        String name = path.getFileName().toString();
+        long baseSequence = Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            return new WalSegment(path, baseSequence, (int) (channel.size() / RECORD_BYTES), channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    static String fileName(long baseSequence) {
+        return String.format("%020d%s", baseSequence, SUFFIX);
+    }
+
+    /**
+     * 앞에서부터 CRC가 맞는 레코드 수 (재시작 시 기록 위치 복원)
+     */
+    int recoverCount() {
+        int count = 0;
+        while (count < capacity && isValid(count)) {
+            count++;
+        }
+        return count;
+    }
+
+    void write(int index, long sensorId, long timestampMillis, double value) {
+        int offset = index * RECORD_BYTES;
+        buffer.putLong(offset, sensorId);
+        buffer.putLong(offset + 8, timestampMillis);
+        buffer.putDouble(offset + 16, value);
+        buffer.putInt(offset + 24, checksum(offset));
+    }
+
+    long sensorId(int index) {
+        return buffer.getLong(index * RECORD_BYTES);
+    }
+
+    long timestamp(int index) {
+        return buffer.getLong(index * RECORD_BYTES + 8);
+    }
+
+    double value(int index) {
+        return buffer.getDouble(index * RECORD_BYTES + 16);
+    }
+
+    boolean isValid(int index) {
+        int offset = index * RECORD_BYTES;
+        return buffer.getInt(offset + 24) == checksum(offset);
+    }
+
+    /**
+     * [from, to) 레코드를 디스크에 기록 (fsync)
+     */
+    void force(int from, int to) {
+        if (to > from) {
+            buffer.force(from * RECORD_BYTES, (to - from) * RECORD_BYTES);
+        }
+    }
+
+    long baseSequence() {
+        return baseSequence;
+    }
+
+    long endSequence() {
+        return baseSequence + capacity;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    void close() throws IOException {
+        channel.close();
+    }
+
+    // 레코드 앞 24바이트의 CRC32 (매핑 버퍼에서 바로 계산)
+    private int checksum(int offset) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(offset, RECORD_BYTES - 4));
+        return (int) crc.getValue();
+    }
+}
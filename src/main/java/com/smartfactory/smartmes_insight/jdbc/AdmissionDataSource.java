@@ -0,0 +1,100 @@
+package com.smartfactory.smartmes_insight.jdbc;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 연결을 꺼내기 전에 작업 분류별 permit을 얻고, 연결을 닫을 때 반납하는 DataSource
+ * (종료 시 close는 대상 풀로 전달)
+ */
+class AdmissionDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private final ObjectProvider<ConnectionAdmission> admissionProvider;
+    private volatile ConnectionAdmission admission;
+
+    AdmissionDataSource(DataSource targetDataSource, ObjectProvider<ConnectionAdmission> admissionProvider) {
+        super(targetDataSource);
+        this.admissionProvider = admissionProvider;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        ConnectionAdmission.Permit permit = admission().acquire();
+        try {
+            return wrap(obtainTargetDataSource().getConnection(), permit);
+        } catch (SQLException | RuntimeException e) {
+            permit.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        ConnectionAdmission.Permit permit = admission().acquire();
+        try {
+            return wrap(obtainTargetDataSource().getConnection(username, password), permit);
+        } catch (SQLException | RuntimeException e) {
+            permit.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private ConnectionAdmission admission() {
+        ConnectionAdmission resolved = admission;
+        if (resolved == null) {
+            resolved = admissionProvider.getObject();
+            admission = resolved;
+        }
+        return resolved;
+    }
+
+    private static Connection wrap(Connection connection, ConnectionAdmission.Permit permit) {
+        if (permit.isNone()) {
+            return connection;
+        }
+        return (Connection) Proxy.newProxyInstance(AdmissionDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new PermitReleasingHandler(connection, permit));
+    }
+
+    private record PermitReleasingHandler(Connection target, ConnectionAdmission.Permit permit)
+            implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "close":
+                    try {
+                        target.close();
+                    } finally {
+                        permit.release();
+                    }
+                    return null;
+                default:
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+            }
+        }
+    }
+}
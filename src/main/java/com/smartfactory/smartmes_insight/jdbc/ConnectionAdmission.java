@@ -0,0 +1,219 @@
+package com.smartfactory.smartmes_insight.jdbc;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 🚦 DB 연결 허용 제어 (작업 분류별 permit)
+ *
+ * 하나의 Hikari 풀을 수집(INGEST) / API / 배치(BATCH) 분류로 나누어,
+ * 분류별로 동시에 쥘 수 있는 연결 수를 db.admission.{분류}.permits로 제한한다.
+ * 긴 API 조회가 풀을 모두 차지해도 수집 작업은 자기 몫의 연결을 기다리지 않고 얻는다.
+ *
+ * - 분류는 현재 스레드에 바인딩된 값 (HTTP 인터셉터, @Scheduled/@Async 애스펙트, 전용 스레드)
+ * - 바인딩이 없는 스레드(기동, 필터 등)는 제한 없이 통과
+ * - 이미 연결을 쥔 스레드의 추가 연결(REQUIRES_NEW 등)은 대기 없이 허용 (자기 교착 방지)
+ * - 대기 시간 초과 시 SQLTransientConnectionException (Hikari 타임아웃과 동일 유형)
+ *
+ * 지표: db.admission.wait (Timer), db.admission.rejected (Counter),
+ *       db.admission.active / db.admission.permits (Gauge), 모두 workload 태그
+ */
+@Slf4j
+@Component
+public class ConnectionAdmission {
+
+    private final boolean enabled;
+    private final Map<DbWorkload, Partition> partitions = new EnumMap<>(DbWorkload.class);
+
+    private final ThreadLocal<DbWorkload> bound = new ThreadLocal<>();
+    private final ThreadLocal<int[]> held = ThreadLocal.withInitial(() -> new int[1]);
+
+    public ConnectionAdmission(Environment environment, MeterRegistry meterRegistry) {
+        this.enabled = environment.getProperty("db.admission.enabled", Boolean.class, true);
+
+        int totalPermits = 0;
+        for (DbWorkload workload : DbWorkload.values()) {
+            String prefix = "db.admission." + workload.tagValue();
+            int permits = environment.getProperty(prefix + ".permits", Integer.class, 4);
+            long timeoutMillis = environment.getProperty(prefix + ".timeout-ms", Long.class, 3000L);
+            partitions.put(workload, new Partition(workload, permits, timeoutMillis, meterRegistry));
+            totalPermits += permits;
+        }
+
+        int poolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+        log.info("🚦 DB 연결 허용 설정: enabled={}, ingest={}, api={}, batch={} (풀 크기 {})", enabled,
+                partitions.get(DbWorkload.INGEST).permits, partitions.get(DbWorkload.API).permits,
+                partitions.get(DbWorkload.BATCH).permits, poolSize);
+        if (enabled && totalPermits > poolSize) {
+            log.warn("⚠️ 분류별 permit 합계({})가 풀 크기({})보다 큽니다 - 분류 간 격리가 보장되지 않습니다",
+                    totalPermits, poolSize);
+        }
+    }
+
+    // ========================= 작업 분류 바인딩 =========================
+
+    /**
+     * 현재 스레드의 작업 분류 지정 - 이미 바인딩되어 있으면 바깥 분류를 유지한다
+     */
+    public Binding bind(DbWorkload workload) {
+        if (bound.get() != null) {
+            return Binding.NESTED;
+        }
+        bound.set(workload);
+        return new Binding(bound);
+    }
+
+    // ========================= 연결 허용 =========================
+
+    Permit acquire() throws SQLException {
+        DbWorkload workload = bound.get();
+        if (!enabled || workload == null) {
+            return Permit.NONE;
+        }
+
+        int[] count = held.get();
+        if (count[0] > 0) {
+            count[0]++;
+            return new Permit(null, count);
+        }
+
+        Partition partition = partitions.get(workload);
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = partition.semaphore.tryAcquire(partition.timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("DB 연결 대기 중 인터럽트: workload=" + workload.tagValue());
+        } finally {
+            partition.waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        if (!acquired) {
+            partition.rejected.increment();
+            log.warn("🚦 DB 연결 허용 대기 시간 초과: workload={}, permits={}, timeout={}ms",
+                    workload.tagValue(), partition.permits, partition.timeoutMillis);
+            throw new SQLTransientConnectionException("DB 연결 허용 대기 시간 초과: workload=" + workload.tagValue());
+        }
+
+        count[0]++;
+        return new Permit(partition, count);
+    }
+
+    /**
+     * 📊 분류별 사용 현황
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        partitions.forEach((workload, partition) -> stats.put(workload.tagValue(), Map.of(
+                "permits", partition.permits,
+                "active", partition.active(),
+                "waitCount", partition.waitTimer.count(),
+                "waitMeanMillis", partition.waitTimer.mean(TimeUnit.MILLISECONDS),
+                "waitMaxMillis", partition.waitTimer.max(TimeUnit.MILLISECONDS),
+                "rejected", (long) partition.rejected.count()
+        )));
+        return stats;
+    }
+
+    /**
+     * 작업 분류 바인딩 (try-with-resources로 사용)
+     */
+    public static final class Binding implements AutoCloseable {
+
+        private static final Binding NESTED = new Binding(null);
+
+        private final ThreadLocal<DbWorkload> owner;
+
+        private Binding(ThreadLocal<DbWorkload> owner) {
+            this.owner = owner;
+        }
+
+        @Override
+        public void close() {
+            if (owner != null) {
+                owner.remove();
+            }
+        }
+    }
+
+    /**
+     * 연결 1개에 대한 허용 (연결 close 시 1회만 반납)
+     */
+    static final class Permit {
+
+        static final Permit NONE = new Permit(null, null);
+
+        private final Partition partition;
+        private final int[] heldCount;
+        private boolean released;
+
+        private Permit(Partition partition, int[] heldCount) {
+            this.partition = partition;
+            this.heldCount = heldCount;
+        }
+
+        boolean isNone() {
+            return this == NONE;
+        }
+
+        synchronized void release() {
+            if (released || heldCount == null) {
+                return;
+            }
+            released = true;
+            heldCount[0]--;
+            if (partition != null) {
+                partition.semaphore.release();
+            }
+        }
+    }
+
+    private static final class Partition {
+        private final int permits;
+        private final long timeoutMillis;
+        private final Semaphore semaphore;
+        private final Timer waitTimer;
+        private final Counter rejected;
+
+        private Partition(DbWorkload workload, int permits, long timeoutMillis, MeterRegistry registry) {
+            this.permits = permits;
+            this.timeoutMillis = timeoutMillis;
+            this.semaphore = new Semaphore(permits, true);
+            this.waitTimer = Timer.builder("db.admission.wait")
+                    .description("DB 연결 허용 대기 시간")
+                    .tag("workload", workload.tagValue())
+                    .register(registry);
+            this.rejected = Counter.builder("db.admission.rejected")
+                    .description("대기 시간 초과로 거절된 연결 요청 수")
+                    .tag("workload", workload.tagValue())
+                    .register(registry);
+            Gauge.builder("db.admission.active", this, Partition::active)
+                    .description("사용 중인 permit 수")
+                    .tag("workload", workload.tagValue())
+                    .register(registry);
+            Gauge.builder("db.admission.permits", this, partition -> partition.permits)
+                    .description("설정된 permit 수")
+                    .tag("workload", workload.tagValue())
+                    .register(registry);
+        }
+
+        private int active() {
+            return permits - semaphore.availablePermits();
+        }
+    }
+}
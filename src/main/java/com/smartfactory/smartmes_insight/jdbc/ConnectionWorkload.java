@@ -0,0 +1,19 @@
+package com.smartfactory.smartmes_insight.jdbc;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 기본 분류 대신 사용할 DB 작업 분류 지정
+ * (컨트롤러 메서드 기본값 API, @Scheduled/@Async 메서드 기본값 BATCH)
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface ConnectionWorkload {
+
+    DbWorkload value();
+}
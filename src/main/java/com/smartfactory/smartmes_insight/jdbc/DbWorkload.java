@@ -0,0 +1,18 @@
+package com.smartfactory.smartmes_insight.jdbc;
+
+/**
+ * DB 연결 사용 작업 분류 (분류별로 연결 허용 수를 따로 둔다)
+ *
+ * - INGEST: 센서 데이터 수집 (스케줄러, 수동 저장 API)
+ * - API: HTTP 요청 처리 (조회/등록)
+ * - BATCH: 체크포인트, 감사 로그 flush, 정리 작업, 비동기 후처리
+ */
+public enum DbWorkload {
+    INGEST,
+    API,
+    BATCH;
+
+    String tagValue() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,158 @@
+package com.smartfactory.smartmes_insight.jdbc;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 📊 JDBC 실행 지표 (HTTP 엔드포인트 / 스케줄 작업 단위)
+ *
+ * 현재 스레드의 작업 단위(scope)를 ThreadLocal로 보관하고, datasource-proxy 리스너가
+ * 보고하는 SQL 실행 시간과 반환 행 수를 해당 scope에 누적한다.
+ * scope가 닫힐 때 작업 1건당 SQL 수/행 수/JDBC 시간을 Micrometer로 기록한다.
+ *
+ * - jdbc.statements (Timer)      : SQL 1회 실행 시간, scope 태그
+ * - jdbc.rows (Counter)          : 반환 행 수
+ * - jdbc.scope.statements (Summary) : 작업 1건당 SQL 수
+ * - jdbc.scope.rows (Summary)    : 작업 1건당 반환 행 수
+ * - jdbc.scope.time (Timer)      : 작업 1건당 JDBC 누적 시간
+ * - jdbc.slow (Counter)          : 느린 SQL 수
+ *
+ * scope 밖(필터, 전용 스레드 등)에서 실행된 SQL은 "unscoped"로 집계한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class JdbcMetrics {
+
+    static final String UNSCOPED = "unscoped";
+
+    private final MeterRegistry meterRegistry;
+
+    private final ThreadLocal<Scope> current = new ThreadLocal<>();
+    private final Map<String, ScopeMeters> meters = new ConcurrentHashMap<>();
+
+    /**
+     * 작업 단위 시작 - 이미 열린 scope가 있으면 바깥 scope에 합산한다
+     */
+    public Scope open(String name) {
+        if (current.get() != null) {
+            return Scope.NESTED;
+        }
+        Scope scope = new Scope(this, name);
+        current.set(scope);
+        return scope;
+    }
+
+    String currentScopeName() {
+        Scope scope = current.get();
+        return scope != null ? scope.name : UNSCOPED;
+    }
+
+    // ========================= 리스너 보고 =========================
+
+    void recordStatement(long elapsedNanos, boolean slow) {
+        Scope scope = current.get();
+        ScopeMeters scopeMeters = meters(scope != null ? scope.name : UNSCOPED);
+        scopeMeters.statements.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        if (slow) {
+            scopeMeters.slow.increment();
+        }
+        if (scope != null) {
+            scope.statements++;
+            scope.jdbcNanos += elapsedNanos;
+        }
+    }
+
+    void recordRow() {
+        Scope scope = current.get();
+        if (scope != null) {
+            scope.rows++;
+        } else {
+            meters(UNSCOPED).rows.increment();
+        }
+    }
+
+    private void close(Scope scope) {
+        current.remove();
+        ScopeMeters scopeMeters = meters(scope.name);
+        scopeMeters.scopeStatements.record(scope.statements);
+        scopeMeters.scopeRows.record(scope.rows);
+        scopeMeters.scopeTime.record(scope.jdbcNanos, TimeUnit.NANOSECONDS);
+        if (scope.rows > 0) {
+            scopeMeters.rows.increment(scope.rows);
+        }
+    }
+
+    private ScopeMeters meters(String scope) {
+        return meters.computeIfAbsent(scope, name -> new ScopeMeters(meterRegistry, name));
+    }
+
+    /**
+     * 작업 단위 (try-with-resources로 사용)
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private static final Scope NESTED = new Scope(null, null);
+
+        private final JdbcMetrics owner;
+        private final String name;
+        private long statements;
+        private long rows;
+        private long jdbcNanos;
+
+        private Scope(JdbcMetrics owner, String name) {
+            this.owner = owner;
+            this.name = name;
+        }
+
+        @Override
+        public void close() {
+            if (owner != null) {
+                owner.close(this);
+            }
+        }
+    }
+
+    private static final class ScopeMeters {
+        private final Timer statements;
+        private final Counter rows;
+        private final Counter slow;
+        private final DistributionSummary scopeStatements;
+        private final DistributionSummary scopeRows;
+        private final Timer scopeTime;
+
+        private ScopeMeters(MeterRegistry registry, String scope) {
+            this.statements = Timer.builder("jdbc.statements")
+                    .description("SQL 실행 시간")
+                    .tag("scope", scope)
+                    .register(registry);
+            this.rows = Counter.builder("jdbc.rows")
+                    .description("SQL 반환 행 수")
+                    .tag("scope", scope)
+                    .register(registry);
+            this.slow = Counter.builder("jdbc.slow")
+                    .description("느린 SQL 수")
+                    .tag("scope", scope)
+                    .register(registry);
+            this.scopeStatements = DistributionSummary.builder("jdbc.scope.statements")
+                    .description("작업 1건당 SQL 수")
+                    .tag("scope", scope)
+                    .register(registry);
+            this.scopeRows = DistributionSummary.builder("jdbc.scope.rows")
+                    .description("작업 1건당 반환 행 수")
+                    .tag("scope", scope)
+                    .register(registry);
+            this.scopeTime = Timer.builder("jdbc.scope.time")
+                    .description("작업 1건당 JDBC 누적 시간")
+                    .tag("scope", scope)
+                    .register(registry);
+        }
+    }
+}
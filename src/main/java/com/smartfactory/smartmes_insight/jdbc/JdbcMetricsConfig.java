@@ -0,0 +1,59 @@
+package com.smartfactory.smartmes_insight.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * JDBC 계측 / 연결 허용 설정
+ * DataSource 빈을 연결 허용(AdmissionDataSource) → datasource-proxy 순으로 감싸고,
+ * HTTP 요청 단위 scope/작업 분류 인터셉터를 등록한다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class JdbcMetricsConfig implements WebMvcConfigurer {
+
+    private final JdbcMetrics jdbcMetrics;
+    private final ConnectionAdmission connectionAdmission;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new JdbcScopeInterceptor(jdbcMetrics, connectionAdmission));
+    }
+
+    /**
+     * DataSource 프록시 등록 (BeanPostProcessor는 다른 빈보다 먼저 생성되므로 static + 지연 조회)
+     * SQL 시간에 permit 대기가 섞이지 않도록 계측 프록시가 바깥, 연결 허용이 안쪽이다.
+     */
+    @Bean
+    public static BeanPostProcessor jdbcMetricsDataSourcePostProcessor(ObjectProvider<JdbcMetrics> jdbcMetrics,
+                                                                       ObjectProvider<ConnectionAdmission> connectionAdmission,
+                                                                       Environment environment) {
+        long slowQueryMillis = environment.getProperty("jdbc.metrics.slow-query-ms", Long.class, 500L);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    JdbcMetricsListener listener = new JdbcMetricsListener(jdbcMetrics, slowQueryMillis);
+                    DataSource admitted = new AdmissionDataSource(dataSource, connectionAdmission);
+                    return ProxyDataSourceBuilder.create(beanName, admitted)
+                            .listener(listener)
+                            .methodListener(listener)
+                            .proxyResultSet()
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,105 @@
+package com.smartfactory.smartmes_insight.jdbc;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * datasource-proxy 리스너 - SQL 실행 시간, 반환 행 수를 JdbcMetrics에 보고하고 느린 SQL을 파라미터와 함께 기록
+ */
+@Slf4j
+class JdbcMetricsListener implements QueryExecutionListener, MethodExecutionListener {
+
+    private static final String START_NANOS = "startNanos";
+    private static final int MAX_PARAMETER_LENGTH = 100;
+
+    private final ObjectProvider<JdbcMetrics> metricsProvider;
+    private final long slowQueryNanos;
+    private volatile JdbcMetrics metrics;
+
+    JdbcMetricsListener(ObjectProvider<JdbcMetrics> metricsProvider, long slowQueryMillis) {
+        this.metricsProvider = metricsProvider;
+        this.slowQueryNanos = TimeUnit.MILLISECONDS.toNanos(slowQueryMillis);
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long start = execInfo.getCustomValue(START_NANOS, Long.class);
+        long elapsedNanos = start != null ? System.nanoTime() - start : TimeUnit.MILLISECONDS.toNanos(execInfo.getElapsedTime());
+        boolean slow = elapsedNanos >= slowQueryNanos;
+
+        JdbcMetrics jdbcMetrics = metrics();
+        if (jdbcMetrics == null) {
+            return;
+        }
+        jdbcMetrics.recordStatement(elapsedNanos, slow);
+
+        if (slow) {
+            log.warn("🐢 느린 SQL [{}] {}ms{}: {} params={}",
+                    jdbcMetrics.currentScopeName(),
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    execInfo.isBatch() ? " (batch " + execInfo.getBatchSize() + ")" : "",
+                    queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; ")),
+                    formatParameters(queryInfoList));
+        }
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        // ResultSet.next()가 true를 반환한 횟수 = 반환 행 수
+        if (executionContext.getTarget() instanceof ResultSet
+                && "next".equals(executionContext.getMethod().getName())
+                && Boolean.TRUE.equals(executionContext.getResult())) {
+            JdbcMetrics jdbcMetrics = metrics();
+            if (jdbcMetrics != null) {
+                jdbcMetrics.recordRow();
+            }
+        }
+    }
+
+    private JdbcMetrics metrics() {
+        JdbcMetrics resolved = metrics;
+        if (resolved == null) {
+            resolved = metricsProvider.getIfAvailable();
+            metrics = resolved;
+        }
+        return resolved;
+    }
+
+    private static String formatParameters(List<QueryInfo> queryInfoList) {
+        return queryInfoList.stream()
+                .flatMap(queryInfo -> queryInfo.getParametersList().stream())
+                .limit(10)
+                .map(JdbcMetricsListener::formatParameterSet)
+                .collect(Collectors.joining(", "));
+    }
+
+    private static String formatParameterSet(List<ParameterSetOperation> operations) {
+        return operations.stream()
+                .map(operation -> {
+                    Object[] args = operation.getArgs();
+                    String value = args.length > 1 ? String.valueOf(args[1]) : "";
+                    return value.length() > MAX_PARAMETER_LENGTH ? value.substring(0, MAX_PARAMETER_LENGTH) + "…" : value;
+                })
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+}
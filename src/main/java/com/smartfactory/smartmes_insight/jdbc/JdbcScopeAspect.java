@@ -0,0 +1,47 @@
+package com.smartfactory.smartmes_insight.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스케줄 작업(@Scheduled)과 비동기 작업(@Async) 단위 JDBC scope
+ * ("job:SensorMonitoringScheduler.monitorSensors", "async:AlertEventListener.handleAlertCreated")
+ * DB 작업 분류는 @ConnectionWorkload가 있으면 그 값, 없으면 BATCH로 지정한다.
+ *
+ * @Async 어드바이스가 먼저 적용되므로 scope는 실제 작업이 실행되는 풀 스레드에서 열린다.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class JdbcScopeAspect {
+
+    private final JdbcMetrics jdbcMetrics;
+    private final ConnectionAdmission connectionAdmission;
+
+    @Around("@annotation(org.springframework.scheduling.annotation.Scheduled) " +
+            "|| @annotation(org.springframework.scheduling.annotation.Async)")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        String prefix = signature.getMethod().isAnnotationPresent(Scheduled.class) ? "job:" : "async:";
+        String name = prefix + signature.getDeclaringType().getSimpleName() + "." + signature.getName();
+
+        try (JdbcMetrics.Scope ignored = jdbcMetrics.open(name);
+             ConnectionAdmission.Binding binding = connectionAdmission.bind(workloadOf(signature))) {
+            return joinPoint.proceed();
+        }
+    }
+
+    private static DbWorkload workloadOf(MethodSignature signature) {
+        ConnectionWorkload annotation = AnnotatedElementUtils.findMergedAnnotation(signature.getMethod(), ConnectionWorkload.class);
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(signature.getDeclaringType(), ConnectionWorkload.class);
+        }
+        return annotation != null ? annotation.value() : DbWorkload.BATCH;
+    }
+}
@@ -0,0 +1,68 @@
+package com.smartfactory.smartmes_insight.jdbc;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * HTTP 요청 단위 JDBC scope ("GET /api/alerts/{id}" 형태, URI 패턴 기준으로 태그 수 제한)
+ * 요청 스레드의 DB 작업 분류도 함께 지정한다 (기본 API, 핸들러의 @ConnectionWorkload 우선).
+ */
+@RequiredArgsConstructor
+class JdbcScopeInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String SCOPE_ATTRIBUTE = JdbcScopeInterceptor.class.getName() + ".scope";
+    private static final String WORKLOAD_ATTRIBUTE = JdbcScopeInterceptor.class.getName() + ".workload";
+
+    private final JdbcMetrics jdbcMetrics;
+    private final ConnectionAdmission connectionAdmission;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String name = request.getMethod() + " " + (pattern != null ? pattern : "UNMAPPED");
+        request.setAttribute(SCOPE_ATTRIBUTE, jdbcMetrics.open(name));
+        request.setAttribute(WORKLOAD_ATTRIBUTE, connectionAdmission.bind(workloadOf(handler)));
+        return true;
+    }
+
+    private static DbWorkload workloadOf(Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            ConnectionWorkload annotation = handlerMethod.getMethodAnnotation(ConnectionWorkload.class);
+            if (annotation == null) {
+                annotation = handlerMethod.getBeanType().getAnnotation(ConnectionWorkload.class);
+            }
+            if (annotation != null) {
+                return annotation.value();
+            }
+        }
+        return DbWorkload.API;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        closeScope(request);
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 비동기 처리로 넘어가면 요청 스레드의 scope는 여기서 닫는다
+        closeScope(request);
+    }
+
+    private static void closeScope(HttpServletRequest request) {
+        Object scope = request.getAttribute(SCOPE_ATTRIBUTE);
+        if (scope instanceof JdbcMetrics.Scope jdbcScope) {
+            request.removeAttribute(SCOPE_ATTRIBUTE);
+            jdbcScope.close();
+        }
+        Object binding = request.getAttribute(WORKLOAD_ATTRIBUTE);
+        if (binding instanceof ConnectionAdmission.Binding workloadBinding) {
+            request.removeAttribute(WORKLOAD_ATTRIBUTE);
+            workloadBinding.close();
+        }
+    }
+}
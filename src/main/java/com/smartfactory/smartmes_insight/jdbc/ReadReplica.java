@@ -0,0 +1,128 @@
+package com.smartfactory.smartmes_insight.jdbc;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 📖 읽기 전용 복제본 풀과 복제 지연 상태
+ *
+ * db.replica.lag-query로 복제 지연을 주기적으로 확인하고,
+ * 지연이 db.replica.max-lag-ms 이하일 때만 읽기 전용 트랜잭션을 복제본으로 보낸다.
+ *
+ * - 기본 쿼리는 MySQL "SHOW REPLICA STATUS" (Seconds_Behind_Source 컬럼, 초 단위)
+ * - 그 외 쿼리는 첫 번째 컬럼을 밀리초 지연으로 해석 (하트비트 테이블 등)
+ * - 결과가 없거나 NULL이면 복제 중이 아닌 것으로 보고 주 DB 사용
+ * - 확인 실패 / 연결 실패 시에도 다음 확인까지 주 DB 사용
+ */
+@Slf4j
+public class ReadReplica implements AutoCloseable {
+
+    private static final String MYSQL_LAG_COLUMN = "Seconds_Behind_Source";
+
+    private final HikariDataSource dataSource;
+    private final String lagQuery;
+    private final long maxLagMillis;
+
+    private volatile boolean available;
+    private volatile long lagMillis = -1;
+
+    public ReadReplica(HikariDataSource dataSource, String lagQuery, long maxLagMillis, MeterRegistry meterRegistry) {
+        this.dataSource = dataSource;
+        this.lagQuery = lagQuery;
+        this.maxLagMillis = maxLagMillis;
+
+        Gauge.builder("db.replica.lag", this, replica -> replica.lagMillis)
+                .description("복제 지연 (ms, 확인 불가 시 -1)")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("db.replica.available", this, replica -> replica.available ? 1 : 0)
+                .description("읽기 전용 트랜잭션의 복제본 사용 여부")
+                .register(meterRegistry);
+    }
+
+    DataSource getDataSource() {
+        return dataSource;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public long getLagMillis() {
+        return lagMillis;
+    }
+
+    /**
+     * 복제 지연 확인
+     */
+    @Scheduled(fixedDelayString = "${db.replica.lag-check-interval-ms:5000}")
+    public void checkLag() {
+        Long lag;
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            lag = readLagMillis(resultSet);
+        } catch (SQLException e) {
+            lagMillis = -1;
+            updateAvailability(false, "확인 실패: " + e.getMessage());
+            return;
+        }
+
+        lagMillis = lag != null ? lag : -1;
+        if (lag == null) {
+            updateAvailability(false, "복제 상태 없음");
+        } else if (lag > maxLagMillis) {
+            updateAvailability(false, "지연 " + lag + "ms > 허용 " + maxLagMillis + "ms");
+        } else {
+            updateAvailability(true, "지연 " + lag + "ms");
+        }
+    }
+
+    /**
+     * 복제본 연결 실패 시 다음 확인까지 주 DB로 전환
+     */
+    void markUnavailable(SQLException cause) {
+        updateAvailability(false, "연결 실패: " + cause.getMessage());
+    }
+
+    private void updateAvailability(boolean nowAvailable, String reason) {
+        if (available != nowAvailable) {
+            if (nowAvailable) {
+                log.info("📖 복제본 읽기 재개: {}", reason);
+            } else {
+                log.warn("⚠️ 복제본 읽기 중단 - 주 DB로 전환: {}", reason);
+            }
+        }
+        available = nowAvailable;
+    }
+
+    private static Long readLagMillis(ResultSet resultSet) throws SQLException {
+        if (!resultSet.next()) {
+            return null;
+        }
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            if (MYSQL_LAG_COLUMN.equalsIgnoreCase(metaData.getColumnLabel(i))) {
+                long seconds = resultSet.getLong(i);
+                return resultSet.wasNull() ? null : seconds * 1000;
+            }
+        }
+        long millis = resultSet.getLong(1);
+        return resultSet.wasNull() ? null : millis;
+    }
+
+    @Override
+    public void close() {
+        dataSource.close();
+    }
+}
@@ -0,0 +1,58 @@
+package com.smartfactory.smartmes_insight.jdbc;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기 복제본 설정 (db.replica.enabled=true일 때만)
+ *
+ * 주 DB(spring.datasource.*)와 복제본(db.replica.*) 풀을 만들고
+ * 둘을 감싼 ReadWriteRoutingDataSource 하나만 DataSource 빈으로 등록한다.
+ * (JDBC 계측/연결 허용 래핑은 이 최상위 빈에만 한 번 적용된다)
+ */
+@Configuration
+@ConditionalOnProperty(name = "db.replica.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean
+    public ReadReplica readReplica(Environment environment, MeterRegistry meterRegistry) {
+        HikariDataSource pool = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(environment.getRequiredProperty("db.replica.url"))
+                .username(environment.getProperty("db.replica.username",
+                        environment.getProperty("spring.datasource.username")))
+                .password(environment.getProperty("db.replica.password",
+                        environment.getProperty("spring.datasource.password")))
+                .driverClassName(environment.getProperty("db.replica.driver-class-name",
+                        environment.getProperty("spring.datasource.driver-class-name")))
+                .build();
+        pool.setPoolName("smartmes-replica");
+        Binder.get(environment).bind("db.replica.hikari", Bindable.ofInstance(pool));
+        pool.setMetricRegistry(meterRegistry);
+
+        return new ReadReplica(pool,
+                environment.getProperty("db.replica.lag-query", "SHOW REPLICA STATUS"),
+                environment.getProperty("db.replica.max-lag-ms", Long.class, 3000L),
+                meterRegistry);
+    }
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties, Environment environment,
+                                 ReadReplica readReplica, MeterRegistry meterRegistry) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        return new ReadWriteRoutingDataSource(primary, readReplica, meterRegistry);
+    }
+}
@@ -0,0 +1,79 @@
+package com.smartfactory.smartmes_insight.jdbc;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 읽기/쓰기 분기 DataSource
+ *
+ * 실제 연결은 첫 SQL 실행 시점에 꺼내므로(LazyConnectionDataSourceProxy),
+ * 트랜잭션 시작 시 setReadOnly(true)가 걸린 연결(@Transactional(readOnly = true))은 복제본에서,
+ * 나머지는 주 DB에서 가져온다. 복제본이 지연/장애 상태이면 읽기도 주 DB로 보낸다.
+ */
+public class ReadWriteRoutingDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+    private final HikariDataSource primary;
+
+    public ReadWriteRoutingDataSource(HikariDataSource primary, ReadReplica replica, MeterRegistry meterRegistry) {
+        super(primary);
+        this.primary = primary;
+        setReadOnlyDataSource(new ReplicaOrPrimaryDataSource(primary, replica, meterRegistry));
+    }
+
+    @Override
+    public void close() {
+        primary.close();
+    }
+
+    /**
+     * 읽기 전용 연결 공급 (복제본 우선, 사용 불가 시 주 DB)
+     */
+    private static final class ReplicaOrPrimaryDataSource extends AbstractDataSource {
+
+        private final HikariDataSource primary;
+        private final ReadReplica replica;
+        private final Counter replicaReads;
+        private final Counter primaryReads;
+
+        private ReplicaOrPrimaryDataSource(HikariDataSource primary, ReadReplica replica, MeterRegistry meterRegistry) {
+            this.primary = primary;
+            this.replica = replica;
+            this.replicaReads = readCounter(meterRegistry, "replica");
+            this.primaryReads = readCounter(meterRegistry, "primary");
+        }
+
+        private static Counter readCounter(MeterRegistry meterRegistry, String target) {
+            return Counter.builder("db.replica.reads")
+                    .description("읽기 전용 연결 분기 수")
+                    .tag("target", target)
+                    .register(meterRegistry);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (replica.isAvailable()) {
+                try {
+                    Connection connection = replica.getDataSource().getConnection();
+                    replicaReads.increment();
+                    return connection;
+                } catch (SQLException e) {
+                    replica.markUnavailable(e);
+                }
+            }
+            primaryReads.increment();
+            return primary.getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            primaryReads.increment();
+            return primary.getConnection(username, password);
+        }
+    }
+}
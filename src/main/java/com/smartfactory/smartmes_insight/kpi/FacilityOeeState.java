@@ -0,0 +1,238 @@
+package com.smartfactory.smartmes_insight.kpi;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 설비 한 대의 OEE 누적 상태
+ *
+ * 상태 변화(가동/정지, 작업 지시 진행/종료)가 들어올 때마다 직전 변화 이후 경과 시간을
+ * 분 단위로 나누어 최근 1시간 링 버퍼와 근무조/일자 누적치에 더한다.
+ * 조회 시에도 현재 시각까지만 진행시키므로 이력 재계산 없이 O(60)으로 스냅샷을 만든다.
+ *
+ * 모든 메서드는 설비 단위로 동기화된다 (설비 간에는 경합 없음).
+ */
+class FacilityOeeState {
+
+    private static final long MINUTE_MILLIS = 60_000L;
+    private static final int SLOTS = 60;
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final Long facilityId;
+    private final double idealUnitsPerHour;
+
+    private boolean running;
+    private final Set<Long> activeWorkOrders = new HashSet<>();
+    private long accountedUntil;
+
+    // 최근 1시간 링 버퍼 (분 단위)
+    private final long[] slotMinute = new long[SLOTS];
+    private final long[] slotRun = new long[SLOTS];
+    private final long[] slotPlanned = new long[SLOTS];
+    private final long[] slotProduced = new long[SLOTS];
+    private final long[] slotDefective = new long[SLOTS];
+
+    private final Period shift = new Period(OeeWindow.SHIFT);
+    private final Period day = new Period(OeeWindow.DAY);
+
+    FacilityOeeState(Long facilityId, double idealUnitsPerHour, long nowMillis) {
+        this.facilityId = facilityId;
+        this.idealUnitsPerHour = idealUnitsPerHour;
+        this.accountedUntil = nowMillis;
+        Arrays.fill(slotMinute, -1L);
+        shift.roll(nowMillis);
+        day.roll(nowMillis);
+    }
+
+    // ========================= 이벤트 반영 =========================
+
+    synchronized void setRunning(boolean running, long atMillis) {
+        advance(atMillis);
+        this.running = running;
+    }
+
+    synchronized void setWorkOrderActive(Long workOrderId, boolean active, long atMillis) {
+        advance(atMillis);
+        if (active) {
+            activeWorkOrders.add(workOrderId);
+        } else {
+            activeWorkOrders.remove(workOrderId);
+        }
+    }
+
+    /**
+     * 가동 여부와 진행중 작업 지시 목록을 통째로 교체 (놓친 이벤트 이후 DB 상태로 다시 맞출 때)
+     * 교체 시각까지는 기존 상태로 누적하고, 목록에 없는 작업 지시는 그 시각부터 계획 가동에서 빠진다
+     */
+    synchronized void replaceActivity(boolean running, Set<Long> workOrderIds, long atMillis) {
+        advance(atMillis);
+        this.running = running;
+        activeWorkOrders.clear();
+        activeWorkOrders.addAll(workOrderIds);
+    }
+
+    /**
+     * 생산 수량 변화 반영 - 등록 시각이 속한 구간에만 더한다 (구간 밖의 과거 실적 보정은 무시)
+     */
+    synchronized void addProduction(long produced, long defective, long recordedAtMillis, long nowMillis) {
+        advance(nowMillis);
+        long at = Math.min(recordedAtMillis, nowMillis);
+
+        long minute = at / MINUTE_MILLIS;
+        if (minute > nowMillis / MINUTE_MILLIS - SLOTS) {
+            int slot = slotFor(minute);
+            slotProduced[slot] += produced;
+            slotDefective[slot] += defective;
+        }
+        shift.addProduction(at, produced, defective);
+        day.addProduction(at, produced, defective);
+    }
+
+    // ========================= 조회 =========================
+
+    synchronized OeeSnapshot snapshot(OeeWindow window, long nowMillis) {
+        advance(nowMillis);
+        LocalDateTime asOf = toLocal(nowMillis);
+
+        return switch (window) {
+            case ROLLING_HOUR -> rollingHour(nowMillis, asOf);
+            case SHIFT -> shift.snapshot(asOf);
+            case DAY -> day.snapshot(asOf);
+        };
+    }
+
+    private OeeSnapshot rollingHour(long nowMillis, LocalDateTime asOf) {
+        long nowMinute = nowMillis / MINUTE_MILLIS;
+        long run = 0, planned = 0, produced = 0, defective = 0;
+        for (int i = 0; i < SLOTS; i++) {
+            if (slotMinute[i] > nowMinute - SLOTS && slotMinute[i] <= nowMinute) {
+                run += slotRun[i];
+                planned += slotPlanned[i];
+                produced += slotProduced[i];
+                defective += slotDefective[i];
+            }
+        }
+        LocalDateTime windowStart = toLocal((nowMinute - SLOTS + 1) * MINUTE_MILLIS);
+        return new OeeSnapshot(facilityId, OeeWindow.ROLLING_HOUR, "최근 1시간", windowStart, asOf,
+                planned, run, produced, defective, idealUnitsPerHour);
+    }
+
+    // ========================= 시간 진행 =========================
+
+    /**
+     * 직전 반영 시각부터 now까지 경과 시간을 분 경계로 나누어 누적
+     * (근무조/일자 경계는 항상 분 경계와 일치하므로 한 조각이 구간을 넘지 않는다)
+     * 가동 시간은 계획 가동 시간 안에서만 센다 (작업 지시 없이 가동한 시간은 가동률에 넣지 않음)
+     */
+    private void advance(long nowMillis) {
+        if (nowMillis > accountedUntil) {
+            // 오래 이벤트가 없었던 경우 어떤 구간에도 속하지 않는 과거는 건너뛴다
+            long t = Math.max(accountedUntil, earliestTrackedStart(nowMillis));
+            boolean planned = !activeWorkOrders.isEmpty();
+
+            while (t < nowMillis) {
+                long boundary = Math.min(nowMillis, (t / MINUTE_MILLIS + 1) * MINUTE_MILLIS);
+                long elapsed = boundary - t;
+                int slot = slotFor(t / MINUTE_MILLIS);
+                shift.rollIfNeeded(t);
+                day.rollIfNeeded(t);
+
+                if (planned) {
+                    slotPlanned[slot] += elapsed;
+                    shift.planned += elapsed;
+                    day.planned += elapsed;
+                    if (running) {
+                        slotRun[slot] += elapsed;
+                        shift.run += elapsed;
+                        day.run += elapsed;
+                    }
+                }
+                t = boundary;
+            }
+            accountedUntil = nowMillis;
+        }
+        shift.rollIfNeeded(nowMillis);
+        day.rollIfNeeded(nowMillis);
+    }
+
+    private long earliestTrackedStart(long nowMillis) {
+        LocalDateTime now = toLocal(nowMillis);
+        long shiftStart = toMillis(OeeWindow.shiftStart(now));
+        long dayStart = toMillis(now.toLocalDate().atStartOfDay());
+        long hourStart = (nowMillis / MINUTE_MILLIS - SLOTS + 1) * MINUTE_MILLIS;
+        return Math.min(hourStart, Math.min(shiftStart, dayStart));
+    }
+
+    private int slotFor(long minute) {
+        int slot = (int) (minute % SLOTS);
+        if (slotMinute[slot] != minute) {
+            slotMinute[slot] = minute;
+            slotRun[slot] = 0;
+            slotPlanned[slot] = 0;
+            slotProduced[slot] = 0;
+            slotDefective[slot] = 0;
+        }
+        return slot;
+    }
+
+    private static LocalDateTime toLocal(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZONE);
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZONE).toInstant().toEpochMilli();
+    }
+
+    /**
+     * 근무조/일자 누적 구간 (구간이 바뀌면 0부터 다시 누적)
+     */
+    private class Period {
+        private final OeeWindow window;
+        private LocalDateTime startTime;
+        private long start;
+        private long end;
+        private long run;
+        private long planned;
+        private long produced;
+        private long defective;
+
+        Period(OeeWindow window) {
+            this.window = window;
+        }
+
+        void rollIfNeeded(long millis) {
+            if (millis >= end) {
+                roll(millis);
+            }
+        }
+
+        void roll(long millis) {
+            LocalDateTime time = toLocal(millis);
+            startTime = window == OeeWindow.SHIFT ? OeeWindow.shiftStart(time) : time.toLocalDate().atStartOfDay();
+            LocalDateTime endTime = window == OeeWindow.SHIFT ? startTime.plusHours(8) : startTime.plusDays(1);
+            start = toMillis(startTime);
+            end = toMillis(endTime);
+            run = 0;
+            planned = 0;
+            produced = 0;
+            defective = 0;
+        }
+
+        void addProduction(long at, long producedDelta, long defectiveDelta) {
+            if (at >= start && at < end) {
+                produced += producedDelta;
+                defective += defectiveDelta;
+            }
+        }
+
+        OeeSnapshot snapshot(LocalDateTime asOf) {
+            String label = window == OeeWindow.SHIFT ? OeeWindow.shiftName(startTime) : startTime.toLocalDate().toString();
+            return new OeeSnapshot(facilityId, window, label, startTime, asOf,
+                    planned, run, produced, defective, idealUnitsPerHour);
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package com.smartfactory.smartmes_insight.kpi;
+
+import com.smartfactory.smartmes_insight.domain.facility.Facility;
+import com.smartfactory.smartmes_insight.domain.facility.FacilityRepository;
+import com.smartfactory.smartmes_insight.domain.workorder.WorkOrder;
+import com.smartfactory.smartmes_insight.domain.workorder.WorkOrderRepository;
+import com.smartfactory.smartmes_insight.event.DomainEvent;
+import com.smartfactory.smartmes_insight.event.DomainEventBus;
+import com.smartfactory.smartmes_insight.event.DomainEventRecord;
+import com.smartfactory.smartmes_insight.event.DomainEventSubscriber;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * ⚙️ 스트리밍 OEE 엔진
+ *
+ * 설비 가동/정지, 작업 지시 진행/종료({@link DomainEventBus} 구독),
+ * 생산 실적 수량 변화(ProductionResultService)를 받아 설비별 OEE 구간을 갱신한다.
+ *
+ * - 가동률(availability) = 설비 가동중 시간 / 진행중 작업 지시가 있던 시간
+ * - 성능(performance) = 생산 수량 / (가동 시간 × 설비 타입별 시간당 이론 생산량)
+ * - 품질(quality) = 양품 / 생산 수량
+ *
+ * 구간은 최근 1시간 / 현재 근무조 / 오늘 세 가지이며 조회 시 이력을 다시 읽지 않는다.
+ * 이벤트는 트랜잭션 커밋 이후에만 반영하고, 반영 비용은 oee.update 타이머로 계측한다.
+ * 가동 시간 이력은 저장하지 않으므로 재기동 시 현재 상태부터 다시 누적한다.
+ */
+@Slf4j
+@Component
+public class OeeEngine implements DomainEventSubscriber {
+
+    private static final String RUNNING_STATUS = Facility.STATUS_RUNNING;
+    private static final String IN_PROGRESS_STATUS = "진행중";
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final FacilityRepository facilityRepository;
+    private final WorkOrderRepository workOrderRepository;
+    private final DomainEventBus domainEventBus;
+    private final Environment environment;
+
+    private final Map<Long, FacilityOeeState> states = new ConcurrentHashMap<>();
+
+    private final Timer facilityUpdateTimer;
+    private final Timer workOrderUpdateTimer;
+    private final Timer productionUpdateTimer;
+    private final Timer queryTimer;
+
+    @Value("${oee.ideal-units-per-hour.default:60}")
+    private double defaultIdealUnitsPerHour;
+
+    public OeeEngine(FacilityRepository facilityRepository,
+                     WorkOrderRepository workOrderRepository,
+                     DomainEventBus domainEventBus,
+                     Environment environment,
+                     MeterRegistry meterRegistry) {
+        this.facilityRepository = facilityRepository;
+        this.workOrderRepository = workOrderRepository;
+        this.domainEventBus = domainEventBus;
+        this.environment = environment;
+
+        this.facilityUpdateTimer = updateTimer(meterRegistry, "facility");
+        this.workOrderUpdateTimer = updateTimer(meterRegistry, "work_order");
+        this.productionUpdateTimer = updateTimer(meterRegistry, "production");
+        this.queryTimer = Timer.builder("oee.query")
+                .description("OEE 스냅샷 조회 시간")
+                .register(meterRegistry);
+        Gauge.builder("oee.facilities", states, Map::size)
+                .description("OEE 추적 중인 설비 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        domainEventBus.subscribe("oee", this);
+    }
+
+    private static Timer updateTimer(MeterRegistry meterRegistry, String event) {
+        return Timer.builder("oee.update")
+                .description("OEE 이벤트 반영 시간")
+                .tag("event", event)
+                .register(meterRegistry);
+    }
+
+    // ========================= 이벤트 반영 =========================
+
+    /**
+     * 설비 상태 / 작업 지시 상태 변경 ({@link DomainEventBus} 구독, 기록 시각 기준 반영)
+     * - 설비는 '가동중'일 때만 가동 시간으로, 작업 지시는 '진행중'인 동안 계획 가동 시간으로 집계
+     * - 이벤트 순서가 커밋 순서와 다를 수 있으므로 이벤트의 상태 값 대신 현재 상태를 다시 읽어 반영한다
+     */
+    @Override
+    public void onEvent(DomainEventRecord record) {
+        if (record.event() instanceof DomainEvent.FacilityStatusChanged event) {
+            Optional<String> status = facilityRepository.findStatusById(event.facilityId());
+            if (status.isEmpty()) {
+                states.remove(event.facilityId()); // 그 사이 삭제됨
+                return;
+            }
+            boolean running = RUNNING_STATUS.equals(status.get());
+            facilityUpdateTimer.record(() ->
+                    state(event.facilityId(), event.facilityType()).setRunning(running, record.occurredAt()));
+        } else if (record.event() instanceof DomainEvent.FacilityRemoved event) {
+            states.remove(event.facilityId());
+        } else if (record.event() instanceof DomainEvent.WorkOrderStatusChanged event) {
+            boolean active = workOrderRepository.findStatusById(event.workOrderId())
+                    .map(IN_PROGRESS_STATUS::equals)
+                    .orElse(false); // 삭제된 작업 지시
+            workOrderUpdateTimer.record(() ->
+                    state(event.facilityId(), event.facilityType())
+                            .setWorkOrderActive(event.workOrderId(), active, record.occurredAt()));
+        }
+    }
+
+    /**
+     * 받지 못한 상태 변경이 있으면 현재 DB 상태로 다시 맞춘다
+     * (그 사이 종료/삭제된 작업 지시와 삭제된 설비는 상태에서 빠진다)
+     */
+    @Override
+    public void onMissed(long missed) {
+        initialize();
+    }
+
+    /**
+     * 생산 수량 변화량 반영
+     */
+    public void onProduction(Long facilityId, String facilityType, LocalDateTime recordedAt,
+                             long producedDelta, long defectiveDelta) {
+        if (producedDelta == 0 && defectiveDelta == 0) {
+            return;
+        }
+        long recordedAtMillis = recordedAt.atZone(ZONE).toInstant().toEpochMilli();
+        afterCommit(() -> productionUpdateTimer.record(() ->
+                state(facilityId, facilityType).addProduction(producedDelta, defectiveDelta,
+                        recordedAtMillis, System.currentTimeMillis())));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private FacilityOeeState state(Long facilityId, String facilityType) {
+        return states.computeIfAbsent(facilityId,
+                id -> new FacilityOeeState(id, idealUnitsPerHour(facilityType), System.currentTimeMillis()));
+    }
+
+    /**
+     * 설비 타입별 이론 생산량 (oee.ideal-units-per-hour.{타입}, 없으면 default)
+     */
+    private double idealUnitsPerHour(String facilityType) {
+        if (facilityType == null || facilityType.isBlank()) {
+            return defaultIdealUnitsPerHour;
+        }
+        return environment.getProperty("oee.ideal-units-per-hour." + facilityType, Double.class,
+                defaultIdealUnitsPerHour);
+    }
+
+    // ========================= 조회 =========================
+
+    public OeeSnapshot getSnapshot(Long facilityId, OeeWindow window) {
+        return queryTimer.record(() -> {
+            FacilityOeeState state = states.get(facilityId);
+            if (state == null) {
+                throw new IllegalArgumentException("OEE 추적 중인 설비가 아닙니다: " + facilityId);
+            }
+            return state.snapshot(window, System.currentTimeMillis());
+        });
+    }
+
+    public List<OeeSnapshot> getSnapshots(Long facilityId) {
+        return Arrays.stream(OeeWindow.values())
+                .map(window -> getSnapshot(facilityId, window))
+                .toList();
+    }
+
+    public List<OeeSnapshot> getAllSnapshots(OeeWindow window) {
+        return queryTimer.record(() -> {
+            long now = System.currentTimeMillis();
+            List<OeeSnapshot> snapshots = new ArrayList<>(states.size());
+            states.values().forEach(state -> snapshots.add(state.snapshot(window, now)));
+            return snapshots;
+        });
+    }
+
+    /**
+     * 📊 엔진 반영/조회 비용
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("facilities", states.size());
+        stats.put("facilityUpdates", timerStats(facilityUpdateTimer));
+        stats.put("workOrderUpdates", timerStats(workOrderUpdateTimer));
+        stats.put("productionUpdates", timerStats(productionUpdateTimer));
+        stats.put("queries", timerStats(queryTimer));
+        return stats;
+    }
+
+    private static Map<String, Object> timerStats(Timer timer) {
+        return Map.of(
+                "count", timer.count(),
+                "meanMicros", timer.mean(TimeUnit.MICROSECONDS),
+                "maxMicros", timer.max(TimeUnit.MICROSECONDS)
+        );
+    }
+
+    // ========================= 기동 시 초기화 =========================
+
+    /**
+     * 현재 설비 상태와 진행중 작업 지시로 엔진 초기화 (누적은 기동 시점부터 시작)
+     * 설비별 가동 여부와 진행중 작업 지시 목록은 DB 값으로 통째로 교체하고, DB에 없는 설비 상태는 버린다
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            long now = System.currentTimeMillis();
+            Map<Long, Facility> facilities = facilityRepository.findAll().stream()
+                    .collect(Collectors.toMap(Facility::getId, Function.identity()));
+
+            List<WorkOrder> inProgress = workOrderRepository.findByStatus(IN_PROGRESS_STATUS);
+            Map<Long, Set<Long>> activeByFacility = new HashMap<>();
+            for (WorkOrder workOrder : inProgress) {
+                activeByFacility.computeIfAbsent(workOrder.getFacility().getId(), id -> new HashSet<>())
+                        .add(workOrder.getId());
+            }
+
+            for (Facility facility : facilities.values()) {
+                state(facility.getId(), facility.getType()).replaceActivity(
+                        RUNNING_STATUS.equals(facility.getStatus()),
+                        activeByFacility.getOrDefault(facility.getId(), Set.of()),
+                        now);
+            }
+            states.keySet().retainAll(facilities.keySet());
+
+            log.info("⚙️ OEE 엔진 초기화 완료: 설비 {}대, 진행중 작업 지시 {}건", facilities.size(), inProgress.size());
+        } catch (Exception e) {
+            log.error("❌ OEE 엔진 초기화 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.smartfactory.smartmes_insight.kpi;
+
+import java.time.LocalDateTime;
+
+/**
+ * 설비 OEE 스냅샷 (한 집계 구간 기준)
+ *
+ * @param facilityId      설비 ID
+ * @param window          집계 구간
+ * @param label           구간 표시명 (근무조명 등)
+ * @param windowStart     구간 시작 시각
+ * @param asOf            집계 시각
+ * @param plannedMillis   계획 가동 시간 (진행중 작업 지시가 있던 시간)
+ * @param runMillis       실 가동 시간 (계획 가동 시간 중 설비가 가동중이던 시간)
+ * @param produced        생산 수량
+ * @param defective       불량 수량
+ * @param idealUnitsPerHour 시간당 이론 생산량
+ */
+public record OeeSnapshot(
+        Long facilityId,
+        OeeWindow window,
+        String label,
+        LocalDateTime windowStart,
+        LocalDateTime asOf,
+        long plannedMillis,
+        long runMillis,
+        long produced,
+        long defective,
+        double idealUnitsPerHour
+) {
+
+    private static final double MILLIS_PER_HOUR = 3_600_000d;
+
+    /**
+     * 가동률 = 실 가동 시간 / 계획 가동 시간 (실 가동 시간은 계획 가동 시간을 넘지 않음)
+     */
+    public double availability() {
+        if (plannedMillis <= 0) {
+            return 0.0;
+        }
+        return (double) runMillis / plannedMillis;
+    }
+
+    /**
+     * 성능 효율 = 생산 수량 / (실 가동 시간 × 시간당 이론 생산량)
+     */
+    public double performance() {
+        double idealCount = runMillis / MILLIS_PER_HOUR * idealUnitsPerHour;
+        if (idealCount <= 0) {
+            return 0.0;
+        }
+        return produced / idealCount;
+    }
+
+    /**
+     * 품질 = 양품 수량 / 생산 수량
+     */
+    public double quality() {
+        if (produced <= 0) {
+            return 0.0;
+        }
+        return (double) Math.max(0, produced - defective) / produced;
+    }
+
+    public double oee() {
+        return availability() * performance() * quality();
+    }
+}
@@ -0,0 +1,48 @@
+package com.smartfactory.smartmes_insight.kpi;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * OEE 집계 구간
+ *
+ * - ROLLING_HOUR: 최근 1시간 (분 단위 버킷 60개)
+ * - SHIFT: 현재 근무조 (주간 06~14시, 오후 14~22시, 야간 22~06시)
+ * - DAY: 오늘 (00시 기준, 생산 KPI 일자 버킷과 동일)
+ */
+public enum OeeWindow {
+    ROLLING_HOUR,
+    SHIFT,
+    DAY;
+
+    private static final LocalTime DAY_SHIFT_START = LocalTime.of(6, 0);
+    private static final LocalTime SWING_SHIFT_START = LocalTime.of(14, 0);
+    private static final LocalTime NIGHT_SHIFT_START = LocalTime.of(22, 0);
+
+    /**
+     * 주어진 시각이 속한 근무조의 시작 시각
+     */
+    static LocalDateTime shiftStart(LocalDateTime time) {
+        LocalTime clock = time.toLocalTime();
+        if (clock.isBefore(DAY_SHIFT_START)) {
+            return time.toLocalDate().minusDays(1).atTime(NIGHT_SHIFT_START);
+        }
+        if (clock.isBefore(SWING_SHIFT_START)) {
+            return time.toLocalDate().atTime(DAY_SHIFT_START);
+        }
+        if (clock.isBefore(NIGHT_SHIFT_START)) {
+            return time.toLocalDate().atTime(SWING_SHIFT_START);
+        }
+        return time.toLocalDate().atTime(NIGHT_SHIFT_START);
+    }
+
+    /**
+     * 근무조 이름 (AuthService의 근무조 표기와 동일)
+     */
+    static String shiftName(LocalDateTime shiftStart) {
+        LocalTime clock = shiftStart.toLocalTime();
+        if (clock.equals(DAY_SHIFT_START)) return "주간";
+        if (clock.equals(SWING_SHIFT_START)) return "오후";
+        return "야간";
+    }
+}
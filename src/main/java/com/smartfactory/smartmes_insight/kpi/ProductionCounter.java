@@ -0,0 +1,48 @@
+package com.smartfactory.smartmes_insight.kpi;
+
+/**
+ * 생산 실적 누적 카운터 (생산 수량 / 불량 수량 / 실적 건수)
+ * 증분 반영과 스냅샷 조회만 제공하며 값 세 개를 항상 일관되게 읽도록 동기화한다.
+ */
+public class ProductionCounter {
+
+    private long produced;
+    private long defective;
+    private long records;
+
+    public synchronized void add(long producedDelta, long defectiveDelta, long recordDelta) {
+        this.produced += producedDelta;
+        this.defective += defectiveDelta;
+        this.records += recordDelta;
+    }
+
+    public synchronized Snapshot snapshot() {
+        return new Snapshot(produced, defective, records);
+    }
+
+    /**
+     * 카운터 시점 값
+     */
+    public record Snapshot(long produced, long defective, long records) {
+
+        public static final Snapshot EMPTY = new Snapshot(0, 0, 0);
+
+        public long good() {
+            return produced - defective;
+        }
+
+        // 불량률 (%)
+        public double defectiveRate() {
+            return produced > 0 ? (double) defective / produced * 100 : 0.0;
+        }
+
+        // 양품률 (%)
+        public double goodRate() {
+            return produced > 0 ? (double) good() / produced * 100 : 0.0;
+        }
+
+        public Snapshot plus(Snapshot other) {
+            return new Snapshot(produced + other.produced, defective + other.defective, records + other.records);
+        }
+    }
+}
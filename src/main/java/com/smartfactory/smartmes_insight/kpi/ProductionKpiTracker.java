@@ -0,0 +1,195 @@
+package com.smartfactory.smartmes_insight.kpi;
+
+import com.smartfactory.smartmes_insight.domain.production.ProductionResultRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 📈 생산 KPI 증분 집계기
+ *
+ * ProductionResultService의 등록/불량 추가/수정/삭제 시 변화량(delta)만 받아
+ * 작업 지시별, 설비별, 설비×일자별, 일자별 카운터를 갱신한다.
+ * 통계 조회는 실적 테이블을 다시 읽지 않고 카운터 스냅샷을 반환한다 (O(1)).
+ *
+ * - 변화량은 트랜잭션 커밋 이후에만 반영 (롤백 시 카운터 불변)
+ * - 기동 시 실적 테이블로 재구성 (집계 컬럼만 조회)
+ * - 재구성은 커밋 중인 변화량이 모두 반영된 뒤 시작하고, 재구성 중에는 새 커밋을 기다리게 한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductionKpiTracker {
+
+    private final ProductionResultRepository productionResultRepository;
+
+    private final Map<Long, ProductionCounter> byWorkOrder = new ConcurrentHashMap<>();
+    private final Map<Long, ProductionCounter> byFacility = new ConcurrentHashMap<>();
+    private final Map<FacilityDay, ProductionCounter> byFacilityDay = new ConcurrentHashMap<>();
+    private final Map<LocalDate, ProductionCounter> byDay = new ConcurrentHashMap<>();
+
+    // 재구성 중에는 커밋과 증분 반영을 막는다 (커밋끼리는 동시 진행 가능)
+    // 읽기 잠금은 커밋 직전부터 반영까지 유지 → 재구성 스냅샷에 포함된 커밋이 재구성 후 다시 더해지지 않는다
+    private final ReadWriteLock rebuildLock = new ReentrantReadWriteLock();
+
+    private record FacilityDay(Long facilityId, LocalDate day) {
+    }
+
+    // ========================= 증분 반영 =========================
+
+    /**
+     * 생산 실적 변화량 반영 (현재 트랜잭션 커밋 이후 적용)
+     *
+     * @param workOrderId    작업 지시 ID
+     * @param facilityId     설비 ID
+     * @param recordedAt     실적 등록 시각 (일자 버킷 결정)
+     * @param producedDelta  생산 수량 변화량
+     * @param defectiveDelta 불량 수량 변화량
+     * @param recordDelta    실적 건수 변화량 (등록 +1, 삭제 -1)
+     */
+    public void recordDelta(Long workOrderId, Long facilityId, LocalDateTime recordedAt,
+                            long producedDelta, long defectiveDelta, long recordDelta) {
+        if (producedDelta == 0 && defectiveDelta == 0 && recordDelta == 0) {
+            return;
+        }
+        LocalDate day = recordedAt.toLocalDate();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                private boolean committing;
+
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    rebuildLock.readLock().lock();
+                    committing = true;
+                }
+
+                @Override
+                public void afterCommit() {
+                    apply(workOrderId, facilityId, day, producedDelta, defectiveDelta, recordDelta);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (committing) {
+                        committing = false;
+                        rebuildLock.readLock().unlock();
+                    }
+                }
+            });
+        } else {
+            apply(workOrderId, facilityId, day, producedDelta, defectiveDelta, recordDelta);
+        }
+    }
+
+    private void apply(Long workOrderId, Long facilityId, LocalDate day,
+                       long producedDelta, long defectiveDelta, long recordDelta) {
+        rebuildLock.readLock().lock();
+        try {
+            addTo(workOrderId, facilityId, day, producedDelta, defectiveDelta, recordDelta);
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    private void addTo(Long workOrderId, Long facilityId, LocalDate day,
+                       long producedDelta, long defectiveDelta, long recordDelta) {
+        counter(byWorkOrder, workOrderId).add(producedDelta, defectiveDelta, recordDelta);
+        counter(byFacility, facilityId).add(producedDelta, defectiveDelta, recordDelta);
+        counter(byFacilityDay, new FacilityDay(facilityId, day)).add(producedDelta, defectiveDelta, recordDelta);
+        counter(byDay, day).add(producedDelta, defectiveDelta, recordDelta);
+    }
+
+    private static <K> ProductionCounter counter(Map<K, ProductionCounter> map, K key) {
+        return map.computeIfAbsent(key, k -> new ProductionCounter());
+    }
+
+    // ========================= 조회 (O(1)) =========================
+
+    public ProductionCounter.Snapshot getWorkOrder(Long workOrderId) {
+        return snapshotOf(byWorkOrder.get(workOrderId));
+    }
+
+    public ProductionCounter.Snapshot getFacility(Long facilityId) {
+        return snapshotOf(byFacility.get(facilityId));
+    }
+
+    public ProductionCounter.Snapshot getFacilityDay(Long facilityId, LocalDate day) {
+        return snapshotOf(byFacilityDay.get(new FacilityDay(facilityId, day)));
+    }
+
+    public ProductionCounter.Snapshot getDay(LocalDate day) {
+        return snapshotOf(byDay.get(day));
+    }
+
+    // 기간 합계 (일자 버킷 수만큼만 조회)
+    public ProductionCounter.Snapshot getDays(LocalDate startDay, LocalDate endDay) {
+        ProductionCounter.Snapshot total = ProductionCounter.Snapshot.EMPTY;
+        for (LocalDate day = startDay; !day.isAfter(endDay); day = day.plusDays(1)) {
+            total = total.plus(getDay(day));
+        }
+        return total;
+    }
+
+    private static ProductionCounter.Snapshot snapshotOf(ProductionCounter counter) {
+        return counter != null ? counter.snapshot() : ProductionCounter.Snapshot.EMPTY;
+    }
+
+    // ========================= 복원 =========================
+
+    /**
+     * 기동 시 카운터 복원 (실적 테이블 기준 재구성)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("❌ 생산 KPI 카운터 복원 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 실적 테이블 전체로 카운터 재구성 (기동 시 또는 정합성 보정용)
+     * 실적 조회도 잠금 안에서 한다 (조회 후 잠금 전에 반영된 변화량이 지워지지 않도록)
+     */
+    public void rebuild() {
+        List<Object[]> figures;
+        rebuildLock.writeLock().lock();
+        try {
+            figures = productionResultRepository.findAllKpiFigures();
+            clear();
+            for (Object[] row : figures) {
+                Long workOrderId = (Long) row[0];
+                Long facilityId = (Long) row[1];
+                LocalDateTime recordedAt = (LocalDateTime) row[2];
+                long produced = row[3] != null ? ((Number) row[3]).longValue() : 0L;
+                long defective = row[4] != null ? ((Number) row[4]).longValue() : 0L;
+
+                addTo(workOrderId, facilityId, recordedAt.toLocalDate(), produced, defective, 1);
+            }
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+        log.info("📈 생산 KPI 카운터 재구성 완료: 실적 {}건", figures.size());
+    }
+
+    private void clear() {
+        byWorkOrder.clear();
+        byFacility.clear();
+        byFacilityDay.clear();
+        byDay.clear();
+    }
+}
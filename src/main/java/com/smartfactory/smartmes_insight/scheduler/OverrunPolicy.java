@@ -0,0 +1,14 @@
+package com.smartfactory.smartmes_insight.scheduler;
+
+/**
+ * 이전 주기가 끝나기 전에 다음 주기가 돌아왔을 때(overrun)의 처리 방식
+ *
+ * - SKIP: 해당 주기를 버린다 (누락으로 집계)
+ * - COALESCE: 밀린 주기를 하나로 합쳐 이전 주기가 끝나는 즉시 한 번 실행한다
+ * - CATCH_UP: 밀린 주기를 max-catch-up개까지 쌓아 두고 이전 주기가 끝나면 연달아 실행한다 (넘치는 주기는 누락)
+ */
+public enum OverrunPolicy {
+    SKIP,
+    COALESCE,
+    CATCH_UP
+}
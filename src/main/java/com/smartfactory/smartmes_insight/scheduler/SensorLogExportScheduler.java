@@ -0,0 +1,44 @@
+package com.smartfactory.smartmes_insight.scheduler;
+
+import com.smartfactory.smartmes_insight.batch.SensorLogExportJobConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 센서 로그 일자별 압축 내보내기 스케줄러 (sensor.export.schedule-enabled=true일 때만 등록)
+ * 매일 전날 하루치를 sensorLogExportJob으로 내보낸다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "sensor.export", name = "schedule-enabled", havingValue = "true")
+public class SensorLogExportScheduler {
+
+    private final JobLauncher jobLauncher;
+    private final Job sensorLogExportJob;
+
+    @Scheduled(cron = "${sensor.export.cron:0 30 0 * * *}")
+    public void exportYesterday() {
+        LocalDate day = LocalDate.now().minusDays(1);
+        try {
+            JobExecution execution = jobLauncher.run(sensorLogExportJob, new JobParametersBuilder()
+                    .addString(SensorLogExportJobConfig.DATE_PARAMETER, day.toString())
+                    .toJobParameters());
+            log.info("📦 센서 로그 내보내기 작업 종료: date={}, status={}", day, execution.getStatus());
+        } catch (JobInstanceAlreadyCompleteException e) {
+            log.info("📦 센서 로그 내보내기 작업이 이미 완료됨: date={}", day);
+        } catch (Exception e) {
+            log.error("❌ 센서 로그 내보내기 작업 실행 실패: date={}, error={}", day, e.getMessage(), e);
+        }
+    }
+}
@@ -1,84 +1,266 @@
 package com.smartfactory.smartmes_insight.scheduler;
 
+import com.smartfactory.smartmes_insight.ingest.ActiveSensorRegistry;
+import com.smartfactory.smartmes_insight.ingest.SamplingPolicy;
+import com.smartfactory.smartmes_insight.ingest.SamplingWheel;
+import com.smartfactory.smartmes_insight.ingest.SensorIngestWal;
+import com.smartfactory.smartmes_insight.ingest.SensorReadingBatch;
+import com.smartfactory.smartmes_insight.ingest.SensorThresholds;
+import com.smartfactory.smartmes_insight.jdbc.ConnectionAdmission;
+import com.smartfactory.smartmes_insight.jdbc.DbWorkload;
+import com.smartfactory.smartmes_insight.jdbc.JdbcMetrics;
 import com.smartfactory.smartmes_insight.service.AlertService;
 import com.smartfactory.smartmes_insight.service.SensorLogService;
-import com.smartfactory.smartmes_insight.service.SensorService;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 센서 모니터링 스케줄러
  * 실시간 센서 데이터 수집 및 알림 체크
+ *
+ * ⏱️ 수집 주기는 {@link TickScheduler}가 실행한다 (sensor.monitoring.*)
+ * - 센서를 ID % shards로 나눠 샤드마다 독립 실행하며, 샤드별로 실행 중인 주기는 최대 하나
+ * - 이전 주기가 끝나지 않았으면 overrun-policy(skip/coalesce/catch-up)에 따라 처리
+ * - deadline-ms를 넘긴 주기는 수집/저장 전 단계에서 중단 (저장을 마친 측정값의 알림 판정은 끝까지 수행)
+ * - 수집 대상은 {@link ActiveSensorRegistry} 스냅샷의 샤드 배열 (주기마다 DB를 조회하지 않음)
+ *
+ * 📉 적응형 수집 간격 (sensor.sampling.enabled=true, {@link SamplingPolicy})
+ * - 샤드마다 {@link SamplingWheel}을 두고 매 주기 다음 수집 시점이 된 센서만 수집/저장/판정한다
+ * - 변화가 느리고 임계값에서 먼 센서는 간격을 늘리고, 임계값 근처이거나 변화가 큰 센서는 매 주기 수집
+ *
+ * 📊 주기별 지표 (Actuator /actuator/metrics)
+ * - sensor.monitoring.tick: 주기 전체 시간, sensor.monitoring.stage{stage}: 단계별 시간 (thresholds/collect/store/alerts)
+ * - sensor.monitoring.sensors: 주기당 활성 센서 수, sensor.sampling.deferred: 수집 시점이 아니어서 건너뛴 센서 수
+ * - sensor.readings.logged{path}: 저장 경로로 넘긴 측정값 수 (path=wal|store), sensor.readings.failed: 저장 실패 수
+ *   (압축 사용 시 실제로 남긴 수는 sensor.compression.readings{result})
+ * - sensor.monitoring.ticks.missed{reason}, .ticks.deferred, .ticks.cancelled, .ticks.inflight, .tick.delay: 주기 실행 상태
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class SensorMonitoringScheduler {
 
-    private final SensorService sensorService;
+    private final ActiveSensorRegistry activeSensorRegistry;
     private final SensorLogService sensorLogService;
     private final AlertService alertService;
+    private final SensorIngestWal sensorIngestWal;
+    private final SamplingPolicy samplingPolicy;
+    private final JdbcMetrics jdbcMetrics;
+    private final ConnectionAdmission connectionAdmission;
+    private final Executor tickExecutor;
+    private final MeterRegistry meterRegistry;
     private final Random random = new Random();
 
+    private final Timer tickTimer;
+    private final Timer thresholdsTimer;
+    private final Timer collectTimer;
+    private final Timer storeTimer;
+    private final Timer alertsTimer;
+    private final DistributionSummary sensorsPerTick;
+    private final Counter loggedToWal;
+    private final Counter loggedToStore;
+    private final Counter failedReadings;
+    private final Counter deferredSensors;
+
+    @Value("${sensor.monitoring.interval-ms:10000}")
+    private long intervalMillis;
+
+    @Value("${sensor.monitoring.shards:1}")
+    private int shards;
+
+    @Value("${sensor.monitoring.overrun-policy:skip}")
+    private OverrunPolicy overrunPolicy;
+
+    @Value("${sensor.monitoring.max-catch-up:3}")
+    private int maxCatchUp;
+
+    @Value("${sensor.monitoring.jitter-ms:0}")
+    private long jitterMillis;
+
+    @Value("${sensor.monitoring.deadline-ms:8000}")
+    private long deadlineMillis;
+
+    private TickScheduler tickScheduler;
+    private SamplingWheel[] samplingWheels;
+
+    public SensorMonitoringScheduler(ActiveSensorRegistry activeSensorRegistry,
+                                     SensorLogService sensorLogService,
+                                     AlertService alertService,
+                                     SensorIngestWal sensorIngestWal,
+                                     SamplingPolicy samplingPolicy,
+                                     JdbcMetrics jdbcMetrics,
+                                     ConnectionAdmission connectionAdmission,
+                                     @Qualifier("sensorTickExecutor") Executor tickExecutor,
+                                     MeterRegistry meterRegistry) {
+        this.activeSensorRegistry = activeSensorRegistry;
+        this.sensorLogService = sensorLogService;
+        this.alertService = alertService;
+        this.sensorIngestWal = sensorIngestWal;
+        this.samplingPolicy = samplingPolicy;
+        this.jdbcMetrics = jdbcMetrics;
+        this.connectionAdmission = connectionAdmission;
+        this.tickExecutor = tickExecutor;
+        this.meterRegistry = meterRegistry;
+
+        this.tickTimer = Timer.builder("sensor.monitoring.tick")
+                .description("수집 주기 한 번 처리 시간 (임계값 조회 ~ 알림 판정)")
+                .register(meterRegistry);
+        this.thresholdsTimer = stageTimer(meterRegistry, "thresholds");
+        this.collectTimer = stageTimer(meterRegistry, "collect");
+        this.storeTimer = stageTimer(meterRegistry, "store");
+        this.alertsTimer = stageTimer(meterRegistry, "alerts");
+        this.sensorsPerTick = DistributionSummary.builder("sensor.monitoring.sensors")
+                .description("수집 주기당 활성 센서 수")
+                .register(meterRegistry);
+        this.loggedToWal = loggedCounter(meterRegistry, "wal");
+        this.loggedToStore = loggedCounter(meterRegistry, "store");
+        this.failedReadings = Counter.builder("sensor.readings.failed")
+                .description("저장하지 못한 측정값 수")
+                .register(meterRegistry);
+        this.deferredSensors = Counter.builder("sensor.sampling.deferred")
+                .description("적응형 수집 간격에 따라 이번 주기에 건너뛴 센서 수")
+                .register(meterRegistry);
+    }
+
+    private static Timer stageTimer(MeterRegistry registry, String stage) {
+        return Timer.builder("sensor.monitoring.stage")
+                .description("수집 주기 단계별 처리 시간")
+                .tag("stage", stage)
+                .register(registry);
+    }
+
+    private static Counter loggedCounter(MeterRegistry registry, String path) {
+        return Counter.builder("sensor.readings.logged")
+                .description("수집 주기에서 저장한 측정값 수 (wal: WAL 기록, store: 저장소 직접 기록)")
+                .tag("path", path)
+                .register(registry);
+    }
+
     /**
-     * 실시간 센서 데이터 수집 및 모니터링
-     * 10초마다 실행 (프로젝트 문서 명시)
+     * 수집 주기 시작 (기동 완료 후 - 기존 @Scheduled와 같은 시점)
      */
-    @Async
-    @Scheduled(fixedRate = 10000) // 10초마다 실행
-    public void monitorSensors() {
-        try {
-            // 활성화된 모든 센서 조회
-            List<Long> activeSensorIds = sensorService.findActiveSensorIds();
+    @EventListener(ApplicationReadyEvent.class)
+    public void startMonitoring() {
+        TickScheduler.Settings settings = new TickScheduler.Settings(
+                intervalMillis, shards, overrunPolicy, maxCatchUp, jitterMillis, deadlineMillis);
+        if (samplingPolicy.isEnabled()) {
+            samplingWheels = new SamplingWheel[shards];
+            for (int i = 0; i < shards; i++) {
+                samplingWheels[i] = samplingPolicy.newWheel();
+            }
+        }
+        tickScheduler = new TickScheduler("sensor.monitoring", settings, tickExecutor, this::monitorSensors, meterRegistry);
+        tickScheduler.start();
+    }
+
+    @PreDestroy
+    public void stopMonitoring() {
+        if (tickScheduler != null) {
+            tickScheduler.stop();
+        }
+    }
+
+    /**
+     * 실시간 센서 데이터 수집 및 모니터링 (샤드 하나의 한 주기)
+     * 기본 10초마다 실행 (프로젝트 문서 명시, sensor.monitoring.interval-ms로 조정)
+     *
+     * 한 주기의 측정값을 열 단위 원시 배열({@link SensorReadingBatch})에 모아 저장/알림 판정을 한 번에 처리한다.
+     * 측정값마다 Double/엔티티/시각 객체를 만들지 않는다.
+     *
+     * @throws CancellationException deadline을 넘겨 중단한 경우
+     */
+    void monitorSensors(TickScheduler.Tick tick) {
+        long tickStart = System.nanoTime();
+        try (JdbcMetrics.Scope ignored = jdbcMetrics.open("job:SensorMonitoringScheduler.monitorSensors");
+             ConnectionAdmission.Binding binding = connectionAdmission.bind(DbWorkload.INGEST)) {
+            // 이 샤드에 속한 활성 센서의 임계값 (레지스트리 스냅샷 - 주기 끝까지 같은 배열 사용)
+            SensorThresholds active = thresholdsTimer.record(
+                    () -> activeSensorRegistry.snapshot().shard(tick.shard()));
+            sensorsPerTick.record(active.size());
             
-            if (activeSensorIds.isEmpty()) {
+            if (active.isEmpty()) {
                 log.debug("활성화된 센서가 없습니다.");
+            }
+
+            // 적응형 수집 간격: 이번 주기에 수집 시점이 된 센서만
+            SamplingWheel wheel = samplingWheels != null ? samplingWheels[tick.shard()] : null;
+            SensorThresholds thresholds = wheel != null
+                    ? wheel.select(active, tick.scheduledAtMillis() / intervalMillis)
+                    : active;
+            deferredSensors.increment(active.size() - thresholds.size());
+            if (thresholds.isEmpty()) {
                 return;
             }
             
-            log.debug("센서 모니터링 시작 - 대상 센서: {}개", activeSensorIds.size());
-            
-            // 각 센서별 데이터 수집 및 처리
-            for (Long sensorId : activeSensorIds) {
-                try {
-                    processSensorData(sensorId);
-                } catch (Exception e) {
-                    log.error("센서 {} 데이터 처리 중 오류: {}", sensorId, e.getMessage());
-                }
+            log.debug("센서 모니터링 시작 - 대상 센서: {}개", thresholds.size());
+
+            // 샤드마다 주기가 따로 실행되므로 묶음은 실행마다 새로 만든다
+            tick.checkDeadline();
+            SensorReadingBatch batch = collectTimer.record(() -> collect(thresholds));
+            if (wheel != null) {
+                wheel.record(thresholds, batch);
             }
+            tick.checkDeadline();
+            storeTimer.record(() -> store(batch, thresholds));
+
+            // 알림 체크 및 생성 (이상값일 때만 센서 조회)
+            // 저장한 묶음은 deadline을 넘겨도 알림 판정까지 마친다 (여기서 멈추면 저장된 이상값의 알림이 빠진다)
+            alertsTimer.record(() -> alertService.checkAndCreateAlerts(batch, thresholds));
             
             log.debug("센서 모니터링 완료");
             
+        } catch (CancellationException e) {
+            throw e;
         } catch (Exception e) {
             log.error("센서 모니터링 스케줄러 실행 중 오류: {}", e.getMessage(), e);
+        } finally {
+            tickTimer.record(System.nanoTime() - tickStart, TimeUnit.NANOSECONDS);
         }
     }
 
     /**
-     * 개별 센서 데이터 처리
-     * @param sensorId 센서 ID
+     * 1. 센서 데이터 수집 (임계값 스냅샷과 같은 순서, 주기 시각 하나를 공유)
      */
-    private void processSensorData(Long sensorId) {
+    private SensorReadingBatch collect(SensorThresholds thresholds) {
+        SensorReadingBatch batch = new SensorReadingBatch(thresholds.size());
+        long collectedAt = System.currentTimeMillis();
+        for (int i = 0; i < thresholds.size(); i++) {
+            long sensorId = thresholds.sensorId(i);
+            batch.add(sensorId, collectedAt, collectSensorData(sensorId));
+        }
+        return batch;
+    }
+
+    /**
+     * 2. 센서 로그 저장 (WAL 사용 시 로컬 로그에만 기록 - DB 장애 중에도 유실되지 않음, 압축 사용 시 남긴 값만 기록)
+     */
+    private void store(SensorReadingBatch batch, SensorThresholds thresholds) {
         try {
-            // 1. 센서 데이터 수집 (실제 환경에서는 하드웨어에서 읽어옴)
-            Double sensorValue = collectSensorData(sensorId);
-            
-            // 2. 센서 로그 저장
-            sensorLogService.logSensorData(sensorId, sensorValue);
-            
-            // 3. 알림 체크 및 생성
-            alertService.checkAndCreateAlert(sensorId, sensorValue);
-            
-            log.trace("센서 {} 데이터 처리 완료: {}", sensorId, sensorValue);
-            
+            if (sensorIngestWal.isEnabled()) {
+                int rejected = sensorLogService.bufferSensorData(batch, thresholds);
+                loggedToWal.increment(batch.size() - rejected);
+                failedReadings.increment(rejected);
+            } else {
+                sensorLogService.logSensorData(batch, thresholds);
+                loggedToStore.increment(batch.size());
+            }
         } catch (Exception e) {
-            log.error("센서 {} 데이터 처리 실패: {}", sensorId, e.getMessage());
+            failedReadings.increment(batch.size());
+            log.error("센서 데이터 {}건 저장 실패: {}", batch.size(), e.getMessage());
         }
     }
 
@@ -88,7 +270,7 @@ public class SensorMonitoringScheduler {
      * @param sensorId 센서 ID
      * @return 센서 값
      */
-    private Double collectSensorData(Long sensorId) {
+    private double collectSensorData(long sensorId) {
         // TODO: 실제 센서 하드웨어 API 연동 시 교체
         // 현재는 시뮬레이션 데이터 생성
         
@@ -123,7 +305,7 @@ public class SensorMonitoringScheduler {
      * @param sensorId 센서 ID
      * @return 센서 타입
      */
-    private String getSensorType(Long sensorId) {
+    private String getSensorType(long sensorId) {
         // TODO: 실제로는 SensorService에서 조회
         // 현재는 시뮬레이션용 타입 반환
         String[] types = {"TEMPERATURE", "PRESSURE", "VIBRATION", "HUMIDITY"};
@@ -136,10 +318,10 @@ public class SensorMonitoringScheduler {
     @Scheduled(fixedRate = 300000) // 5분마다 실행
     public void logMonitoringStatistics() {
         try {
-            List<Long> activeSensorIds = sensorService.findActiveSensorIds();
-            
+            ActiveSensorRegistry.Snapshot snapshot = activeSensorRegistry.snapshot();
+
             log.info("=== 센서 모니터링 통계 ===");
-            log.info("활성 센서 수: {}", activeSensorIds.size());
+            log.info("활성 센서 수: {} (레지스트리 v{})", snapshot.size(), snapshot.version());
             log.info("최근 알림 수: {}", alertService.findRecentAlertsOnly().size());
             log.info("============================");
             
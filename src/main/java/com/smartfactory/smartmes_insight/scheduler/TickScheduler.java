@@ -0,0 +1,351 @@
+package com.smartfactory.smartmes_insight.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ⏱️ 샤드별 고정 주기 실행기
+ *
+ * 샤드마다 interval 주기로 작업을 실행하되, 한 샤드의 작업은 동시에 하나만 실행한다.
+ * 이전 작업이 끝나기 전에 다음 주기가 돌아오면 {@link OverrunPolicy}에 따라 버리거나 미뤄 둔다.
+ *
+ * - 타이머 스레드는 주기 계산만 하고 작업은 worker 실행기에서 수행한다 (미뤄 둔 주기는 같은 worker가 이어서 실행)
+ * - 샤드 시작 시각을 주기 안에 고르게 나누고, 주기마다 0 ~ jitter만큼 늦춰 DB 부하가 한 시점에 몰리지 않게 한다
+ * - 작업이 deadline을 넘기면 주기에 만료 표시만 하고, 작업이 단계 사이에서 {@link Tick#checkDeadline()}으로 멈춘다.
+ *   실행 스레드는 인터럽트하지 않는다 (저장/DB 단계 도중 인터럽트되면 FileChannel이 닫히고 커넥션 대기가 실패한다).
+ *   진행 중인 단계는 끝까지 실행되며, 작업이 실제로 끝날 때까지 같은 샤드의 다음 작업은 시작하지 않는다
+ * - 타이머가 한 주기 이상 늦게 깨어나면(GC 정지 등) 건너뛴 주기를 누락으로 센다
+ *
+ * 📊 {name}.ticks.missed{reason=overrun|late|rejected}, {name}.ticks.deferred, {name}.ticks.cancelled,
+ *    {name}.ticks.inflight, {name}.tick.delay (예정 시각 대비 실제 시작 지연)
+ */
+@Slf4j
+final class TickScheduler {
+
+    private static final long NONE = Long.MIN_VALUE;
+
+    /**
+     * @param intervalMillis 샤드별 실행 주기
+     * @param shards         샤드 수 (샤드마다 독립적으로 실행)
+     * @param policy         overrun 처리 방식
+     * @param maxCatchUp     CATCH_UP일 때 쌓아 둘 수 있는 최대 주기 수
+     * @param jitterMillis   주기마다 더하는 최대 무작위 지연 (interval 미만)
+     * @param deadlineMillis 작업 하나의 최대 실행 시간 (0이면 제한 없음)
+     */
+    record Settings(long intervalMillis, int shards, OverrunPolicy policy, int maxCatchUp,
+                    long jitterMillis, long deadlineMillis) {
+
+        Settings {
+            if (intervalMillis <= 0 || shards <= 0 || maxCatchUp < 0 || deadlineMillis < 0
+                    || jitterMillis < 0 || jitterMillis >= intervalMillis) {
+                throw new IllegalArgumentException("주기 설정이 올바르지 않습니다 (interval > 0, shards > 0, 0 <= jitter < interval): "
+                        + intervalMillis + "/" + shards + "/" + jitterMillis);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface Task {
+        void run(Tick tick) throws Exception;
+    }
+
+    /**
+     * 실행 중인 주기 하나
+     */
+    static final class Tick {
+
+        private final int shard;
+        private final int shards;
+        private final long scheduledAtMillis;
+        private volatile boolean expired;
+
+        Tick(int shard, int shards, long scheduledAtMillis) {
+            this.shard = shard;
+            this.shards = shards;
+            this.scheduledAtMillis = scheduledAtMillis;
+        }
+
+        int shard() {
+            return shard;
+        }
+
+        int shards() {
+            return shards;
+        }
+
+        long scheduledAtMillis() {
+            return scheduledAtMillis;
+        }
+
+        /**
+         * deadline이 지났으면 중단 (작업 단계 사이에서 호출)
+         *
+         * @throws CancellationException deadline 초과
+         */
+        void checkDeadline() {
+            if (expired) {
+                throw new CancellationException("수집 주기 deadline 초과: shard=" + shard);
+            }
+        }
+    }
+
+    // 샤드 상태 (running/pending/current는 샤드 잠금 안에서만 변경)
+    private static final class Shard {
+
+        final int index;
+        long fireAtMillis;      // 타이머 스레드 전용
+        long scheduledAtMillis; // 타이머 스레드 전용
+
+        boolean running;
+        int pendingCount;
+        long pendingFrom;
+        Tick current;
+
+        Shard(int index) {
+            this.index = index;
+        }
+    }
+
+    private final String name;
+    private final Settings settings;
+    private final Executor worker;
+    private final Task task;
+    private final Shard[] shards;
+    private final ScheduledExecutorService timer;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final Counter missedOverrun;
+    private final Counter missedLate;
+    private final Counter missedRejected;
+    private final Counter deferred;
+    private final Counter cancelled;
+    private final Timer startDelay;
+
+    TickScheduler(String name, Settings settings, Executor worker, Task task, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.settings = settings;
+        this.worker = worker;
+        this.task = task;
+        this.shards = new Shard[settings.shards()];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new Shard(i);
+        }
+        this.timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name + "-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.missedOverrun = missedCounter(meterRegistry, "overrun");
+        this.missedLate = missedCounter(meterRegistry, "late");
+        this.missedRejected = missedCounter(meterRegistry, "rejected");
+        this.deferred = Counter.builder(name + ".ticks.deferred")
+                .description("이전 주기가 끝나지 않아 미뤘다가 실행한 주기 수 (coalesce/catch-up)")
+                .register(meterRegistry);
+        this.cancelled = Counter.builder(name + ".ticks.cancelled")
+                .description("deadline을 넘겨 중단시킨 주기 수")
+                .register(meterRegistry);
+        this.startDelay = Timer.builder(name + ".tick.delay")
+                .description("예정 시각부터 실제 실행 시작까지 걸린 시간")
+                .register(meterRegistry);
+        Gauge.builder(name + ".ticks.inflight", inFlight, AtomicInteger::get)
+                .description("실행 중인 샤드 수")
+                .register(meterRegistry);
+    }
+
+    private Counter missedCounter(MeterRegistry registry, String reason) {
+        return Counter.builder(name + ".ticks.missed")
+                .description("실행하지 못한 주기 수 (overrun: 이전 주기 실행 중, late: 타이머 지연, rejected: 실행기 거부)")
+                .tag("reason", reason)
+                .register(registry);
+    }
+
+    /**
+     * 샤드별 타이머 시작 (샤드 0은 즉시, 나머지는 주기 안에서 고르게 나눈 시각부터)
+     */
+    void start() {
+        long now = System.currentTimeMillis();
+        for (Shard shard : shards) {
+            shard.scheduledAtMillis = now + settings.intervalMillis() * shard.index / shards.length;
+            scheduleNext(shard);
+        }
+        log.info("⏱️ {} 주기 실행 시작: interval={}ms, shards={}, overrun={}, jitter={}ms, deadline={}ms",
+                name, settings.intervalMillis(), shards.length, settings.policy(),
+                settings.jitterMillis(), settings.deadlineMillis());
+    }
+
+    /**
+     * 타이머 중지 후 실행 중인 작업에 중단 요청 (다음 단계 경계에서 멈춤, 끝날 때까지 기다리지는 않음)
+     */
+    void stop() {
+        timer.shutdownNow();
+        for (Shard shard : shards) {
+            synchronized (shard) {
+                shard.pendingCount = 0;
+                if (shard.current != null) {
+                    shard.current.expired = true;
+                }
+            }
+        }
+    }
+
+    private void scheduleNext(Shard shard) {
+        long jitter = settings.jitterMillis() > 0 ? ThreadLocalRandom.current().nextLong(settings.jitterMillis() + 1) : 0;
+        shard.fireAtMillis = shard.scheduledAtMillis + jitter;
+        try {
+            timer.schedule(() -> onTimer(shard), Math.max(0, shard.fireAtMillis - System.currentTimeMillis()),
+                    TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+        }
+    }
+
+    private void onTimer(Shard shard) {
+        long interval = settings.intervalMillis();
+        long late = (System.currentTimeMillis() - shard.fireAtMillis) / interval;
+        if (late > 0) {
+            missedLate.increment(late);
+            shard.scheduledAtMillis += late * interval;
+        }
+        long scheduledAt = shard.scheduledAtMillis;
+        shard.scheduledAtMillis += interval;
+        try {
+            fire(shard.index, scheduledAt);
+        } finally {
+            scheduleNext(shard);
+        }
+    }
+
+    /**
+     * 샤드의 한 주기 실행 요청 (실행 중이면 overrun 정책 적용)
+     */
+    void fire(int index, long scheduledAtMillis) {
+        Shard shard = shards[index];
+        synchronized (shard) {
+            if (shard.running) {
+                overrun(shard, scheduledAtMillis);
+                return;
+            }
+            shard.running = true;
+        }
+        inFlight.incrementAndGet();
+        try {
+            worker.execute(() -> drain(shard, scheduledAtMillis));
+        } catch (RejectedExecutionException e) {
+            synchronized (shard) {
+                shard.running = false;
+                shard.pendingCount = 0;
+            }
+            inFlight.decrementAndGet();
+            missedRejected.increment();
+            log.warn("⚠️ {} 주기 실행 거부: shard={}, error={}", name, index, e.getMessage());
+        }
+    }
+
+    // 샤드 잠금 안에서 호출
+    private void overrun(Shard shard, long scheduledAtMillis) {
+        switch (settings.policy()) {
+            case SKIP -> missedOverrun.increment();
+            case COALESCE -> {
+                if (shard.pendingCount == 0) {
+                    shard.pendingCount = 1;
+                    deferred.increment();
+                } else {
+                    missedOverrun.increment();
+                }
+                shard.pendingFrom = scheduledAtMillis; // 가장 최근 주기 하나로 합침
+            }
+            case CATCH_UP -> {
+                if (shard.pendingCount < settings.maxCatchUp()) {
+                    if (shard.pendingCount == 0) {
+                        shard.pendingFrom = scheduledAtMillis;
+                    }
+                    shard.pendingCount++;
+                    deferred.increment();
+                } else {
+                    missedOverrun.increment();
+                }
+            }
+        }
+    }
+
+    // 요청받은 주기와 그 사이 미뤄 둔 주기를 차례로 실행
+    private void drain(Shard shard, long scheduledAtMillis) {
+        long next = scheduledAtMillis;
+        while (next != NONE) {
+            runOnce(shard, next);
+            next = takePending(shard);
+        }
+    }
+
+    private long takePending(Shard shard) {
+        synchronized (shard) {
+            if (shard.pendingCount == 0) {
+                shard.running = false;
+                inFlight.decrementAndGet();
+                return NONE;
+            }
+            shard.pendingCount--;
+            long next = shard.pendingFrom;
+            shard.pendingFrom += settings.intervalMillis();
+            return next;
+        }
+    }
+
+    private void runOnce(Shard shard, long scheduledAtMillis) {
+        Tick tick = new Tick(shard.index, shards.length, scheduledAtMillis);
+        synchronized (shard) {
+            shard.current = tick;
+        }
+        ScheduledFuture<?> deadline = scheduleDeadline(shard, tick);
+        startDelay.record(Math.max(0, System.currentTimeMillis() - scheduledAtMillis), TimeUnit.MILLISECONDS);
+        try {
+            task.run(tick);
+        } catch (CancellationException e) {
+            cancelled.increment();
+            log.warn("⏱️ {} 주기 중단 (deadline {}ms 초과): shard={}", name, settings.deadlineMillis(), shard.index);
+        } catch (Exception e) {
+            log.error("❌ {} 주기 실행 실패: shard={}, error={}", name, shard.index, e.getMessage(), e);
+        } finally {
+            synchronized (shard) {
+                shard.current = null;
+            }
+            if (deadline != null) {
+                deadline.cancel(false);
+            }
+        }
+    }
+
+    private ScheduledFuture<?> scheduleDeadline(Shard shard, Tick tick) {
+        if (settings.deadlineMillis() == 0) {
+            return null;
+        }
+        try {
+            return timer.schedule(() -> expire(shard, tick), settings.deadlineMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            return null; // 종료 중
+        }
+    }
+
+    private void expire(Shard shard, Tick tick) {
+        synchronized (shard) {
+            if (shard.current != tick) {
+                return;
+            }
+            tick.expired = true;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.smartfactory.smartmes_insight.security;
 
 import com.smartfactory.smartmes_insight.security.jwt.JwtAuthenticationFilter;
 import com.smartfactory.smartmes_insight.security.jwt.JwtTokenProvider;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -24,6 +25,8 @@ public class SecurityConfig {
         http
                 .csrf(csrf -> csrf.disable())
                 .authorizeHttpRequests(auth -> auth
+                        // 스트리밍(SSE) 응답 완료 시의 비동기 디스패치는 최초 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // Swagger UI 관련 모든 경로 허용
                         .requestMatchers(
                                 "/swagger-ui/**",
@@ -0,0 +1,53 @@
+package com.smartfactory.smartmes_insight.series;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 비트 단위 입력 ({@link BitOutput}으로 기록한 바이트를 읽음)
+ *
+ * 버퍼의 절대 위치로만 읽으므로 메모리 매핑 버퍼를 여러 스레드가 복사 없이 함께 읽을 수 있다.
+ */
+final class BitInput {
+
+    private final ByteBuffer buffer;
+    private final int end;
+    private int position;   // 다음에 읽을 바이트
+    private int bitsLeft;   // 현재 바이트에서 남은 비트
+    private int current;
+
+    BitInput(byte[] bytes) {
+        this(ByteBuffer.wrap(bytes), 0, bytes.length);
+    }
+
+    BitInput(ByteBuffer buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.position = offset;
+        this.end = offset + length;
+    }
+
+    boolean readBit() {
+        return readBits(1) == 1;
+    }
+
+    /**
+     * n비트를 읽어 하위 비트에 채워 반환 (n: 1~64)
+     */
+    long readBits(int n) {
+        long value = 0;
+        while (n > 0) {
+            if (bitsLeft == 0) {
+                if (position >= end) {
+                    throw new IllegalStateException("압축 데이터가 예상보다 짧습니다.");
+                }
+                current = buffer.get(position++) & 0xFF;
+                bitsLeft = 8;
+            }
+            int take = Math.min(bitsLeft, n);
+            int chunk = (current >>> (bitsLeft - take)) & ((1 << take) - 1);
+            value = (value << take) | chunk;
+            bitsLeft -= take;
+            n -= take;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,62 @@
+package com.smartfactory.smartmes_insight.series;
+
+import java.util.Arrays;
+
+/**
+ * 비트 단위 출력 버퍼 (상위 비트부터 채움, 마지막 바이트는 0으로 패딩)
+ */
+final class BitOutput {
+
+    private byte[] buffer;
+    private int length;
+    private int current;
+    private int bitsInCurrent;
+
+    BitOutput(int initialCapacity) {
+        this.buffer = new byte[Math.max(initialCapacity, 16)];
+    }
+
+    void writeBit(boolean bit) {
+        writeBits(bit ? 1 : 0, 1);
+    }
+
+    /**
+     * value의 하위 n비트를 상위 비트부터 기록 (n: 1~64)
+     */
+    void writeBits(long value, int n) {
+        while (n > 0) {
+            int free = 8 - bitsInCurrent;
+            int take = Math.min(free, n);
+            int chunk = (int) ((value >>> (n - take)) & ((1 << take) - 1));
+            current |= chunk << (free - take);
+            bitsInCurrent += take;
+            n -= take;
+            if (bitsInCurrent == 8) {
+                append((byte) current);
+                current = 0;
+                bitsInCurrent = 0;
+            }
+        }
+    }
+
+    private void append(byte b) {
+        if (length == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        buffer[length++] = b;
+    }
+
+    byte[] toByteArray() {
+        byte[] bytes = Arrays.copyOf(buffer, length + (bitsInCurrent > 0 ? 1 : 0));
+        if (bitsInCurrent > 0) {
+            bytes[length] = (byte) current;
+        }
+        return bytes;
+    }
+
+    void reset() {
+        length = 0;
+        current = 0;
+        bitsInCurrent = 0;
+    }
+}
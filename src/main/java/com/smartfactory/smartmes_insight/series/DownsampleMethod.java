@@ -0,0 +1,13 @@
+package com.smartfactory.smartmes_insight.series;
+
+/**
+ * 시계열 다운샘플링 방식
+ *
+ * - LTTB: Largest-Triangle-Three-Buckets. 구간별 최소/최대값을 후보로 먼저 추린 뒤(MinMaxLTTB)
+ *         후보에서 LTTB로 최종 점을 고른다. 곡선 모양을 가장 잘 보존한다.
+ * - MINMAX: 시간 구간마다 최소/최대 두 점을 그대로 남긴다. 스파이크가 절대 사라지지 않는다.
+ */
+public enum DownsampleMethod {
+    LTTB,
+    MINMAX
+}
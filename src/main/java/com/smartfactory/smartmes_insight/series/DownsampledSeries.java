@@ -0,0 +1,15 @@
+package com.smartfactory.smartmes_insight.series;
+
+/**
+ * 다운샘플링 결과 (열 단위 배열)
+ *
+ * @param rawCount   원본 행 수
+ * @param timestamps 시각 (epoch ms, 오름차순)
+ * @param values     측정값 (timestamps와 같은 인덱스)
+ */
+public record DownsampledSeries(long rawCount, long[] timestamps, double[] values) {
+
+    public int size() {
+        return timestamps.length;
+    }
+}
@@ -0,0 +1,82 @@
+package com.smartfactory.smartmes_insight.series;
+
+import java.nio.ByteBuffer;
+
+/**
+ * {@link GorillaEncoder}로 압축한 시각 열/값 열 복원
+ */
+final class GorillaDecoder {
+
+    private GorillaDecoder() {
+    }
+
+    static long[] decodeTimestamps(byte[] bytes, int count) {
+        return decodeTimestamps(new BitInput(bytes), count);
+    }
+
+    static long[] decodeTimestamps(ByteBuffer buffer, int offset, int length, int count) {
+        return decodeTimestamps(new BitInput(buffer, offset, length), count);
+    }
+
+    private static long[] decodeTimestamps(BitInput in, int count) {
+        long[] timestamps = new long[count];
+        long timestamp = 0;
+        long delta = 0;
+        for (int i = 0; i < count; i++) {
+            if (i == 0) {
+                timestamp = in.readBits(64);
+            } else {
+                long deltaOfDelta;
+                if (!in.readBit()) {
+                    deltaOfDelta = 0;
+                } else if (!in.readBit()) {
+                    deltaOfDelta = signed(in.readBits(7), 7);
+                } else if (!in.readBit()) {
+                    deltaOfDelta = signed(in.readBits(9), 9);
+                } else if (!in.readBit()) {
+                    deltaOfDelta = signed(in.readBits(12), 12);
+                } else {
+                    deltaOfDelta = in.readBits(64);
+                }
+                delta += deltaOfDelta;
+                timestamp += delta;
+            }
+            timestamps[i] = timestamp;
+        }
+        return timestamps;
+    }
+
+    static double[] decodeValues(byte[] bytes, int count) {
+        return decodeValues(new BitInput(bytes), count);
+    }
+
+    static double[] decodeValues(ByteBuffer buffer, int offset, int length, int count) {
+        return decodeValues(new BitInput(buffer, offset, length), count);
+    }
+
+    private static double[] decodeValues(BitInput in, int count) {
+        double[] values = new double[count];
+        long bits = 0;
+        int leading = 0;
+        int trailing = 0;
+        for (int i = 0; i < count; i++) {
+            if (i == 0) {
+                bits = in.readBits(64);
+            } else if (in.readBit()) {
+                if (in.readBit()) {
+                    leading = (int) in.readBits(5);
+                    int significant = (int) in.readBits(6) + 1;
+                    trailing = 64 - leading - significant;
+                }
+                bits ^= in.readBits(64 - leading - trailing) << trailing;
+            }
+            values[i] = Double.longBitsToDouble(bits);
+        }
+        return values;
+    }
+
+    // n비트 2의 보수 값을 long으로 부호 확장
+    private static long signed(long value, int bits) {
+        return (value << (64 - bits)) >> (64 - bits);
+    }
+}
@@ -0,0 +1,109 @@
+package com.smartfactory.smartmes_insight.series;
+
+/**
+ * 시계열 한 청크의 Gorilla 방식 열 압축
+ *
+ * 시각 열과 값 열을 각각의 비트 버퍼에 기록한다.
+ * - 시각 (ms): 첫 값은 64비트, 이후 delta-of-delta(dod)를
+ *   '0'(dod=0) / '10'+7비트 / '110'+9비트 / '1110'+12비트 / '1111'+64비트로 기록
+ * - 값 (double): 첫 값은 64비트, 이후 직전 값과의 XOR이
+ *   0이면 '0', 직전 유효 비트 구간 안이면 '10'+구간 비트,
+ *   아니면 '11'+선행 0 개수(5비트)+유효 비트 길이-1(6비트)+유효 비트로 기록
+ *
+ * 주기 수집(dod=0)이면 시각은 점당 1비트, 값이 그대로면 값도 점당 1비트가 된다.
+ */
+final class GorillaEncoder {
+
+    private final BitOutput timestamps = new BitOutput(1024);
+    private final BitOutput values = new BitOutput(4096);
+
+    private int count;
+    private long previousTime;
+    private long previousDelta;
+    private long previousBits;
+    private int previousLeading = -1;
+    private int previousTrailing;
+
+    void add(long timestampMillis, double value) {
+        encodeTimestamp(timestampMillis);
+        encodeValue(value);
+        count++;
+    }
+
+    private void encodeTimestamp(long timestamp) {
+        if (count == 0) {
+            timestamps.writeBits(timestamp, 64);
+            previousTime = timestamp;
+            previousDelta = 0;
+            return;
+        }
+        long delta = timestamp - previousTime;
+        long deltaOfDelta = delta - previousDelta;
+        if (deltaOfDelta == 0) {
+            timestamps.writeBit(false);
+        } else if (deltaOfDelta >= -64 && deltaOfDelta <= 63) {
+            timestamps.writeBits(0b10, 2);
+            timestamps.writeBits(deltaOfDelta, 7);
+        } else if (deltaOfDelta >= -256 && deltaOfDelta <= 255) {
+            timestamps.writeBits(0b110, 3);
+            timestamps.writeBits(deltaOfDelta, 9);
+        } else if (deltaOfDelta >= -2048 && deltaOfDelta <= 2047) {
+            timestamps.writeBits(0b1110, 4);
+            timestamps.writeBits(deltaOfDelta, 12);
+        } else {
+            timestamps.writeBits(0b1111, 4);
+            timestamps.writeBits(deltaOfDelta, 64);
+        }
+        previousDelta = delta;
+        previousTime = timestamp;
+    }
+
+    private void encodeValue(double value) {
+        long bits = Double.doubleToRawLongBits(value);
+        if (count == 0) {
+            values.writeBits(bits, 64);
+            previousBits = bits;
+            return;
+        }
+        long xor = bits ^ previousBits;
+        if (xor == 0) {
+            values.writeBit(false);
+        } else {
+            values.writeBit(true);
+            int leading = Math.min(Long.numberOfLeadingZeros(xor), 31);
+            int trailing = Long.numberOfTrailingZeros(xor);
+            if (previousLeading >= 0 && leading >= previousLeading && trailing >= previousTrailing) {
+                values.writeBit(false);
+                values.writeBits(xor >>> previousTrailing, 64 - previousLeading - previousTrailing);
+            } else {
+                int significant = 64 - leading - trailing;
+                values.writeBit(true);
+                values.writeBits(leading, 5);
+                values.writeBits(significant - 1, 6);
+                values.writeBits(xor >>> trailing, significant);
+                previousLeading = leading;
+                previousTrailing = trailing;
+            }
+        }
+        previousBits = bits;
+    }
+
+    int getCount() {
+        return count;
+    }
+
+    byte[] timestampBytes() {
+        return timestamps.toByteArray();
+    }
+
+    byte[] valueBytes() {
+        return values.toByteArray();
+    }
+
+    void reset() {
+        timestamps.reset();
+        values.reset();
+        count = 0;
+        previousLeading = -1;
+    }
+}
@@ -0,0 +1,12 @@
+package com.smartfactory.smartmes_insight.series;
+
+/**
+ * 저장점 사이 값 복원 방식 ({@link SeriesInterpolator})
+ *
+ * - STEP: 직전 저장값을 다음 저장점까지 유지 (deadband 압축과 짝)
+ * - LINEAR: 앞뒤 저장점을 직선으로 잇는다 (swinging-door 압축과 짝)
+ */
+public enum InterpolationMethod {
+    STEP,
+    LINEAR
+}
@@ -0,0 +1,43 @@
+package com.smartfactory.smartmes_insight.series;
+
+/**
+ * 세그먼트 파일의 블록 하나 (희소 시간 인덱스 항목)
+ *
+ * 블록 헤더만으로 구간 판단과 통계 계산이 가능하도록 시각 범위와 요약값을 함께 둔다.
+ *
+ * @param offset      파일 안에서 블록 헤더 위치
+ * @param startTime   첫 점 시각 (epoch ms)
+ * @param endTime     마지막 점 시각 (epoch ms)
+ * @param count       점 수
+ * @param min         최솟값
+ * @param max         최댓값
+ * @param sum         합계
+ * @param timestampBytes 압축된 시각 열 길이
+ * @param valueBytes  압축된 값 열 길이
+ */
+record SegmentBlock(long offset, long startTime, long endTime, int count,
+                    double min, double max, double sum, int timestampBytes, int valueBytes) {
+
+    // startTime(8) | endTime(8) | count(4) | min(8) | max(8) | sum(8) | 시각 열 길이(4) | 값 열 길이(4) | CRC32(4)
+    static final int HEADER_BYTES = 56;
+
+    long timestampOffset() {
+        return offset + HEADER_BYTES;
+    }
+
+    long valueOffset() {
+        return timestampOffset() + timestampBytes;
+    }
+
+    long end() {
+        return valueOffset() + valueBytes;
+    }
+
+    boolean overlaps(long start, long end) {
+        return endTime >= start && startTime <= end;
+    }
+
+    boolean within(long start, long end) {
+        return startTime >= start && endTime <= end;
+    }
+}
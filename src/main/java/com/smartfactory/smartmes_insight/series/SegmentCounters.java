@@ -0,0 +1,17 @@
+package com.smartfactory.smartmes_insight.series;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 세그먼트 저장소 누적 카운터 (모든 센서 시리즈가 공유, 메트릭은 {@link SegmentSensorLogStore}가 등록)
+ */
+final class SegmentCounters {
+
+    final LongAdder appends = new LongAdder();
+    final LongAdder sealed = new LongAdder();
+    final LongAdder decoded = new LongAdder();
+    final LongAdder skipped = new LongAdder();
+    final LongAdder outOfOrder = new LongAdder();
+    final LongAdder duplicates = new LongAdder();
+    final LongAdder recovered = new LongAdder();
+}
@@ -0,0 +1,233 @@
+package com.smartfactory.smartmes_insight.series;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * 🗂️ 센서 하나의 추가 전용 세그먼트 파일 (.seg)
+ *
+ * 파일 구조 (빅 엔디언):
+ * <pre>
+ *   헤더 : "SMSG" | 버전(1B) | sensorId(8B)
+ *   블록 : 블록 헤더({@link SegmentBlock#HEADER_BYTES}B) | 시각 열 | 값 열   (반복)
+ * </pre>
+ * 열은 {@link GorillaEncoder}로 압축하며, 블록은 파일 끝에 위치 지정 쓰기로만 추가한다.
+ *
+ * - 열 때 블록 헤더만 따라가며 희소 인덱스(블록별 시각 범위)를 메모리에 만든다
+ * - 블록 CRC는 블록 헤더(CRC 앞까지)와 본문을 함께 덮는다 (점 개수/시각 범위/열 길이 손상도 검출)
+ * - 끝이 잘렸거나 CRC가 맞지 않는 블록(기록 중 종료)은 그 위치부터 잘라낸다
+ * - 읽기는 읽기 전용 메모리 매핑으로 하며, 파일이 커지면 다음 읽기 때 다시 매핑한다
+ */
+@Slf4j
+final class SegmentFile {
+
+    private static final byte[] MAGIC = {'S', 'M', 'S', 'G'};
+    private static final byte VERSION = 2; // 2: 블록 CRC에 헤더 포함
+    static final int FILE_HEADER_BYTES = MAGIC.length + 1 + 8;
+    private static final int CRC_COVERED_HEADER_BYTES = SegmentBlock.HEADER_BYTES - 4;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final List<SegmentBlock> blocks;
+    private long size;
+
+    private MappedByteBuffer mapped;
+    private long mappedSize;
+
+    private SegmentFile(Path path, FileChannel channel, List<SegmentBlock> blocks, long size) {
+        this.path = path;
+        this.channel = channel;
+        this.blocks = blocks;
+        this.size = size;
+    }
+
+    static SegmentFile create(Path path, long sensorId) throws IOException {
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_BYTES);
+        header.put(MAGIC).put(VERSION).putLong(sensorId).flip();
+        writeFully(channel, header, 0);
+        return new SegmentFile(path, channel, new ArrayList<>(), FILE_HEADER_BYTES);
+    }
+
+    /**
+     * 기존 파일을 열어 블록 인덱스 복원 (손상된 끝 블록은 잘라냄)
+     *
+     * @param counters 잘라낸 블록 수를 기록할 카운터
+     */
+    static SegmentFile open(Path path, long sensorId, SegmentCounters counters) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long fileSize = channel.size();
+            ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_BYTES);
+            if (fileSize < FILE_HEADER_BYTES || channel.read(header, 0) < FILE_HEADER_BYTES) {
+                throw new IOException("세그먼트 파일 헤더가 없습니다: " + path);
+            }
+            header.flip();
+            byte[] magic = new byte[MAGIC.length];
+            header.get(magic);
+            if (!Arrays.equals(magic, MAGIC) || header.get() != VERSION || header.getLong() != sensorId) {
+                throw new IOException("세그먼트 파일 형식이 아닙니다: " + path);
+            }
+
+            List<SegmentBlock> blocks = new ArrayList<>();
+            long position = FILE_HEADER_BYTES;
+            ByteBuffer blockHeader = ByteBuffer.allocate(SegmentBlock.HEADER_BYTES);
+            while (position < fileSize) {
+                SegmentBlock block = readBlock(channel, blockHeader, position, fileSize);
+                if (block == null) {
+                    log.warn("⚠️ 세그먼트 끝 블록 손상 - 잘라냄: {}, offset={}, 버린 바이트={}",
+                            path, position, fileSize - position);
+                    channel.truncate(position);
+                    channel.force(true);
+                    counters.recovered.increment();
+                    break;
+                }
+                blocks.add(block);
+                position = block.end();
+            }
+            return new SegmentFile(path, channel, blocks, position);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    // 블록 헤더와 본문이 모두 있고 CRC가 맞을 때만 블록 반환
+    private static SegmentBlock readBlock(FileChannel channel, ByteBuffer header, long position, long fileSize)
+            throws IOException {
+        if (position + SegmentBlock.HEADER_BYTES > fileSize) {
+            return null;
+        }
+        header.clear();
+        readFully(channel, header, position);
+        header.flip();
+        SegmentBlock block = new SegmentBlock(position, header.getLong(), header.getLong(), header.getInt(),
+                header.getDouble(), header.getDouble(), header.getDouble(), header.getInt(), header.getInt());
+        int crc = header.getInt();
+        if (block.count() <= 0 || block.timestampBytes() < 0 || block.valueBytes() < 0
+                || block.endTime() < block.startTime() || block.end() > fileSize) {
+            return null;
+        }
+        ByteBuffer body = ByteBuffer.allocate(block.timestampBytes() + block.valueBytes());
+        readFully(channel, body, block.timestampOffset());
+        return crc == checksum(header.array(), body.array()) ? block : null;
+    }
+
+    /**
+     * 점 count개를 압축해 블록으로 추가
+     *
+     * @param force true면 반환 전에 디스크에 기록 (fsync)
+     */
+    SegmentBlock append(long[] timestamps, double[] values, int count, boolean force) throws IOException {
+        GorillaEncoder encoder = new GorillaEncoder();
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        double sum = 0;
+        for (int i = 0; i < count; i++) {
+            encoder.add(timestamps[i], values[i]);
+            min = Math.min(min, values[i]);
+            max = Math.max(max, values[i]);
+            sum += values[i];
+        }
+        byte[] timestampBytes = encoder.timestampBytes();
+        byte[] valueBytes = encoder.valueBytes();
+
+        ByteBuffer body = ByteBuffer.allocate(timestampBytes.length + valueBytes.length);
+        body.put(timestampBytes).put(valueBytes);
+        SegmentBlock block = new SegmentBlock(size, timestamps[0], timestamps[count - 1], count,
+                min, max, sum, timestampBytes.length, valueBytes.length);
+
+        ByteBuffer buffer = ByteBuffer.allocate(SegmentBlock.HEADER_BYTES + body.capacity());
+        buffer.putLong(block.startTime()).putLong(block.endTime()).putInt(count)
+                .putDouble(min).putDouble(max).putDouble(sum)
+                .putInt(timestampBytes.length).putInt(valueBytes.length)
+                .putInt(checksum(buffer.array(), body.array()))
+                .put(body.array())
+                .flip();
+        writeFully(channel, buffer, size);
+        if (force) {
+            channel.force(false);
+        }
+
+        synchronized (this) {
+            blocks.add(block);
+            size = block.end();
+        }
+        return block;
+    }
+
+    long[] timestamps(SegmentBlock block) throws IOException {
+        return GorillaDecoder.decodeTimestamps(
+                mapped(block), (int) block.timestampOffset(), block.timestampBytes(), block.count());
+    }
+
+    double[] values(SegmentBlock block) throws IOException {
+        return GorillaDecoder.decodeValues(
+                mapped(block), (int) block.valueOffset(), block.valueBytes(), block.count());
+    }
+
+    // 블록이 현재 매핑 밖이면 파일 전체를 다시 매핑 (매핑은 읽기 전용이고 절대 위치로만 읽으므로 공유 가능)
+    private synchronized ByteBuffer mapped(SegmentBlock block) throws IOException {
+        if (mapped == null || mappedSize < block.end()) {
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            mappedSize = size;
+        }
+        return mapped;
+    }
+
+    synchronized List<SegmentBlock> blocks() {
+        return Collections.unmodifiableList(new ArrayList<>(blocks));
+    }
+
+    synchronized SegmentBlock lastBlock() {
+        return blocks.isEmpty() ? null : blocks.get(blocks.size() - 1);
+    }
+
+    synchronized long size() {
+        return size;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    void close() throws IOException {
+        channel.close();
+    }
+
+    // 블록 헤더의 CRC 앞부분 + 본문
+    private static int checksum(byte[] header, byte[] body) {
+        CRC32 crc = new CRC32();
+        crc.update(header, 0, CRC_COVERED_HEADER_BYTES);
+        crc.update(body);
+        return (int) crc.getValue();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("세그먼트 파일이 예상보다 짧습니다: " + channel);
+            }
+            position += read;
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package com.smartfactory.smartmes_insight.series;
+
+import com.smartfactory.smartmes_insight.domain.sensor.Sensor;
+import com.smartfactory.smartmes_insight.domain.sensor.SensorLog;
+import com.smartfactory.smartmes_insight.domain.sensor.SensorLogStatistics;
+import com.smartfactory.smartmes_insight.domain.sensor.SensorLogStore;
+import com.smartfactory.smartmes_insight.domain.sensor.SensorRepository;
+import com.smartfactory.smartmes_insight.ingest.SensorReadingBatch;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Stream;
+
+/**
+ * 🗂️ 세그먼트 파일 기반 센서 측정값 저장소 (sensor.storage.mode=segment)
+ *
+ * 측정값을 MySQL 행 대신 센서별 추가 전용 압축 세그먼트 파일({@link SensorSegmentSeries})에 기록한다.
+ * 센서/설비 메타데이터와 알림은 계속 관계형 DB를 사용한다.
+ *
+ * - 활성 블록은 block-points개가 차거나 seal-interval-ms가 지나면 봉인 (종료 시에도 봉인)
+ * - 봉인 전 활성 블록은 메모리에만 있으므로 saveBatch 반환이 영구 저장을 뜻하지 않는다.
+ *   WAL은 {@link #flush()}로 모든 활성 블록을 봉인한 뒤에만 checkpoint한다
+ * - 시각은 ms 단위로 저장하며, 조회 결과 SensorLog에는 id가 없다
+ * - 마지막 봉인 블록 이전 시각의 측정값은 버리므로 WAL 재적재가 같은 측정값을 다시 넣어도 중복되지 않는다
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "sensor.storage", name = "mode", havingValue = "segment")
+public class SegmentSensorLogStore implements SensorLogStore {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final SensorRepository sensorRepository;
+    private final SegmentCounters counters = new SegmentCounters();
+    private final Map<Long, SensorSegmentSeries> series = new ConcurrentSkipListMap<>();
+
+    @Value("${sensor.storage.segment.directory:./data/segments}")
+    private String directory;
+
+    @Value("${sensor.storage.segment.block-points:1024}")
+    private int blockPoints;
+
+    @Value("${sensor.storage.segment.seal-interval-ms:60000}")
+    private long sealIntervalMillis;
+
+    @Value("${sensor.storage.segment.segment-bytes:67108864}")
+    private long segmentBytes;
+
+    @Value("${sensor.storage.segment.fsync:true}")
+    private boolean fsync;
+
+    public SegmentSensorLogStore(SensorRepository sensorRepository, MeterRegistry meterRegistry) {
+        this.sensorRepository = sensorRepository;
+
+        counter(meterRegistry, "sensor.segment.appends", "세그먼트 저장소에 추가한 측정값 수", counters.appends);
+        counter(meterRegistry, "sensor.segment.sealed", "봉인해 파일에 기록한 블록 수", counters.sealed);
+        counter(meterRegistry, "sensor.segment.blocks.decoded", "조회 중 압축 해제한 블록 수", counters.decoded);
+        counter(meterRegistry, "sensor.segment.blocks.skipped", "블록 헤더만으로 처리해 압축 해제를 생략한 블록 수", counters.skipped);
+        counter(meterRegistry, "sensor.segment.out_of_order", "직전 점보다 이른 시각이라 버린 측정값 수", counters.outOfOrder);
+        counter(meterRegistry, "sensor.segment.duplicates", "이미 봉인된 구간이라 버린 측정값 수 (WAL 재적재 중복)", counters.duplicates);
+        counter(meterRegistry, "sensor.segment.recovered", "열 때 잘라낸 손상 블록 수", counters.recovered);
+        Gauge.builder("sensor.segment.series", series, Map::size)
+                .description("열려 있는 센서 시리즈 수")
+                .register(meterRegistry);
+    }
+
+    private static void counter(MeterRegistry registry, String name, String description, LongAdder adder) {
+        FunctionCounter.builder(name, adder, (ToDoubleFunction<LongAdder>) LongAdder::sum)
+                .description(description)
+                .register(registry);
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        if (blockPoints < 2 || segmentBytes > Integer.MAX_VALUE) {
+            throw new IllegalStateException("sensor.storage.segment 설정이 올바르지 않습니다 (block-points >= 2, segment-bytes < 2GB).");
+        }
+        Path root = root();
+        Files.createDirectories(root);
+        try (Stream<Path> stream = Files.list(root)) {
+            for (Path path : stream.filter(Files::isDirectory).toList()) {
+                String name = path.getFileName().toString();
+                if (name.startsWith("sensor-")) {
+                    long sensorId = Long.parseLong(name.substring("sensor-".length()));
+                    series.put(sensorId, openSeries(sensorId));
+                }
+            }
+        }
+        log.info("🗂️ 세그먼트 저장소 열림: {}, 센서 {}개, block-points={}, fsync={}",
+                root.toAbsolutePath(), series.size(), blockPoints, fsync);
+    }
+
+    @PreDestroy
+    public void close() {
+        for (Map.Entry<Long, SensorSegmentSeries> entry : series.entrySet()) {
+            try {
+                entry.getValue().close();
+            } catch (IOException e) {
+                log.error("❌ 세그먼트 시리즈 닫기 실패: sensorId={}", entry.getKey(), e);
+            }
+        }
+        series.clear();
+    }
+
+    /**
+     * 봉인 주기가 지난 활성 블록 기록
+     */
+    @Scheduled(fixedDelayString = "${sensor.storage.segment.seal-interval-ms:60000}")
+    public void sealStaleBlocks() {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<Long, SensorSegmentSeries> entry : series.entrySet()) {
+            try {
+                entry.getValue().sealIfOlderThan(now, sealIntervalMillis);
+            } catch (IOException e) {
+                log.error("❌ 세그먼트 블록 봉인 실패: sensorId={}", entry.getKey(), e);
+            }
+        }
+    }
+
+    // ========================= 쓰기 =========================
+
+    @Override
+    public SensorLog save(SensorLog sensorLog) {
+        Long sensorId = sensorLog.getSensor().getId();
+        try {
+            if (!seriesFor(sensorId).append(toMillis(sensorLog.getCollectedAt()), sensorLog.getValue())) {
+                log.warn("⚠️ 마지막 측정값보다 이른 시각이라 세그먼트에 기록하지 않음: sensorId={}, collectedAt={}",
+                        sensorId, sensorLog.getCollectedAt());
+            }
+            return sensorLog;
+        } catch (IOException e) {
+            throw new UncheckedIOException("측정값을 세그먼트에 기록할 수 없습니다: sensorId=" + sensorId, e);
+        }
+    }
+
+    @Override
+    public void saveBatch(SensorReadingBatch batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            long sensorId = batch.sensorId(i);
+            try {
+                seriesFor(sensorId).append(batch.timestamp(i), batch.value(i));
+            } catch (IOException e) {
+                throw new UncheckedIOException("측정값을 세그먼트에 기록할 수 없습니다: sensorId=" + sensorId, e);
+            }
+        }
+    }
+
+    @Override
+    public boolean isDurableOnSave() {
+        return false;
+    }
+
+    /**
+     * 모든 활성 블록 봉인 (fsync=true면 파일에 기록 후 fsync)
+     */
+    @Override
+    public void flush() {
+        for (Map.Entry<Long, SensorSegmentSeries> entry : series.entrySet()) {
+            try {
+                entry.getValue().seal();
+            } catch (IOException e) {
+                throw new UncheckedIOException("세그먼트 블록을 봉인할 수 없습니다: sensorId=" + entry.getKey(), e);
+            }
+        }
+    }
+
+    // ConcurrentSkipListMap.computeIfAbsent는 함수가 한 번만 호출된다고 보장하지 않으므로 생성은 잠금 안에서
+    private SensorSegmentSeries seriesFor(Long sensorId) {
+        SensorSegmentSeries existing = series.get(sensorId);
+        if (existing != null) {
+            return existing;
+        }
+        synchronized (series) {
+            existing = series.get(sensorId);
+            if (existing == null) {
+                try {
+                    existing = openSeries(sensorId);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("세그먼트 시리즈를 열 수 없습니다: sensorId=" + sensorId, e);
+                }
+                series.put(sensorId, existing);
+            }
+            return existing;
+        }
+    }
+
+    private SensorSegmentSeries openSeries(long sensorId) throws IOException {
+        return SensorSegmentSeries.open(sensorId, root().resolve(SensorSegmentSeries.directoryName(sensorId)),
+                blockPoints, segmentBytes, fsync, counters);
+    }
+
+    // ========================= 조회 =========================
+
+    @Override
+    public List<SensorLog> findByPeriod(Sensor sensor, LocalDateTime start, LocalDateTime end) {
+        List<SensorLog> logs = new ArrayList<>();
+        SensorSegmentSeries sensorSeries = series.get(sensor.getId());
+        if (sensorSeries != null) {
+            sensorSeries.scan(toMillis(start), toMillis(end), (timestamp, value) -> logs.add(toLog(sensor, timestamp, value)));
+        }
+        return logs;
+    }
+
+    @Override
+    public List<SensorLog> findRecent(Sensor sensor, int limit) {
+        List<SensorLog> logs = new ArrayList<>();
+        SensorSegmentSeries sensorSeries = series.get(sensor.getId());
+        if (sensorSeries != null) {
+            sensorSeries.recent(limit, (timestamp, value) -> logs.add(toLog(sensor, timestamp, value)));
+        }
+        return logs;
+    }
+
+    @Override
+    public List<SensorLog> findOutsideRange(Sensor sensor, LocalDateTime start, LocalDateTime end, double min, double max) {
+        List<SensorLog> logs = new ArrayList<>();
+        SensorSegmentSeries sensorSeries = series.get(sensor.getId());
+        if (sensorSeries != null) {
+            sensorSeries.scanOutside(toMillis(start), toMillis(end), min, max,
+                    (timestamp, value) -> logs.add(toLog(sensor, timestamp, value)));
+        }
+        return logs;
+    }
+
+    @Override
+    public SensorLogStatistics getStatistics(Long sensorId, LocalDateTime start, LocalDateTime end) {
+        SensorSegmentSeries sensorSeries = series.get(sensorId);
+        return sensorSeries != null ? sensorSeries.statistics(toMillis(start), toMillis(end)) : SensorLogStatistics.EMPTY;
+    }
+
+    @Override
+    public List<SensorLog> findLatestForAllSensors() {
+        return latest(sensorRepository.findAll());
+    }
+
+    @Override
+    public List<SensorLog> findLatestByFacilityId(Long facilityId) {
+        return latest(sensorRepository.findByFacilityId(facilityId));
+    }
+
+    private List<SensorLog> latest(List<Sensor> sensors) {
+        Map<Long, SensorLog> logs = new TreeMap<>();
+        for (Sensor sensor : sensors) {
+            SensorSegmentSeries sensorSeries = series.get(sensor.getId());
+            if (sensorSeries != null) {
+                sensorSeries.latest((timestamp, value) -> logs.put(sensor.getId(), toLog(sensor, timestamp, value)));
+            }
+        }
+        return new ArrayList<>(logs.values());
+    }
+
+    @Override
+    public long scan(Long sensorId, LocalDateTime start, LocalDateTime end, SeriesPointConsumer consumer) {
+        SensorSegmentSeries sensorSeries = series.get(sensorId);
+        return sensorSeries != null ? sensorSeries.scan(toMillis(start), toMillis(end), consumer) : 0;
+    }
+
+    @Override
+    public long scanRange(Long sensorId, LocalDateTime start, LocalDateTime end, SensorPointConsumer consumer) {
+        long from = toMillis(start);
+        long to = toMillis(end) - 1; // 종료 시각 미포함
+        long points = 0;
+        // ConcurrentSkipListMap이므로 센서 ID 순으로 순회
+        for (Map.Entry<Long, SensorSegmentSeries> entry : series.entrySet()) {
+            long id = entry.getKey();
+            if (sensorId == null || sensorId == id) {
+                points += entry.getValue().scan(from, to, (timestamp, value) -> consumer.accept(id, timestamp, value));
+            }
+        }
+        return points;
+    }
+
+    private Path root() {
+        return Paths.get(directory);
+    }
+
+    private static SensorLog toLog(Sensor sensor, long timestampMillis, double value) {
+        return SensorLog.builder()
+                .sensor(sensor)
+                .value(value)
+                .collectedAt(toDateTime(timestampMillis))
+                .build();
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZONE).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toDateTime(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZONE);
+    }
+}
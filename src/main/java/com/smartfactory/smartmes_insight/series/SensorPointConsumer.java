@@ -0,0 +1,10 @@
+package com.smartfactory.smartmes_insight.series;
+
+/**
+ * 센서 ID를 포함한 시계열 한 점 소비자 (행마다 박싱 없이 전달)
+ */
+@FunctionalInterface
+public interface SensorPointConsumer {
+
+    void accept(long sensorId, long timestampMillis, double value);
+}
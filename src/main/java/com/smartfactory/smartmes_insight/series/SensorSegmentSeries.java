@@ -0,0 +1,330 @@
+package com.smartfactory.smartmes_insight.series;
+
+import com.smartfactory.smartmes_insight.domain.sensor.SensorLogStatistics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 센서 하나의 세그먼트 시계열
+ *
+ * {dir}/sensor-{id}/{첫 점 시각}.seg 파일들로 구성하며, 마지막 파일이 segment-bytes를 넘으면 새 파일로 넘어간다.
+ *
+ * - 쓰기: 최근 점은 메모리의 활성 블록(원시 배열)에 모으고, 가득 차거나 봉인 주기가 지나면 압축 블록으로 기록
+ * - 시각은 단조 증가로 유지 (직전 점보다 이른 점은 시각을 바꾸지 않고 버리고 집계)
+ * - 마지막 봉인 블록의 끝 시각 이하인 점은 이미 파일에 있는 점으로 보고 버린다
+ *   (비정상 종료 후 WAL이 마지막 checkpoint부터 재적재할 때, checkpoint 이후 봉인된 블록의 점이 다시 들어오지 않도록)
+ * - 읽기: 잠금 안에서는 겹치는 블록 목록과 활성 블록 복사본만 만들고, 압축 해제는 잠금 밖에서 수행
+ *
+ * 활성 블록은 봉인 전까지 메모리에만 있으므로 비정상 종료 시 유실된다.
+ */
+final class SensorSegmentSeries {
+
+    private static final String SUFFIX = ".seg";
+
+    private final long sensorId;
+    private final Path directory;
+    private final int blockPoints;
+    private final long segmentBytes;
+    private final boolean fsync;
+    private final SegmentCounters counters;
+
+    private final List<SegmentFile> files = new ArrayList<>();
+    private final long[] activeTimestamps;
+    private final double[] activeValues;
+    private int activeCount;
+    private long activeSince;
+
+    private long sealedEnd = Long.MIN_VALUE; // 마지막 봉인 블록의 끝 시각
+    private boolean hasLast;
+    private long lastTimestamp;
+    private double lastValue;
+
+    private SensorSegmentSeries(long sensorId, Path directory, int blockPoints, long segmentBytes,
+                                boolean fsync, SegmentCounters counters) {
+        this.sensorId = sensorId;
+        this.directory = directory;
+        this.blockPoints = blockPoints;
+        this.segmentBytes = segmentBytes;
+        this.fsync = fsync;
+        this.counters = counters;
+        this.activeTimestamps = new long[blockPoints];
+        this.activeValues = new double[blockPoints];
+    }
+
+    /**
+     * 센서 디렉터리의 세그먼트 파일을 모두 열어 시리즈 구성 (디렉터리가 없으면 생성)
+     */
+    static SensorSegmentSeries open(long sensorId, Path directory, int blockPoints, long segmentBytes,
+                                    boolean fsync, SegmentCounters counters) throws IOException {
+        SensorSegmentSeries series =
+                new SensorSegmentSeries(sensorId, directory, blockPoints, segmentBytes, fsync, counters);
+        Files.createDirectories(directory);
+        List<Path> paths;
+        try (Stream<Path> stream = Files.list(directory)) {
+            paths = stream.filter(path -> path.getFileName().toString().endsWith(SUFFIX))
+                    .sorted(Comparator.comparingLong(SensorSegmentSeries::fileStartTime))
+                    .toList();
+        }
+        for (Path path : paths) {
+            series.files.add(SegmentFile.open(path, sensorId, counters));
+        }
+        series.restoreLast();
+        return series;
+    }
+
+    static String directoryName(long sensorId) {
+        return "sensor-" + sensorId;
+    }
+
+    private static long fileStartTime(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+    }
+
+    private void restoreLast() throws IOException {
+        for (int i = files.size() - 1; i >= 0 && !hasLast; i--) {
+            SegmentBlock block = files.get(i).lastBlock();
+            if (block != null) {
+                double[] values = files.get(i).values(block);
+                hasLast = true;
+                sealedEnd = block.endTime();
+                lastTimestamp = block.endTime();
+                lastValue = values[values.length - 1];
+            }
+        }
+    }
+
+    // ========================= 쓰기 =========================
+
+    /**
+     * 점 추가 (활성 블록이 가득 차면 봉인)
+     *
+     * @return 기록했으면 true (이미 봉인된 구간의 점, 직전 점보다 이른 점은 버리고 false)
+     */
+    synchronized boolean append(long timestampMillis, double value) throws IOException {
+        if (timestampMillis <= sealedEnd) {
+            counters.duplicates.increment();
+            return false;
+        }
+        if (hasLast && timestampMillis < lastTimestamp) {
+            counters.outOfOrder.increment();
+            return false;
+        }
+        if (activeCount == 0) {
+            activeSince = System.currentTimeMillis();
+        }
+        activeTimestamps[activeCount] = timestampMillis;
+        activeValues[activeCount] = value;
+        activeCount++;
+        hasLast = true;
+        lastTimestamp = timestampMillis;
+        lastValue = value;
+        counters.appends.increment();
+
+        if (activeCount == blockPoints) {
+            seal();
+        }
+        return true;
+    }
+
+    /**
+     * 활성 블록을 maxAgeMillis 이상 모았으면 봉인
+     */
+    synchronized void sealIfOlderThan(long nowMillis, long maxAgeMillis) throws IOException {
+        if (activeCount > 0 && nowMillis - activeSince >= maxAgeMillis) {
+            seal();
+        }
+    }
+
+    synchronized void seal() throws IOException {
+        if (activeCount == 0) {
+            return;
+        }
+        SegmentFile file = files.isEmpty() ? null : files.get(files.size() - 1);
+        if (file == null || file.size() >= segmentBytes) {
+            file = SegmentFile.create(directory.resolve(activeTimestamps[0] + SUFFIX), sensorId);
+            files.add(file);
+        }
+        file.append(activeTimestamps, activeValues, activeCount, fsync);
+        sealedEnd = activeTimestamps[activeCount - 1];
+        activeCount = 0;
+        counters.sealed.increment();
+    }
+
+    synchronized void close() throws IOException {
+        try {
+            seal();
+        } finally {
+            for (SegmentFile file : files) {
+                file.close();
+            }
+        }
+    }
+
+    // ========================= 읽기 =========================
+
+    /**
+     * [start, end] 구간의 점을 시각 오름차순으로 전달
+     *
+     * @return 전달한 점 수
+     */
+    long scan(long start, long end, SeriesPointConsumer consumer) {
+        return scan(start, end, false, 0, 0, consumer);
+    }
+
+    /**
+     * [start, end] 구간에서 값이 [min, max] 밖인 점만 전달 (블록 최솟값/최댓값이 범위 안이면 압축 해제 생략)
+     */
+    long scanOutside(long start, long end, double min, double max, SeriesPointConsumer consumer) {
+        return scan(start, end, true, min, max, consumer);
+    }
+
+    private long scan(long start, long end, boolean outsideOnly, double min, double max,
+                      SeriesPointConsumer consumer) {
+        Snapshot snapshot = snapshot(start, end);
+        long emitted = 0;
+        for (BlockRef ref : snapshot.blocks()) {
+            if (outsideOnly && ref.block().min() >= min && ref.block().max() <= max) {
+                counters.skipped.increment();
+                continue;
+            }
+            Decoded decoded = decode(ref);
+            emitted += emit(decoded.timestamps(), decoded.values(), decoded.timestamps().length,
+                    start, end, outsideOnly, min, max, consumer);
+        }
+        emitted += emit(snapshot.activeTimestamps(), snapshot.activeValues(), snapshot.activeTimestamps().length,
+                start, end, outsideOnly, min, max, consumer);
+        return emitted;
+    }
+
+    private static long emit(long[] timestamps, double[] values, int count, long start, long end,
+                             boolean outsideOnly, double min, double max, SeriesPointConsumer consumer) {
+        long emitted = 0;
+        for (int i = 0; i < count; i++) {
+            long timestamp = timestamps[i];
+            if (timestamp < start || timestamp > end) {
+                continue;
+            }
+            double value = values[i];
+            if (outsideOnly && !(value < min || value > max)) {
+                continue;
+            }
+            consumer.accept(timestamp, value);
+            emitted++;
+        }
+        return emitted;
+    }
+
+    /**
+     * [start, end] 구간 통계 (구간에 완전히 포함된 블록은 블록 헤더의 요약값만 사용)
+     */
+    SensorLogStatistics statistics(long start, long end) {
+        Snapshot snapshot = snapshot(start, end);
+        long count = 0;
+        double sum = 0;
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (BlockRef ref : snapshot.blocks()) {
+            SegmentBlock block = ref.block();
+            if (block.within(start, end)) {
+                count += block.count();
+                sum += block.sum();
+                min = Math.min(min, block.min());
+                max = Math.max(max, block.max());
+                counters.skipped.increment();
+                continue;
+            }
+            Decoded decoded = decode(ref);
+            for (int i = 0; i < decoded.timestamps().length; i++) {
+                if (decoded.timestamps()[i] >= start && decoded.timestamps()[i] <= end) {
+                    double value = decoded.values()[i];
+                    count++;
+                    sum += value;
+                    min = Math.min(min, value);
+                    max = Math.max(max, value);
+                }
+            }
+        }
+        for (int i = 0; i < snapshot.activeTimestamps().length; i++) {
+            if (snapshot.activeTimestamps()[i] >= start && snapshot.activeTimestamps()[i] <= end) {
+                double value = snapshot.activeValues()[i];
+                count++;
+                sum += value;
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+        }
+        return count == 0 ? SensorLogStatistics.EMPTY : new SensorLogStatistics(count, sum / count, min, max);
+    }
+
+    /**
+     * 최근 점 limit개를 최신순으로 전달 (활성 블록, 마지막 블록부터 거꾸로 읽음)
+     */
+    void recent(int limit, SeriesPointConsumer consumer) {
+        Snapshot snapshot = snapshot(Long.MIN_VALUE, Long.MAX_VALUE);
+        int remaining = limit;
+        for (int i = snapshot.activeTimestamps().length - 1; i >= 0 && remaining > 0; i--, remaining--) {
+            consumer.accept(snapshot.activeTimestamps()[i], snapshot.activeValues()[i]);
+        }
+        List<BlockRef> blocks = snapshot.blocks();
+        for (int b = blocks.size() - 1; b >= 0 && remaining > 0; b--) {
+            Decoded decoded = decode(blocks.get(b));
+            for (int i = decoded.timestamps().length - 1; i >= 0 && remaining > 0; i--, remaining--) {
+                consumer.accept(decoded.timestamps()[i], decoded.values()[i]);
+            }
+        }
+    }
+
+    /**
+     * 최신 점을 전달 (점이 없으면 false)
+     */
+    synchronized boolean latest(SeriesPointConsumer consumer) {
+        if (hasLast) {
+            consumer.accept(lastTimestamp, lastValue);
+        }
+        return hasLast;
+    }
+
+    private synchronized Snapshot snapshot(long start, long end) {
+        List<BlockRef> blocks = new ArrayList<>();
+        for (SegmentFile file : files) {
+            SegmentBlock last = file.lastBlock();
+            if (last == null || last.endTime() < start) {
+                continue;
+            }
+            for (SegmentBlock block : file.blocks()) {
+                if (block.overlaps(start, end)) {
+                    blocks.add(new BlockRef(file, block));
+                }
+            }
+        }
+        return new Snapshot(blocks,
+                Arrays.copyOf(activeTimestamps, activeCount), Arrays.copyOf(activeValues, activeCount));
+    }
+
+    private Decoded decode(BlockRef ref) {
+        try {
+            counters.decoded.increment();
+            return new Decoded(ref.file().timestamps(ref.block()), ref.file().values(ref.block()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("세그먼트 블록을 읽을 수 없습니다: " + ref.file().path(), e);
+        }
+    }
+
+    private record BlockRef(SegmentFile file, SegmentBlock block) {
+    }
+
+    private record Snapshot(List<BlockRef> blocks, long[] activeTimestamps, double[] activeValues) {
+    }
+
+    private record Decoded(long[] timestamps, double[] values) {
+    }
+}
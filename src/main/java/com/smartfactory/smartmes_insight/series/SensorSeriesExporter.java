@@ -0,0 +1,104 @@
+package com.smartfactory.smartmes_insight.series;
+
+import com.smartfactory.smartmes_insight.domain.sensor.SensorLogStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 📦 센서 로그 압축 내보내기
+ *
+ * [start, end) 구간 센서 로그를 커서로 읽으면서 바로 {@link SeriesExportWriter}로 압축해 출력한다.
+ * 엔티티/JSON 변환이 없고, 메모리에는 현재 청크(센서 1개의 하루치)만 남는다.
+ *
+ * 읽기 전용 트랜잭션으로 조회하므로 복제본이 켜져 있으면 복제본에서 읽는다.
+ * DB 작업 분류는 호출 측에서 지정한다 (HTTP 내보내기/배치 작업 모두 BATCH).
+ */
+@Slf4j
+@Component
+public class SensorSeriesExporter {
+
+    private final SensorLogStore sensorLogStore;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final Timer exportTimer;
+    private final Counter pointsExported;
+    private final Counter bytesExported;
+
+    @Value("${sensor.export.max-days:31}")
+    private int maxDays;
+
+    public SensorSeriesExporter(SensorLogStore sensorLogStore,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry) {
+        this.sensorLogStore = sensorLogStore;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        this.exportTimer = Timer.builder("sensor.export")
+                .description("센서 로그 압축 내보내기 시간")
+                .register(meterRegistry);
+        this.pointsExported = Counter.builder("sensor.export.points")
+                .description("내보낸 센서 로그 행 수")
+                .register(meterRegistry);
+        this.bytesExported = Counter.builder("sensor.export.bytes")
+                .description("내보낸 압축 데이터 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 내보내기 구간 검증 (응답을 쓰기 전에 호출)
+     */
+    public void checkRange(LocalDateTime start, LocalDateTime end) {
+        if (!end.isAfter(start)) {
+            throw new IllegalArgumentException("종료 일시는 시작 일시보다 뒤여야 합니다.");
+        }
+        if (Duration.between(start, end).compareTo(Duration.ofDays(maxDays)) > 0) {
+            throw new IllegalArgumentException("내보내기 구간은 최대 " + maxDays + "일입니다.");
+        }
+    }
+
+    /**
+     * @param sensorId null이면 전체 센서
+     */
+    public Summary export(Long sensorId, LocalDateTime start, LocalDateTime end, OutputStream out) throws IOException {
+        checkRange(start, end);
+        long startedAt = System.nanoTime();
+
+        SeriesExportWriter writer = new SeriesExportWriter(out);
+        readOnlyTransaction.executeWithoutResult(status ->
+                sensorLogStore.scanRange(sensorId, start, end, writer::accept));
+        writer.finish();
+
+        exportTimer.record(Duration.ofNanos(System.nanoTime() - startedAt));
+        pointsExported.increment(writer.getPoints());
+        bytesExported.increment(writer.getBytesWritten());
+
+        Summary summary = new Summary(writer.getPoints(), writer.getChunks(), writer.getBytesWritten());
+        log.info("📦 센서 로그 내보내기 완료: sensorId={}, 구간=[{}, {}), 행 {}건, 청크 {}개, {}바이트 (행당 {}바이트)",
+                sensorId != null ? sensorId : "전체", start, end,
+                summary.points(), summary.chunks(), summary.bytes(), String.format("%.2f", summary.bytesPerPoint()));
+        return summary;
+    }
+
+    /**
+     * 내보내기 결과 요약
+     */
+    public record Summary(long points, long chunks, long bytes) {
+
+        public double bytesPerPoint() {
+            return points > 0 ? (double) bytes / points : 0.0;
+        }
+    }
+}
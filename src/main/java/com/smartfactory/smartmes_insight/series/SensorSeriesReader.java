@@ -0,0 +1,92 @@
+package com.smartfactory.smartmes_insight.series;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * 센서 로그 시계열 스트리밍 조회
+ *
+ * SensorLog 엔티티를 만들지 않고 필요한 컬럼(sensor_id, collected_at, value)만 커서로 읽어
+ * 행마다 소비자에 넘긴다. 결과 집합을 메모리에 모으지 않는다.
+ *
+ * - MySQL(Connector/J)은 fetchSize가 Integer.MIN_VALUE일 때만 행 단위 스트리밍하므로 드라이버별로 설정
+ * - 호출자의 트랜잭션 커넥션을 그대로 사용 (읽기 전용 트랜잭션이면 복제본으로 분기)
+ */
+@Component
+@RequiredArgsConstructor
+public class SensorSeriesReader {
+
+    private static final String SERIES_SQL =
+            "SELECT collected_at, value FROM sensor_logs " +
+            "WHERE sensor_id = ? AND collected_at BETWEEN ? AND ? ORDER BY collected_at";
+
+    private static final String RANGE_SQL =
+            "SELECT sensor_id, collected_at, value FROM sensor_logs " +
+            "WHERE collected_at >= ? AND collected_at < ? ORDER BY sensor_id, collected_at";
+
+    private static final String SENSOR_RANGE_SQL =
+            "SELECT sensor_id, collected_at, value FROM sensor_logs " +
+            "WHERE sensor_id = ? AND collected_at >= ? AND collected_at < ? ORDER BY collected_at";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${sensor.series.fetch-size:1000}")
+    private int fetchSize;
+
+    /**
+     * @return 읽은 행 수
+     */
+    public long scan(Long sensorId, LocalDateTime start, LocalDateTime end, SeriesPointConsumer consumer) {
+        long[] rows = new long[1];
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = prepareStreaming(con, SERIES_SQL);
+            ps.setLong(1, sensorId);
+            ps.setTimestamp(2, Timestamp.valueOf(start));
+            ps.setTimestamp(3, Timestamp.valueOf(end));
+            return ps;
+        }, rs -> {
+            consumer.accept(rs.getTimestamp(1).getTime(), rs.getDouble(2));
+            rows[0]++;
+        });
+        return rows[0];
+    }
+
+    /**
+     * [start, end) 구간 행을 (센서, 시각) 순으로 스트리밍 (sensorId가 null이면 전체 센서)
+     *
+     * @return 읽은 행 수
+     */
+    public long scanRange(Long sensorId, LocalDateTime start, LocalDateTime end, SensorPointConsumer consumer) {
+        long[] rows = new long[1];
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = prepareStreaming(con, sensorId != null ? SENSOR_RANGE_SQL : RANGE_SQL);
+            int index = 1;
+            if (sensorId != null) {
+                ps.setLong(index++, sensorId);
+            }
+            ps.setTimestamp(index++, Timestamp.valueOf(start));
+            ps.setTimestamp(index, Timestamp.valueOf(end));
+            return ps;
+        }, rs -> {
+            consumer.accept(rs.getLong(1), rs.getTimestamp(2).getTime(), rs.getDouble(3));
+            rows[0]++;
+        });
+        return rows[0];
+    }
+
+    private PreparedStatement prepareStreaming(Connection con, String sql) throws SQLException {
+        PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        boolean mysql = con.getMetaData().getDatabaseProductName().toLowerCase().contains("mysql");
+        ps.setFetchSize(mysql ? Integer.MIN_VALUE : fetchSize);
+        return ps;
+    }
+}
@@ -0,0 +1,18 @@
+package com.smartfactory.smartmes_insight.series;
+
+import java.time.LocalDate;
+
+/**
+ * 압축 내보내기 청크 (센서 1개의 하루치)
+ *
+ * @param sensorId   센서 ID
+ * @param day        일자 (기록 시스템 시간대 기준)
+ * @param timestamps 시각 (epoch ms)
+ * @param values     측정값 (timestamps와 같은 인덱스)
+ */
+public record SeriesChunk(long sensorId, LocalDate day, long[] timestamps, double[] values) {
+
+    public int size() {
+        return timestamps.length;
+    }
+}
@@ -0,0 +1,201 @@
+package com.smartfactory.smartmes_insight.series;
+
+import java.util.Arrays;
+
+/**
+ * 📉 스트리밍 시계열 다운샘플러
+ *
+ * 행을 한 건씩 받아 목표 점 수(targetPoints)로 줄인다. 메모리는 목표 점 수에만 비례하고
+ * 원본 행 수와는 무관하다 (원본 행을 모아 두지 않음).
+ *
+ * - 조회 구간 [start, end]를 시간 기준으로 같은 폭의 버킷으로 나누고 버킷별 최소/최대값만 유지
+ * - MINMAX: targetPoints / 2개 버킷의 최소/최대 두 점을 시간순으로 반환
+ * - LTTB: targetPoints × 2개 버킷의 최소/최대를 후보로 추린 뒤(MinMaxLTTB) 후보에 LTTB 적용,
+ *         첫 점과 마지막 점은 항상 포함
+ * - 원본이 targetPoints 이하이면 원본 그대로 반환
+ *
+ * 입력은 시각 오름차순이어야 한다. 스레드 안전하지 않다 (조회 한 건당 하나씩 생성).
+ */
+public final class SeriesDownsampler implements SeriesPointConsumer {
+
+    // LTTB 후보는 최종 점 수의 4배까지 (버킷당 최소/최대 2점)
+    private static final int LTTB_CANDIDATE_RATIO = 4;
+
+    private final DownsampleMethod method;
+    private final int targetPoints;
+    private final long startMillis;
+    private final long spanMillis;
+    private final int bucketCount;
+
+    // 원본이 목표 점 수 이하인 경우를 위한 앞부분 버퍼
+    private final long[] rawTimes;
+    private final double[] rawValues;
+
+    // 버킷별 최소/최대
+    private final boolean[] filled;
+    private final long[] minTimes;
+    private final double[] minValues;
+    private final long[] maxTimes;
+    private final double[] maxValues;
+
+    private long count;
+    private long firstTime;
+    private double firstValue;
+    private long lastTime;
+    private double lastValue;
+
+    public SeriesDownsampler(DownsampleMethod method, long startMillis, long endMillis, int targetPoints) {
+        if (targetPoints < 3) {
+            throw new IllegalArgumentException("목표 점 수는 3 이상이어야 합니다: " + targetPoints);
+        }
+        if (endMillis < startMillis) {
+            throw new IllegalArgumentException("종료 일시가 시작 일시보다 앞설 수 없습니다.");
+        }
+        this.method = method;
+        this.targetPoints = targetPoints;
+        this.startMillis = startMillis;
+        this.spanMillis = endMillis - startMillis + 1;
+        this.bucketCount = method == DownsampleMethod.LTTB
+                ? targetPoints * LTTB_CANDIDATE_RATIO / 2
+                : targetPoints / 2;
+
+        this.rawTimes = new long[targetPoints];
+        this.rawValues = new double[targetPoints];
+        this.filled = new boolean[bucketCount];
+        this.minTimes = new long[bucketCount];
+        this.minValues = new double[bucketCount];
+        this.maxTimes = new long[bucketCount];
+        this.maxValues = new double[bucketCount];
+    }
+
+    @Override
+    public void accept(long timestampMillis, double value) {
+        if (count < targetPoints) {
+            rawTimes[(int) count] = timestampMillis;
+            rawValues[(int) count] = value;
+        }
+        if (count == 0) {
+            firstTime = timestampMillis;
+            firstValue = value;
+        }
+        lastTime = timestampMillis;
+        lastValue = value;
+        count++;
+
+        int bucket = bucketOf(timestampMillis);
+        if (!filled[bucket]) {
+            filled[bucket] = true;
+            minTimes[bucket] = maxTimes[bucket] = timestampMillis;
+            minValues[bucket] = maxValues[bucket] = value;
+        } else if (value < minValues[bucket]) {
+            minTimes[bucket] = timestampMillis;
+            minValues[bucket] = value;
+        } else if (value > maxValues[bucket]) {
+            maxTimes[bucket] = timestampMillis;
+            maxValues[bucket] = value;
+        }
+    }
+
+    private int bucketOf(long timestampMillis) {
+        long offset = Math.min(Math.max(timestampMillis - startMillis, 0L), spanMillis - 1);
+        return (int) (offset * bucketCount / spanMillis);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public DownsampledSeries finish() {
+        if (count <= targetPoints) {
+            int size = (int) count;
+            return new DownsampledSeries(count, Arrays.copyOf(rawTimes, size), Arrays.copyOf(rawValues, size));
+        }
+
+        // 버킷 최소/최대를 시간순 후보로 펼침 (LTTB는 앞뒤에 첫/마지막 점 추가)
+        long[] times = new long[bucketCount * 2 + 2];
+        double[] values = new double[bucketCount * 2 + 2];
+        int n = 0;
+        boolean lttb = method == DownsampleMethod.LTTB;
+        if (lttb) {
+            times[n] = firstTime;
+            values[n++] = firstValue;
+        }
+        for (int b = 0; b < bucketCount; b++) {
+            if (!filled[b]) {
+                continue;
+            }
+            boolean minFirst = minTimes[b] <= maxTimes[b];
+            n = append(times, values, n, minFirst ? minTimes[b] : maxTimes[b], minFirst ? minValues[b] : maxValues[b]);
+            n = append(times, values, n, minFirst ? maxTimes[b] : minTimes[b], minFirst ? maxValues[b] : minValues[b]);
+        }
+        if (lttb) {
+            n = append(times, values, n, lastTime, lastValue);
+        }
+
+        if (!lttb || n <= targetPoints) {
+            return new DownsampledSeries(count, Arrays.copyOf(times, n), Arrays.copyOf(values, n));
+        }
+        return largestTriangleThreeBuckets(times, values, n);
+    }
+
+    // 직전 점과 같은 시각이면 건너뜀 (최소=최대인 버킷, 첫/마지막 점 중복)
+    private static int append(long[] times, double[] values, int n, long time, double value) {
+        if (n > 0 && times[n - 1] == time) {
+            return n;
+        }
+        times[n] = time;
+        values[n] = value;
+        return n + 1;
+    }
+
+    /**
+     * 후보 n개에서 targetPoints개 선택 - 각 버킷에서 (직전 선택점, 자신, 다음 버킷 평균)이
+     * 이루는 삼각형 넓이가 가장 큰 점을 고른다
+     */
+    private DownsampledSeries largestTriangleThreeBuckets(long[] times, double[] values, int n) {
+        long[] outTimes = new long[targetPoints];
+        double[] outValues = new double[targetPoints];
+        long origin = times[0]; // x 좌표는 첫 점 기준 상대 시각 (double 정밀도 유지)
+
+        double every = (double) (n - 2) / (targetPoints - 2);
+        int selected = 0;
+        outTimes[0] = times[0];
+        outValues[0] = values[0];
+
+        for (int i = 0; i < targetPoints - 2; i++) {
+            int avgStart = (int) ((i + 1) * every) + 1;
+            int avgEnd = Math.min((int) ((i + 2) * every) + 1, n);
+            double avgX = 0;
+            double avgY = 0;
+            for (int j = avgStart; j < avgEnd; j++) {
+                avgX += times[j] - origin;
+                avgY += values[j];
+            }
+            int avgLength = Math.max(avgEnd - avgStart, 1);
+            avgX /= avgLength;
+            avgY /= avgLength;
+
+            int rangeStart = (int) (i * every) + 1;
+            int rangeEnd = Math.min((int) ((i + 1) * every) + 1, n - 1);
+            double ax = times[selected] - origin;
+            double ay = values[selected];
+
+            double maxArea = -1;
+            int next = rangeStart;
+            for (int j = rangeStart; j < rangeEnd; j++) {
+                double area = Math.abs((ax - avgX) * (values[j] - ay) - (ax - (times[j] - origin)) * (avgY - ay));
+                if (area > maxArea) {
+                    maxArea = area;
+                    next = j;
+                }
+            }
+            outTimes[i + 1] = times[next];
+            outValues[i + 1] = values[next];
+            selected = next;
+        }
+
+        outTimes[targetPoints - 1] = times[n - 1];
+        outValues[targetPoints - 1] = values[n - 1];
+        return new DownsampledSeries(count, outTimes, outValues);
+    }
+}
@@ -0,0 +1,19 @@
+package com.smartfactory.smartmes_insight.series;
+
+/**
+ * 센서 시계열 압축 내보내기(.smts) 포맷 상수 ({@link SeriesExportWriter} 참고)
+ */
+public final class SeriesExportFormat {
+
+    public static final String CONTENT_TYPE = "application/vnd.smartmes.series";
+    public static final String FILE_EXTENSION = ".smts";
+
+    static final byte[] MAGIC = {'S', 'M', 'T', 'S'};
+    static final int VERSION = 1;
+    static final int CHUNK_MARKER = 1;
+    static final int END_MARKER = 0;
+    static final int CHUNK_HEADER_BYTES = 1 + 8 + 4 + 4 + 4 + 4;
+
+    private SeriesExportFormat() {
+    }
+}
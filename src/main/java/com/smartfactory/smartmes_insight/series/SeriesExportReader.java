@@ -0,0 +1,106 @@
+package com.smartfactory.smartmes_insight.series;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * 📦 센서 시계열 압축 내보내기(.smts) 읽기 도구
+ *
+ * <pre>
+ * try (SeriesExportReader reader = new SeriesExportReader(in)) {
+ *     SeriesChunk chunk;
+ *     while ((chunk = reader.next()) != null) { ... }
+ * }
+ * </pre>
+ *
+ * 명령행에서 CSV(sensor_id,timestamp_ms,value)로 풀기:
+ * <pre>
+ * java -cp app.jar -Dloader.main=com.smartfactory.smartmes_insight.series.SeriesExportReader \
+ *      org.springframework.boot.loader.launch.PropertiesLauncher sensor-logs.smts > sensor-logs.csv
+ * </pre>
+ */
+public final class SeriesExportReader implements AutoCloseable {
+
+    private final DataInputStream in;
+    private boolean ended;
+
+    public SeriesExportReader(InputStream in) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(in, 64 * 1024));
+        byte[] magic = new byte[SeriesExportFormat.MAGIC.length];
+        this.in.readFully(magic);
+        if (!Arrays.equals(magic, SeriesExportFormat.MAGIC)) {
+            throw new IOException("SMTS 형식이 아닙니다.");
+        }
+        int version = this.in.readUnsignedByte();
+        if (version != SeriesExportFormat.VERSION) {
+            throw new IOException("지원하지 않는 SMTS 버전입니다: " + version);
+        }
+    }
+
+    /**
+     * 다음 청크 (끝이면 null)
+     */
+    public SeriesChunk next() throws IOException {
+        if (ended) {
+            return null;
+        }
+        int marker;
+        try {
+            marker = in.readUnsignedByte();
+        } catch (EOFException e) {
+            throw new IOException("SMTS 스트림이 끝 표시 없이 종료되었습니다.", e);
+        }
+        if (marker == SeriesExportFormat.END_MARKER) {
+            ended = true;
+            return null;
+        }
+        if (marker != SeriesExportFormat.CHUNK_MARKER) {
+            throw new IOException("잘못된 청크 표시: " + marker);
+        }
+
+        long sensorId = in.readLong();
+        int epochDay = in.readInt();
+        int count = in.readInt();
+        byte[] timestampBytes = new byte[in.readInt()];
+        byte[] valueBytes = new byte[in.readInt()];
+        in.readFully(timestampBytes);
+        in.readFully(valueBytes);
+
+        return new SeriesChunk(sensorId, LocalDate.ofEpochDay(epochDay),
+                GorillaDecoder.decodeTimestamps(timestampBytes, count),
+                GorillaDecoder.decodeValues(valueBytes, count));
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("사용법: SeriesExportReader <파일.smts>");
+            System.exit(1);
+        }
+        try (SeriesExportReader reader = new SeriesExportReader(Files.newInputStream(Path.of(args[0])));
+             Writer writer = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8))) {
+            writer.write("sensor_id,timestamp_ms,value\n");
+            SeriesChunk chunk;
+            while ((chunk = reader.next()) != null) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    writer.write(chunk.sensorId() + "," + chunk.timestamps()[i] + "," + chunk.values()[i] + "\n");
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.smartfactory.smartmes_insight.series;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * 📦 센서 시계열 압축 내보내기 기록기 (.smts)
+ *
+ * (센서, 시각) 순으로 들어오는 행을 센서별·일자별 청크로 묶어 {@link GorillaEncoder}로 압축한다.
+ * 메모리에는 현재 청크(센서 1개의 하루치)만 유지한다.
+ *
+ * 스트림 구조 (빅 엔디언):
+ * <pre>
+ *   헤더 : "SMTS" | 버전(1B)
+ *   청크 : 1(1B) | sensorId(8B) | epochDay(4B) | 점 수(4B) | 시각 열 길이(4B) | 값 열 길이(4B) | 시각 열 | 값 열
+ *   끝   : 0(1B)
+ * </pre>
+ * 일자는 시스템 시간대 기준이며 시각은 ms 단위로 기록한다. 읽기는 {@link SeriesExportReader}.
+ */
+public final class SeriesExportWriter implements AutoCloseable {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final DataOutputStream out;
+    private final GorillaEncoder encoder = new GorillaEncoder();
+
+    private long sensorId;
+    private LocalDate day;
+    private long dayStart;
+    private long dayEnd;
+
+    private long points;
+    private long chunks;
+    private long bytesWritten;
+    private boolean finished;
+
+    public SeriesExportWriter(OutputStream out) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(out, 64 * 1024));
+        this.out.write(SeriesExportFormat.MAGIC);
+        this.out.writeByte(SeriesExportFormat.VERSION);
+        bytesWritten = SeriesExportFormat.MAGIC.length + 1;
+    }
+
+    /**
+     * 행 하나 추가 (센서가 바뀌거나 일자가 넘어가면 직전 청크를 기록)
+     */
+    public void accept(long sensorId, long timestampMillis, double value) {
+        try {
+            if (encoder.getCount() > 0
+                    && (sensorId != this.sensorId || timestampMillis < dayStart || timestampMillis >= dayEnd)) {
+                writeChunk();
+            }
+            if (encoder.getCount() == 0) {
+                startChunk(sensorId, timestampMillis);
+            }
+            encoder.add(timestampMillis, value);
+            points++;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void startChunk(long sensorId, long timestampMillis) {
+        this.sensorId = sensorId;
+        this.day = Instant.ofEpochMilli(timestampMillis).atZone(ZONE).toLocalDate();
+        this.dayStart = day.atStartOfDay(ZONE).toInstant().toEpochMilli();
+        this.dayEnd = day.plusDays(1).atStartOfDay(ZONE).toInstant().toEpochMilli();
+    }
+
+    private void writeChunk() throws IOException {
+        byte[] timestamps = encoder.timestampBytes();
+        byte[] values = encoder.valueBytes();
+        out.writeByte(SeriesExportFormat.CHUNK_MARKER);
+        out.writeLong(sensorId);
+        out.writeInt((int) day.toEpochDay());
+        out.writeInt(encoder.getCount());
+        out.writeInt(timestamps.length);
+        out.writeInt(values.length);
+        out.write(timestamps);
+        out.write(values);
+        bytesWritten += SeriesExportFormat.CHUNK_HEADER_BYTES + timestamps.length + values.length;
+        chunks++;
+        encoder.reset();
+    }
+
+    /**
+     * 마지막 청크와 끝 표시를 기록하고 flush (하위 스트림은 닫지 않음)
+     */
+    public void finish() throws IOException {
+        if (finished) {
+            return;
+        }
+        if (encoder.getCount() > 0) {
+            writeChunk();
+        }
+        out.writeByte(SeriesExportFormat.END_MARKER);
+        bytesWritten++;
+        out.flush();
+        finished = true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        finish();
+    }
+
+    public long getPoints() {
+        return points;
+    }
+
+    public long getChunks() {
+        return chunks;
+    }
+
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+}
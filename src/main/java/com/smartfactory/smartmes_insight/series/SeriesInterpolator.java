@@ -0,0 +1,101 @@
+package com.smartfactory.smartmes_insight.series;
+
+import java.util.Arrays;
+
+/**
+ * 📐 저장점 사이 값 복원 (일정 간격 격자로 다시 샘플링)
+ *
+ * 압축 저장(SensorLogCompressor)된 시계열을 받아 [start, end] 구간을 step 간격 격자로 채운다.
+ * - STEP: 격자 시각 직전 저장값, LINEAR: 앞뒤 저장점을 직선으로 이은 값
+ * - 앞뒤 저장점 간격이 maxGap을 넘으면 결측으로 보고 채우지 않는다 (센서 정지/수집 중단)
+ * - 마지막 저장점 뒤는 다음 저장점이 없으므로 maxGap 안에서 마지막 값을 유지한다
+ * - NaN(측정 실패)으로 복원되는 격자 점은 비운다
+ *
+ * 구간 시작 전 값을 복원하려면 start - maxGap부터, LINEAR로 끝 부분을 복원하려면 end + maxGap까지 흘려 넣는다.
+ * 입력은 시각 오름차순이어야 한다. 스레드 안전하지 않다 (조회 한 건당 하나씩 생성).
+ */
+public final class SeriesInterpolator implements SeriesPointConsumer {
+
+    private final InterpolationMethod method;
+    private final long startMillis;
+    private final long endMillis;
+    private final long stepMillis;
+    private final long maxGapMillis;
+
+    private final long[] timestamps;
+    private final double[] values;
+    private int size;
+    private long storedCount;
+
+    private long next;
+    private boolean hasPrevious;
+    private long previousTime;
+    private double previousValue;
+
+    public SeriesInterpolator(InterpolationMethod method, long startMillis, long endMillis,
+                              long stepMillis, long maxGapMillis) {
+        if (stepMillis <= 0) {
+            throw new IllegalArgumentException("간격은 0보다 커야 합니다: " + stepMillis);
+        }
+        if (endMillis < startMillis) {
+            throw new IllegalArgumentException("종료 일시가 시작 일시보다 앞설 수 없습니다.");
+        }
+        this.method = method;
+        this.startMillis = startMillis;
+        this.endMillis = endMillis;
+        this.stepMillis = stepMillis;
+        this.maxGapMillis = maxGapMillis;
+        int points = Math.toIntExact(pointCount(startMillis, endMillis, stepMillis));
+        this.timestamps = new long[points];
+        this.values = new double[points];
+        this.next = startMillis;
+    }
+
+    /**
+     * [start, end] 구간의 격자 점 수
+     */
+    public static long pointCount(long startMillis, long endMillis, long stepMillis) {
+        return (endMillis - startMillis) / stepMillis + 1;
+    }
+
+    @Override
+    public void accept(long timestampMillis, double value) {
+        if (timestampMillis >= startMillis && timestampMillis <= endMillis) {
+            storedCount++;
+        }
+        while (next <= endMillis && next <= timestampMillis) {
+            if (next == timestampMillis) {
+                emit(next, value);
+            } else if (hasPrevious && timestampMillis - previousTime <= maxGapMillis) {
+                emit(next, interpolate(next, timestampMillis, value));
+            }
+            next += stepMillis;
+        }
+        hasPrevious = true;
+        previousTime = timestampMillis;
+        previousValue = value;
+    }
+
+    public DownsampledSeries finish() {
+        while (next <= endMillis && hasPrevious && next - previousTime <= maxGapMillis) {
+            emit(next, previousValue);
+            next += stepMillis;
+        }
+        return new DownsampledSeries(storedCount, Arrays.copyOf(timestamps, size), Arrays.copyOf(values, size));
+    }
+
+    private double interpolate(long time, long nextTime, double nextValue) {
+        if (method == InterpolationMethod.STEP) {
+            return previousValue;
+        }
+        return previousValue + (nextValue - previousValue) * (time - previousTime) / (nextTime - previousTime);
+    }
+
+    private void emit(long time, double value) {
+        if (!Double.isNaN(value)) {
+            timestamps[size] = time;
+            values[size] = value;
+            size++;
+        }
+    }
+}
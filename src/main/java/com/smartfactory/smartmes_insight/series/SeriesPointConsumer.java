@@ -0,0 +1,10 @@
+package com.smartfactory.smartmes_insight.series;
+
+/**
+ * 시계열 한 점 소비자 (행마다 박싱 없이 전달)
+ */
+@FunctionalInterface
+public interface SeriesPointConsumer {
+
+    void accept(long timestampMillis, double value);
+}
@@ -1,36 +1,90 @@
 package com.smartfactory.smartmes_insight.service;
 
+import com.smartfactory.smartmes_insight.cache.ResponseCache;
+import com.smartfactory.smartmes_insight.cache.ResponseCacheRegion;
 import com.smartfactory.smartmes_insight.domain.alert.Alert;
 import com.smartfactory.smartmes_insight.domain.alert.AlertRepository;
 import com.smartfactory.smartmes_insight.domain.sensor.Sensor;
 import com.smartfactory.smartmes_insight.domain.sensor.SensorRepository;
 import com.smartfactory.smartmes_insight.dto.AlertResponse;
 import com.smartfactory.smartmes_insight.event.AlertCreatedEvent;
-import lombok.RequiredArgsConstructor;
+import com.smartfactory.smartmes_insight.ingest.SensorReadingBatch;
+import com.smartfactory.smartmes_insight.ingest.SensorThresholds;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+/**
+ * 알림 서비스
+ *
+ * 📊 지표: alert.checks(판정한 측정값 수), alert.violations(임계값 이탈 수), alert.created{severity},
+ * alert.create.failures, alert.events.published
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 @Transactional
 public class AlertService {
 
+    private static final List<String> SEVERITIES = List.of("HIGH", "MEDIUM", "NORMAL", "UNKNOWN");
+
     private final AlertRepository alertRepository;
     private final SensorRepository sensorRepository;
     private final SensorService sensorService;
     private final ApplicationEventPublisher eventPublisher; // 🎯 이벤트 발행용
+    private final ResponseCache responseCache;
+
+    private final Counter checks;
+    private final Counter violations;
+    private final Counter createFailures;
+    private final Counter eventsPublished;
+    private final Map<String, Counter> createdBySeverity;
+
+    public AlertService(AlertRepository alertRepository,
+                        SensorRepository sensorRepository,
+                        SensorService sensorService,
+                        ApplicationEventPublisher eventPublisher,
+                        ResponseCache responseCache,
+                        MeterRegistry meterRegistry) {
+        this.alertRepository = alertRepository;
+        this.sensorRepository = sensorRepository;
+        this.sensorService = sensorService;
+        this.eventPublisher = eventPublisher;
+        this.responseCache = responseCache;
+
+        this.checks = Counter.builder("alert.checks")
+                .description("임계값 판정한 측정값 수")
+                .register(meterRegistry);
+        this.violations = Counter.builder("alert.violations")
+                .description("임계값을 벗어난 측정값 수")
+                .register(meterRegistry);
+        this.createFailures = Counter.builder("alert.create.failures")
+                .description("이상값이지만 알림 저장에 실패한 수")
+                .register(meterRegistry);
+        this.eventsPublished = Counter.builder("alert.events.published")
+                .description("발행한 알림 생성 이벤트 수")
+                .register(meterRegistry);
+        this.createdBySeverity = SEVERITIES.stream().collect(Collectors.toUnmodifiableMap(severity -> severity,
+                severity -> Counter.builder("alert.created")
+                        .description("생성한 알림 수")
+                        .tag("severity", severity)
+                        .register(meterRegistry)));
+    }
 
     // 알림 생성
     public AlertResponse createAlert(Long sensorId, Double value, String message) {
-        Sensor sensor = sensorRepository.findById(sensorId)
+        Sensor sensor = sensorRepository.findWithFacilityById(sensorId)
                 .orElseThrow(() -> new IllegalArgumentException("센서를 찾을 수 없습니다."));
 
         Alert alert = Alert.builder()
@@ -41,29 +95,37 @@ public class AlertService {
                 .build();
 
         Alert savedAlert = alertRepository.save(alert);
+        responseCache.invalidate(ResponseCacheRegion.ALERT);
         AlertResponse alertResponse = AlertResponse.from(savedAlert);
         
         // 🚀 이벤트 발행 (비동기 알림 처리)
-        eventPublisher.publishEvent(AlertCreatedEvent.from(alertResponse));
+        AlertCreatedEvent event = AlertCreatedEvent.from(alertResponse);
+        eventPublisher.publishEvent(event);
+        eventsPublished.increment();
+        createdBySeverity.get(event.getSeverity()).increment();
         
         return alertResponse;
     }
 
     // 센서 값이 임계값을 벗어났을 때 자동 알림 생성
+    // 수집 주기마다 센서 수만큼 호출되므로 쓰기 트랜잭션을 열지 않고, 센서 조회 1회 후 이상값일 때만 알림을 저장한다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Optional<AlertResponse> checkAndCreateAlert(Long sensorId, Double value) {
         // 🛡️ SensorService의 안전한 메서드 사용
-        if (!sensorService.hasThresholds(sensorId)) {
+        Sensor sensor = sensorService.findEntityById(sensorId);
+        checks.increment();
+
+        if (!sensor.hasThresholds()) {
             return Optional.empty(); // 임계값이 설정되지 않은 경우 알림 생성하지 않음
         }
         
-        if (!sensorService.isValueWithinThreshold(sensorId, value)) {
-            // 센서 정보를 안전하게 조회
-            Sensor sensor = sensorService.findEntityById(sensorId);
-                
+        if (!sensor.isValueWithinThreshold(value)) {
+            violations.increment();
             String message = String.format(
                 "센서 '%s'에서 이상값 감지: %.2f (임계값: %.2f - %.2f)",
                 sensor.getName(), value, sensor.getThresholdMin(), sensor.getThresholdMax()
             );
+            // 내부 호출이므로 센서 조회/알림 저장은 각 리포지토리 트랜잭션으로 실행된다
             AlertResponse alertResponse = createAlert(sensorId, value, message);
             return Optional.of(alertResponse);
         }
@@ -71,6 +133,31 @@ public class AlertService {
         return Optional.empty();
     }
 
+    // 수집 주기 측정값 묶음의 임계값 판정 - 원시 값 비교만 하고 이상값일 때만 센서 조회/알림 저장
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int checkAndCreateAlerts(SensorReadingBatch batch, SensorThresholds thresholds) {
+        checks.increment(batch.size());
+        int created = 0;
+        for (int i = thresholds.nextViolation(batch, 0); i >= 0; i = thresholds.nextViolation(batch, i + 1)) {
+            violations.increment();
+            long sensorId = batch.sensorId(i);
+            double value = batch.value(i);
+            try {
+                Sensor sensor = sensorService.findEntityById(sensorId);
+                String message = String.format(
+                    "센서 '%s'에서 이상값 감지: %.2f (임계값: %.2f - %.2f)",
+                    sensor.getName(), value, sensor.getThresholdMin(), sensor.getThresholdMax()
+                );
+                createAlert(sensorId, value, message);
+                created++;
+            } catch (RuntimeException e) {
+                createFailures.increment();
+                log.error("센서 {} 알림 생성 실패: {}", sensorId, e.getMessage());
+            }
+        }
+        return created;
+    }
+
     // 전체 알림 목록 조회
     @Transactional(readOnly = true)
     public List<AlertResponse> findAll() {
@@ -111,7 +198,7 @@ public class AlertService {
     // 알림 단건 조회
     @Transactional(readOnly = true)
     public Optional<AlertResponse> findById(Long id) {
-        return alertRepository.findById(id)
+        return alertRepository.findWithSensorById(id)
                 .map(AlertResponse::from);
     }
 
@@ -165,17 +252,20 @@ public class AlertService {
     // 알림 삭제
     public void deleteById(Long id) {
         alertRepository.deleteById(id);
+        responseCache.invalidate(ResponseCacheRegion.ALERT);
     }
 
     // 특정 센서의 알림 전체 삭제
     public void deleteBySensorId(Long sensorId) {
         alertRepository.deleteBySensorId(sensorId);
+        responseCache.invalidate(ResponseCacheRegion.ALERT);
     }
 
     // ✅ 새로운 삭제 메서드 - 오래된 알림 정리 (예: 30일 이상)
     public void deleteOldAlerts(int daysToKeep) {
         LocalDateTime cutoffDate = LocalDateTime.now().minusDays(daysToKeep);
         alertRepository.deleteByCreatedAtBefore(cutoffDate);
+        responseCache.invalidate(ResponseCacheRegion.ALERT);
     }
 
     // TODO: WebSocket 알림 전송 기능 (확장용)
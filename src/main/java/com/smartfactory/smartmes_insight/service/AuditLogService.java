@@ -0,0 +1,35 @@
+package com.smartfactory.smartmes_insight.service;
+
+import com.smartfactory.smartmes_insight.domain.log.LogEntryRepository;
+import com.smartfactory.smartmes_insight.domain.log.LogEntrySearchCondition;
+import com.smartfactory.smartmes_insight.dto.log.AuditLogPageResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class AuditLogService {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private final LogEntryRepository logEntryRepository;
+
+    // 감사 로그 검색 (조건 조합 + keyset 페이징)
+    @Transactional(readOnly = true)
+    public AuditLogPageResponse search(LogEntrySearchCondition condition, int size) {
+        if (condition.getStartDate() != null && condition.getEndDate() != null
+                && condition.getStartDate().isAfter(condition.getEndDate())) {
+            throw new IllegalArgumentException("시작 일시는 종료 일시보다 이전이어야 합니다.");
+        }
+        if ((condition.getCursorTimestamp() == null) != (condition.getCursorId() == null)) {
+            throw new IllegalArgumentException("커서는 cursorTimestamp와 cursorId를 함께 지정해야 합니다.");
+        }
+        int pageSize = size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+
+        // 한 건 더 읽어서 다음 페이지 존재 여부 판단
+        return AuditLogPageResponse.of(logEntryRepository.search(condition, pageSize + 1), pageSize);
+    }
+}
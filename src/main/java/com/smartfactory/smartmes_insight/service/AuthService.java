@@ -1,10 +1,8 @@
 package com.smartfactory.smartmes_insight.service;
 
-import com.smartfactory.smartmes_insight.domain.log.LogEntry;
-import com.smartfactory.smartmes_insight.domain.log.LogEntryRepository;
+import com.smartfactory.smartmes_insight.audit.AuditLogWriter;
 import com.smartfactory.smartmes_insight.domain.user.Role;
 import com.smartfactory.smartmes_insight.domain.user.User;
-import com.smartfactory.smartmes_insight.domain.user.UserRepository;
 import com.smartfactory.smartmes_insight.dto.auth.LoginRequest;
 import com.smartfactory.smartmes_insight.dto.auth.LoginResponse;
 import com.smartfactory.smartmes_insight.util.JwtUtil;
@@ -15,6 +13,7 @@ import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -39,8 +38,7 @@ import java.util.concurrent.ConcurrentHashMap;
 public class AuthService {
 
     private final UserService userService;
-    private final LogEntryRepository logEntryRepository;
-    private final UserRepository userRepository;
+    private final AuditLogWriter auditLogWriter;
     private final JwtUtil jwtUtil;
     private final PasswordEncoder passwordEncoder;
 
@@ -60,6 +58,7 @@ public class AuthService {
      * @throws BadCredentialsException 인증 실패 시
      * @throws DisabledException 비활성 계정 시
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 비밀번호 해시 검증 동안 DB 연결을 쥐지 않도록 조회/갱신만 각각 짧은 트랜잭션으로 처리
     public LoginResponse login(LoginRequest loginRequest) {
         log.info("🔐 로그인 시도: username={}", loginRequest.getUsername());
         
@@ -574,6 +573,9 @@ public class AuthService {
     /**
      * 로그 엔트리 생성 및 저장 (공통 메서드)
      * 
+     * 사용자 엔티티를 조회하지 않고 ID만 담아 비동기 감사 로그 기록기에 넘긴다.
+     * 실제 INSERT는 AuditLogWriter가 배치로 처리하므로 인증 요청 지연에 영향을 주지 않는다.
+     * 
      * @param userId 사용자 ID (null 가능)
      * @param logLevel 로그 레벨 (INFO, ERROR, WARNING, SECURITY)
      * @param action 액션 코드
@@ -581,31 +583,17 @@ public class AuthService {
      */
     private void createAndSaveLog(Long userId, String logLevel, String action, String message) {
         try {
-            // 사용자 조회 (userId가 null이 아닌 경우에만)
-            User user = null;
-            if (userId != null) {
-                user = userRepository.findById(userId).orElse(null);
-                if (user == null) {
-                    log.warn("⚠️ 로그 기록 중 사용자를 찾을 수 없음: userId={}", userId);
-                }
-            }
-
-            // LogEntry 생성
-            LogEntry logEntry = LogEntry.builder()
-                    .user(user)
-                    .action(String.format("[%s] %s", logLevel, action))
-                    .targetTable("AUTH_SYSTEM")
-                    .targetId(userId != null ? userId : 0L)
-                    .message(message)
-                    .timestamp(LocalDateTime.now())
-                    .build();
-
-            // 로그 저장
-            logEntryRepository.save(logEntry);
+            auditLogWriter.write(
+                    userId,
+                    String.format("[%s] %s", logLevel, action),
+                    "AUTH_SYSTEM",
+                    userId != null ? userId : 0L,
+                    message
+            );
 
             // 콘솔 로깅 (개발/디버깅용)
-            String userInfo = user != null ? user.getUsername() : "SYSTEM";
-            log.debug("📋 인증 로그: [{}] {} - {} (user: {})", logLevel, action, message, userInfo);
+            log.debug("📋 인증 로그: [{}] {} - {} (userId: {})", logLevel, action, message,
+                    userId != null ? userId : "SYSTEM");
 
         } catch (Exception e) {
             // 로그 저장 실패 시에도 시스템이 중단되지 않도록 처리
@@ -1,15 +1,20 @@
 package com.smartfactory.smartmes_insight.service;
 
+import com.smartfactory.smartmes_insight.cache.ResponseCache;
+import com.smartfactory.smartmes_insight.cache.ResponseCacheRegion;
 import com.smartfactory.smartmes_insight.domain.facility.Facility;
 import com.smartfactory.smartmes_insight.domain.facility.FacilityRepository;
 import com.smartfactory.smartmes_insight.dto.facility.FacilityCreateRequest;
 import com.smartfactory.smartmes_insight.dto.facility.FacilityResponse;
 import com.smartfactory.smartmes_insight.dto.facility.FacilityUpdateRequest;
+import com.smartfactory.smartmes_insight.event.DomainEvent;
+import com.smartfactory.smartmes_insight.event.DomainEventBus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 @Service
@@ -18,10 +23,15 @@ import java.util.Optional;
 public class FacilityService {
 
     private final FacilityRepository facilityRepository;
+    private final DomainEventBus domainEventBus;
+    private final ResponseCache responseCache;
 
     // 설비 등록
     public Facility save(Facility facility) {
-        return facilityRepository.save(facility);
+        Facility saved = facilityRepository.save(facility);
+        responseCache.invalidate(ResponseCacheRegion.FACILITY);
+        publishStatus(saved, null);
+        return saved;
     }
 
     // 설비 전체 조회
@@ -41,12 +51,20 @@ public class FacilityService {
         Facility facility = facilityRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("설비를 찾을 수 없습니다."));
 
+        String previousStatus = facility.getStatus();
         facility.updateInfo(updatedFacility); // 엔티티 내부에서 수정 메서드 제공
+        // 센서 목록과 알림 응답에 설비명 포함
+        responseCache.invalidate(ResponseCacheRegion.FACILITY, ResponseCacheRegion.SENSOR, ResponseCacheRegion.ALERT);
+        if (!Objects.equals(facility.getStatus(), previousStatus)) {
+            publishStatus(facility, previousStatus);
+        }
     }
 
     // 설비 삭제
     public void deleteById(Long id) {
         facilityRepository.deleteById(id);
+        responseCache.invalidate(ResponseCacheRegion.FACILITY, ResponseCacheRegion.SENSOR, ResponseCacheRegion.ALERT);
+        domainEventBus.publish(new DomainEvent.FacilityRemoved(id));
     }
     
     // 🔍 설비 엔티티 직접 조회 (서비스간 통신용)
@@ -67,8 +85,10 @@ public class FacilityService {
     // 전체 설비 조회 (DTO 기반)
     @Transactional(readOnly = true)
     public List<FacilityResponse> getAllFacilities() {
-        // TODO: 실제 구현 필요
-        return List.of();
+        return facilityRepository.findAll()
+                .stream()
+                .map(FacilityResponse::from)
+                .toList();
     }
 
     // 설비 상세 조회 (DTO 기반)
@@ -95,8 +115,10 @@ public class FacilityService {
     // 가동 중인 설비 조회
     @Transactional(readOnly = true)
     public List<FacilityResponse> getActiveFacilities() {
-        // TODO: 실제 구현 필요
-        return List.of();
+        return facilityRepository.findByStatus(Facility.STATUS_RUNNING)
+                .stream()
+                .map(FacilityResponse::from)
+                .toList();
     }
 
     // 설비 정보 수정 (DTO 기반)
@@ -112,20 +134,32 @@ public class FacilityService {
 
     // 설비 상태 변경
     public FacilityResponse changeFacilityStatus(Long id, String status) {
-        // TODO: 실제 구현 필요
-        return null;
+        if (status == null || status.isBlank()) {
+            throw new IllegalArgumentException("설비 상태는 필수입니다.");
+        }
+        Facility facility = findEntityById(id);
+        String previousStatus = facility.getStatus();
+        facility.setStatus(status);
+        if (!status.equals(previousStatus)) {
+            responseCache.invalidate(ResponseCacheRegion.FACILITY);
+            publishStatus(facility, previousStatus);
+        }
+        return FacilityResponse.from(facility);
     }
 
     // 설비 가동 시작
     public FacilityResponse startFacility(Long id) {
-        // TODO: 실제 구현 필요
-        return null;
+        return changeFacilityStatus(id, Facility.STATUS_RUNNING);
     }
 
     // 설비 가동 정지
     public FacilityResponse stopFacility(Long id) {
-        // TODO: 실제 구현 필요
-        return null;
+        return changeFacilityStatus(id, Facility.STATUS_STOPPED);
     }
 
+    // 📣 설비 상태 변경 이벤트 발행 (커밋 이후 OEE 엔진, 활성 센서 레지스트리 등에 전달)
+    private void publishStatus(Facility facility, String previousStatus) {
+        domainEventBus.publish(new DomainEvent.FacilityStatusChanged(
+                facility.getId(), facility.getType(), previousStatus, facility.getStatus()));
+    }
 }
@@ -1,30 +1,48 @@
 package com.smartfactory.smartmes_insight.service;
 
 import com.smartfactory.smartmes_insight.dto.AlertResponse;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Locale;
 import java.util.Map;
 
 /**
  * 알림 전송 전담 서비스
  * WebSocket, 이메일, SMS 등 다양한 알림 채널 관리
+ *
+ * 📊 채널별 전송 시간: notification.send{channel}
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class NotificationService {
+
+    private enum Channel { BROADCAST, PERSONAL, FACILITY, SEVERITY, DASHBOARD, EMAIL, SMS }
     
     // TODO: WebSocket 구현 시 주석 해제
     // private final SimpMessagingTemplate messagingTemplate;
+
+    private final Map<Channel, Timer> sendTimers = new EnumMap<>(Channel.class);
+
+    public NotificationService(MeterRegistry meterRegistry) {
+        for (Channel channel : Channel.values()) {
+            sendTimers.put(channel, Timer.builder("notification.send")
+                    .description("알림 채널별 전송 시간")
+                    .tag("channel", channel.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+    }
     
     /**
      * 전체 사용자에게 알림 브로드캐스트
      */
     public void broadcastAlert(AlertResponse alert) {
+        Timer.Sample sample = Timer.start();
         log.info("🔔 Broadcasting alert: {}", alert.getSummary());
         
         // TODO: WebSocket 구현 시 주석 해제
@@ -32,36 +50,42 @@ public class NotificationService {
         
         // 현재는 로그로만 확인
         logAlertDetails(alert, "BROADCAST");
+        recordSend(Channel.BROADCAST, sample);
     }
     
     /**
      * 특정 사용자에게 개인 알림
      */
     public void sendPersonalAlert(String userId, AlertResponse alert) {
+        Timer.Sample sample = Timer.start();
         log.info("👤 Sending personal alert to user {}: {}", userId, alert.getSummary());
         
         // TODO: WebSocket 구현 시 주석 해제
         // messagingTemplate.convertAndSendToUser(userId, "/queue/personal-alerts", alert);
         
         logAlertDetails(alert, "PERSONAL_" + userId);
+        recordSend(Channel.PERSONAL, sample);
     }
     
     /**
      * 특정 설비 관련 사용자들에게 알림
      */
     public void sendToFacilityUsers(Long facilityId, AlertResponse alert) {
+        Timer.Sample sample = Timer.start();
         log.info("🏭 Sending alert to facility {} users: {}", facilityId, alert.getSummary());
         
         // TODO: WebSocket 구현 시 주석 해제
         // messagingTemplate.convertAndSend("/topic/facility/" + facilityId + "/alerts", alert);
         
         logAlertDetails(alert, "FACILITY_" + facilityId);
+        recordSend(Channel.FACILITY, sample);
     }
     
     /**
      * 심각도별 알림 채널
      */
     public void sendBySeverity(AlertResponse alert) {
+        Timer.Sample sample = Timer.start();
         String severity = alert.getSeverity().toLowerCase();
         log.info("⚠️ Sending {} severity alert: {}", severity.toUpperCase(), alert.getSummary());
         
@@ -69,12 +93,14 @@ public class NotificationService {
         // messagingTemplate.convertAndSend("/topic/alerts/" + severity, alert);
         
         logAlertDetails(alert, "SEVERITY_" + severity.toUpperCase());
+        recordSend(Channel.SEVERITY, sample);
     }
     
     /**
      * 대시보드 실시간 업데이트
      */
     public void updateDashboard(AlertResponse alert) {
+        Timer.Sample sample = Timer.start();
         log.info("📊 Updating dashboard with new alert: {}", alert.getSummary());
         
         Map<String, Object> dashboardUpdate = Map.of(
@@ -89,30 +115,40 @@ public class NotificationService {
         // messagingTemplate.convertAndSend("/topic/dashboard", dashboardUpdate);
         
         log.info("📊 Dashboard update: {}", dashboardUpdate);
+        recordSend(Channel.DASHBOARD, sample);
     }
     
     /**
      * 이메일 알림 전송 (고심각도 알림용)
      */
     public void sendEmailAlert(AlertResponse alert, String recipientEmail) {
+        Timer.Sample sample = Timer.start();
         log.info("📧 Sending email alert to {}: {}", recipientEmail, alert.getSummary());
         
         // TODO: 이메일 서비스 구현 시 추가
         // emailService.sendAlert(recipientEmail, alert);
         
         logAlertDetails(alert, "EMAIL_" + recipientEmail);
+        recordSend(Channel.EMAIL, sample);
     }
     
     /**
      * SMS 알림 전송 (긴급 알림용)
      */
     public void sendSmsAlert(AlertResponse alert, String phoneNumber) {
+        Timer.Sample sample = Timer.start();
         log.info("📱 Sending SMS alert to {}: {}", phoneNumber, alert.getSummary());
         
         // TODO: SMS 서비스 구현 시 추가
         // smsService.sendAlert(phoneNumber, alert);
         
         logAlertDetails(alert, "SMS_" + phoneNumber);
+        recordSend(Channel.SMS, sample);
+    }
+    
+    // 전송을 마친 시점까지의 시간을 채널별 타이머에 기록
+    private void recordSend(Channel channel, Timer.Sample sample) {
+        sample.stop(sendTimers.get(channel));
     }
     
     /**
@@ -1,29 +1,62 @@
 package com.smartfactory.smartmes_insight.service;
 
+import com.smartfactory.smartmes_insight.cache.ResponseCache;
+import com.smartfactory.smartmes_insight.cache.ResponseCacheRegion;
 import com.smartfactory.smartmes_insight.domain.production.ProductionResult;
 import com.smartfactory.smartmes_insight.domain.production.ProductionResultRepository;
 import com.smartfactory.smartmes_insight.domain.workorder.WorkOrder;
 import com.smartfactory.smartmes_insight.domain.workorder.WorkOrderRepository;
+import com.smartfactory.smartmes_insight.dto.production.ProductionResultPageResponse;
+import com.smartfactory.smartmes_insight.dto.production.ProductionResultResponse;
+import com.smartfactory.smartmes_insight.kpi.OeeEngine;
+import com.smartfactory.smartmes_insight.kpi.ProductionCounter;
+import com.smartfactory.smartmes_insight.kpi.ProductionKpiTracker;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class ProductionResultService {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int DEFAULT_DEFECTIVE_SEARCH_DAYS = 7;
+    private static final int MAX_DEFECTIVE_SEARCH_DAYS = 31;
+
     private final ProductionResultRepository productionResultRepository;
     private final WorkOrderRepository workOrderRepository;
+    private final ProductionKpiTracker kpiTracker;
+    private final OeeEngine oeeEngine;
+    private final ResponseCache responseCache;
+
+    // 불량률 컬럼 추가 후 첫 배포에서만 켜는 일회성 보정 스위치 (매 기동마다 실적 테이블을 훑지 않도록)
+    @Value("${production.defective-rate-backfill.enabled:false}")
+    private boolean defectiveRateBackfillEnabled;
 
     // 작업 실적 등록
     public ProductionResult save(ProductionResult productionResult) {
-        return productionResultRepository.save(productionResult);
+        boolean isNew = productionResult.getId() == null;
+        ProductionResult saved = productionResultRepository.save(productionResult);
+        if (isNew) {
+            trackDelta(saved, saved.getQuantityProduced(), saved.getQuantityDefective(), 1);
+        }
+        return saved;
     }
 
     // 작업 실적 등록 (작업 지시 ID로)
@@ -38,7 +71,9 @@ public class ProductionResultService {
                 .recordedAt(LocalDateTime.now())
                 .build();
 
-        return productionResultRepository.save(productionResult);
+        ProductionResult saved = productionResultRepository.save(productionResult);
+        trackDelta(saved, saved.getQuantityProduced(), saved.getQuantityDefective(), 1);
+        return saved;
     }
 
     // 불량 등록 (기존 실적에 불량 수량 추가)
@@ -46,6 +81,7 @@ public class ProductionResultService {
         ProductionResult productionResult = getProductionResultOrThrow(productionResultId);
         int currentDefective = productionResult.getQuantityDefective() != null ? productionResult.getQuantityDefective() : 0;
         productionResult.setQuantityDefective(currentDefective + additionalDefective);
+        trackDelta(productionResult, 0, additionalDefective, 0);
     }
 
     // 전체 생산 실적 조회
@@ -72,6 +108,44 @@ public class ProductionResultService {
         return productionResultRepository.findById(id);
     }
 
+    // 불량률 기준 실적 조회 (기간 필수 제한, 기본 최근 7일 / 최대 31일)
+    @Transactional(readOnly = true)
+    public ProductionResultPageResponse findByDefectiveRate(double defectiveRate, LocalDateTime startDate,
+                                                            LocalDateTime endDate, Integer page, Integer size) {
+        LocalDateTime end = endDate != null ? endDate : LocalDateTime.now();
+        LocalDateTime start = startDate != null ? startDate : end.minusDays(DEFAULT_DEFECTIVE_SEARCH_DAYS);
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("시작 일시는 종료 일시보다 이전이어야 합니다.");
+        }
+        if (start.isBefore(end.minusDays(MAX_DEFECTIVE_SEARCH_DAYS))) {
+            throw new IllegalArgumentException("불량률 조회 기간은 최대 " + MAX_DEFECTIVE_SEARCH_DAYS + "일입니다.");
+        }
+
+        int pageNumber = page != null ? Math.max(page, 0) : 0;
+        int pageSize = size == null || size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+
+        Slice<ProductionResultResponse> slice = productionResultRepository
+                .findByDefectiveRateGreaterThanEqual(defectiveRate, start, end, PageRequest.of(pageNumber, pageSize))
+                .map(ProductionResultResponse::from);
+        return ProductionResultPageResponse.from(slice);
+    }
+
+    // 불량률 컬럼 추가 이전 실적 보정 (불량률이 비어 있는 행만 갱신, 스위치가 꺼져 있으면 건너뜀)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillDefectiveRates() {
+        if (!defectiveRateBackfillEnabled) {
+            return;
+        }
+        try {
+            int updated = productionResultRepository.backfillDefectiveRates();
+            if (updated > 0) {
+                log.info("📈 생산 실적 불량률 컬럼 보정 완료: {}건", updated);
+            }
+        } catch (Exception e) {
+            log.error("❌ 생산 실적 불량률 컬럼 보정 실패: {}", e.getMessage());
+        }
+    }
+
     // 실적 통계 (총생산/불량률)
     @Transactional(readOnly = true)
     public Map<String, Object> getProductionStatistics(LocalDateTime startDate, LocalDateTime endDate) {
@@ -99,58 +173,117 @@ public class ProductionResultService {
         );
     }
 
-    // 특정 작업 지시의 통계
-    @Transactional(readOnly = true)
+    // 특정 작업 지시의 통계 (증분 카운터 조회)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Map<String, Object> getWorkOrderStatistics(Long workOrderId) {
-        List<ProductionResult> results = productionResultRepository.findByWorkOrderId(workOrderId);
+        ProductionCounter.Snapshot kpi = kpiTracker.getWorkOrder(workOrderId);
 
-        int totalProduced = results.stream()
-                .mapToInt(ProductionResult::getQuantityProduced)
-                .sum();
+        return Map.of(
+                "workOrderId", workOrderId,
+                "totalProduced", kpi.produced(),
+                "totalDefective", kpi.defective(),
+                "goodQuantity", kpi.good(),
+                "defectiveRate", Math.round(kpi.defectiveRate() * 100.0) / 100.0
+        );
+    }
 
-        int totalDefective = results.stream()
-                .mapToInt(result -> result.getQuantityDefective() != null ? result.getQuantityDefective() : 0)
-                .sum();
+    // 특정 설비의 누적 통계 (증분 카운터 조회)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Map<String, Object> getFacilityStatistics(Long facilityId) {
+        ProductionCounter.Snapshot kpi = kpiTracker.getFacility(facilityId);
 
-        double defectiveRate = totalProduced > 0 ? (double) totalDefective / totalProduced * 100 : 0.0;
+        return Map.of(
+                "facilityId", facilityId,
+                "totalProduced", kpi.produced(),
+                "totalDefective", kpi.defective(),
+                "goodQuantity", kpi.good(),
+                "defectiveRate", Math.round(kpi.defectiveRate() * 100.0) / 100.0,
+                "recordCount", kpi.records()
+        );
+    }
+
+    // 특정 설비의 일별 통계 (증분 카운터 조회)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Map<String, Object> getFacilityDailyStatistics(Long facilityId, LocalDate date) {
+        ProductionCounter.Snapshot kpi = kpiTracker.getFacilityDay(facilityId, date);
 
         return Map.of(
-                "workOrderId", workOrderId,
-                "totalProduced", totalProduced,
-                "totalDefective", totalDefective,
-                "goodQuantity", totalProduced - totalDefective,
-                "defectiveRate", Math.round(defectiveRate * 100.0) / 100.0
+                "facilityId", facilityId,
+                "date", date,
+                "totalProduced", kpi.produced(),
+                "totalDefective", kpi.defective(),
+                "goodQuantity", kpi.good(),
+                "defectiveRate", Math.round(kpi.defectiveRate() * 100.0) / 100.0,
+                "recordCount", kpi.records()
         );
     }
 
     // 생산 실적 수정
     public void updateProductionResult(Long id, ProductionResult updatedResult) {
         ProductionResult productionResult = getProductionResultOrThrow(id);
+        long producedDelta = valueOrZero(updatedResult.getQuantityProduced()) - valueOrZero(productionResult.getQuantityProduced());
+        long defectiveDelta = valueOrZero(updatedResult.getQuantityDefective()) - valueOrZero(productionResult.getQuantityDefective());
+
         productionResult.setQuantityProduced(updatedResult.getQuantityProduced());
         productionResult.setQuantityDefective(updatedResult.getQuantityDefective());
+        trackDelta(productionResult, producedDelta, defectiveDelta, 0);
     }
 
     // 생산 실적 삭제
     public void deleteById(Long id) {
-        productionResultRepository.deleteById(id);
+        productionResultRepository.findById(id).ifPresent(productionResult -> {
+            productionResultRepository.delete(productionResult);
+            trackDelta(productionResult,
+                    -valueOrZero(productionResult.getQuantityProduced()),
+                    -valueOrZero(productionResult.getQuantityDefective()),
+                    -1);
+        });
     }
 
-    // 일별 생산 통계
-    @Transactional(readOnly = true)
+    // 일별 생산 통계 (증분 카운터 조회)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Map<String, Object> getDailyStatistics(LocalDateTime date) {
-        LocalDateTime startOfDay = date.toLocalDate().atStartOfDay();
-        LocalDateTime endOfDay = startOfDay.plusDays(1).minusSeconds(1);
-        
-        return getProductionStatistics(startOfDay, endOfDay);
+        LocalDate day = date.toLocalDate();
+        return toStatistics(kpiTracker.getDays(day, day));
     }
 
-    // 월별 생산 통계
-    @Transactional(readOnly = true)
+    // 월별 생산 통계 (일별 카운터 합산)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Map<String, Object> getMonthlyStatistics(int year, int month) {
-        LocalDateTime startOfMonth = LocalDateTime.of(year, month, 1, 0, 0, 0);
-        LocalDateTime endOfMonth = startOfMonth.plusMonths(1).minusSeconds(1);
-        
-        return getProductionStatistics(startOfMonth, endOfMonth);
+        LocalDate startOfMonth = LocalDate.of(year, month, 1);
+        LocalDate endOfMonth = startOfMonth.plusMonths(1).minusDays(1);
+        return toStatistics(kpiTracker.getDays(startOfMonth, endOfMonth));
+    }
+
+    // 실적 테이블 기준으로 KPI 카운터 재구성 (정합성 보정용)
+    public void rebuildKpiCounters() {
+        kpiTracker.rebuild();
+        responseCache.invalidate(ResponseCacheRegion.PRODUCTION);
+    }
+
+    private Map<String, Object> toStatistics(ProductionCounter.Snapshot kpi) {
+        return Map.of(
+                "totalProduced", kpi.produced(),
+                "totalDefective", kpi.defective(),
+                "goodQuantity", kpi.good(),
+                "defectiveRate", Math.round(kpi.defectiveRate() * 100.0) / 100.0,
+                "goodRate", Math.round(kpi.goodRate() * 100.0) / 100.0,
+                "recordCount", kpi.records()
+        );
+    }
+
+    // KPI 카운터에 변화량 전달 (커밋 이후 반영) - 통계 응답 캐시는 카운터 반영 뒤에 무효화
+    private void trackDelta(ProductionResult result, long producedDelta, long defectiveDelta, long recordDelta) {
+        WorkOrder workOrder = result.getWorkOrder();
+        kpiTracker.recordDelta(workOrder.getId(), workOrder.getFacility().getId(), result.getRecordedAt(),
+                producedDelta, defectiveDelta, recordDelta);
+        responseCache.invalidate(ResponseCacheRegion.PRODUCTION);
+        oeeEngine.onProduction(workOrder.getFacility().getId(), workOrder.getFacility().getType(),
+                result.getRecordedAt(), producedDelta, defectiveDelta);
+    }
+
+    private static long valueOrZero(Integer value) {
+        return value != null ? value : 0L;
     }
 
     private ProductionResult getProductionResultOrThrow(Long id) {
@@ -2,109 +2,252 @@ package com.smartfactory.smartmes_insight.service;
 
 import com.smartfactory.smartmes_insight.domain.sensor.Sensor;
 import com.smartfactory.smartmes_insight.domain.sensor.SensorLog;
-import com.smartfactory.smartmes_insight.domain.sensor.SensorLogRepository;
+import com.smartfactory.smartmes_insight.domain.sensor.SensorLogStatistics;
+import com.smartfactory.smartmes_insight.domain.sensor.SensorLogStore;
 import com.smartfactory.smartmes_insight.domain.sensor.SensorRepository;
+import com.smartfactory.smartmes_insight.dto.sensor.SensorInterpolatedResponse;
+import com.smartfactory.smartmes_insight.dto.sensor.SensorSeriesResponse;
+import com.smartfactory.smartmes_insight.ingest.SensorIngestWal;
+import com.smartfactory.smartmes_insight.ingest.SensorLogCompressor;
+import com.smartfactory.smartmes_insight.ingest.SensorReadingBatch;
+import com.smartfactory.smartmes_insight.ingest.SensorThresholds;
+import com.smartfactory.smartmes_insight.series.DownsampleMethod;
+import com.smartfactory.smartmes_insight.series.InterpolationMethod;
+import com.smartfactory.smartmes_insight.series.SeriesDownsampler;
+import com.smartfactory.smartmes_insight.series.SeriesInterpolator;
+import com.smartfactory.smartmes_insight.stream.SensorStreamHub;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class SensorLogService {
 
-    private final SensorLogRepository sensorLogRepository;
+    private final SensorLogStore sensorLogStore;
     private final SensorRepository sensorRepository;
+    private final SensorStreamHub sensorStreamHub;
+    private final SensorIngestWal sensorIngestWal;
+    private final SensorLogCompressor sensorLogCompressor;
+
+    @Value("${sensor.series.default-points:2000}")
+    private int defaultSeriesPoints;
+
+    @Value("${sensor.series.max-points:10000}")
+    private int maxSeriesPoints;
 
     // 실시간 센서 데이터 저장
     public SensorLog save(SensorLog sensorLog) {
-        return sensorLogRepository.save(sensorLog);
+        return sensorLogStore.save(sensorLog);
     }
 
     // 센서 데이터 저장 (센서 ID와 값으로)
-    public SensorLog saveSensorData(Long sensorId, Double value) {
-        Sensor sensor = sensorRepository.findById(sensorId)
+    // 압축 사용 시 이번 값을 버렸거나 다음 저장 후보로 들고 있으면 빈 값을 반환하고, 들고 있던 이전 측정값이 나오면 그것만 저장
+    public Optional<SensorLog> saveSensorData(Long sensorId, Double value) {
+        // 응답으로 직렬화되므로 설비까지 함께 조회
+        Sensor sensor = sensorRepository.findWithFacilityById(sensorId)
                 .orElseThrow(() -> new IllegalArgumentException("센서를 찾을 수 없습니다."));
 
-        SensorLog sensorLog = SensorLog.builder()
+        SensorLog sensorLog = buildLog(sensor, value);
+        Optional<SensorLog> saved;
+        if (!sensorLogCompressor.isEnabled() || value == null) {
+            saved = Optional.of(sensorLogStore.save(sensorLog));
+        } else {
+            long collectedAt = sensorLog.getCollectedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            SensorReadingBatch reading = new SensorReadingBatch(1);
+            reading.add(sensorId, collectedAt, value);
+            SensorLogCompressor.Compression compression = sensorLogCompressor.compress(reading,
+                    SensorThresholds.fromRows(List.<Object[]>of(
+                            new Object[]{sensorId, sensor.getThresholdMin(), sensor.getThresholdMax(), sensor.getType()})));
+            SensorReadingBatch kept = compression.kept();
+
+            boolean keepCurrent = !kept.isEmpty() && kept.timestamp(kept.size() - 1) == collectedAt;
+            if (kept.size() > (keepCurrent ? 1 : 0)) {
+                SensorReadingBatch earlier = new SensorReadingBatch(kept.size());
+                for (int i = 0; i < kept.size() - (keepCurrent ? 1 : 0); i++) {
+                    earlier.add(kept.sensorId(i), kept.timestamp(i), kept.value(i));
+                }
+                sensorLogStore.saveBatch(earlier);
+            }
+            saved = keepCurrent ? Optional.of(sensorLogStore.save(sensorLog)) : Optional.empty();
+            commitAfterStore(compression);
+        }
+        sensorStreamHub.publish(sensorId, sensor.getFacility().getId(), value, sensorLog.getCollectedAt());
+        return saved;
+    }
+    
+    // 수집 주기 측정값 묶음 로깅 (스케줄러용) - 엔티티 없이 배치 INSERT 한 번으로 저장 (압축 사용 시 남긴 값만)
+    public void logSensorData(SensorReadingBatch batch, SensorThresholds thresholds) {
+        if (sensorLogCompressor.isEnabled()) {
+            SensorLogCompressor.Compression compression = sensorLogCompressor.compress(batch, thresholds);
+            sensorLogStore.saveBatch(compression.kept());
+            commitAfterStore(compression);
+        } else {
+            sensorLogStore.saveBatch(batch);
+        }
+        sensorStreamHub.publishBatch(batch);
+    }
+
+    // 수집 주기 측정값 묶음 로깅 (WAL 경유) - DB 트랜잭션 없이 로컬 WAL에만 기록하고 반환 (DB 적재는 SensorIngestWal 재적재 스레드), 용량 초과로 거부된 수 반환
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int bufferSensorData(SensorReadingBatch batch, SensorThresholds thresholds) {
+        int rejected;
+        if (sensorLogCompressor.isEnabled()) {
+            SensorLogCompressor.Compression compression = sensorLogCompressor.compress(batch, thresholds);
+            rejected = sensorIngestWal.append(compression.kept());
+            if (rejected == 0) {
+                sensorLogCompressor.commit(compression); // WAL에 기록되면 저장된 것 (DB 적재 실패는 재적재 스레드가 재시도)
+            }
+        } else {
+            rejected = sensorIngestWal.append(batch);
+        }
+        if (rejected > 0) {
+            log.warn("⚠️ 센서 WAL 용량 초과로 측정값 {}건 거부", rejected);
+        }
+        sensorStreamHub.publishBatch(batch);
+        return rejected;
+    }
+
+    // 압축 상태는 저장한 트랜잭션이 커밋된 뒤에 반영 (롤백되면 버려서 다음 묶음이 마지막 저장점 기준으로 다시 판단)
+    private void commitAfterStore(SensorLogCompressor.Compression compression) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    sensorLogCompressor.commit(compression);
+                }
+            });
+        } else {
+            sensorLogCompressor.commit(compression);
+        }
+    }
+
+    private SensorLog buildLog(Sensor sensor, Double value) {
+        return SensorLog.builder()
                 .sensor(sensor)
                 .value(value)
                 .collectedAt(LocalDateTime.now())
                 .build();
-
-        return sensorLogRepository.save(sensorLog);
-    }
-    
-    // 센서 데이터 로깅 (스케줄러용 별칭)
-    public SensorLog logSensorData(Long sensorId, Double value) {
-        return saveSensorData(sensorId, value);
     }
 
     // 특정 기간 센서 로그 조회
     @Transactional(readOnly = true)
     public List<SensorLog> findByPeriod(Long sensorId, LocalDateTime startDate, LocalDateTime endDate) {
-        return sensorLogRepository.findBySensorIdAndCollectedAtBetween(sensorId, startDate, endDate);
+        return preloadSensor(sensorId)
+                .map(sensor -> sensorLogStore.findByPeriod(sensor, startDate, endDate))
+                .orElse(List.of());
     }
 
     // 특정 센서의 최근 로그 조회
     @Transactional(readOnly = true)
     public List<SensorLog> findRecentLogsBySensorId(Long sensorId, int limit) {
-        return sensorLogRepository.findTop10BySensorIdOrderByCollectedAtDesc(sensorId);
+        return preloadSensor(sensorId)
+                .map(sensor -> sensorLogStore.findRecent(sensor, limit))
+                .orElse(List.of());
+    }
+
+    // 장기간 차트용 다운샘플링 - 엔티티를 만들지 않고 행을 흘려 읽으며 목표 점 수로 줄인다
+    @Transactional(readOnly = true)
+    public SensorSeriesResponse findDownsampled(Long sensorId, LocalDateTime startDate, LocalDateTime endDate,
+                                                Integer points, DownsampleMethod method) {
+        int targetPoints = points != null ? points : defaultSeriesPoints;
+        if (targetPoints < 3 || targetPoints > maxSeriesPoints) {
+            throw new IllegalArgumentException("점 수는 3~" + maxSeriesPoints + " 사이여야 합니다.");
+        }
+        if (!sensorRepository.existsById(sensorId)) {
+            throw new IllegalArgumentException("센서를 찾을 수 없습니다.");
+        }
+
+        ZoneId zone = ZoneId.systemDefault();
+        SeriesDownsampler downsampler = new SeriesDownsampler(method,
+                startDate.atZone(zone).toInstant().toEpochMilli(),
+                endDate.atZone(zone).toInstant().toEpochMilli(),
+                targetPoints);
+        sensorLogStore.scan(sensorId, startDate, endDate, downsampler);
+        return SensorSeriesResponse.from(sensorId, method, startDate, endDate, downsampler.finish());
+    }
+
+    // 저장점 사이 값을 일정 간격으로 복원 (압축 저장 구간 조회용, method 생략 시 압축 방식에 맞는 보간)
+    @Transactional(readOnly = true)
+    public SensorInterpolatedResponse findInterpolated(Long sensorId, LocalDateTime startDate, LocalDateTime endDate,
+                                                       long stepMillis, InterpolationMethod method) {
+        if (stepMillis < 1000) {
+            throw new IllegalArgumentException("간격은 1000ms 이상이어야 합니다.");
+        }
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("종료 일시가 시작 일시보다 앞설 수 없습니다.");
+        }
+        if (!sensorRepository.existsById(sensorId)) {
+            throw new IllegalArgumentException("센서를 찾을 수 없습니다.");
+        }
+
+        ZoneId zone = ZoneId.systemDefault();
+        long startMillis = startDate.atZone(zone).toInstant().toEpochMilli();
+        long endMillis = endDate.atZone(zone).toInstant().toEpochMilli();
+        if (SeriesInterpolator.pointCount(startMillis, endMillis, stepMillis) > maxSeriesPoints) {
+            throw new IllegalArgumentException("점 수가 " + maxSeriesPoints + "개를 넘습니다. 간격을 늘리거나 기간을 줄이세요.");
+        }
+
+        // 변화가 없어도 heartbeat마다 저장되므로 그 두 배 넘게 저장점이 없으면 결측으로 본다
+        long maxGapMillis = sensorLogCompressor.getHeartbeatMillis() * 2;
+        InterpolationMethod resolved = method != null ? method : sensorLogCompressor.getMode().interpolation();
+        SeriesInterpolator interpolator = new SeriesInterpolator(resolved, startMillis, endMillis, stepMillis, maxGapMillis);
+        Duration maxGap = Duration.ofMillis(maxGapMillis);
+        sensorLogStore.scan(sensorId, startDate.minus(maxGap), endDate.plus(maxGap), interpolator);
+        return SensorInterpolatedResponse.from(sensorId, resolved, startDate, endDate, stepMillis, interpolator.finish());
     }
 
     // 이상 패턴 탐지 (임계값 기반)
     @Transactional(readOnly = true)
     public List<SensorLog> detectAnomalies(Long sensorId, LocalDateTime startDate, LocalDateTime endDate) {
-        Sensor sensor = sensorRepository.findById(sensorId)
+        Sensor sensor = sensorRepository.findWithFacilityById(sensorId)
                 .orElseThrow(() -> new IllegalArgumentException("센서를 찾을 수 없습니다."));
 
         if (sensor.getThresholdMin() == null || sensor.getThresholdMax() == null) {
             throw new IllegalArgumentException("센서의 임계값이 설정되지 않았습니다.");
         }
 
-        return sensorLogRepository.findBySensorIdAndCollectedAtBetweenAndValueNotBetween(
-                sensorId, startDate, endDate, sensor.getThresholdMin(), sensor.getThresholdMax()
+        return sensorLogStore.findOutsideRange(
+                sensor, startDate, endDate, sensor.getThresholdMin(), sensor.getThresholdMax()
         );
     }
 
+    // 응답 직렬화 시점에는 영속성 컨텍스트가 닫혀 있으므로(open-in-view 비활성)
+    // 로그들이 공유하는 센서/설비를 먼저 한 번에 올려 둔다 (로그 조회는 센서 조인 없이 유지)
+    private Optional<Sensor> preloadSensor(Long sensorId) {
+        return sensorRepository.findWithFacilityById(sensorId);
+    }
+
     // 로그 데이터 통계 제공
     @Transactional(readOnly = true)
     public Map<String, Object> getStatistics(Long sensorId, LocalDateTime startDate, LocalDateTime endDate) {
-        List<SensorLog> logs = sensorLogRepository.findBySensorIdAndCollectedAtBetween(sensorId, startDate, endDate);
-        
-        if (logs.isEmpty()) {
-            return Map.of(
-                "count", 0,
-                "average", 0.0,
-                "min", 0.0,
-                "max", 0.0
-            );
-        }
-
-        List<Double> values = logs.stream()
-                .map(SensorLog::getValue)
-                .collect(Collectors.toList());
-
-        double average = values.stream().mapToDouble(Double::doubleValue).average().orElse(0.0);
-        double min = values.stream().mapToDouble(Double::doubleValue).min().orElse(0.0);
-        double max = values.stream().mapToDouble(Double::doubleValue).max().orElse(0.0);
-
+        // 행을 읽어 오지 않고 저장소에서 집계 (JDBC: 집계 쿼리, 세그먼트: 블록 요약값)
+        SensorLogStatistics statistics = sensorLogStore.getStatistics(sensorId, startDate, endDate);
         return Map.of(
-                "count", logs.size(),
-                "average", average,
-                "min", min,
-                "max", max
+                "count", statistics.count(),
+                "average", statistics.average(),
+                "min", statistics.min(),
+                "max", statistics.max()
         );
     }
 
     // 전체 센서의 최신 데이터 조회
     @Transactional(readOnly = true)
     public List<SensorLog> findLatestDataForAllSensors() {
-        return sensorLogRepository.findLatestDataForAllSensors();
+        return sensorLogStore.findLatestForAllSensors();
     }
 }
@@ -1,9 +1,14 @@
 package com.smartfactory.smartmes_insight.service;
 
+import com.smartfactory.smartmes_insight.cache.ResponseCache;
+import com.smartfactory.smartmes_insight.cache.ResponseCacheRegion;
 import com.smartfactory.smartmes_insight.domain.sensor.Sensor;
 import com.smartfactory.smartmes_insight.domain.sensor.SensorRepository;
 import com.smartfactory.smartmes_insight.domain.facility.Facility;
 import com.smartfactory.smartmes_insight.dto.sensor.*;
+import com.smartfactory.smartmes_insight.event.DomainEvent;
+import com.smartfactory.smartmes_insight.event.DomainEventBus;
+import com.smartfactory.smartmes_insight.ingest.ActiveSensorRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -18,6 +23,9 @@ public class SensorService {
 
     private final SensorRepository sensorRepository;
     private final FacilityService facilityService;
+    private final ActiveSensorRegistry activeSensorRegistry;
+    private final DomainEventBus domainEventBus;
+    private final ResponseCache responseCache;
 
     //센서 등록
     public SensorResponse createSensor(SensorCreateRequest request) {
@@ -29,6 +37,7 @@ public class SensorService {
         Sensor sensor = buildSensorFromRequest(request, facility);
         // 4. 저장 및 반환
         Sensor saved = sensorRepository.save(sensor);
+        publishChanged(saved);
         return SensorResponse.from(saved);
     }
 
@@ -36,7 +45,7 @@ public class SensorService {
         // 1. 입력 검증
         request.validate();
         // 2. 센서 조회
-        Sensor sensor = findSensorOrThrow(id);
+        Sensor sensor = findSensorWithFacilityOrThrow(id);
         // 3. 요청에 포함된 필드만 선택적 업데이트
         if (request.hasBasicInfo()) {
             sensor.updateBasicInfo(
@@ -49,6 +58,7 @@ public class SensorService {
         if (request.hasThresholds()) {
             sensor.updateThresholds(request.getThresholdMin(), request.getThresholdMax());
         }
+        publishChanged(sensor);
         // 4. 반환
         return SensorResponse.from(sensor);
     }
@@ -61,6 +71,8 @@ public class SensorService {
         
         // 2. 삭제 (연관 데이터 정리는 DB 제약조건 활용)
         sensorRepository.deleteById(id);
+        responseCache.invalidate(ResponseCacheRegion.SENSOR, ResponseCacheRegion.ALERT); // 센서 알림도 함께 삭제됨
+        domainEventBus.publish(new DomainEvent.SensorRemoved(id));
     }
 
     // 센서 목록 조회
@@ -77,7 +89,7 @@ public class SensorService {
      */
     @Transactional(readOnly = true)
     public SensorResponse getSensorById(Long id) {
-        Sensor sensor = findSensorOrThrow(id);
+        Sensor sensor = findSensorWithFacilityOrThrow(id);
         return SensorResponse.from(sensor);
     }
 
@@ -103,13 +115,14 @@ public class SensorService {
         // 1. 입력 검증
         request.validate();
         // 2. 센서 조회
-        Sensor sensor = findSensorOrThrow(sensorId);
+        Sensor sensor = findSensorWithFacilityOrThrow(sensorId);
         // 3. 설정값만 업데이트
         sensor.updateThresholds(request.getThresholdMin(), request.getThresholdMax());
         // 4. 추가 설정들 (향후 확장 가능)
         // sensor.updateSamplingRate(request.getSamplingRate());
         // sensor.updateCalibration(request.getCalibrationValue());
-        
+        publishChanged(sensor);
+
         return SensorResponse.from(sensor);
     }
     /**
@@ -120,6 +133,22 @@ public class SensorService {
                 .orElseThrow(() -> new EntityNotFoundException("센서를 찾을 수 없습니다: " + sensorId));
     }
     
+    /**
+     * 센서 조회 (설비 포함) - SensorResponse 변환용
+     */
+    private Sensor findSensorWithFacilityOrThrow(Long sensorId) {
+        return sensorRepository.findWithFacilityById(sensorId)
+                .orElseThrow(() -> new EntityNotFoundException("센서를 찾을 수 없습니다: " + sensorId));
+    }
+
+    // 📣 센서 변경 이벤트 발행 (커밋 이후 활성 센서 레지스트리 등에 전달) + 센서 목록/알림 응답 캐시 무효화 (알림에 센서명 포함)
+    private void publishChanged(Sensor sensor) {
+        responseCache.invalidate(ResponseCacheRegion.SENSOR, ResponseCacheRegion.ALERT);
+        Facility facility = sensor.getFacility();
+        domainEventBus.publish(new DomainEvent.SensorChanged(sensor.getId(), facility.getId(),
+                sensor.getType(), sensor.getThresholdMin(), sensor.getThresholdMax()));
+    }
+
     /**
      * 센서 생성 요청 검증
      */
@@ -173,7 +202,7 @@ public class SensorService {
      * 센서 값 임계값 검증 (비즈니스 로직)
      */
     @Transactional(readOnly = true)
-    public boolean isValueWithinThreshold(Long sensorId, Double value) {
+    public boolean isValueWithinThreshold(Long sensorId, double value) {
         Sensor sensor = findSensorOrThrow(sensorId);
         return sensor.isValueWithinThreshold(value);
     }
@@ -188,10 +217,9 @@ public class SensorService {
     }
     
     /**
-     * 활성화된 센서 ID 목록 조회 (스케줄러용)
+     * 활성화된 센서 ID 목록 조회 (활성 센서 레지스트리 스냅샷 기준 - DB 조회 없음)
      */
-    @Transactional(readOnly = true)
     public List<Long> findActiveSensorIds() {
-        return sensorRepository.findAllActiveSensorIds();
+        return activeSensorRegistry.snapshot().sensorIds();
     }
 }
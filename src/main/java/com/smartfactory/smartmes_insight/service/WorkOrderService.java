@@ -4,6 +4,8 @@ import com.smartfactory.smartmes_insight.domain.facility.Facility;
 import com.smartfactory.smartmes_insight.domain.facility.FacilityRepository;
 import com.smartfactory.smartmes_insight.domain.workorder.WorkOrder;
 import com.smartfactory.smartmes_insight.domain.workorder.WorkOrderRepository;
+import com.smartfactory.smartmes_insight.event.DomainEvent;
+import com.smartfactory.smartmes_insight.event.DomainEventBus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,6 +21,7 @@ public class WorkOrderService {
 
     private final WorkOrderRepository workOrderRepository;
     private final FacilityRepository facilityRepository;
+    private final DomainEventBus domainEventBus;
 
     // 작업 지시 생성
     public WorkOrder createWorkOrder(Long facilityId, String productName, Integer quantity) {
@@ -37,7 +40,9 @@ public class WorkOrderService {
 
     // 작업 지시 저장
     public WorkOrder save(WorkOrder workOrder) {
-        return workOrderRepository.save(workOrder);
+        WorkOrder saved = workOrderRepository.save(workOrder);
+        trackStatus(saved, null);
+        return saved;
     }
 
     // 진행 중인 작업 지시 목록 조회
@@ -73,27 +78,35 @@ public class WorkOrderService {
     // 작업 시작
     public void startWork(Long workOrderId) {
         WorkOrder workOrder = getWorkOrderOrThrow(workOrderId);
+        String previousStatus = workOrder.getStatus();
         workOrder.setStatus("진행중");
         workOrder.setStartTime(LocalDateTime.now());
+        trackStatus(workOrder, previousStatus);
     }
 
     // 작업 완료 처리
     public void completeWork(Long workOrderId) {
         WorkOrder workOrder = getWorkOrderOrThrow(workOrderId);
+        String previousStatus = workOrder.getStatus();
         workOrder.setStatus("완료");
         workOrder.setEndTime(LocalDateTime.now());
+        trackStatus(workOrder, previousStatus);
     }
 
     // 작업 일시정지
     public void pauseWork(Long workOrderId) {
         WorkOrder workOrder = getWorkOrderOrThrow(workOrderId);
+        String previousStatus = workOrder.getStatus();
         workOrder.setStatus("일시정지");
+        trackStatus(workOrder, previousStatus);
     }
 
     // 작업 취소
     public void cancelWork(Long workOrderId) {
         WorkOrder workOrder = getWorkOrderOrThrow(workOrderId);
+        String previousStatus = workOrder.getStatus();
         workOrder.setStatus("취소");
+        trackStatus(workOrder, previousStatus);
     }
 
     // 작업 지시 정보 수정
@@ -101,12 +114,20 @@ public class WorkOrderService {
         WorkOrder workOrder = getWorkOrderOrThrow(id);
         workOrder.setProductName(updatedWorkOrder.getProductName());
         workOrder.setQuantity(updatedWorkOrder.getQuantity());
+        String previousStatus = workOrder.getStatus();
         workOrder.setStatus(updatedWorkOrder.getStatus());
+        trackStatus(workOrder, previousStatus);
     }
 
     // 작업 지시 삭제
     public void deleteById(Long id) {
-        workOrderRepository.deleteById(id);
+        workOrderRepository.findById(id).ifPresent(workOrder -> {
+            workOrderRepository.delete(workOrder);
+            // 삭제된 작업 지시는 더 이상 계획 가동 시간에 포함되지 않음
+            Facility facility = workOrder.getFacility();
+            domainEventBus.publish(new DomainEvent.WorkOrderStatusChanged(
+                    workOrder.getId(), facility.getId(), facility.getType(), workOrder.getStatus(), "취소"));
+        });
     }
 
     // 특정 기간의 작업 지시 조회
@@ -121,6 +142,13 @@ public class WorkOrderService {
         return workOrderRepository.findByStatus("완료");
     }
 
+    // 📣 작업 지시 상태 변경 이벤트 발행 (커밋 이후 OEE 엔진 등에 전달 - 진행중 여부로 계획 가동 시간 집계)
+    private void trackStatus(WorkOrder workOrder, String previousStatus) {
+        Facility facility = workOrder.getFacility();
+        domainEventBus.publish(new DomainEvent.WorkOrderStatusChanged(
+                workOrder.getId(), facility.getId(), facility.getType(), previousStatus, workOrder.getStatus()));
+    }
+
     private WorkOrder getWorkOrderOrThrow(Long workOrderId) {
         return workOrderRepository.findById(workOrderId)
                 .orElseThrow(() -> new IllegalArgumentException("작업 지시를 찾을 수 없습니다."));
@@ -0,0 +1,383 @@
+package com.smartfactory.smartmes_insight.stream;
+
+import com.smartfactory.smartmes_insight.domain.facility.FacilityRepository;
+import com.smartfactory.smartmes_insight.domain.sensor.SensorLog;
+import com.smartfactory.smartmes_insight.domain.sensor.SensorLogStore;
+import com.smartfactory.smartmes_insight.domain.sensor.SensorRepository;
+import com.smartfactory.smartmes_insight.dto.sensor.SensorStreamFrame;
+import com.smartfactory.smartmes_insight.event.DomainEvent;
+import com.smartfactory.smartmes_insight.event.DomainEventBus;
+import com.smartfactory.smartmes_insight.event.DomainEventRecord;
+import com.smartfactory.smartmes_insight.event.DomainEventSubscriber;
+import com.smartfactory.smartmes_insight.ingest.SensorReadingBatch;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 📡 설비별 센서 실시간 스트림 (SSE)
+ *
+ * 수집 경로(SensorLogService)가 저장한 측정값을 커밋 이후 해당 설비 구독자에게 적재하고,
+ * 틱 스레드가 구독자별 전송 간격(intervalMs)마다 적재된 값을 한 프레임으로 묶어 전송 풀에 넘긴다.
+ *
+ * - 다운샘플링: 간격 안에 들어온 같은 센서 값은 마지막 값만 전송
+ * - 느린 소비자: 이전 프레임 전송이 끝나지 않았으면 그 구독자는 건너뛰고 값은 계속 덮어쓴다 (drop)
+ * - 전송은 sensorStreamExecutor에서 수행하므로 수집 스레드는 소켓 쓰기를 기다리지 않는다
+ * - 보낼 값이 없으면 heartbeat 주석만 보내 유휴 연결을 유지한다
+ * - 센서→설비 매핑 캐시는 센서 수정/삭제, 설비 삭제 이벤트({@link DomainEventBus} 구독) 때 비운다
+ */
+@Slf4j
+@Component
+public class SensorStreamHub implements DomainEventSubscriber {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+    private static final String READINGS_EVENT = "readings";
+
+    private final FacilityRepository facilityRepository;
+    private final SensorRepository sensorRepository;
+    private final SensorLogStore sensorLogStore;
+    private final Executor sendExecutor;
+    private final DomainEventBus domainEventBus;
+
+    private final Map<Long, Set<SensorStreamSubscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Map<Long, Long> facilityBySensor = new ConcurrentHashMap<>();
+
+    private final Counter framesSent;
+    private final Counter readingsSent;
+    private final Counter readingsDropped;
+    private final Counter sendsDeferred;
+
+    private ScheduledExecutorService ticker;
+
+    @Value("${sensor.stream.tick-ms:100}")
+    private long tickMillis;
+
+    @Value("${sensor.stream.default-interval-ms:1000}")
+    private long defaultIntervalMillis;
+
+    @Value("${sensor.stream.min-interval-ms:200}")
+    private long minIntervalMillis;
+
+    @Value("${sensor.stream.max-interval-ms:60000}")
+    private long maxIntervalMillis;
+
+    @Value("${sensor.stream.heartbeat-ms:15000}")
+    private long heartbeatMillis;
+
+    @Value("${sensor.stream.timeout-ms:1800000}")
+    private long timeoutMillis;
+
+    @Value("${sensor.stream.reconnect-ms:3000}")
+    private long reconnectMillis;
+
+    @Value("${sensor.stream.max-subscribers:200}")
+    private int maxSubscribers;
+
+    public SensorStreamHub(FacilityRepository facilityRepository,
+                           SensorRepository sensorRepository,
+                           SensorLogStore sensorLogStore,
+                           @Qualifier("sensorStreamExecutor") Executor sendExecutor,
+                           DomainEventBus domainEventBus,
+                           MeterRegistry meterRegistry) {
+        this.facilityRepository = facilityRepository;
+        this.sensorRepository = sensorRepository;
+        this.sensorLogStore = sensorLogStore;
+        this.sendExecutor = sendExecutor;
+        this.domainEventBus = domainEventBus;
+
+        Gauge.builder("sensor.stream.subscribers", subscriberCount, AtomicInteger::get)
+                .description("센서 스트림 구독자 수")
+                .register(meterRegistry);
+        this.framesSent = Counter.builder("sensor.stream.frames")
+                .description("전송한 프레임 수")
+                .register(meterRegistry);
+        this.readingsSent = Counter.builder("sensor.stream.readings")
+                .description("전송한 측정값 수")
+                .register(meterRegistry);
+        this.readingsDropped = Counter.builder("sensor.stream.dropped")
+                .description("전송 전에 새 값으로 대체되어 버려진 측정값 수")
+                .register(meterRegistry);
+        this.sendsDeferred = Counter.builder("sensor.stream.deferred")
+                .description("전송 풀이 가득 차 다음 틱으로 미룬 전송 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sensor-stream-tick");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        domainEventBus.subscribe("sensor-stream", this);
+        log.info("📡 센서 스트림 시작: tick={}ms, 기본 간격={}ms, 최대 구독자={}", tickMillis, defaultIntervalMillis, maxSubscribers);
+    }
+
+    @PreDestroy
+    public void stop() {
+        ticker.shutdownNow();
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.getEmitter().complete()));
+        subscribers.clear();
+        subscriberCount.set(0);
+    }
+
+    // ========================= 구독 =========================
+
+    /**
+     * 설비 센서 스트림 구독 (첫 프레임은 센서별 최신값)
+     *
+     * @param facilityId     설비 ID
+     * @param intervalMillis 전송 간격 (null이면 기본값, 최소/최대 범위로 보정)
+     */
+    public SseEmitter subscribe(Long facilityId, Long intervalMillis) {
+        if (!facilityRepository.existsById(facilityId)) {
+            throw new IllegalArgumentException("설비를 찾을 수 없습니다: " + facilityId);
+        }
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new IllegalStateException("실시간 스트림 구독자 수가 한도(" + maxSubscribers + ")에 도달했습니다.");
+        }
+
+        long interval = Math.max(minIntervalMillis,
+                Math.min(maxIntervalMillis, intervalMillis != null ? intervalMillis : defaultIntervalMillis));
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        SensorStreamSubscriber subscriber =
+                new SensorStreamSubscriber(facilityId, interval, emitter, System.currentTimeMillis());
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        subscribers.computeIfAbsent(facilityId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+
+        try {
+            for (SensorLog latest : sensorLogStore.findLatestByFacilityId(facilityId)) {
+                subscriber.seed(latest.getSensor().getId(), latest.getValue(), toMillis(latest.getCollectedAt()));
+            }
+        } catch (RuntimeException e) {
+            remove(subscriber);
+            throw e;
+        }
+
+        log.debug("📡 센서 스트림 구독: facilityId={}, interval={}ms, 구독자={}", facilityId, interval, subscriberCount.get());
+        return emitter;
+    }
+
+    private void remove(SensorStreamSubscriber subscriber) {
+        Set<SensorStreamSubscriber> set = subscribers.get(subscriber.getFacilityId());
+        if (set != null && set.remove(subscriber)) {
+            subscriberCount.decrementAndGet();
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    // ========================= 수집 경로 =========================
+
+    /**
+     * 저장된 측정값 전달 (현재 트랜잭션 커밋 이후 적재, 구독자가 없으면 아무것도 하지 않음)
+     *
+     * @param facilityId 센서 소속 설비 ID (모르면 null - 최초 1회만 조회 후 캐시)
+     */
+    public void publish(Long sensorId, Long facilityId, double value, LocalDateTime collectedAt) {
+        if (subscriberCount.get() == 0) {
+            return;
+        }
+        Long targetFacilityId = facilityId != null ? cacheFacility(sensorId, facilityId) : facilityOf(sensorId);
+        if (targetFacilityId == null) {
+            return;
+        }
+        Set<SensorStreamSubscriber> targets = subscribers.get(targetFacilityId);
+        if (targets == null || targets.isEmpty()) {
+            return;
+        }
+
+        long collectedAtMillis = toMillis(collectedAt);
+        afterCommit(() -> {
+            int dropped = 0;
+            for (SensorStreamSubscriber subscriber : targets) {
+                dropped += subscriber.offer(sensorId, value, collectedAtMillis);
+            }
+            if (dropped > 0) {
+                readingsDropped.increment(dropped);
+            }
+        });
+    }
+
+    /**
+     * 수집 주기 측정값 묶음 전달 (구독자가 없으면 묶음을 읽지 않음)
+     *
+     * 묶음은 호출 뒤 재사용되므로 전달할 값만 복사해 커밋 이후에 적재한다.
+     */
+    public void publishBatch(SensorReadingBatch batch) {
+        if (subscriberCount.get() == 0 || batch.isEmpty()) {
+            return;
+        }
+        List<PendingReading> pending = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            Long facilityId = facilityOf(batch.sensorId(i));
+            Set<SensorStreamSubscriber> targets = facilityId != null ? subscribers.get(facilityId) : null;
+            if (targets != null && !targets.isEmpty()) {
+                pending.add(new PendingReading(targets, batch.sensorId(i), batch.value(i), batch.timestamp(i)));
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        afterCommit(() -> {
+            int dropped = 0;
+            for (PendingReading reading : pending) {
+                for (SensorStreamSubscriber subscriber : reading.targets()) {
+                    dropped += subscriber.offer(reading.sensorId(), reading.value(), reading.collectedAtMillis());
+                }
+            }
+            if (dropped > 0) {
+                readingsDropped.increment(dropped);
+            }
+        });
+    }
+
+    private record PendingReading(Set<SensorStreamSubscriber> targets, long sensorId, double value,
+                                  long collectedAtMillis) {
+    }
+
+    // ========================= 설비 매핑 캐시 =========================
+
+    /**
+     * 센서 수정(소속 설비 이동 포함)/삭제, 설비 삭제 시 설비 매핑 캐시 제거 → 다음 측정값 때 DB에서 다시 읽는다
+     * (이벤트 순서가 커밋 순서와 다를 수 있으므로 이벤트의 설비 값을 캐시에 넣지 않는다)
+     */
+    @Override
+    public void onEvent(DomainEventRecord record) {
+        if (record.event() instanceof DomainEvent.SensorChanged event) {
+            facilityBySensor.remove(event.sensorId());
+        } else if (record.event() instanceof DomainEvent.SensorRemoved event) {
+            facilityBySensor.remove(event.sensorId());
+        } else if (record.event() instanceof DomainEvent.FacilityRemoved event) {
+            facilityBySensor.values().removeIf(event.facilityId()::equals);
+        }
+    }
+
+    /**
+     * 받지 못한 변경이 있으면 매핑 캐시 전체를 비운다
+     */
+    @Override
+    public void onMissed(long missed) {
+        facilityBySensor.clear();
+    }
+
+    private Long cacheFacility(Long sensorId, Long facilityId) {
+        facilityBySensor.put(sensorId, facilityId);
+        return facilityId;
+    }
+
+    private Long facilityOf(Long sensorId) {
+        Long cached = facilityBySensor.get(sensorId);
+        if (cached != null) {
+            return cached;
+        }
+        return sensorRepository.findFacilityIdById(sensorId)
+                .map(facilityId -> cacheFacility(sensorId, facilityId))
+                .orElse(null);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    // ========================= 전송 =========================
+
+    private void tick() {
+        try {
+            long now = System.currentTimeMillis();
+            for (Set<SensorStreamSubscriber> set : subscribers.values()) {
+                for (SensorStreamSubscriber subscriber : set) {
+                    if ((subscriber.hasPending() || subscriber.isHeartbeatDue(now, heartbeatMillis))
+                            && subscriber.tryStartSend(now)) {
+                        dispatch(subscriber);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.error("❌ 센서 스트림 틱 처리 오류: {}", e.getMessage(), e);
+        }
+    }
+
+    private void dispatch(SensorStreamSubscriber subscriber) {
+        try {
+            sendExecutor.execute(() -> send(subscriber));
+        } catch (RejectedExecutionException e) {
+            // 적재된 값은 그대로 두고 다음 차례에 전송 (그 사이 들어온 값은 덮어써짐)
+            subscriber.finishSend();
+            sendsDeferred.increment();
+        }
+    }
+
+    private void send(SensorStreamSubscriber subscriber) {
+        try {
+            SensorStreamFrame frame = subscriber.nextFrame();
+            if (frame != null) {
+                SseEmitter.SseEventBuilder event = SseEmitter.event()
+                        .name(READINGS_EVENT)
+                        .data(frame, MediaType.APPLICATION_JSON);
+                if (frame.getSeq() == 1) {
+                    event.reconnectTime(reconnectMillis);
+                }
+                subscriber.getEmitter().send(event);
+                framesSent.increment();
+                readingsSent.increment(frame.getReadings().size());
+            } else {
+                subscriber.getEmitter().send(SseEmitter.event().comment("heartbeat"));
+            }
+            subscriber.markSent(System.currentTimeMillis());
+        } catch (Exception e) {
+            // 연결 종료 등 - 구독 해제 후 emitter 정리
+            log.debug("📡 센서 스트림 전송 실패 - 구독 해제: facilityId={}, error={}", subscriber.getFacilityId(), e.getMessage());
+            remove(subscriber);
+            subscriber.getEmitter().completeWithError(e);
+        } finally {
+            subscriber.finishSend();
+        }
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZONE).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,159 @@
+package com.smartfactory.smartmes_insight.stream;
+
+import com.smartfactory.smartmes_insight.dto.sensor.SensorStreamFrame;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * SSE 구독자 1명의 전송 상태
+ *
+ * 수집 스레드는 offer()로 센서별 최신값만 남기고(덮어쓴 값은 drop으로 집계),
+ * 전송 스레드는 구독자별 간격마다 남은 값을 한 프레임으로 묶어 보낸다.
+ * 이전 프레임이 아직 전송 중이면(느린 소비자) 다음 차례까지 값이 계속 덮어써진다.
+ */
+class SensorStreamSubscriber {
+
+    private static final Comparator<SensorStreamFrame.Reading> BY_SENSOR =
+            Comparator.comparingLong(SensorStreamFrame.Reading::getSensorId);
+
+    private final Long facilityId;
+    private final long intervalMillis;
+    private final SseEmitter emitter;
+
+    // 수집 스레드 ↔ 전송 스레드 공유 (this로 동기화)
+    private Map<Long, Pending> pending = new HashMap<>();
+    private long droppedSinceLastFrame;
+
+    // 전송 스레드 전용 (inFlight로 한 번에 하나만 실행)
+    private final Map<Long, Double> clientValues = new HashMap<>();
+    private long seq;
+    private long lastSentMillis;
+
+    private final AtomicBoolean inFlight = new AtomicBoolean();
+    private volatile long nextDueMillis;
+
+    private record Pending(double value, long collectedAtMillis) {
+    }
+
+    SensorStreamSubscriber(Long facilityId, long intervalMillis, SseEmitter emitter, long nowMillis) {
+        this.facilityId = facilityId;
+        this.intervalMillis = intervalMillis;
+        this.emitter = emitter;
+        this.nextDueMillis = nowMillis;
+        this.lastSentMillis = 0L; // 첫 틱에 바로 응답을 연다 (보낼 값이 없으면 heartbeat)
+    }
+
+    Long getFacilityId() {
+        return facilityId;
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    /**
+     * 측정값 적재 - 같은 센서의 미전송 값이 있으면 더 최근 값만 남긴다
+     *
+     * @return 덮어써져 버려진 값 수 (0 또는 1)
+     */
+    synchronized int offer(Long sensorId, double value, long collectedAtMillis) {
+        Pending previous = pending.get(sensorId);
+        if (previous != null && previous.collectedAtMillis() > collectedAtMillis) {
+            droppedSinceLastFrame++;
+            return 1;
+        }
+        pending.put(sensorId, new Pending(value, collectedAtMillis));
+        if (previous != null) {
+            droppedSinceLastFrame++;
+            return 1;
+        }
+        return 0;
+    }
+
+    /**
+     * 구독 직후 최신값 적재 - 그 사이 수집된 값이 있으면 그대로 둔다
+     */
+    synchronized void seed(Long sensorId, double value, long collectedAtMillis) {
+        pending.putIfAbsent(sensorId, new Pending(value, collectedAtMillis));
+    }
+
+    synchronized boolean hasPending() {
+        return !pending.isEmpty();
+    }
+
+    /**
+     * 전송 차례이고 이전 프레임 전송이 끝났으면 전송 권한 획득
+     */
+    boolean tryStartSend(long nowMillis) {
+        if (nowMillis < nextDueMillis || !inFlight.compareAndSet(false, true)) {
+            return false;
+        }
+        nextDueMillis = nowMillis + intervalMillis;
+        return true;
+    }
+
+    void finishSend() {
+        inFlight.set(false);
+    }
+
+    boolean isHeartbeatDue(long nowMillis, long heartbeatMillis) {
+        return nowMillis - lastSentMillis >= heartbeatMillis;
+    }
+
+    void markSent(long nowMillis) {
+        lastSentMillis = nowMillis;
+    }
+
+    /**
+     * 남은 값을 변화량 프레임으로 변환 (보낼 값이 없으면 null)
+     * 클라이언트가 보유한 값에 delta를 더해 원래 값이 정확히 나오지 않으면 절대값으로 보내
+     * 부동소수점 오차가 누적되지 않도록 한다.
+     */
+    SensorStreamFrame nextFrame() {
+        Map<Long, Pending> drained;
+        long dropped;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return null;
+            }
+            drained = pending;
+            dropped = droppedSinceLastFrame;
+            pending = new HashMap<>();
+            droppedSinceLastFrame = 0;
+        }
+
+        long baseTime = Long.MAX_VALUE;
+        for (Pending reading : drained.values()) {
+            baseTime = Math.min(baseTime, reading.collectedAtMillis());
+        }
+
+        List<SensorStreamFrame.Reading> readings = new ArrayList<>(drained.size());
+        for (Map.Entry<Long, Pending> entry : drained.entrySet()) {
+            Long sensorId = entry.getKey();
+            Pending reading = entry.getValue();
+            double clientValue = clientValues.getOrDefault(sensorId, 0.0);
+            double delta = reading.value() - clientValue;
+            long offsetMillis = reading.collectedAtMillis() - baseTime;
+            if (clientValue + delta == reading.value()) {
+                readings.add(new SensorStreamFrame.Reading(sensorId, offsetMillis, delta, null));
+            } else {
+                readings.add(new SensorStreamFrame.Reading(sensorId, offsetMillis, null, reading.value()));
+            }
+            clientValues.put(sensorId, reading.value());
+        }
+        readings.sort(BY_SENSOR);
+
+        return SensorStreamFrame.builder()
+                .seq(++seq)
+                .baseTime(baseTime)
+                .dropped(dropped)
+                .readings(readings)
+                .build();
+    }
+}
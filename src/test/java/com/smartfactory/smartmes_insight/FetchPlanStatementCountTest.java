@@ -0,0 +1,258 @@
+package com.smartfactory.smartmes_insight;
+
+import com.smartfactory.smartmes_insight.domain.alert.Alert;
+import com.smartfactory.smartmes_insight.domain.facility.Facility;
+import com.smartfactory.smartmes_insight.domain.production.ProductionResult;
+import com.smartfactory.smartmes_insight.domain.production.ProductionResultRepository;
+import com.smartfactory.smartmes_insight.domain.sensor.JdbcSensorLogStore;
+import com.smartfactory.smartmes_insight.domain.sensor.Sensor;
+import com.smartfactory.smartmes_insight.domain.sensor.SensorLog;
+import com.smartfactory.smartmes_insight.domain.workorder.WorkOrder;
+import com.smartfactory.smartmes_insight.dto.sensor.SensorSeriesResponse;
+import com.smartfactory.smartmes_insight.series.DownsampleMethod;
+import com.smartfactory.smartmes_insight.series.SensorSeriesReader;
+import com.smartfactory.smartmes_insight.service.AlertService;
+import com.smartfactory.smartmes_insight.service.ProductionResultService;
+import com.smartfactory.smartmes_insight.service.SensorLogService;
+import com.smartfactory.smartmes_insight.service.SensorService;
+import com.smartfactory.smartmes_insight.service.WorkOrderService;
+import com.smartfactory.smartmes_insight.support.SqlStatementCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.DependencyDescriptor;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.ContextAnnotationAutowireCandidateResolver;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 엔드포인트별 SQL 실행 횟수 검증
+ *
+ * 각 API가 사용하는 서비스 메서드를 호출한 뒤 응답 변환에 쓰이는 연관 엔티티까지 접근하여
+ * 실행된 SQL 문 수가 기대값을 넘지 않는지 확인한다 (N+1 회귀 방지).
+ * 서비스 계층({@link ServiceSlice})과 조회 경로의 저장소만 실제 빈으로 띄우고 나머지 협력 객체는 목으로 채운다.
+ */
+@DataJpaTest(showSql = false, properties = {
+        "spring.datasource.url=jdbc:h2:mem:statement-count;MODE=MySQL;NON_KEYWORDS=VALUE,TIMESTAMP,USER",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.smartfactory.smartmes_insight.support.SqlStatementCounter"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class FetchPlanStatementCountTest {
+
+    private static final int ROWS_PER_PARENT = 5;
+
+    /**
+     * 서비스 패키지 전체 + 센서 로그 조회 경로 (JPA 저장소는 @DataJpaTest가 등록)
+     *
+     * 서비스가 새 협력 객체를 주입받아도 이 테스트를 고칠 필요가 없도록, 컨텍스트에 없는 애플리케이션 의존성은
+     * 타입별 Mockito 목으로 주입한다. 조회 SQL 수에 영향을 주는 빈만 실제 구현을 쓴다.
+     */
+    @TestConfiguration
+    @ComponentScan(basePackageClasses = AlertService.class)
+    @Import({JdbcSensorLogStore.class, SensorSeriesReader.class, SimpleMeterRegistry.class})
+    static class ServiceSlice {
+
+        @Bean
+        static BeanFactoryPostProcessor mockMissingCollaborators() {
+            return beanFactory -> {
+                DefaultListableBeanFactory factory = (DefaultListableBeanFactory) beanFactory;
+                Map<Class<?>, Object> mocks = new ConcurrentHashMap<>();
+                factory.setAutowireCandidateResolver(new ContextAnnotationAutowireCandidateResolver() {
+                    @Override
+                    public Object getLazyResolutionProxyIfNecessary(DependencyDescriptor descriptor, String beanName) {
+                        Class<?> type = descriptor.getDependencyType();
+                        if (isMockable(descriptor, type) && factory.getBeanNamesForType(type, true, false).length == 0) {
+                            return mocks.computeIfAbsent(type, Mockito::mock);
+                        }
+                        return super.getLazyResolutionProxyIfNecessary(descriptor, beanName);
+                    }
+                });
+            };
+        }
+
+        // 애플리케이션 클래스가 주입받는 객체 타입만 대상 (설정값, 컬렉션, 프레임워크 내부 의존성 제외)
+        private static boolean isMockable(DependencyDescriptor descriptor, Class<?> type) {
+            return descriptor.getMember().getDeclaringClass().getPackageName().startsWith("com.smartfactory")
+                    && descriptor.getAnnotation(Value.class) == null
+                    && !type.isPrimitive() && !type.isArray() && !type.getName().startsWith("java.")
+                    && !Collection.class.isAssignableFrom(type) && !Map.class.isAssignableFrom(type);
+        }
+    }
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private AlertService alertService;
+
+    @Autowired
+    private SensorService sensorService;
+
+    @Autowired
+    private SensorLogService sensorLogService;
+
+    @Autowired
+    private WorkOrderService workOrderService;
+
+    @Autowired
+    private ProductionResultService productionResultService;
+
+    @Autowired
+    private ProductionResultRepository productionResultRepository;
+
+    private Long facilityId;
+    private Long sensorId;
+    private Long alertId;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int f = 0; f < 3; f++) {
+            Facility facility = em.persist(Facility.builder()
+                    .name("설비 " + f).type("CNC").location("A동").status("가동중").build());
+            facilityId = facility.getId();
+
+            Sensor sensor = Sensor.builder().facility(facility).name("센서 " + f).type("TEMPERATURE").unit("°C").build();
+            sensor.updateThresholds(10.0, 90.0);
+            em.persist(sensor);
+            sensorId = sensor.getId();
+
+            WorkOrder workOrder = em.persist(WorkOrder.builder()
+                    .facility(facility).productName("부품 " + f).quantity(100).status("진행중").startTime(now).build());
+
+            for (int i = 0; i < ROWS_PER_PARENT; i++) {
+                alertId = em.persist(Alert.builder()
+                        .sensor(sensor).value(95.0 + i).message("이상값").createdAt(now.minusMinutes(i)).build()).getId();
+                em.persist(SensorLog.builder().sensor(sensor).value(50.0 + i).collectedAt(now.minusMinutes(i)).build());
+                em.persist(ProductionResult.builder()
+                        .workOrder(workOrder).quantityProduced(100).quantityDefective(10 + i).recordedAt(now.minusMinutes(i)).build());
+            }
+        }
+
+        // 영속성 컨텍스트를 비워 실제 조회 SQL만 측정
+        em.flush();
+        em.clear();
+        SqlStatementCounter.reset();
+    }
+
+    @Test
+    @DisplayName("GET /api/alerts - 센서/설비 포함 1회 조회")
+    void alerts() {
+        assertThat(SqlStatementCounter.countDuring(alertService::findAll)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("GET /api/alerts/recent - 센서/설비 포함 1회 조회")
+    void recentAlerts() {
+        assertThat(SqlStatementCounter.countDuring(() -> alertService.findRecentAlerts(10))).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("GET /api/alerts/{id} - 센서/설비 포함 1회 조회")
+    void alertDetail() {
+        assertThat(SqlStatementCounter.countDuring(() -> alertService.findById(alertId))).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("GET /api/sensors - 설비 포함 1회 조회")
+    void sensors() {
+        assertThat(SqlStatementCounter.countDuring(sensorService::getAllSensors)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("GET /api/sensors/{id} - 설비 포함 1회 조회")
+    void sensorDetail() {
+        assertThat(SqlStatementCounter.countDuring(() -> sensorService.getSensorById(sensorId))).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("GET /api/sensor-logs/latest - 센서/설비 포함 1회 조회")
+    void latestSensorLogs() {
+        int statements = SqlStatementCounter.countDuring(() ->
+                sensorLogService.findLatestDataForAllSensors()
+                        .forEach(log -> log.getSensor().getFacility().getName()));
+        assertThat(statements).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("GET /api/sensor-logs/sensor/{id}/statistics - 연관 엔티티 조회 없음")
+    void sensorLogStatistics() {
+        LocalDateTime now = LocalDateTime.now();
+        int statements = SqlStatementCounter.countDuring(() ->
+                sensorLogService.getStatistics(sensorId, now.minusHours(1), now.plusMinutes(1)));
+        assertThat(statements).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("GET /api/sensor-logs/sensor/{id}/downsampled - 로그 엔티티 없이 센서 존재 확인 1회")
+    void downsampledSensorLogs() {
+        LocalDateTime now = LocalDateTime.now();
+        SensorSeriesResponse[] series = new SensorSeriesResponse[1];
+        int statements = SqlStatementCounter.countDuring(() ->
+                series[0] = sensorLogService.findDownsampled(sensorId, now.minusHours(1), now.plusMinutes(1),
+                        100, DownsampleMethod.LTTB));
+        assertThat(statements).isEqualTo(1);
+        assertThat(series[0].getRawCount()).isEqualTo(ROWS_PER_PARENT);
+        assertThat(series[0].getValues()).containsExactly(54.0, 53.0, 52.0, 51.0, 50.0);
+    }
+
+    @Test
+    @DisplayName("GET /api/work-orders - 설비 포함 1회 조회")
+    void workOrders() {
+        int statements = SqlStatementCounter.countDuring(() ->
+                workOrderService.findAll().forEach(workOrder -> workOrder.getFacility().getName()));
+        assertThat(statements).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("GET /api/production-results - 작업 지시/설비 포함 1회 조회")
+    void productionResults() {
+        int statements = SqlStatementCounter.countDuring(() ->
+                productionResultService.findAll().forEach(result -> result.getWorkOrder().getFacility().getName()));
+        assertThat(statements).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("GET /api/production-results/defective - 건수 조회 없이 1회 조회")
+    void defectiveProductionResults() {
+        LocalDateTime now = LocalDateTime.now();
+        int statements = SqlStatementCounter.countDuring(() ->
+                productionResultService.findByDefectiveRate(5.0, now.minusDays(1), now.plusMinutes(1), 0, 10));
+        assertThat(statements).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("설비별 생산 실적 - 작업 지시/설비 포함 1회 조회")
+    void productionResultsByFacility() {
+        int statements = SqlStatementCounter.countDuring(() -> {
+            List<ProductionResult> results = productionResultRepository.findByFacilityId(facilityId);
+            results.forEach(result -> result.getWorkOrder().getFacility().getName());
+        });
+        assertThat(statements).isEqualTo(1);
+    }
+}
@@ -0,0 +1,162 @@
+package com.smartfactory.smartmes_insight.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartfactory.smartmes_insight.jdbc.ConnectionAdmission;
+import com.smartfactory.smartmes_insight.jdbc.JdbcMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.BufferedWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+/**
+ * 감사 로그 기록기 검증 (제약 조건 위반 행 분리, 재적재 중단 시 적재한 행을 다시 넣지 않음, 재적재 중 spill이 DB를 기다리지 않음)
+ */
+class AuditLogWriterTest {
+
+    private static final AtomicInteger DATABASES = new AtomicInteger();
+
+    @TempDir
+    Path dir;
+
+    private JdbcTemplate jdbcTemplate;
+    private AuditLogWriter writer;
+    private Path spillFile;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:audit" + DATABASES.incrementAndGet()
+                + ";MODE=MySQL;NON_KEYWORDS=VALUE,TIMESTAMP,USER;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = spy(new JdbcTemplate(dataSource));
+        jdbcTemplate.execute("CREATE TABLE users (id BIGINT PRIMARY KEY)");
+        jdbcTemplate.execute("CREATE TABLE log_entries (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "user_id BIGINT REFERENCES users(id), action VARCHAR(50) NOT NULL, "
+                + "target_table VARCHAR(50) NOT NULL, target_id BIGINT NOT NULL, message VARCHAR(255), "
+                + "timestamp TIMESTAMP NOT NULL)");
+        jdbcTemplate.update("INSERT INTO users (id) VALUES (1)");
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        writer = new AuditLogWriter(jdbcTemplate, new ObjectMapper().findAndRegisterModules(),
+                new JdbcMetrics(meterRegistry), new ConnectionAdmission(new MockEnvironment(), meterRegistry),
+                new DataSourceTransactionManager(dataSource));
+        spillFile = dir.resolve("audit-spill.jsonl");
+        ReflectionTestUtils.setField(writer, "batchSize", 2);
+        ReflectionTestUtils.setField(writer, "slowFlushMillis", 2000L);
+        ReflectionTestUtils.setField(writer, "spillFile", spillFile.toString());
+        ReflectionTestUtils.setField(writer, "queue", new ArrayBlockingQueue<AuditRecord>(16)); // 기록 스레드는 띄우지 않음
+    }
+
+    @Test
+    void constraintViolationsAreSeparatedInsteadOfSpilled() {
+        writer.flush(List.of(
+                record(1L, "LOGIN", "ok"),
+                record(999L, "LOGIN_FAILED", "unknown user"), // 없는 사용자 → user_id 없이 기록
+                record(null, "SYSTEM", "system"),
+                record(1L, null, "no action")));               // NOT NULL 위반 → 폐기
+
+        assertThat(jdbcTemplate.queryForList("SELECT message FROM log_entries ORDER BY id", String.class))
+                .containsExactly("ok", "unknown user", "system");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT user_id FROM log_entries WHERE message = 'unknown user'", Long.class)).isNull();
+        assertThat(Files.exists(spillFile)).isFalse();
+        assertThat(writer.getStatistics())
+                .containsEntry("written", 3L)
+                .containsEntry("detached", 1L)
+                .containsEntry("dropped", 1L)
+                .containsEntry("spilled", 0L);
+    }
+
+    @Test
+    void interruptedReplayDoesNotRequeueCommittedRows() throws Exception {
+        try (BufferedWriter spill = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8)) {
+            ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+            for (int i = 1; i <= 5; i++) {
+                spill.write(objectMapper.writeValueAsString(record(1L, "LOGIN", "spill-" + i)));
+                spill.newLine();
+            }
+        }
+        // 배치 INSERT 호출: 1) flush 2) 재적재 spill-1,2 3) 재적재 spill-3,4 ← 일시 장애
+        AtomicInteger batches = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (batches.incrementAndGet() == 3) {
+                throw new TransientDataAccessResourceException("db down");
+            }
+            return invocation.callRealMethod();
+        }).when(jdbcTemplate).batchUpdate(anyString(), any(Collection.class), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+
+        writer.flush(new ArrayList<>(List.of(record(1L, "LOGIN", "live-1"))));
+        assertThat(spillMessages()).containsExactly("spill-1", "spill-2");
+
+        writer.flush(new ArrayList<>(List.of(record(1L, "LOGIN", "live-2"))));
+        assertThat(spillMessages()).containsExactly("spill-1", "spill-2", "spill-3", "spill-4", "spill-5");
+        assertThat(Files.exists(spillFile)).isFalse();
+        assertThat(Files.exists(spillFile.resolveSibling("audit-spill.jsonl.replay"))).isFalse();
+        assertThat(writer.getStatistics()).containsEntry("replayed", 5L).containsEntry("written", 2L);
+    }
+
+    @Test
+    void overflowingWriteDoesNotWaitForReplayInserts() throws Exception {
+        Files.writeString(spillFile, new ObjectMapper().findAndRegisterModules()
+                .writeValueAsString(record(1L, "LOGIN", "spill-1")) + System.lineSeparator());
+        ArrayBlockingQueue<AuditRecord> full = new ArrayBlockingQueue<>(1);
+        full.add(record(1L, "LOGIN", "queued"));
+        ReflectionTestUtils.setField(writer, "queue", full);
+
+        // 재적재 INSERT(두 번째 배치) 도중 큐가 넘친 요청 스레드가 spill 파일에 기록
+        AtomicInteger batches = new AtomicInteger();
+        boolean[] writerReturned = new boolean[1];
+        doAnswer(invocation -> {
+            if (batches.incrementAndGet() == 2) {
+                Thread request = new Thread(() -> writer.write(record(1L, "LOGIN", "overflow")));
+                request.start();
+                request.join(2000);
+                writerReturned[0] = !request.isAlive();
+            }
+            return invocation.callRealMethod();
+        }).when(jdbcTemplate).batchUpdate(anyString(), any(Collection.class), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+
+        writer.flush(new ArrayList<>(List.of(record(1L, "LOGIN", "live-1"))));
+
+        assertThat(writerReturned[0]).isTrue();
+        assertThat(spillMessages()).containsExactly("spill-1");
+        // 재적재 중 새로 쌓인 spill은 다음 재적재 대상
+        assertThat(Files.readString(spillFile)).contains("overflow");
+        assertThat(Files.exists(spillFile.resolveSibling("audit-spill.jsonl.replay"))).isFalse();
+    }
+
+    private List<String> spillMessages() {
+        return jdbcTemplate.queryForList(
+                "SELECT message FROM log_entries WHERE message LIKE 'spill-%' ORDER BY message", String.class);
+    }
+
+    private static AuditRecord record(Long userId, String action, String message) {
+        return new AuditRecord(userId, action, "AUTH_SYSTEM", userId != null ? userId : 0L, message, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,188 @@
+package com.smartfactory.smartmes_insight.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartfactory.smartmes_insight.common.ApiResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 응답 캐시 검증 (적중/만료, ETag 304, 커밋 이후 무효화, 조회 중 무효화된 결과 미저장, 크기 상한)
+ */
+class ResponseCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MockEnvironment environment = new MockEnvironment();
+
+    @Test
+    void repeatedRequestIsServedFromMemoryWithStableEtag() {
+        ResponseCache cache = cache();
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<List<String>> loader = () -> {
+            loads.incrementAndGet();
+            return List.of("센서1 이상값", "센서2 이상값");
+        };
+
+        ResponseEntity<ApiResponse<List<String>>> first = cache.respond(get("/api/alerts/summary", "limit", "5"),
+                CachedEndpoint.ALERTS_SUMMARY, loader, "알림 요약 정보 조회 성공");
+        ResponseEntity<ApiResponse<List<String>>> second = cache.respond(get("/api/alerts/summary", "limit", "5"),
+                CachedEndpoint.ALERTS_SUMMARY, loader, "알림 요약 정보 조회 성공");
+        cache.respond(get("/api/alerts/summary", "limit", "10"), CachedEndpoint.ALERTS_SUMMARY, loader, "알림 요약 정보 조회 성공");
+
+        assertThat(loads.get()).isEqualTo(2); // limit=5 한 번, limit=10 한 번
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(second.getBody().getData()).containsExactly("센서1 이상값", "센서2 이상값");
+        assertThat(second.getHeaders().getETag()).isNotNull().isEqualTo(first.getHeaders().getETag());
+        assertThat(second.getHeaders().getCacheControl()).contains("no-cache").contains("private");
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.bytes()).isPositive();
+        assertThat(cache.hitRatio()).isEqualTo(1.0 / 3);
+        assertThat(meterRegistry.get("response.cache.requests")
+                .tag("endpoint", "alerts-summary").tag("result", "hit").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void matchingIfNoneMatchReturnsNotModifiedWithoutBody() {
+        ResponseCache cache = cache();
+        String etag = cache.respond(get("/api/sensors"), CachedEndpoint.SENSORS, () -> List.of(1L, 2L), "센서 목록 조회 성공")
+                .getHeaders().getETag();
+
+        MockHttpServletRequest revalidate = get("/api/sensors");
+        revalidate.addHeader(HttpHeaders.IF_NONE_MATCH, "\"other\", W/" + etag);
+        ResponseEntity<ApiResponse<List<Long>>> notModified =
+                cache.respond(revalidate, CachedEndpoint.SENSORS, () -> List.of(1L, 2L), "센서 목록 조회 성공");
+        assertThat(notModified.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(notModified.getBody()).isNull();
+        assertThat(notModified.getHeaders().getETag()).isEqualTo(etag);
+
+        // 만료/무효화 후 다시 조회해도 내용이 같으면 같은 ETag → 계속 304
+        cache.invalidate(ResponseCacheRegion.SENSOR);
+        assertThat(cache.respond(revalidate, CachedEndpoint.SENSORS, () -> List.of(1L, 2L), "센서 목록 조회 성공")
+                .getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        cache.invalidate(ResponseCacheRegion.SENSOR);
+        assertThat(cache.respond(revalidate, CachedEndpoint.SENSORS, () -> List.of(1L, 2L, 3L), "센서 목록 조회 성공")
+                .getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(meterRegistry.get("response.cache.not.modified").tag("endpoint", "sensors").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void expiredEntryIsReloaded() throws InterruptedException {
+        environment.setProperty("response-cache.ttl-ms.facilities-active", "20");
+        ResponseCache cache = cache();
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<List<Long>> loader = () -> List.of((long) loads.incrementAndGet());
+
+        cache.respond(get("/api/facilities/active"), CachedEndpoint.FACILITIES_ACTIVE, loader, "가동 중인 설비 조회 성공");
+        cache.respond(get("/api/facilities/active"), CachedEndpoint.FACILITIES_ACTIVE, loader, "가동 중인 설비 조회 성공");
+        assertThat(loads.get()).isEqualTo(1);
+
+        Thread.sleep(40);
+        ResponseEntity<ApiResponse<List<Long>>> reloaded = cache.respond(get("/api/facilities/active"),
+                CachedEndpoint.FACILITIES_ACTIVE, loader, "가동 중인 설비 조회 성공");
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(reloaded.getBody().getData()).containsExactly(2L);
+
+        Thread.sleep(40);
+        cache.purgeExpired();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.bytes()).isZero();
+        assertThat(meterRegistry.get("response.cache.evictions").tag("cause", "expired").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void invalidationIsRepeatedAfterCommitAndOnlyTouchesGivenRegions() {
+        ResponseCache cache = cache();
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<List<Long>> loader = () -> List.of((long) loads.incrementAndGet());
+        cache.respond(get("/api/production-results/statistics/daily"), CachedEndpoint.PRODUCTION_STATISTICS,
+                () -> List.of(0L), "일일 생산 통계 조회 성공");
+        cache.respond(get("/api/alerts/recent"), CachedEndpoint.ALERTS_RECENT, loader, "최근 알림 조회 성공");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.invalidate(ResponseCacheRegion.ALERT);
+            // 커밋 전에 다른 요청이 이전 데이터를 다시 넣어도
+            cache.respond(get("/api/alerts/recent"), CachedEndpoint.ALERTS_RECENT, loader, "최근 알림 조회 성공");
+            assertThat(cache.size()).isEqualTo(2);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        // 커밋 이후 다시 지워진다
+        assertThat(cache.size()).isEqualTo(1);
+
+        ResponseEntity<ApiResponse<List<Long>>> afterCommit =
+                cache.respond(get("/api/alerts/recent"), CachedEndpoint.ALERTS_RECENT, loader, "최근 알림 조회 성공");
+        assertThat(afterCommit.getBody().getData()).containsExactly(3L);
+        assertThat(meterRegistry.get("response.cache.requests")
+                .tag("endpoint", "production-statistics").tag("result", "miss").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void resultLoadedWhileRegionWasInvalidatedIsNotStored() {
+        ResponseCache cache = cache();
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<List<Long>> racingWrite = () -> {
+            cache.invalidate(ResponseCacheRegion.SENSOR); // 조회 도중 커밋된 쓰기
+            return List.of((long) loads.incrementAndGet());
+        };
+
+        cache.respond(get("/api/sensors"), CachedEndpoint.SENSORS, racingWrite, "센서 목록 조회 성공");
+        assertThat(cache.size()).isZero();
+        cache.respond(get("/api/sensors"), CachedEndpoint.SENSORS, () -> List.of(9L), "센서 목록 조회 성공");
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void totalSizeStaysWithinMaxBytesByEvictingLeastRecentlyUsed() {
+        environment.setProperty("response-cache.max-bytes", "100");
+        environment.setProperty("response-cache.max-entry-bytes", "60");
+        ResponseCache cache = cache();
+        String payload = "x".repeat(30); // 직렬화하면 36바이트 (["..."])
+
+        cache.respond(get("/api/alerts/summary", "limit", "1"), CachedEndpoint.ALERTS_SUMMARY, () -> List.of(payload), "ok");
+        cache.respond(get("/api/alerts/summary", "limit", "2"), CachedEndpoint.ALERTS_SUMMARY, () -> List.of(payload), "ok");
+        cache.respond(get("/api/alerts/summary", "limit", "1"), CachedEndpoint.ALERTS_SUMMARY, () -> List.of(payload), "ok");
+        cache.respond(get("/api/alerts/summary", "limit", "3"), CachedEndpoint.ALERTS_SUMMARY, () -> List.of(payload), "ok");
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.bytes()).isLessThanOrEqualTo(100);
+
+        // 가장 오래 안 쓴 limit=2가 빠지고, 최근에 쓴 limit=1은 남는다
+        AtomicInteger loads = new AtomicInteger();
+        cache.respond(get("/api/alerts/summary", "limit", "1"), CachedEndpoint.ALERTS_SUMMARY,
+                () -> List.of(String.valueOf(loads.incrementAndGet())), "ok");
+        assertThat(loads.get()).isZero();
+        assertThat(meterRegistry.get("response.cache.evictions").tag("cause", "size").counter().count()).isEqualTo(1);
+
+        // 한 항목 상한보다 큰 결과는 보관하지 않지만 ETag는 내려준다
+        ResponseEntity<ApiResponse<List<String>>> large = cache.respond(get("/api/alerts/summary", "limit", "4"),
+                CachedEndpoint.ALERTS_SUMMARY, () -> List.of("y".repeat(80)), "ok");
+        assertThat(large.getHeaders().getETag()).isNotNull();
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    private ResponseCache cache() {
+        return new ResponseCache(new ObjectMapper(), environment, meterRegistry);
+    }
+
+    private static MockHttpServletRequest get(String uri, String... parameters) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        for (int i = 0; i < parameters.length; i += 2) {
+            request.addParameter(parameters[i], parameters[i + 1]);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,167 @@
+package com.smartfactory.smartmes_insight.event;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 도메인 이벤트 버스 검증 (커밋 이후 기록, 구독자별 순서 보장, 밀린 구독자 누락 처리, tail 다시 읽기)
+ */
+class DomainEventBusTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private DomainEventBus bus;
+
+    @AfterEach
+    void stop() {
+        if (bus != null) {
+            bus.stop();
+        }
+    }
+
+    @Test
+    void eventsAreRecordedOnlyAfterCommit() {
+        bus = new DomainEventBus(16, 16, meterRegistry);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            bus.publish(new DomainEvent.FacilityRemoved(1L));
+            assertThat(bus.lastSequence()).isZero();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(bus.lastSequence()).isEqualTo(1);
+
+        // 롤백 (afterCommit 없이 종료)
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            bus.publish(new DomainEvent.FacilityRemoved(2L));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(bus.lastSequence()).isEqualTo(1);
+        assertThat(meterRegistry.get("domain.events.published").tag("type", "FacilityRemoved").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void subscribersReceiveEventsInSequenceOrder() throws InterruptedException {
+        bus = new DomainEventBus(1024, 7, meterRegistry);
+        int events = 300;
+        CountDownLatch done = new CountDownLatch(events);
+        List<DomainEventRecord> received = new CopyOnWriteArrayList<>();
+        bus.subscribe("test", record -> {
+            received.add(record);
+            done.countDown();
+        });
+
+        Map<Long, Integer> published = new HashMap<>();
+        for (int i = 0; i < events; i++) {
+            long workOrderId = i % 5;
+            int step = published.merge(workOrderId, 1, Integer::sum);
+            bus.publish(new DomainEvent.WorkOrderStatusChanged(workOrderId, 1L, "CNC", null, "step-" + step));
+        }
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(received).extracting(DomainEventRecord::sequence)
+                .containsExactlyElementsOf(sequences(1, events));
+        // 같은 작업 지시의 상태는 발행 순서대로
+        Map<Long, Integer> seen = new HashMap<>();
+        for (DomainEventRecord record : received) {
+            DomainEvent.WorkOrderStatusChanged event = (DomainEvent.WorkOrderStatusChanged) record.event();
+            int step = seen.merge(event.workOrderId(), 1, Integer::sum);
+            assertThat(event.status()).isEqualTo("step-" + step);
+            assertThat(record.type()).isEqualTo("WorkOrderStatusChanged");
+        }
+    }
+
+    @Test
+    void slowSubscriberSkipsEventsThatLeftTheTailWithoutBlockingPublishers() throws InterruptedException {
+        bus = new DomainEventBus(8, 256, meterRegistry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(9);
+        List<Long> received = new CopyOnWriteArrayList<>();
+        AtomicLong missed = new AtomicLong();
+        bus.subscribe("slow", new DomainEventSubscriber() {
+            @Override
+            public void onEvent(DomainEventRecord record) {
+                received.add(record.sequence());
+                started.countDown();
+                await(release);
+                done.countDown();
+            }
+
+            @Override
+            public void onMissed(long count) {
+                missed.addAndGet(count);
+            }
+        });
+
+        bus.publish(new DomainEvent.SensorRemoved(1L));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        for (long sensorId = 2; sensorId <= 20; sensorId++) {
+            bus.publish(new DomainEvent.SensorRemoved(sensorId)); // 구독자가 멈춰 있어도 바로 반환
+        }
+        assertThat(meterRegistry.get("domain.events.lag").tag("subscriber", "slow").gauge().value()).isEqualTo(20);
+        release.countDown();
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(missed.get()).isEqualTo(11);
+        List<Long> expected = new ArrayList<>(List.of(1L));
+        expected.addAll(sequences(13, 20));
+        assertThat(received).containsExactlyElementsOf(expected);
+        assertThat(meterRegistry.get("domain.events.missed").tag("subscriber", "slow").counter().count()).isEqualTo(11);
+    }
+
+    @Test
+    void replayReturnsTailAfterSequence() {
+        bus = new DomainEventBus(8, 256, meterRegistry);
+        for (long facilityId = 1; facilityId <= 12; facilityId++) {
+            bus.publish(new DomainEvent.FacilityStatusChanged(facilityId, "CNC", "정지중", "가동중"));
+        }
+
+        DomainEventBus.Replay recent = bus.replay(9, 100);
+        assertThat(recent.truncated()).isFalse();
+        assertThat(recent.events()).extracting(DomainEventRecord::sequence).containsExactly(10L, 11L, 12L);
+
+        DomainEventBus.Replay stale = bus.replay(2, 3);
+        assertThat(stale.truncated()).isTrue();
+        assertThat(stale.oldestSequence()).isEqualTo(5);
+        assertThat(stale.latestSequence()).isEqualTo(12);
+        assertThat(stale.events()).extracting(DomainEventRecord::sequence).containsExactly(5L, 6L, 7L);
+        assertThat(((DomainEvent.FacilityStatusChanged) stale.events().get(0).event()).facilityId()).isEqualTo(5);
+
+        assertThat(bus.replay(12, 100).events()).isEmpty();
+    }
+
+    private static List<Long> sequences(long from, long to) {
+        List<Long> sequences = new ArrayList<>();
+        for (long sequence = from; sequence <= to; sequence++) {
+            sequences.add(sequence);
+        }
+        return sequences;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
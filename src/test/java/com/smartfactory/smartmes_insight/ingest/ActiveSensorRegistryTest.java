@@ -0,0 +1,126 @@
+package com.smartfactory.smartmes_insight.ingest;
+
+import com.smartfactory.smartmes_insight.domain.facility.Facility;
+import com.smartfactory.smartmes_insight.domain.sensor.SensorRepository;
+import com.smartfactory.smartmes_insight.event.DomainEvent;
+import com.smartfactory.smartmes_insight.event.DomainEventBus;
+import com.smartfactory.smartmes_insight.event.DomainEventRecord;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 활성 센서 레지스트리 검증 (설비 10: 센서 1, 2, 5 / 설비 20: 센서 4)
+ */
+class ActiveSensorRegistryTest {
+
+    private final SensorRepository repository = mock(SensorRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DomainEventBus bus = new DomainEventBus(16, 16, meterRegistry);
+    private long sequence;
+
+    @Test
+    void snapshotIsLoadedOnceAndSplitIntoShards() {
+        when(repository.findActiveThresholds(Facility.STATUS_RUNNING))
+                .thenReturn(List.of(row(1, 10), row(2, 10), row(4, 20), row(5, 10)));
+        ActiveSensorRegistry registry = new ActiveSensorRegistry(repository, bus, 2, meterRegistry);
+
+        ActiveSensorRegistry.Snapshot snapshot = registry.snapshot();
+
+        assertThat(registry.snapshot()).isSameAs(snapshot);
+        verify(repository, times(1)).findActiveThresholds(Facility.STATUS_RUNNING);
+        assertThat(snapshot.sensorIds()).containsExactly(1L, 2L, 4L, 5L);
+        assertThat(ids(snapshot.shard(0))).containsExactly(2L, 4L);
+        assertThat(ids(snapshot.shard(1))).containsExactly(1L, 5L);
+        assertThat(meterRegistry.get("sensor.registry.active").gauge().value()).isEqualTo(4);
+    }
+
+    @Test
+    void changesProduceNewVersionsWithoutQueryingAllSensors() {
+        when(repository.findActiveThresholds(Facility.STATUS_RUNNING))
+                .thenReturn(List.of(row(1, 10), row(2, 10), row(4, 20)));
+        when(repository.findActiveThresholdsByFacilityId(10L, Facility.STATUS_RUNNING))
+                .thenReturn(List.of(), List.of(row(1, 10), row(2, 10)));
+        when(repository.findActiveThresholdsById(7L, Facility.STATUS_RUNNING))
+                .thenReturn(List.<Object[]>of(new Object[]{7L, 0.0, 50.0, "temperature", 20L}));
+        when(repository.findActiveThresholdsById(2L, Facility.STATUS_RUNNING)).thenReturn(List.of());
+        ActiveSensorRegistry registry = new ActiveSensorRegistry(repository, bus, 1, meterRegistry);
+        ActiveSensorRegistry.Snapshot first = registry.snapshot();
+
+        deliver(registry, new DomainEvent.FacilityStatusChanged(10L, "CNC", Facility.STATUS_RUNNING, Facility.STATUS_STOPPED));
+        assertThat(registry.snapshot().sensorIds()).containsExactly(4L);
+        assertThat(first.sensorIds()).containsExactly(1L, 2L, 4L); // 이전 스냅샷은 그대로
+
+        deliver(registry, new DomainEvent.FacilityStatusChanged(10L, "CNC", Facility.STATUS_STOPPED, Facility.STATUS_RUNNING));
+        deliver(registry, sensorChanged(7L, 20L, 0.0, 50.0));
+        deliver(registry, sensorChanged(2L, 10L, null, null)); // 임계값 해제
+        deliver(registry, new DomainEvent.SensorRemoved(4L));
+
+        ActiveSensorRegistry.Snapshot last = registry.snapshot();
+        assertThat(last.sensorIds()).containsExactly(1L, 7L);
+        assertThat(last.thresholds().max(last.thresholds().indexOf(7L))).isEqualTo(50.0);
+        assertThat(last.version()).isEqualTo(first.version() + 5);
+        verify(repository, times(1)).findActiveThresholds(Facility.STATUS_RUNNING);
+
+        deliver(registry, new DomainEvent.FacilityRemoved(20L));
+        assertThat(registry.snapshot().sensorIds()).containsExactly(1L);
+    }
+
+    @Test
+    void eventsDeliveredOutOfCommitOrderConvergeToTheCurrentState() {
+        when(repository.findActiveThresholds(Facility.STATUS_RUNNING)).thenReturn(List.<Object[]>of(row(1, 10)));
+        // 설비 10: '정지'로 바꾼 커밋이 '가동중'으로 바꾼 커밋보다 나중인데 이벤트는 반대 순서로 기록됨
+        when(repository.findActiveThresholdsByFacilityId(10L, Facility.STATUS_RUNNING)).thenReturn(List.of());
+        // 센서 5: 임계값 해제 커밋이 나중
+        when(repository.findActiveThresholdsById(5L, Facility.STATUS_RUNNING)).thenReturn(List.of());
+        ActiveSensorRegistry registry = new ActiveSensorRegistry(repository, bus, 1, meterRegistry);
+        registry.snapshot();
+
+        deliver(registry, new DomainEvent.FacilityStatusChanged(10L, "CNC", Facility.STATUS_RUNNING, Facility.STATUS_STOPPED));
+        deliver(registry, new DomainEvent.FacilityStatusChanged(10L, "CNC", Facility.STATUS_STOPPED, Facility.STATUS_RUNNING));
+        deliver(registry, sensorChanged(5L, 20L, null, null));
+        deliver(registry, sensorChanged(5L, 20L, 0.0, 50.0));
+
+        assertThat(registry.snapshot().sensorIds()).isEmpty();
+    }
+
+    @Test
+    void missedEventsTriggerFullReload() {
+        when(repository.findActiveThresholds(Facility.STATUS_RUNNING))
+                .thenReturn(List.<Object[]>of(row(1, 10)), List.of(row(1, 10), row(2, 10)));
+        ActiveSensorRegistry registry = new ActiveSensorRegistry(repository, bus, 1, meterRegistry);
+        registry.snapshot();
+
+        registry.onMissed(3);
+
+        assertThat(registry.snapshot().sensorIds()).containsExactly(1L, 2L);
+        verify(repository, times(2)).findActiveThresholds(Facility.STATUS_RUNNING);
+    }
+
+    private void deliver(ActiveSensorRegistry registry, DomainEvent event) {
+        registry.onEvent(new DomainEventRecord(++sequence, System.currentTimeMillis(), event.getClass().getSimpleName(), event));
+    }
+
+    private static DomainEvent.SensorChanged sensorChanged(long sensorId, long facilityId, Double min, Double max) {
+        return new DomainEvent.SensorChanged(sensorId, facilityId, "temperature", min, max);
+    }
+
+    private static Object[] row(long sensorId, long facilityId) {
+        return new Object[]{sensorId, 0.0, 100.0, "temperature", facilityId};
+    }
+
+    private static List<Long> ids(SensorThresholds thresholds) {
+        Long[] ids = new Long[thresholds.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = thresholds.sensorId(i);
+        }
+        return List.of(ids);
+    }
+}
@@ -0,0 +1,123 @@
+package com.smartfactory.smartmes_insight.ingest;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongToDoubleFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 적응형 수집 간격 검증 (수집 주기 1초, 간격 1 ~ 8주기, 습도 최대 4주기)
+ */
+class SamplingWheelTest {
+
+    private final SamplingPolicy policy = new SamplingPolicy(new MockEnvironment()
+            .withProperty("sensor.sampling.enabled", "true")
+            .withProperty("sensor.monitoring.interval-ms", "1000")
+            .withProperty("sensor.sampling.min-interval-ms", "1000")
+            .withProperty("sensor.sampling.max-interval-ms", "8000")
+            .withProperty("sensor.sampling.types.humidity.max-interval-ms", "4000"));
+    private final SamplingWheel wheel = policy.newWheel();
+
+    @Test
+    void calmSensorsBackOffUpToTheirTypeMaximum() {
+        SensorThresholds thresholds = thresholds(row(1, null), row(2, "HUMIDITY"));
+        List<Long> first = new ArrayList<>();
+        List<Long> humidity = new ArrayList<>();
+
+        for (long tick = 0; tick <= 30; tick++) {
+            for (long id : tick(thresholds, tick, id -> 50.0)) {
+                (id == 1 ? first : humidity).add(tick);
+            }
+        }
+
+        assertThat(first).containsExactly(0L, 1L, 3L, 7L, 15L, 23L);
+        assertThat(humidity).containsExactly(0L, 1L, 3L, 7L, 11L, 15L, 19L, 23L, 27L);
+        assertThat(wheel.intervalOf(1)).isEqualTo(8);
+    }
+
+    @Test
+    void sensorsNearThresholdOrSwingingStayAtTheMinimumInterval() {
+        SensorThresholds thresholds = thresholds(row(1, null), row(2, null));
+        int[] sampled = new int[3];
+
+        for (long tick = 0; tick < 20; tick++) {
+            long t = tick;
+            for (long id : tick(thresholds, tick, id -> id == 1 ? 95.0 : (t % 2 == 0 ? 20.0 : 80.0))) {
+                sampled[(int) id]++;
+            }
+        }
+
+        assertThat(sampled[1]).isEqualTo(20);
+        assertThat(sampled[2]).isEqualTo(20);
+    }
+
+    @Test
+    void approachingTheThresholdDropsBackToTheMinimumAtOnce() {
+        SensorThresholds thresholds = thresholds(row(1, null));
+        List<Long> sampled = new ArrayList<>();
+
+        for (long tick = 0; tick <= 10; tick++) {
+            double value = tick >= 7 ? 95.0 : 50.0;
+            if (!tick(thresholds, tick, id -> value).isEmpty()) {
+                sampled.add(tick);
+            }
+        }
+
+        assertThat(sampled).containsExactly(0L, 1L, 3L, 7L, 8L, 9L, 10L);
+    }
+
+    @Test
+    void newSensorsAreSampledAtOnceAndRemovedOnesAreForgotten() {
+        assertThat(tick(thresholds(row(1, null)), 0, id -> 50.0)).containsExactly(1L);
+        assertThat(tick(thresholds(row(1, null)), 1, id -> 50.0)).containsExactly(1L);
+
+        assertThat(tick(thresholds(row(1, null), row(2, null)), 2, id -> 50.0)).containsExactly(2L);
+        assertThat(wheel.trackedCount()).isEqualTo(2);
+
+        // 센서 1은 다음 수집 시점(3주기)에 스냅샷에 없으면 정리
+        assertThat(tick(thresholds(row(2, null)), 3, id -> 50.0)).containsExactly(2L);
+        assertThat(wheel.trackedCount()).isEqualTo(1);
+        assertThat(wheel.intervalOf(1)).isZero();
+    }
+
+    @Test
+    void abortedOrSkippedTicksDoNotLoseSensors() {
+        SensorThresholds thresholds = thresholds(row(1, null));
+        for (long tick = 0; tick <= 7; tick++) {
+            tick(thresholds, tick, id -> 50.0);
+        }
+
+        // 수집 전에 중단된 주기 (record 없음) → 다음 주기에 다시 수집
+        assertThat(wheel.select(thresholds, 15).size()).isEqualTo(1);
+        assertThat(tick(thresholds, 16, id -> 50.0)).containsExactly(1L);
+
+        // 휠 한 바퀴 이상 주기를 건너뛰어도 시점이 지난 센서는 수집
+        assertThat(tick(thresholds, 100, id -> 50.0)).containsExactly(1L);
+    }
+
+    // 한 주기: 수집 대상 선택 → 측정값 기록, 수집한 센서 ID 반환
+    private List<Long> tick(SensorThresholds thresholds, long tick, LongToDoubleFunction values) {
+        SensorThresholds selected = wheel.select(thresholds, tick);
+        SensorReadingBatch batch = new SensorReadingBatch(selected.size());
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < selected.size(); i++) {
+            long id = selected.sensorId(i);
+            batch.add(id, tick * 1000, values.applyAsDouble(id));
+            ids.add(id);
+        }
+        wheel.record(selected, batch);
+        return ids;
+    }
+
+    private static Object[] row(long id, String type) {
+        return new Object[]{id, 0.0, 100.0, type};
+    }
+
+    private static SensorThresholds thresholds(Object[]... rows) {
+        return SensorThresholds.fromRows(List.of(rows));
+    }
+}
@@ -0,0 +1,162 @@
+package com.smartfactory.smartmes_insight.ingest;
+
+import com.smartfactory.smartmes_insight.domain.sensor.SensorLogStore;
+import com.smartfactory.smartmes_insight.domain.sensor.SensorRepository;
+import com.smartfactory.smartmes_insight.jdbc.ConnectionAdmission;
+import com.smartfactory.smartmes_insight.jdbc.JdbcMetrics;
+import com.smartfactory.smartmes_insight.series.SegmentSensorLogStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 센서 WAL 재적재 검증 (저장 즉시 영구 저장되지 않는 저장소는 flush 이후에만 checkpoint, 비정상 종료 후 재적재 중복 없음)
+ */
+class SensorIngestWalTest {
+
+    private static final long T0 = 1_790_000_000_000L;
+
+    @TempDir
+    Path dir;
+
+    private final SensorLogStore store = mock(SensorLogStore.class);
+    private SensorIngestWal ingestWal;
+
+    @AfterEach
+    void tearDown() {
+        if (ingestWal != null) {
+            ingestWal.stop();
+        }
+    }
+
+    @Test
+    void segmentStoreIsFlushedBeforeTheWalIsCheckpointed() throws Exception {
+        when(store.isDurableOnSave()).thenReturn(false);
+        ingestWal = start(60_000);
+
+        ingestWal.append(batch(3));
+        verify(store, timeout(5000)).saveBatch(any());
+        awaitCondition(() -> wal().replayed() == 3);
+
+        // 활성 블록에만 있는 동안은 WAL을 비우지 않는다
+        verify(store, never()).flush();
+        assertThat(wal().checkpoint()).isZero();
+
+        ingestWal.stop();
+        verify(store).flush();
+        assertThat(wal().checkpoint()).isEqualTo(3);
+        ingestWal = null;
+    }
+
+    @Test
+    void durableStoreIsCheckpointedAfterEveryBatch() throws Exception {
+        when(store.isDurableOnSave()).thenReturn(true);
+        ingestWal = start(60_000);
+
+        ingestWal.append(batch(2));
+        awaitCondition(() -> wal().checkpoint() == 2);
+        verify(store, never()).flush();
+    }
+
+    @Test
+    void replayAfterCrashDoesNotDuplicateReadingsSealedSinceTheCheckpoint() throws Exception {
+        Path walDirectory = dir.resolve("wal");
+        Path segmentDirectory = dir.resolve("segments");
+        SensorWal wal = SensorWal.open(walDirectory, 1024, 8);
+        for (int i = 0; i < 150; i++) {
+            wal.append(1, T0 + i * 1000L, i);
+        }
+        SensorReadingBatch batch = new SensorReadingBatch(150);
+        wal.advance(wal.read(batch, 150));
+        // 봉인 주기 전에 블록이 가득 차 100개는 봉인, 50개는 활성 블록 - checkpoint 전에 비정상 종료
+        segmentStore(segmentDirectory).saveBatch(batch);
+        wal.close();
+
+        SensorWal reopened = SensorWal.open(walDirectory, 1024, 8);
+        assertThat(reopened.checkpoint()).isZero();
+        SegmentSensorLogStore recovered = segmentStore(segmentDirectory);
+        SensorReadingBatch replay = new SensorReadingBatch(150);
+        assertThat(reopened.read(replay, 150)).isEqualTo(150);
+        recovered.saveBatch(replay);
+        reopened.close();
+
+        List<Long> timestamps = new ArrayList<>();
+        recovered.scan(1L, toDateTime(T0), toDateTime(T0 + 149_000), (t, v) -> timestamps.add(t));
+        assertThat(timestamps).hasSize(150).doesNotHaveDuplicates().isSorted();
+        assertThat(timestamps.get(149)).isEqualTo(T0 + 149_000);
+        assertThat(recovered.getStatistics(1L, toDateTime(T0), toDateTime(T0 + 149_000)).average()).isEqualTo(74.5);
+        recovered.close();
+    }
+
+    private SegmentSensorLogStore segmentStore(Path directory) throws Exception {
+        SegmentSensorLogStore segmentStore = new SegmentSensorLogStore(mock(SensorRepository.class), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(segmentStore, "directory", directory.toString());
+        ReflectionTestUtils.setField(segmentStore, "blockPoints", 100);
+        ReflectionTestUtils.setField(segmentStore, "sealIntervalMillis", 60_000L);
+        ReflectionTestUtils.setField(segmentStore, "segmentBytes", 64L * 1024 * 1024);
+        ReflectionTestUtils.setField(segmentStore, "fsync", false);
+        segmentStore.open();
+        return segmentStore;
+    }
+
+    private static LocalDateTime toDateTime(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+    }
+
+    private SensorIngestWal start(long commitIntervalMillis) throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SensorIngestWal wal = new SensorIngestWal(store, new ConnectionAdmission(new MockEnvironment(), meterRegistry),
+                new JdbcMetrics(meterRegistry), meterRegistry);
+        ReflectionTestUtils.setField(wal, "enabled", true);
+        ReflectionTestUtils.setField(wal, "directory", dir.toString());
+        ReflectionTestUtils.setField(wal, "segmentBytes", 1024 * WalSegment.RECORD_BYTES);
+        ReflectionTestUtils.setField(wal, "maxBytes", 8L * 1024 * WalSegment.RECORD_BYTES);
+        ReflectionTestUtils.setField(wal, "fsyncIntervalMillis", 50L);
+        ReflectionTestUtils.setField(wal, "batchSize", 100);
+        ReflectionTestUtils.setField(wal, "idleWaitMillis", 10L);
+        ReflectionTestUtils.setField(wal, "maxBackoffMillis", 100L);
+        ReflectionTestUtils.setField(wal, "commitIntervalMillis", commitIntervalMillis);
+        wal.start();
+        return wal;
+    }
+
+    private SensorWal wal() {
+        return (SensorWal) ReflectionTestUtils.getField(ingestWal, "wal");
+    }
+
+    private static SensorReadingBatch batch(int size) {
+        SensorReadingBatch batch = new SensorReadingBatch(size);
+        for (int i = 0; i < size; i++) {
+            batch.add(i + 1, T0 + i, i * 1.5);
+        }
+        return batch;
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("조건 대기 시간 초과").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+}
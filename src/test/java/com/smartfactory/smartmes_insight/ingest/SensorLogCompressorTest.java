@@ -0,0 +1,163 @@
+package com.smartfactory.smartmes_insight.ingest;
+
+import com.smartfactory.smartmes_insight.series.DownsampledSeries;
+import com.smartfactory.smartmes_insight.series.InterpolationMethod;
+import com.smartfactory.smartmes_insight.series.SeriesInterpolator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 저장 전 압축과 보간 복원 검증 (임계 범위 0~100, 허용 편차 1, heartbeat 60초, 1초 간격 측정, 저장 실패 시 상태 유지)
+ */
+class SensorLogCompressorTest {
+
+    private static final long T0 = 1_790_000_000_000L;
+    private static final double DEVIATION = 1.0;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final SensorThresholds thresholds = SensorThresholds.fromRows(List.<Object[]>of(new Object[]{1L, 0.0, 100.0}));
+
+    @Test
+    void deadbandKeepsChangesViolationsFailuresAndHeartbeats() {
+        SensorLogCompressor compressor = compressor("deadband");
+        double[] values = {50, 50.5, 50.9, 52, 52.3, 150, 52.3, Double.NaN, 52.3};
+        List<Long> kept = new ArrayList<>();
+        for (int i = 0; i < values.length; i++) {
+            kept.addAll(offer(compressor, T0 + i * 1000L, values[i]));
+        }
+        // 임계 이탈/NaN 다음 값은 이전 저장값과 비교할 수 없으므로 저장
+        assertThat(kept).containsExactly(T0, T0 + 3000, T0 + 5000, T0 + 6000, T0 + 7000, T0 + 8000);
+
+        // 60초 동안 같은 값이면 heartbeat 한 번
+        List<Long> flat = new ArrayList<>();
+        for (int i = 9; i <= 70; i++) {
+            flat.addAll(offer(compressor, T0 + i * 1000L, 52.3));
+        }
+        assertThat(flat).containsExactly(T0 + 68_000);
+        assertThat(registry.get("sensor.compression.readings").tag("result", "dropped").counter().count()).isEqualTo(64);
+    }
+
+    @Test
+    void stateAdvancesOnlyWhenTheStoredResultIsCommitted() {
+        SensorLogCompressor compressor = compressor("deadband");
+        // 처음 보는 센서의 값 저장이 실패하면 다음 값이 다시 첫 저장점이 된다
+        assertThat(times(compress(compressor, T0, 50).kept())).containsExactly(T0);
+        assertThat(offer(compressor, T0 + 1000, 50)).containsExactly(T0 + 1000);
+
+        // 52 저장이 실패(커밋 안 함)하면 기준점은 50 그대로 → 50.5는 편차 안이라 버림
+        assertThat(times(compress(compressor, T0 + 2000, 52).kept())).containsExactly(T0 + 2000);
+        assertThat(offer(compressor, T0 + 3000, 50.5)).isEmpty();
+        assertThat(offer(compressor, T0 + 4000, 52)).containsExactly(T0 + 4000);
+
+        // 실패한 묶음은 저장/버림 수에 세지 않는다
+        assertThat(registry.get("sensor.compression.readings").tag("result", "kept").counter().count()).isEqualTo(2);
+        assertThat(registry.get("sensor.compression.readings").tag("result", "dropped").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void deadbandStepReconstructionStaysWithinDeviation() {
+        double[] readings = randomWalk(600, 0.3);
+        assertReconstruction(compressor("deadband"), readings, InterpolationMethod.STEP, 0.25);
+    }
+
+    @Test
+    void swingingDoorLinearReconstructionStaysWithinDeviation() {
+        double[] readings = new double[600];
+        for (int i = 0; i < readings.length; i++) {
+            double trend = i < 200 ? 20 + i * 0.2 : (i < 400 ? 60 : 60 - (i - 400) * 0.1);
+            readings[i] = trend + 0.3 * Math.sin(i * 0.7);
+        }
+        assertReconstruction(compressor("swinging-door"), readings, InterpolationMethod.LINEAR, 0.1);
+    }
+
+    @Test
+    void interpolationLeavesLongGapsEmpty() {
+        SeriesInterpolator interpolator = new SeriesInterpolator(InterpolationMethod.LINEAR, T0, T0 + 10_000, 1000, 3000);
+        interpolator.accept(T0, 10);
+        interpolator.accept(T0 + 2000, 20);
+        interpolator.accept(T0 + 8000, 50); // 6초 공백 → 결측
+
+        DownsampledSeries series = interpolator.finish();
+
+        assertThat(series.timestamps()).containsExactly(T0, T0 + 1000, T0 + 2000, T0 + 8000, T0 + 9000, T0 + 10_000);
+        assertThat(series.values()).containsExactly(10, 15, 20, 50, 50, 50);
+        assertThat(series.rawCount()).isEqualTo(3);
+    }
+
+    // 압축한 저장점만으로 1초 격자를 복원해 원본과의 차이가 허용 편차 안인지, 저장 비율이 maxKeptRatio 이하인지 확인
+    // (swinging-door는 마지막 측정값을 들고 있으므로 마지막 저장점까지만 비교)
+    private void assertReconstruction(SensorLogCompressor compressor, double[] readings,
+                                      InterpolationMethod method, double maxKeptRatio) {
+        long end = T0 + (readings.length - 1) * 1000L;
+        SeriesInterpolator interpolator = new SeriesInterpolator(method, T0, end, 1000, 120_000);
+        int kept = 0;
+        long lastStored = T0;
+        for (int i = 0; i < readings.length; i++) {
+            SensorReadingBatch batch = new SensorReadingBatch(1);
+            batch.add(1L, T0 + i * 1000L, readings[i]);
+            SensorLogCompressor.Compression compression = compressor.compress(batch, thresholds);
+            compressor.commit(compression);
+            SensorReadingBatch stored = compression.kept();
+            for (int k = 0; k < stored.size(); k++) {
+                interpolator.accept(stored.timestamp(k), stored.value(k));
+                lastStored = stored.timestamp(k);
+                kept++;
+            }
+        }
+        DownsampledSeries series = interpolator.finish();
+
+        assertThat(kept).isLessThanOrEqualTo((int) (readings.length * maxKeptRatio));
+        assertThat(series.size()).isEqualTo(readings.length);
+        assertThat(lastStored).isGreaterThan(end - 120_000);
+        for (int i = 0; T0 + i * 1000L <= lastStored; i++) {
+            assertThat(series.values()[i]).as("t=%d", i).isCloseTo(readings[i], within(DEVIATION + 1e-9));
+        }
+    }
+
+    private List<Long> offer(SensorLogCompressor compressor, long time, double value) {
+        SensorLogCompressor.Compression compression = compress(compressor, time, value);
+        compressor.commit(compression);
+        return times(compression.kept());
+    }
+
+    private SensorLogCompressor.Compression compress(SensorLogCompressor compressor, long time, double value) {
+        SensorReadingBatch batch = new SensorReadingBatch(1);
+        batch.add(1L, time, value);
+        return compressor.compress(batch, thresholds);
+    }
+
+    private static List<Long> times(SensorReadingBatch kept) {
+        List<Long> times = new ArrayList<>();
+        for (int i = 0; i < kept.size(); i++) {
+            times.add(kept.timestamp(i));
+        }
+        return times;
+    }
+
+    private SensorLogCompressor compressor(String mode) {
+        return new SensorLogCompressor(new MockEnvironment()
+                .withProperty("sensor.compression.enabled", "true")
+                .withProperty("sensor.compression.mode", mode)
+                .withProperty("sensor.compression.deviation-ratio", "0.01")
+                .withProperty("sensor.compression.heartbeat-ms", "60000"), registry);
+    }
+
+    private static double[] randomWalk(int size, double step) {
+        Random random = new Random(42);
+        double[] values = new double[size];
+        double value = 50;
+        for (int i = 0; i < size; i++) {
+            value += (random.nextDouble() - 0.5) * step;
+            values[i] = value;
+        }
+        return values;
+    }
+}
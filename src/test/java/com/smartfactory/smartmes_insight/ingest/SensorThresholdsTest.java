@@ -0,0 +1,80 @@
+package com.smartfactory.smartmes_insight.ingest;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+class SensorThresholdsTest {
+
+    private static final long T0 = 1_790_000_000_000L;
+
+    @Test
+    void violationsAreFoundInBatchOrder() {
+        SensorThresholds thresholds = SensorThresholds.fromRows(List.of(
+                new Object[]{1L, 10.0, 20.0},
+                new Object[]{2L, 0.0, 5.0},
+                new Object[]{3L, null, 100.0},
+                new Object[]{4L, -1.0, 1.0}));
+        SensorReadingBatch batch = new SensorReadingBatch(4);
+        batch.add(1L, T0, 20.0);       // 경계값은 정상
+        batch.add(2L, T0, 5.5);
+        batch.add(3L, T0, -1_000.0);   // 최소 임계값 없음
+        batch.add(4L, T0, Double.NaN); // 측정 실패값은 이상값
+
+        List<Long> violations = new ArrayList<>();
+        for (int i = thresholds.nextViolation(batch, 0); i >= 0; i = thresholds.nextViolation(batch, i + 1)) {
+            violations.add(thresholds.sensorId(i));
+        }
+
+        assertThat(violations).containsExactly(2L, 4L);
+    }
+
+    @Test
+    void tickOverReusedBatchDoesNotAllocatePerReading() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeThat(bean).isInstanceOf(com.sun.management.ThreadMXBean.class);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        assumeThat(threads.isThreadAllocatedMemorySupported()).isTrue();
+
+        int sensors = 1_000;
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < sensors; i++) {
+            rows.add(new Object[]{(long) i, 0.0, 90.0});
+        }
+        SensorThresholds thresholds = SensorThresholds.fromRows(rows);
+        SensorReadingBatch batch = new SensorReadingBatch(sensors);
+
+        for (int i = 0; i < 200; i++) {
+            tick(thresholds, batch, i); // JIT 워밍업
+        }
+        long threadId = Thread.currentThread().getId();
+        int ticks = 200;
+        long before = threads.getThreadAllocatedBytes(threadId);
+        int violations = 0;
+        for (int i = 0; i < ticks; i++) {
+            violations += tick(thresholds, batch, i);
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        assertThat(violations).isEqualTo(ticks * (sensors / 100));
+        assertThat((double) allocated / ((long) ticks * sensors)).isLessThan(1.0);
+    }
+
+    private static int tick(SensorThresholds thresholds, SensorReadingBatch batch, int tick) {
+        batch.clear();
+        long collectedAt = T0 + tick * 10_000L;
+        for (int i = 0; i < thresholds.size(); i++) {
+            batch.add(thresholds.sensorId(i), collectedAt, i % 100 == 0 ? 95.0 : 50.0);
+        }
+        int violations = 0;
+        for (int i = thresholds.nextViolation(batch, 0); i >= 0; i = thresholds.nextViolation(batch, i + 1)) {
+            violations++;
+        }
+        return violations;
+    }
+}
@@ -0,0 +1,150 @@
+package com.smartfactory.smartmes_insight.ingest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SensorWalTest {
+
+    private static final long T0 = 1_790_000_000_000L;
+    private static final int SEGMENT_RECORDS = 10;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void replaysAcrossSegmentsAndDeletesConsumedOnes() throws IOException {
+        SensorWal wal = open(5);
+        for (int i = 0; i < 25; i++) {
+            assertThat(wal.append(i % 3, T0 + i, i * 1.5)).isTrue();
+        }
+        assertThat(segmentCount()).isEqualTo(3);
+
+        SensorReadingBatch batch = new SensorReadingBatch(4);
+        assertThat(wal.read(batch, 12)).isEqualTo(12);
+        assertThat(batch.size()).isEqualTo(12);
+        assertThat(batch.sensorId(11)).isEqualTo(2);
+        assertThat(batch.timestamp(11)).isEqualTo(T0 + 11);
+        assertThat(batch.value(11)).isEqualTo(16.5);
+
+        wal.commit(12);
+
+        assertThat(wal.pending()).isEqualTo(13);
+        assertThat(wal.oldestPendingTimestamp()).isEqualTo(T0 + 12);
+        assertThat(segmentCount()).isEqualTo(2);
+        wal.close();
+    }
+
+    @Test
+    void reopenResumesFromCheckpointAndWritePosition() throws IOException {
+        SensorWal wal = open(5);
+        for (int i = 0; i < 15; i++) {
+            wal.append(7, T0 + i, i);
+        }
+        SensorReadingBatch batch = new SensorReadingBatch(16);
+        wal.commit(wal.read(batch, 4));
+        wal.close();
+
+        SensorWal reopened = open(5);
+        assertThat(reopened.checkpoint()).isEqualTo(4);
+        assertThat(reopened.writeSequence()).isEqualTo(15);
+
+        reopened.append(7, T0 + 15, 15);
+        batch.clear();
+        assertThat(reopened.read(batch, 100)).isEqualTo(12);
+        assertThat(batch.value(0)).isEqualTo(4.0);
+        assertThat(batch.value(11)).isEqualTo(15.0);
+        reopened.close();
+    }
+
+    @Test
+    void replayedButUncommittedRecordsAreReadAgainAfterReopen() throws IOException {
+        SensorWal wal = open(5);
+        for (int i = 0; i < 8; i++) {
+            wal.append(7, T0 + i, i);
+        }
+        SensorReadingBatch batch = new SensorReadingBatch(16);
+        wal.commit(wal.read(batch, 3));
+        batch.clear();
+        wal.advance(wal.read(batch, 4)); // 저장소에는 넘겼지만 아직 확정 전
+
+        assertThat(wal.pending()).isEqualTo(1);
+        assertThat(wal.uncommitted()).isEqualTo(4);
+        assertThat(wal.oldestPendingTimestamp()).isEqualTo(T0 + 7);
+        wal.close();
+
+        SensorWal reopened = open(5);
+        batch.clear();
+        assertThat(reopened.checkpoint()).isEqualTo(3);
+        assertThat(reopened.read(batch, 100)).isEqualTo(5);
+        assertThat(batch.value(0)).isEqualTo(3.0);
+        reopened.close();
+    }
+
+    @Test
+    void rejectsAppendsWhenSegmentLimitIsReached() throws IOException {
+        SensorWal wal = open(2);
+        for (int i = 0; i < 2 * SEGMENT_RECORDS; i++) {
+            assertThat(wal.append(1, T0 + i, i)).isTrue();
+        }
+
+        assertThat(wal.append(1, T0 + 100, 0)).isFalse();
+
+        SensorReadingBatch batch = new SensorReadingBatch(SEGMENT_RECORDS);
+        wal.commit(wal.read(batch, SEGMENT_RECORDS));
+        assertThat(wal.append(1, T0 + 100, 0)).isTrue();
+        assertThat(wal.diskBytes()).isEqualTo(2L * SEGMENT_RECORDS * WalSegment.RECORD_BYTES);
+        wal.close();
+    }
+
+    @Test
+    void corruptRecordsAreSkippedAndTornTailEndsTheLog() throws IOException {
+        SensorWal wal = open(5);
+        for (int i = 0; i < 15; i++) {
+            wal.append(1, T0 + i, i);
+        }
+        wal.close();
+
+        Path[] segments = segments();
+        corrupt(segments[0], 2); // 가득 찬 세그먼트 중간 레코드
+        corrupt(segments[1], 3); // 마지막 세그먼트 레코드 (기록 중 종료)
+
+        SensorWal reopened = open(5);
+        SensorReadingBatch batch = new SensorReadingBatch(16);
+
+        assertThat(reopened.writeSequence()).isEqualTo(13);
+        assertThat(reopened.read(batch, 100)).isEqualTo(13);
+        assertThat(batch.size()).isEqualTo(12);
+        assertThat(batch.value(2)).isEqualTo(3.0);
+        reopened.close();
+    }
+
+    private static void corrupt(Path segment, int index) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{42}), (long) index * WalSegment.RECORD_BYTES + 3);
+        }
+    }
+
+    private SensorWal open(int maxSegments) throws IOException {
+        return SensorWal.open(dir, SEGMENT_RECORDS, maxSegments);
+    }
+
+    private long segmentCount() throws IOException {
+        return segments().length;
+    }
+
+    private Path[] segments() throws IOException {
+        try (Stream<Path> stream = Files.list(dir)) {
+            return stream.filter(path -> path.toString().endsWith(WalSegment.SUFFIX)).sorted().toArray(Path[]::new);
+        }
+    }
+}
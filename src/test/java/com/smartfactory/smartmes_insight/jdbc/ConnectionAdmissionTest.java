@@ -0,0 +1,120 @@
+package com.smartfactory.smartmes_insight.jdbc;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.mock.env.MockEnvironment;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 작업 분류별 연결 허용 동작 검증 (풀 대신 목 DataSource 사용)
+ */
+class ConnectionAdmissionTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConnectionAdmission admission;
+    private AdmissionDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("db.admission.ingest.permits", "1")
+                .withProperty("db.admission.ingest.timeout-ms", "50")
+                .withProperty("db.admission.api.permits", "1")
+                .withProperty("db.admission.api.timeout-ms", "50");
+        meterRegistry = new SimpleMeterRegistry();
+        admission = new ConnectionAdmission(environment, meterRegistry);
+
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("connectionAdmission", admission);
+        dataSource = new AdmissionDataSource(target, beanFactory.getBeanProvider(ConnectionAdmission.class));
+    }
+
+    @Test
+    void rejectsWhenWorkloadPermitsAreExhausted() throws Exception {
+        Connection held = connectionOnOtherThread(DbWorkload.API);
+
+        try (ConnectionAdmission.Binding ignored = admission.bind(DbWorkload.API)) {
+            assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+        }
+        assertThat(meterRegistry.get("db.admission.rejected").tag("workload", "api").counter().count()).isEqualTo(1);
+
+        held.close();
+        try (ConnectionAdmission.Binding ignored = admission.bind(DbWorkload.API);
+             Connection connection = dataSource.getConnection()) {
+            assertThat(connection).isNotNull();
+        }
+    }
+
+    @Test
+    void otherWorkloadsAreNotBlockedByExhaustedApiPermits() throws Exception {
+        connectionOnOtherThread(DbWorkload.API);
+
+        try (ConnectionAdmission.Binding ignored = admission.bind(DbWorkload.INGEST);
+             Connection connection = dataSource.getConnection()) {
+            assertThat(connection).isNotNull();
+            assertThat(meterRegistry.get("db.admission.active").tag("workload", "ingest").gauge().value()).isEqualTo(1);
+        }
+        assertThat(meterRegistry.get("db.admission.active").tag("workload", "ingest").gauge().value()).isZero();
+    }
+
+    @Test
+    void nestedConnectionOnSameThreadDoesNotWaitForPermit() throws Exception {
+        try (ConnectionAdmission.Binding ignored = admission.bind(DbWorkload.INGEST);
+             Connection outer = dataSource.getConnection();
+             Connection inner = dataSource.getConnection()) {
+            assertThat(inner).isNotSameAs(outer);
+        }
+        assertThat(meterRegistry.get("db.admission.active").tag("workload", "ingest").gauge().value()).isZero();
+    }
+
+    @Test
+    void unboundThreadsPassThroughWithoutPermit() throws Exception {
+        Connection connection = dataSource.getConnection();
+        connection.close();
+
+        verify(connection).close();
+        assertThat(meterRegistry.get("db.admission.wait").tag("workload", "api").timer().count()).isZero();
+    }
+
+    @Test
+    void closingTwiceReleasesPermitOnce() throws Exception {
+        try (ConnectionAdmission.Binding ignored = admission.bind(DbWorkload.API)) {
+            Connection connection = dataSource.getConnection();
+            connection.close();
+            connection.close();
+        }
+        assertThat(meterRegistry.get("db.admission.active").tag("workload", "api").gauge().value()).isZero();
+    }
+
+    private Connection connectionOnOtherThread(DbWorkload workload) throws Exception {
+        Connection[] holder = new Connection[1];
+        Exception[] failure = new Exception[1];
+        Thread thread = new Thread(() -> {
+            try (ConnectionAdmission.Binding ignored = admission.bind(workload)) {
+                holder[0] = dataSource.getConnection();
+            } catch (Exception e) {
+                failure[0] = e;
+            }
+        });
+        thread.start();
+        thread.join();
+        if (failure[0] != null) {
+            throw failure[0];
+        }
+        return holder[0];
+    }
+}
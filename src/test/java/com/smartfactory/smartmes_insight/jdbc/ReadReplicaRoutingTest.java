@@ -0,0 +1,136 @@
+package com.smartfactory.smartmes_insight.jdbc;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기/쓰기 분기 검증 (H2 인스턴스 두 개를 주 DB / 복제본 대용으로 사용)
+ */
+@DataJpaTest(showSql = false, properties = {
+        "spring.datasource.url=jdbc:h2:mem:mes_primary;MODE=MySQL;NON_KEYWORDS=VALUE,TIMESTAMP,USER;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "db.replica.enabled=true",
+        "db.replica.url=jdbc:h2:mem:mes_replica;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "db.replica.lag-query=SELECT lag_ms FROM replication_lag",
+        "db.replica.max-lag-ms=1000"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ReadReplicaConfig.class, ReadReplicaRoutingTest.MetricsConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReadReplicaRoutingTest {
+
+    private static final String PRIMARY = "MES_PRIMARY";
+    private static final String REPLICA = "MES_REPLICA";
+
+    @TestConfiguration
+    static class MetricsConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ReadReplica readReplica;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private JdbcTemplate replicaJdbc;
+
+    @BeforeEach
+    void setUp() {
+        replicaJdbc = new JdbcTemplate(readReplica.getDataSource());
+        replicaJdbc.execute("CREATE TABLE IF NOT EXISTS replication_lag (lag_ms BIGINT)");
+        setReplicaLag(0);
+    }
+
+    @Test
+    void readOnlyTransactionUsesReplica() {
+        assertThat(databaseIn(true)).isEqualTo(REPLICA);
+    }
+
+    @Test
+    void readOnlyJpaQueryUsesReplica() {
+        TransactionTemplate readOnly = transaction(true);
+        Object database = readOnly.execute(status ->
+                entityManager.createNativeQuery("SELECT DATABASE()").getSingleResult());
+        assertThat(database).isEqualTo(REPLICA);
+    }
+
+    @Test
+    void writeTransactionUsesPrimary() {
+        assertThat(databaseIn(false)).isEqualTo(PRIMARY);
+    }
+
+    @Test
+    void statementsOutsideTransactionUsePrimary() {
+        assertThat(new JdbcTemplate(dataSource).queryForObject("SELECT DATABASE()", String.class)).isEqualTo(PRIMARY);
+    }
+
+    @Test
+    void laggingReplicaFallsBackToPrimaryUntilItCatchesUp() {
+        setReplicaLag(5000);
+        assertThat(readReplica.isAvailable()).isFalse();
+        assertThat(databaseIn(true)).isEqualTo(PRIMARY);
+
+        setReplicaLag(200);
+        assertThat(databaseIn(true)).isEqualTo(REPLICA);
+    }
+
+    @Test
+    void failedLagCheckFallsBackToPrimary() {
+        replicaJdbc.execute("DROP TABLE replication_lag");
+        readReplica.checkLag();
+
+        assertThat(readReplica.isAvailable()).isFalse();
+        assertThat(readReplica.getLagMillis()).isEqualTo(-1);
+        assertThat(databaseIn(true)).isEqualTo(PRIMARY);
+    }
+
+    private void setReplicaLag(long lagMillis) {
+        replicaJdbc.update("DELETE FROM replication_lag");
+        replicaJdbc.update("INSERT INTO replication_lag (lag_ms) VALUES (?)", lagMillis);
+        readReplica.checkLag();
+    }
+
+    private String databaseIn(boolean readOnly) {
+        return transaction(readOnly).execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("SELECT DATABASE()", String.class));
+    }
+
+    private TransactionTemplate transaction(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template;
+    }
+}
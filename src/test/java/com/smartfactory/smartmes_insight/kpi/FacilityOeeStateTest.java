@@ -0,0 +1,47 @@
+package com.smartfactory.smartmes_insight.kpi;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 설비 OEE 누적 검증 (가동 시간은 계획 가동 시간 안에서만 누적)
+ */
+class FacilityOeeStateTest {
+
+    private static final long MINUTE = 60_000L;
+    private static final long START = LocalDateTime.of(2025, 1, 20, 8, 0)
+            .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+    @Test
+    void runningOutsidePlannedWindowDoesNotCountTowardsAvailability() {
+        FacilityOeeState state = new FacilityOeeState(1L, 60, START);
+        state.setRunning(true, START);                                  // 08:00 작업 지시 없이 가동
+        state.setWorkOrderActive(100L, true, START + 10 * MINUTE);      // 08:10 계획 가동 시작
+        state.setRunning(false, START + 30 * MINUTE);                   // 08:30 정지
+        state.setWorkOrderActive(100L, false, START + 40 * MINUTE);     // 08:40 계획 가동 종료
+        state.setRunning(true, START + 45 * MINUTE);                    // 08:45 다시 계획 밖 가동
+
+        for (OeeWindow window : OeeWindow.values()) {
+            OeeSnapshot snapshot = state.snapshot(window, START + 50 * MINUTE);
+            assertThat(snapshot.plannedMillis()).as(window.name()).isEqualTo(30 * MINUTE);
+            assertThat(snapshot.runMillis()).as(window.name()).isEqualTo(20 * MINUTE);
+            assertThat(snapshot.availability()).as(window.name()).isCloseTo(2.0 / 3, within(1e-9));
+        }
+    }
+
+    @Test
+    void runningWithoutAnyPlannedTimeHasNoAvailability() {
+        FacilityOeeState state = new FacilityOeeState(1L, 60, START);
+        state.setRunning(true, START);
+
+        OeeSnapshot snapshot = state.snapshot(OeeWindow.ROLLING_HOUR, START + 30 * MINUTE);
+        assertThat(snapshot.runMillis()).isZero();
+        assertThat(snapshot.availability()).isZero();
+        assertThat(snapshot.performance()).isZero();
+    }
+}
@@ -0,0 +1,56 @@
+package com.smartfactory.smartmes_insight.kpi;
+
+import com.smartfactory.smartmes_insight.domain.facility.Facility;
+import com.smartfactory.smartmes_insight.domain.facility.FacilityRepository;
+import com.smartfactory.smartmes_insight.domain.workorder.WorkOrder;
+import com.smartfactory.smartmes_insight.domain.workorder.WorkOrderRepository;
+import com.smartfactory.smartmes_insight.event.DomainEventBus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * OEE 엔진 재동기화 검증 (놓친 이벤트 사이에 사라진 작업 지시/설비는 상태에서 빠진다)
+ */
+class OeeEngineTest {
+
+    private final FacilityRepository facilityRepository = mock(FacilityRepository.class);
+    private final WorkOrderRepository workOrderRepository = mock(WorkOrderRepository.class);
+    private final OeeEngine engine = new OeeEngine(facilityRepository, workOrderRepository,
+            mock(DomainEventBus.class), new MockEnvironment(), new SimpleMeterRegistry());
+
+    @Test
+    void workOrderRemovedDuringMissedEventsStopsCountingAsPlannedTime() throws Exception {
+        ReflectionTestUtils.setField(engine, "defaultIdealUnitsPerHour", 60.0);
+        Facility press = facility(1L);
+        Facility welder = facility(2L);
+        when(facilityRepository.findAll()).thenReturn(List.of(press, welder));
+        when(workOrderRepository.findByStatus("진행중")).thenReturn(List.of(
+                WorkOrder.builder().id(100L).facility(press).status("진행중").build(),
+                WorkOrder.builder().id(200L).facility(welder).status("진행중").build()));
+        engine.initialize();
+
+        // 이벤트를 놓친 사이 작업 지시 100 삭제, 설비 2 삭제
+        when(facilityRepository.findAll()).thenReturn(List.of(press));
+        when(workOrderRepository.findByStatus("진행중")).thenReturn(List.of());
+        engine.onMissed(2);
+
+        long planned = engine.getSnapshot(1L, OeeWindow.DAY).plannedMillis();
+        Thread.sleep(30);
+        assertThat(engine.getSnapshot(1L, OeeWindow.DAY).plannedMillis()).isEqualTo(planned);
+        assertThatThrownBy(() -> engine.getSnapshot(2L, OeeWindow.DAY))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Facility facility(Long id) {
+        return Facility.builder().id(id).type("PRESS").status(Facility.STATUS_RUNNING).build();
+    }
+}
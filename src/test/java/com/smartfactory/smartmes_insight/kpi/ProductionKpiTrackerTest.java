@@ -0,0 +1,78 @@
+package com.smartfactory.smartmes_insight.kpi;
+
+import com.smartfactory.smartmes_insight.domain.production.ProductionResultRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 생산 KPI 집계기 검증 (기동 시 실적 테이블 기준 재구성, 커밋 중인 변화량과 재구성의 순서)
+ */
+class ProductionKpiTrackerTest {
+
+    private static final LocalDateTime RECORDED_AT = LocalDateTime.of(2025, 1, 20, 10, 0);
+
+    private final ProductionResultRepository productionResultRepository = mock(ProductionResultRepository.class);
+    private final ProductionKpiTracker tracker = new ProductionKpiTracker(productionResultRepository);
+
+    @Test
+    void restoreRebuildsCountersFromProductionResults() {
+        when(productionResultRepository.findAllKpiFigures()).thenReturn(figures(
+                new Object[]{1L, 10L, RECORDED_AT, 10, 1},
+                new Object[]{1L, 10L, RECORDED_AT.plusHours(1), 5, 0},
+                new Object[]{2L, 10L, RECORDED_AT.plusDays(1), 3, null}));
+
+        tracker.restore();
+
+        assertThat(tracker.getWorkOrder(1L)).isEqualTo(new ProductionCounter.Snapshot(15, 1, 2));
+        assertThat(tracker.getFacility(10L)).isEqualTo(new ProductionCounter.Snapshot(18, 1, 3));
+        assertThat(tracker.getDay(RECORDED_AT.toLocalDate())).isEqualTo(new ProductionCounter.Snapshot(15, 1, 2));
+        assertThat(tracker.getFacilityDay(10L, RECORDED_AT.toLocalDate().plusDays(1))).isEqualTo(new ProductionCounter.Snapshot(3, 0, 1));
+    }
+
+    @Test
+    void rebuildWaitsForCommitInFlightSoItsDeltaIsNotCountedTwice() throws Exception {
+        when(productionResultRepository.findAllKpiFigures()).thenReturn(figures(new Object[]{1L, 10L, RECORDED_AT, 5, 0}));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            tracker.recordDelta(1L, 10L, RECORDED_AT, 5, 0, 1);
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(s -> s.beforeCommit(false)); // DB 커밋 직전 (재구성 스냅샷에 이 실적이 포함됨)
+
+            Thread rebuild = new Thread(tracker::rebuild);
+            rebuild.start();
+            rebuild.join(200);
+            assertThat(rebuild.isAlive()).isTrue();
+            verify(productionResultRepository, never()).findAllKpiFigures();
+
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+            synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+            rebuild.join(TimeUnit.SECONDS.toMillis(5));
+            assertThat(rebuild.isAlive()).isFalse();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(productionResultRepository, timeout(1000)).findAllKpiFigures();
+        assertThat(tracker.getWorkOrder(1L)).isEqualTo(new ProductionCounter.Snapshot(5, 0, 1));
+        assertThat(tracker.getFacilityDay(10L, LocalDate.of(2025, 1, 20))).isEqualTo(new ProductionCounter.Snapshot(5, 0, 1));
+    }
+
+    private static List<Object[]> figures(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+}
@@ -0,0 +1,208 @@
+package com.smartfactory.smartmes_insight.scheduler;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주기 실행기 검증 (샤드별 단일 실행, overrun 정책, deadline 중단 - 인터럽트 없이 단계 경계에서)
+ */
+class TickSchedulerTest {
+
+    private static final long INTERVAL = 1000;
+
+    @TempDir
+    Path dir;
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final ExecutorService worker = Executors.newCachedThreadPool();
+    private final List<Long> started = new CopyOnWriteArrayList<>();
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxRunning = new AtomicInteger();
+    private final CountDownLatch firstStarted = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private TickScheduler scheduler;
+
+    @AfterEach
+    void tearDown() {
+        if (scheduler != null) {
+            scheduler.stop();
+        }
+        worker.shutdownNow();
+    }
+
+    @Test
+    void skipDropsTicksThatArriveWhileTheShardIsRunning() throws Exception {
+        scheduler = blockingScheduler(OverrunPolicy.SKIP, 3);
+
+        overrunFirstTickWith(1000, 2000, 3000);
+
+        assertThat(started).containsExactly(0L);
+        assertThat(counter("sensor.test.ticks.missed", "overrun")).isEqualTo(3);
+        assertThat(maxRunning).hasValue(1);
+    }
+
+    @Test
+    void coalesceRunsOnceRightAfterTheSlowTickWithTheLatestSchedule() throws Exception {
+        scheduler = blockingScheduler(OverrunPolicy.COALESCE, 3);
+
+        overrunFirstTickWith(1000, 2000, 3000);
+
+        assertThat(started).containsExactly(0L, 3000L);
+        assertThat(registry.get("sensor.test.ticks.deferred").counter().count()).isEqualTo(1);
+        assertThat(counter("sensor.test.ticks.missed", "overrun")).isEqualTo(2);
+        assertThat(maxRunning).hasValue(1);
+    }
+
+    @Test
+    void catchUpReplaysMissedTicksInOrderUpToTheLimit() throws Exception {
+        scheduler = blockingScheduler(OverrunPolicy.CATCH_UP, 2);
+
+        overrunFirstTickWith(1000, 2000, 3000);
+
+        assertThat(started).containsExactly(0L, 1000L, 2000L);
+        assertThat(registry.get("sensor.test.ticks.deferred").counter().count()).isEqualTo(2);
+        assertThat(counter("sensor.test.ticks.missed", "overrun")).isEqualTo(1);
+        assertThat(maxRunning).hasValue(1);
+    }
+
+    @Test
+    void shardsRunIndependently() throws Exception {
+        scheduler = new TickScheduler("sensor.test",
+                new TickScheduler.Settings(INTERVAL, 2, OverrunPolicy.SKIP, 0, 0, 0), worker,
+                tick -> {
+                    started.add((long) tick.shard());
+                    if (tick.shard() == 0) {
+                        firstStarted.countDown();
+                        release.await();
+                    }
+                }, registry);
+
+        scheduler.fire(0, 0);
+        assertThat(firstStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        scheduler.fire(1, 0);
+        awaitCondition(() -> started.size() == 2);
+        release.countDown();
+        awaitIdle();
+
+        assertThat(started).containsExactlyInAnyOrder(0L, 1L);
+        assertThat(counter("sensor.test.ticks.missed", "overrun")).isZero();
+    }
+
+    @Test
+    void deadlineExpiringMidStoreLetsTheStageFinishAndStopsAtTheNextCheck() throws Exception {
+        AtomicInteger completed = new AtomicInteger();
+        AtomicBoolean interruptedDuringStore = new AtomicBoolean();
+        AtomicInteger storedWrites = new AtomicInteger();
+        Path walFile = dir.resolve("store.wal");
+        scheduler = new TickScheduler("sensor.test",
+                new TickScheduler.Settings(INTERVAL, 1, OverrunPolicy.SKIP, 0, 0, 50), worker,
+                tick -> {
+                    started.add(tick.scheduledAtMillis());
+                    tick.checkDeadline();
+                    // 저장 단계: 첫 주기는 deadline(50ms)을 넘겨 계속 쓴다
+                    int writes = started.size() == 1 ? 10 : 1;
+                    try (FileChannel channel = FileChannel.open(walFile, StandardOpenOption.CREATE,
+                            StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                        for (int i = 0; i < writes; i++) {
+                            channel.write(ByteBuffer.wrap(new byte[]{1, 2, 3, 4}));
+                            channel.force(false);
+                            storedWrites.incrementAndGet();
+                            interruptedDuringStore.compareAndSet(false, Thread.currentThread().isInterrupted());
+                            Thread.sleep(20);
+                        }
+                    }
+                    tick.checkDeadline();
+                    completed.incrementAndGet();
+                }, registry);
+
+        scheduler.fire(0, 0);
+        awaitCondition(() -> !started.isEmpty());
+        awaitIdle();
+
+        assertThat(interruptedDuringStore).isFalse();
+        assertThat(storedWrites).hasValue(10);
+        assertThat(Files.size(walFile)).isEqualTo(40);
+        assertThat(registry.get("sensor.test.ticks.cancelled").counter().count()).isEqualTo(1);
+        assertThat(completed).hasValue(0);
+
+        scheduler.fire(0, INTERVAL);
+        awaitCondition(() -> completed.get() == 1);
+        awaitIdle();
+        assertThat(Files.size(walFile)).isEqualTo(44);
+        assertThat(registry.get("sensor.test.ticks.cancelled").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void timerFiresEveryIntervalOnceStarted() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        scheduler = new TickScheduler("sensor.test",
+                new TickScheduler.Settings(20, 1, OverrunPolicy.SKIP, 0, 5, 0), worker,
+                tick -> runs.incrementAndGet(), registry);
+
+        scheduler.start();
+        awaitCondition(() -> runs.get() >= 3);
+    }
+
+    // 첫 주기를 붙잡아 둔 채 다음 주기들을 요청한 뒤 풀어 준다
+    private void overrunFirstTickWith(long... scheduledAt) throws Exception {
+        scheduler.fire(0, 0);
+        assertThat(firstStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        for (long at : scheduledAt) {
+            scheduler.fire(0, at);
+        }
+        release.countDown();
+        awaitIdle();
+    }
+
+    private TickScheduler blockingScheduler(OverrunPolicy policy, int maxCatchUp) {
+        return new TickScheduler("sensor.test",
+                new TickScheduler.Settings(INTERVAL, 1, policy, maxCatchUp, 0, 0), worker,
+                tick -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        started.add(tick.scheduledAtMillis());
+                        firstStarted.countDown();
+                        release.await();
+                    } finally {
+                        running.decrementAndGet();
+                    }
+                }, registry);
+    }
+
+    private double counter(String name, String reason) {
+        return registry.get(name).tag("reason", reason).counter().count();
+    }
+
+    private void awaitIdle() throws InterruptedException {
+        awaitCondition(() -> registry.get("sensor.test.ticks.inflight").gauge().value() == 0);
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("조건 대기 시간 초과").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+}
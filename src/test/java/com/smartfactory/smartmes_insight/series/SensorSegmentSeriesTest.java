@@ -0,0 +1,196 @@
+package com.smartfactory.smartmes_insight.series;
+
+import com.smartfactory.smartmes_insight.domain.sensor.SensorLogStatistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class SensorSegmentSeriesTest {
+
+    private static final long T0 = 1_790_000_000_000L;
+    private static final int BLOCK_POINTS = 100;
+
+    @TempDir
+    Path dir;
+
+    private final SegmentCounters counters = new SegmentCounters();
+
+    @Test
+    void sealedBlocksAndActiveTailAreReadBackAfterReopen() throws IOException {
+        SensorSegmentSeries series = open();
+        for (int i = 0; i < 250; i++) {
+            series.append(T0 + i * 1000L, i * 0.5);
+        }
+
+        List<Double> values = new ArrayList<>();
+        assertThat(series.scan(T0, T0 + 249_000, (t, v) -> values.add(v))).isEqualTo(250);
+        assertThat(values.get(249)).isEqualTo(124.5);
+        assertThat(counters.sealed.sum()).isEqualTo(2);
+
+        series.close(); // 남은 50개도 봉인
+        SensorSegmentSeries reopened = open();
+
+        List<Long> timestamps = new ArrayList<>();
+        assertThat(reopened.scan(T0 + 10_000, T0 + 20_000, (t, v) -> timestamps.add(t))).isEqualTo(11);
+        assertThat(timestamps).first().isEqualTo(T0 + 10_000);
+        assertThat(reopened.latest((t, v) -> assertThat(v).isEqualTo(124.5))).isTrue();
+        assertThat(counters.sealed.sum()).isEqualTo(3);
+    }
+
+    @Test
+    void statisticsUseBlockSummariesForFullyCoveredBlocks() throws IOException {
+        SensorSegmentSeries series = open();
+        for (int i = 0; i < 300; i++) {
+            series.append(T0 + i * 1000L, i);
+        }
+
+        SensorLogStatistics all = series.statistics(T0, T0 + 299_000);
+        SensorLogStatistics partial = series.statistics(T0 + 50_000, T0 + 149_000);
+
+        assertThat(all.count()).isEqualTo(300);
+        assertThat(all.average()).isCloseTo(149.5, within(1e-9));
+        assertThat(all.min()).isEqualTo(0.0);
+        assertThat(all.max()).isEqualTo(299.0);
+        assertThat(partial.count()).isEqualTo(100);
+        assertThat(partial.min()).isEqualTo(50.0);
+        assertThat(partial.max()).isEqualTo(149.0);
+        assertThat(series.statistics(T0 - 10_000, T0 - 1)).isEqualTo(SensorLogStatistics.EMPTY);
+    }
+
+    @Test
+    void anomalyScanSkipsBlocksWithinThresholds() throws IOException {
+        SensorSegmentSeries series = open();
+        for (int i = 0; i < 300; i++) {
+            double value = i == 150 ? 99.0 : 50.0;
+            series.append(T0 + i * 1000L, value);
+        }
+
+        List<Long> anomalies = new ArrayList<>();
+        series.scanOutside(T0, T0 + 299_000, 40.0, 60.0, (t, v) -> anomalies.add(t));
+
+        assertThat(anomalies).containsExactly(T0 + 150_000);
+        assertThat(counters.skipped.sum()).isEqualTo(2);
+        assertThat(counters.decoded.sum()).isEqualTo(1);
+    }
+
+    @Test
+    void recentReadsNewestFirstAcrossActiveAndSealedBlocks() throws IOException {
+        SensorSegmentSeries series = open();
+        for (int i = 0; i < 130; i++) {
+            series.append(T0 + i * 1000L, i);
+        }
+
+        List<Double> recent = new ArrayList<>();
+        series.recent(40, (t, v) -> recent.add(v));
+
+        assertThat(recent).hasSize(40);
+        assertThat(recent.get(0)).isEqualTo(129.0);
+        assertThat(recent.get(39)).isEqualTo(90.0);
+    }
+
+    @Test
+    void outOfOrderTimestampsAreDroppedInsteadOfRestamped() throws IOException {
+        SensorSegmentSeries series = open();
+        series.append(T0 + 5_000, 1.0);
+
+        assertThat(series.append(T0, 2.0)).isFalse();
+        assertThat(series.append(T0 + 5_000, 3.0)).isTrue(); // 같은 시각은 허용
+        assertThat(counters.outOfOrder.sum()).isEqualTo(1);
+
+        List<Long> timestamps = new ArrayList<>();
+        series.scan(T0, T0 + 5_000, (t, v) -> timestamps.add(t));
+        assertThat(timestamps).containsExactly(T0 + 5_000, T0 + 5_000);
+    }
+
+    @Test
+    void pointsAtOrBeforeTheLastSealedBlockAreSkippedAfterReopen() throws IOException {
+        SensorSegmentSeries series = open();
+        for (int i = 0; i < 150; i++) {
+            series.append(T0 + i * 1000L, i); // 100개째에서 봉인, 50개는 활성 블록
+        }
+        // 비정상 종료: 활성 블록은 봉인하지 않고 다시 연다
+
+        SensorSegmentSeries reopened = open();
+        for (int i = 0; i < 150; i++) {
+            reopened.append(T0 + i * 1000L, i); // 마지막 checkpoint부터 다시 들어온 점
+        }
+
+        assertThat(counters.duplicates.sum()).isEqualTo(100);
+        assertThat(counters.outOfOrder.sum()).isZero();
+        SensorLogStatistics statistics = reopened.statistics(T0, T0 + 149_000);
+        assertThat(statistics.count()).isEqualTo(150);
+        assertThat(statistics.average()).isCloseTo(74.5, within(1e-9));
+    }
+
+    @Test
+    void tornTailBlockIsTruncatedOnOpen() throws IOException {
+        SensorSegmentSeries series = open();
+        for (int i = 0; i < 200; i++) {
+            series.append(T0 + i * 1000L, i);
+        }
+        series.close();
+
+        Path file = segmentFiles().get(0);
+        long intact = Files.size(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[SegmentBlock.HEADER_BYTES + 7])); // 기록 중 종료된 블록
+        }
+
+        SensorSegmentSeries reopened = open();
+
+        assertThat(counters.recovered.sum()).isEqualTo(1);
+        assertThat(Files.size(file)).isEqualTo(intact);
+        assertThat(reopened.scan(T0, T0 + 199_000, (t, v) -> { })).isEqualTo(200);
+
+        reopened.append(T0 + 200_000, 200.0);
+        reopened.close();
+        assertThat(open().scan(T0, T0 + 200_000, (t, v) -> { })).isEqualTo(201);
+    }
+
+    @Test
+    void blockWithCorruptedHeaderSummaryIsRejectedByCrc() throws IOException {
+        SensorSegmentSeries series = open();
+        for (int i = 0; i < 200; i++) {
+            series.append(T0 + i * 1000L, i);
+        }
+        series.close();
+
+        Path file = segmentFiles().get(0);
+        SegmentFile segment = SegmentFile.open(file, 1L, new SegmentCounters());
+        SegmentBlock last = segment.lastBlock();
+        segment.close();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            // 본문은 그대로 두고 헤더의 합계(sum)만 변조 - 본문만 덮는 CRC로는 검출되지 않음
+            channel.write(ByteBuffer.allocate(8).putDouble(0, 1e9), last.offset() + 28);
+        }
+
+        SensorSegmentSeries reopened = open();
+
+        assertThat(counters.recovered.sum()).isEqualTo(1);
+        assertThat(Files.size(file)).isEqualTo(last.offset());
+        assertThat(reopened.scan(T0, T0 + 199_000, (t, v) -> { })).isEqualTo(100);
+    }
+
+    private SensorSegmentSeries open() throws IOException {
+        return SensorSegmentSeries.open(1L, dir.resolve(SensorSegmentSeries.directoryName(1L)),
+                BLOCK_POINTS, 64 * 1024 * 1024, false, counters);
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> stream = Files.list(dir.resolve(SensorSegmentSeries.directoryName(1L)))) {
+            return stream.sorted().toList();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.smartfactory.smartmes_insight.series;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SeriesDownsamplerTest {
+
+    private static final long START = 1_760_000_000_000L;
+
+    @Test
+    void returnsRawPointsWhenUnderTarget() {
+        SeriesDownsampler downsampler = new SeriesDownsampler(DownsampleMethod.LTTB, START, START + 10_000, 10);
+        for (int i = 0; i < 5; i++) {
+            downsampler.accept(START + i * 1000L, i * 1.5);
+        }
+
+        DownsampledSeries series = downsampler.finish();
+
+        assertThat(series.rawCount()).isEqualTo(5);
+        assertThat(series.timestamps()).containsExactly(START, START + 1000, START + 2000, START + 3000, START + 4000);
+        assertThat(series.values()).containsExactly(0.0, 1.5, 3.0, 4.5, 6.0);
+    }
+
+    @Test
+    void minMaxKeepsSpikesWithinTarget() {
+        int rows = 100_000;
+        SeriesDownsampler downsampler = new SeriesDownsampler(DownsampleMethod.MINMAX, START, START + rows - 1, 100);
+        for (int i = 0; i < rows; i++) {
+            double value = i == 54_321 ? 999.0 : i == 12_345 ? -999.0 : Math.sin(i / 500.0);
+            downsampler.accept(START + i, value);
+        }
+
+        DownsampledSeries series = downsampler.finish();
+
+        assertThat(series.rawCount()).isEqualTo(rows);
+        assertThat(series.size()).isLessThanOrEqualTo(100);
+        assertThat(series.values()).contains(999.0, -999.0);
+        assertThat(series.timestamps()).contains(START + 54_321, START + 12_345);
+        assertAscending(series.timestamps());
+    }
+
+    @Test
+    void lttbReturnsTargetPointsWithEndpointsAndSpike() {
+        int rows = 600_000;
+        SeriesDownsampler downsampler = new SeriesDownsampler(DownsampleMethod.LTTB, START, START + rows * 1000L, 2000);
+        for (int i = 0; i < rows; i++) {
+            double value = i == 300_000 ? 500.0 : 20 + Math.sin(i / 3600.0);
+            downsampler.accept(START + i * 1000L, value);
+        }
+
+        DownsampledSeries series = downsampler.finish();
+
+        assertThat(series.size()).isEqualTo(2000);
+        assertThat(series.timestamps()[0]).isEqualTo(START);
+        assertThat(series.timestamps()[1999]).isEqualTo(START + (rows - 1) * 1000L);
+        assertThat(series.values()).contains(500.0);
+        assertAscending(series.timestamps());
+    }
+
+    @Test
+    void emptyRangeReturnsNoPoints() {
+        DownsampledSeries series = new SeriesDownsampler(DownsampleMethod.LTTB, START, START + 1000, 100).finish();
+
+        assertThat(series.rawCount()).isZero();
+        assertThat(series.size()).isZero();
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThatThrownBy(() -> new SeriesDownsampler(DownsampleMethod.LTTB, START, START + 1000, 2))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SeriesDownsampler(DownsampleMethod.MINMAX, START, START - 1, 100))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void assertAscending(long[] timestamps) {
+        for (int i = 1; i < timestamps.length; i++) {
+            assertThat(timestamps[i]).isGreaterThan(timestamps[i - 1]);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.smartfactory.smartmes_insight.series;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SeriesExportFormatTest {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+    private static final LocalDate DAY = LocalDate.of(2026, 10, 1);
+    private static final long DAY_START = DAY.atStartOfDay(ZONE).toInstant().toEpochMilli();
+
+    @Test
+    void roundTripsIrregularTimestampsAndArbitraryDoubles() throws IOException {
+        Random random = new Random(42);
+        int count = 5_000;
+        long[] timestamps = new long[count];
+        double[] values = new double[count];
+        long t = DAY_START;
+        for (int i = 0; i < count; i++) {
+            // 정주기, 작은 지터, 큰 공백, 같은 시각이 섞이도록
+            t += switch (i % 7) {
+                case 0 -> 1000;
+                case 1 -> 1000 + random.nextInt(40) - 20;
+                case 2 -> random.nextInt(3000);
+                case 3 -> 0;
+                default -> 1000;
+            };
+            timestamps[i] = t;
+            values[i] = switch (i % 5) {
+                case 0 -> random.nextGaussian() * 1e6;
+                case 1 -> -0.0;
+                case 2 -> Double.NaN;
+                case 3 -> values[Math.max(i - 1, 0)];
+                default -> Math.round(random.nextDouble() * 1000) / 10.0;
+            };
+        }
+
+        List<SeriesChunk> chunks = roundTrip(1L, timestamps, values);
+
+        assertThat(chunks).hasSize(1);
+        assertThat(chunks.get(0).timestamps()).containsExactly(timestamps);
+        for (int i = 0; i < count; i++) {
+            assertThat(Double.doubleToRawLongBits(chunks.get(0).values()[i]))
+                    .isEqualTo(Double.doubleToRawLongBits(values[i]));
+        }
+    }
+
+    @Test
+    void splitsChunksPerSensorAndDay() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SeriesExportWriter writer = new SeriesExportWriter(out);
+        long dayEnd = DAY.plusDays(1).atStartOfDay(ZONE).toInstant().toEpochMilli();
+        writer.accept(1, dayEnd - 2000, 1.0);
+        writer.accept(1, dayEnd - 1000, 2.0);
+        writer.accept(1, dayEnd, 3.0);
+        writer.accept(2, DAY_START, 4.0);
+        writer.finish();
+
+        List<SeriesChunk> chunks = readAll(out.toByteArray());
+
+        assertThat(writer.getChunks()).isEqualTo(3);
+        assertThat(writer.getBytesWritten()).isEqualTo(out.size());
+        assertThat(chunks).extracting(SeriesChunk::sensorId).containsExactly(1L, 1L, 2L);
+        assertThat(chunks).extracting(SeriesChunk::day).containsExactly(DAY, DAY.plusDays(1), DAY);
+        assertThat(chunks.get(0).values()).containsExactly(1.0, 2.0);
+        assertThat(chunks.get(1).timestamps()).containsExactly(dayEnd);
+    }
+
+    @Test
+    void periodicReadingsCompressToAFewBytesPerPoint() throws IOException {
+        int count = 86_400;
+        long[] timestamps = new long[count];
+        double[] values = new double[count];
+        for (int i = 0; i < count; i++) {
+            timestamps[i] = DAY_START + i * 1000L;
+            values[i] = 20.0 + (i / 60) % 10 * 0.5; // 1분마다 바뀌는 계단형 측정값
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SeriesExportWriter writer = new SeriesExportWriter(out);
+        for (int i = 0; i < count; i++) {
+            writer.accept(7, timestamps[i], values[i]);
+        }
+        writer.finish();
+
+        // 원본 열만 해도 점당 16바이트 (long + double)
+        assertThat((double) out.size() / count).isLessThan(1.0);
+        assertThat(readAll(out.toByteArray()).get(0).values()).containsExactly(values);
+    }
+
+    @Test
+    void emptyExportHasHeaderAndEndMarkerOnly() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new SeriesExportWriter(out).finish();
+
+        assertThat(out.size()).isEqualTo(6);
+        assertThat(readAll(out.toByteArray())).isEmpty();
+    }
+
+    @Test
+    void rejectsForeignOrTruncatedStreams() throws IOException {
+        assertThatThrownBy(() -> new SeriesExportReader(new ByteArrayInputStream("JSON!".getBytes())))
+                .isInstanceOf(IOException.class);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SeriesExportWriter writer = new SeriesExportWriter(out);
+        writer.accept(1, DAY_START, 1.0);
+        writer.finish();
+        byte[] truncated = Arrays.copyOf(out.toByteArray(), out.size() - 1);
+
+        assertThatThrownBy(() -> readAll(truncated)).isInstanceOf(IOException.class);
+    }
+
+    private static List<SeriesChunk> roundTrip(long sensorId, long[] timestamps, double[] values) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SeriesExportWriter writer = new SeriesExportWriter(out);
+        for (int i = 0; i < timestamps.length; i++) {
+            writer.accept(sensorId, timestamps[i], values[i]);
+        }
+        writer.finish();
+        return readAll(out.toByteArray());
+    }
+
+    private static List<SeriesChunk> readAll(byte[] bytes) throws IOException {
+        List<SeriesChunk> chunks = new ArrayList<>();
+        try (SeriesExportReader reader = new SeriesExportReader(new ByteArrayInputStream(bytes))) {
+            SeriesChunk chunk;
+            while ((chunk = reader.next()) != null) {
+                chunks.add(chunk);
+            }
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,85 @@
+package com.smartfactory.smartmes_insight.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartfactory.smartmes_insight.cache.CachedEndpoint;
+import com.smartfactory.smartmes_insight.cache.ResponseCache;
+import com.smartfactory.smartmes_insight.domain.facility.Facility;
+import com.smartfactory.smartmes_insight.domain.facility.FacilityRepository;
+import com.smartfactory.smartmes_insight.domain.sensor.Sensor;
+import com.smartfactory.smartmes_insight.domain.sensor.SensorRepository;
+import com.smartfactory.smartmes_insight.dto.facility.FacilityResponse;
+import com.smartfactory.smartmes_insight.dto.sensor.SensorUpdateRequest;
+import com.smartfactory.smartmes_insight.event.DomainEventBus;
+import com.smartfactory.smartmes_insight.ingest.ActiveSensorRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 쓰기 서비스의 응답 캐시 무효화 검증 (알림 응답에 포함된 센서명/설비명 변경, 설비 목록 조회)
+ */
+class ResponseCacheInvalidationTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ResponseCache responseCache = new ResponseCache(new ObjectMapper(), new MockEnvironment(), meterRegistry);
+    private final FacilityRepository facilityRepository = mock(FacilityRepository.class);
+    private final SensorRepository sensorRepository = mock(SensorRepository.class);
+    private final DomainEventBus domainEventBus = new DomainEventBus(16, 16, meterRegistry);
+    private final FacilityService facilityService = new FacilityService(facilityRepository, domainEventBus, responseCache);
+    private final SensorService sensorService = new SensorService(sensorRepository, facilityService,
+            mock(ActiveSensorRegistry.class), domainEventBus, responseCache);
+
+    private final Facility facility = Facility.builder()
+            .id(10L).name("CNC-1").type("CNC").location("A동").status(Facility.STATUS_RUNNING).build();
+    private final AtomicInteger alertLoads = new AtomicInteger();
+
+    @Test
+    void renamingSensorEvictsCachedAlertResponses() {
+        Sensor sensor = Sensor.builder().id(1L).facility(facility).name("온도 센서").type("TEMPERATURE").unit("°C").build();
+        when(sensorRepository.findWithFacilityById(1L)).thenReturn(Optional.of(sensor));
+        cachedAlerts();
+
+        sensorService.updateSensor(1L, SensorUpdateRequest.builder().name("주축 온도 센서").build());
+
+        cachedAlerts();
+        assertThat(alertLoads).hasValue(2);
+    }
+
+    @Test
+    void renamingFacilityEvictsCachedAlertResponses() {
+        when(facilityRepository.findById(10L)).thenReturn(Optional.of(facility));
+        cachedAlerts();
+
+        facilityService.updateFacility(10L, Facility.builder()
+                .name("CNC-1 (교체)").type("CNC").location("A동").status(Facility.STATUS_RUNNING).build());
+
+        cachedAlerts();
+        assertThat(alertLoads).hasValue(2);
+    }
+
+    @Test
+    void facilityListsAreReadFromTheRepository() {
+        Facility stopped = Facility.builder().id(20L).name("PRESS-1").type("PRESS").status(Facility.STATUS_STOPPED).build();
+        when(facilityRepository.findAll()).thenReturn(List.of(facility, stopped));
+        when(facilityRepository.findByStatus(Facility.STATUS_RUNNING)).thenReturn(List.of(facility));
+
+        assertThat(facilityService.getAllFacilities()).extracting(FacilityResponse::getName)
+                .containsExactly("CNC-1", "PRESS-1");
+        assertThat(facilityService.getActiveFacilities()).extracting(FacilityResponse::getId)
+                .containsExactly(10L);
+    }
+
+    private void cachedAlerts() {
+        responseCache.respond(new MockHttpServletRequest("GET", "/api/alerts/recent"), CachedEndpoint.ALERTS_RECENT,
+                () -> List.of("온도 센서 - CNC-1 #" + alertLoads.incrementAndGet()), "최근 알림 조회 성공");
+    }
+}
@@ -0,0 +1,57 @@
+package com.smartfactory.smartmes_insight.stream;
+
+import com.smartfactory.smartmes_insight.domain.facility.FacilityRepository;
+import com.smartfactory.smartmes_insight.domain.sensor.SensorLogStore;
+import com.smartfactory.smartmes_insight.domain.sensor.SensorRepository;
+import com.smartfactory.smartmes_insight.event.DomainEvent;
+import com.smartfactory.smartmes_insight.event.DomainEventBus;
+import com.smartfactory.smartmes_insight.event.DomainEventRecord;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 센서→설비 매핑 캐시 검증 (센서 수정 이벤트 후에는 소속 설비를 다시 읽는다)
+ */
+class SensorStreamHubTest {
+
+    private static final LocalDateTime COLLECTED_AT = LocalDateTime.of(2025, 1, 20, 10, 0);
+
+    private final FacilityRepository facilityRepository = mock(FacilityRepository.class);
+    private final SensorRepository sensorRepository = mock(SensorRepository.class);
+    private final SensorStreamHub hub = new SensorStreamHub(facilityRepository, sensorRepository,
+            mock(SensorLogStore.class), Runnable::run, mock(DomainEventBus.class), new SimpleMeterRegistry());
+
+    @Test
+    void sensorMovedToAnotherFacilityIsLookedUpAgainAfterChangeEvent() {
+        ReflectionTestUtils.setField(hub, "maxSubscribers", 10);
+        when(facilityRepository.existsById(anyLong())).thenReturn(true);
+        hub.subscribe(1L, null);
+        hub.subscribe(2L, null);
+
+        when(sensorRepository.findFacilityIdById(5L)).thenReturn(Optional.of(1L));
+        hub.publish(5L, null, 71.3, COLLECTED_AT);
+        hub.publish(5L, null, 71.4, COLLECTED_AT.plusSeconds(1));
+        verify(sensorRepository, times(1)).findFacilityIdById(5L);
+
+        // 센서 5가 설비 2로 이동
+        when(sensorRepository.findFacilityIdById(5L)).thenReturn(Optional.of(2L));
+        hub.onEvent(new DomainEventRecord(1, System.currentTimeMillis(), "SensorChanged",
+                new DomainEvent.SensorChanged(5L, 2L, "TEMPERATURE", 0.0, 100.0)));
+        hub.publish(5L, null, 71.5, COLLECTED_AT.plusSeconds(2));
+        verify(sensorRepository, times(2)).findFacilityIdById(5L);
+
+        hub.onMissed(3);
+        hub.publish(5L, null, 71.6, COLLECTED_AT.plusSeconds(3));
+        verify(sensorRepository, times(3)).findFacilityIdById(5L);
+    }
+}
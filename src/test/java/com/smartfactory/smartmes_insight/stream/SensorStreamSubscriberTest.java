@@ -0,0 +1,102 @@
+package com.smartfactory.smartmes_insight.stream;
+
+import com.smartfactory.smartmes_insight.dto.sensor.SensorStreamFrame;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+/**
+ * 구독자 프레임 구성 검증 (변화량 인코딩, 간격 내 값 대체, 전송 중 건너뛰기)
+ */
+class SensorStreamSubscriberTest {
+
+    private static final long NOW = 1_000_000L;
+
+    private final SensorStreamSubscriber subscriber =
+            new SensorStreamSubscriber(1L, 1000, new SseEmitter(), NOW);
+
+    @Test
+    void firstFrameCarriesAbsoluteValuesAndLaterFramesOnlyDeltas() {
+        subscriber.offer(10L, 71.3, NOW);
+        subscriber.offer(20L, 4.2, NOW + 50);
+        SensorStreamFrame first = subscriber.nextFrame();
+
+        assertThat(first.getSeq()).isEqualTo(1);
+        assertThat(first.getBaseTime()).isEqualTo(NOW);
+        assertThat(first.getReadings())
+                .extracting(SensorStreamFrame.Reading::getSensorId, SensorStreamFrame.Reading::getOffsetMs,
+                        SensorStreamFrame.Reading::getDelta)
+                .containsExactly(
+                        tuple(10L, 0L, 71.3),
+                        tuple(20L, 50L, 4.2));
+
+        subscriber.offer(10L, 70.9, NOW + 1000);
+        SensorStreamFrame second = subscriber.nextFrame();
+
+        assertThat(second.getSeq()).isEqualTo(2);
+        assertThat(second.getReadings()).singleElement().satisfies(reading -> {
+            assertThat(reading.getDelta()).isEqualTo(70.9 - 71.3);
+            assertThat(reading.getValue()).isNull();
+        });
+    }
+
+    @Test
+    void clientReconstructionMatchesServerValuesExactly() {
+        Map<Long, Double> client = new HashMap<>();
+        double[] values = {12.345, 12.346, 99.99, 0.1, 0.3, 1e-9, 12.345};
+
+        long at = NOW;
+        for (double value : values) {
+            subscriber.offer(7L, value, at += 1000);
+            for (SensorStreamFrame.Reading reading : subscriber.nextFrame().getReadings()) {
+                if (reading.getValue() != null) {
+                    client.put(reading.getSensorId(), reading.getValue());
+                } else {
+                    client.merge(reading.getSensorId(), reading.getDelta(), Double::sum);
+                }
+            }
+            assertThat(client.get(7L)).isEqualTo(value);
+        }
+    }
+
+    @Test
+    void readingsWithinIntervalAreDownsampledToLatest() {
+        assertThat(subscriber.offer(10L, 1.0, NOW)).isZero();
+        assertThat(subscriber.offer(10L, 2.0, NOW + 100)).isEqualTo(1);
+        assertThat(subscriber.offer(10L, 1.5, NOW + 50)).isEqualTo(1); // 늦게 도착한 과거 값은 버림
+
+        SensorStreamFrame frame = subscriber.nextFrame();
+
+        assertThat(frame.getDropped()).isEqualTo(2);
+        assertThat(frame.getReadings()).singleElement()
+                .satisfies(reading -> assertThat(reading.getDelta()).isEqualTo(2.0));
+        assertThat(subscriber.nextFrame()).isNull();
+    }
+
+    @Test
+    void seedDoesNotOverrideNewerLiveReading() {
+        subscriber.offer(10L, 5.0, NOW + 10);
+        subscriber.seed(10L, 3.0, NOW);
+        subscriber.seed(20L, 8.0, NOW);
+
+        SensorStreamFrame frame = subscriber.nextFrame();
+
+        assertThat(frame.getDropped()).isZero();
+        assertThat(frame.getReadings()).extracting(SensorStreamFrame.Reading::getDelta).containsExactly(5.0, 8.0);
+    }
+
+    @Test
+    void sendIsSkippedWhilePreviousFrameIsInFlightOrBeforeInterval() {
+        assertThat(subscriber.tryStartSend(NOW)).isTrue();
+        assertThat(subscriber.tryStartSend(NOW + 2000)).isFalse(); // 전송 중 (느린 소비자)
+
+        subscriber.finishSend();
+        assertThat(subscriber.tryStartSend(NOW + 500)).isFalse(); // 간격 미도래
+        assertThat(subscriber.tryStartSend(NOW + 1000)).isTrue();
+    }
+}
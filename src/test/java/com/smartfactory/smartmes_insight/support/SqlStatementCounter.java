@@ -0,0 +1,37 @@
+package com.smartfactory.smartmes_insight.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hibernate가 실행하는 SQL 문 수를 세는 StatementInspector
+ * (hibernate.session_factory.statement_inspector 속성으로 등록)
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final AtomicInteger COUNT = new AtomicInteger();
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.incrementAndGet();
+        return sql;
+    }
+
+    public static void reset() {
+        COUNT.set(0);
+    }
+
+    public static int count() {
+        return COUNT.get();
+    }
+
+    /**
+     * 주어진 작업이 실행한 SQL 문 수
+     */
+    public static int countDuring(Runnable action) {
+        reset();
+        action.run();
+        return count();
+    }
+}